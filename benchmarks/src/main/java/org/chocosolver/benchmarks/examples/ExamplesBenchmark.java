@@ -0,0 +1,85 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks.examples;
+
+import org.chocosolver.examples.AbstractProblem;
+import org.chocosolver.examples.integer.CarSequencing;
+import org.chocosolver.examples.integer.GolombRuler;
+import org.chocosolver.examples.integer.RLFAP;
+import org.chocosolver.examples.nqueen.NQueenGlobal;
+import org.chocosolver.parser.SetUpException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end resolution of some problems of the examples module, with their default search.
+ * The model is built before each invocation, only the resolution is measured.
+ * <br/>
+ * RLFAP requires the directory of an instance, which is not shipped,
+ * for instance: <code>-p problem=rlfap -p rlfapDir=/path/to/scen11</code>.
+ *
+ * @author agent
+ * @since 16/10/2026
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class ExamplesBenchmark {
+
+    @Param({"nqueen", "golomb", "carseq", "rlfap"})
+    String problem;
+
+    /**
+     * Directory of the RLFAP instance
+     */
+    @Param({""})
+    String rlfapDir;
+
+    private AbstractProblem instance;
+
+    @Setup(Level.Invocation)
+    public void setup() throws SetUpException {
+        switch (problem) {
+            case "nqueen":
+                instance = new NQueenGlobal();
+                instance.setUp("-q", "200");
+                break;
+            case "golomb":
+                instance = new GolombRuler();
+                instance.setUp("-m", "9");
+                break;
+            case "carseq":
+                instance = new CarSequencing();
+                instance.setUp("-d", "P4_72");
+                break;
+            case "rlfap":
+                if (rlfapDir.isEmpty()) {
+                    throw new IllegalStateException("RLFAP requires the directory of an instance: -p rlfapDir=...");
+                }
+                instance = new RLFAP();
+                instance.setUp("-d", rlfapDir);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown problem: " + problem);
+        }
+        instance.buildModel();
+        instance.configureSearch();
+    }
+
+    @Benchmark
+    public long solve() {
+        instance.solve();
+        return instance.getModel().getSolver().getNodeCount();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks.graph;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.util.objects.graphs.DirectedGraph;
+import org.chocosolver.util.objects.graphs.GraphFactory;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+import org.chocosolver.util.objects.setDataStructures.SetType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compare the set types used to store the edges of a large sparse backtrackable directed graph,
+ * as the envelope of a graph variable:
+ * iteration over all successors, and removal of edges followed by a backtrack.
+ * The memory footprint of a graph variable whose envelope is that graph is printed on setup.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GraphBenchmark {
+
+    @Param({"BIPARTITESET", "CSR"})
+    SetType edgeSetType;
+
+    /**
+     * Number of nodes
+     */
+    @Param({"10000", "100000"})
+    int n;
+
+    /**
+     * Out-degree of each node
+     */
+    @Param({"4"})
+    int d;
+
+    private Model model;
+    private DirectedGraph graph;
+    private int[][] removals;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random rnd = new Random(0);
+        int[][] edges = new int[n * d][];
+        for (int i = 0; i < n; i++) {
+            for (int k = 0; k < d; k++) {
+                edges[i * d + k] = new int[]{i, rnd.nextInt(n)};
+            }
+        }
+        removals = new int[n / 10][];
+        for (int k = 0; k < removals.length; k++) {
+            removals[k] = edges[rnd.nextInt(edges.length)];
+        }
+        model = new Model();
+        long before = model.getEstimatedMemory();
+        graph = GraphFactory.makeStoredDirectedGraph(model, n, SetType.BITSET, edgeSetType,
+                IntStream.range(0, n).toArray(), edges);
+        DirectedGraph kernel = edgeSetType == SetType.CSR ?
+                GraphFactory.makeStoredDirectedGraph(model, n, SetType.BITSET, edges) :
+                GraphFactory.makeStoredDirectedGraph(model, n, SetType.BITSET, edgeSetType);
+        model.digraphVar("g", kernel, graph);
+        System.out.printf("%n%s, n = %d: %d bytes for the kernel and the envelope%n", edgeSetType, n,
+                model.getEstimatedMemory() - before);
+    }
+
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+        for (int i = 0; i < n; i++) {
+            ISetIterator it = graph.getSuccessorsOf(i).iterator();
+            while (it.hasNext()) {
+                sum += it.nextInt();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int removeAndBacktrack() {
+        model.getEnvironment().worldPush();
+        int nb = 0;
+        for (int[] e : removals) {
+            if (graph.removeEdge(e[0], e[1])) {
+                nb++;
+            }
+        }
+        model.getEnvironment().worldPop();
+        return nb;
+    }
+
+    @Benchmark
+    public int degrees() {
+        int max = 0;
+        for (int i = 0; i < n; i++) {
+            ISet s = graph.getSuccessorsOf(i);
+            max = Math.max(max, s.size() + graph.getPredecessorsOf(i).size());
+        }
+        return max;
+    }
+}
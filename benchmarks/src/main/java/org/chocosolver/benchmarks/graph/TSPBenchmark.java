@@ -0,0 +1,183 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks.graph;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.DirectedGraphVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.graphs.DirectedGraph;
+import org.chocosolver.util.objects.graphs.GraphFactory;
+import org.chocosolver.util.objects.setDataStructures.SetType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The TSP example scaled up: <i>C</i> random cities in the plane, each city being connected to
+ * its <i>k</i> nearest neighbours (in both directions), and a route visiting every city once is searched for.
+ * <p>
+ * Two models are compared:
+ * <ul>
+ *     <li><i>circuit</i>: the model of the example, successor variables with a subcircuit constraint
+ *     and a table per city for the distance,</li>
+ *     <li><i>graph</i>: a directed graph variable whose nodes are mandatory, with in and out degrees equal to 1,
+ *     strongly connected and with every city reachable from the first one.
+ *     This model relies on the incremental maintenance of strongly connected components and dominators.</li>
+ * </ul>
+ * The model is built before each invocation, only the resolution is measured and limited to <i>fails</i> failures.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class TSPBenchmark {
+
+    @Param({"circuit", "graph"})
+    String model;
+
+    /**
+     * Number of cities
+     */
+    @Param({"200", "500", "2000"})
+    int C;
+
+    /**
+     * Number of nearest neighbours of each city
+     */
+    @Param({"8"})
+    int k;
+
+    /**
+     * Maximum number of failures
+     */
+    @Param({"10000"})
+    int fails;
+
+    @Param({"0"})
+    long seed;
+
+    private Solver solver;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        Random rnd = new Random(seed);
+        int[] x = new int[C];
+        int[] y = new int[C];
+        for (int i = 0; i < C; i++) {
+            x[i] = rnd.nextInt(1000);
+            y[i] = rnd.nextInt(1000);
+        }
+        int[][] D = new int[C][C];
+        for (int i = 0; i < C; i++) {
+            for (int j = 0; j < C; j++) {
+                D[i][j] = (int) Math.round(Math.hypot(x[i] - x[j], y[i] - y[j]));
+            }
+        }
+        boolean[][] arcs = new boolean[C][C];
+        for (int i = 0; i < C; i++) {
+            final int[] d = D[i];
+            Integer[] order = new Integer[C];
+            for (int j = 0; j < C; j++) {
+                order[j] = j;
+            }
+            Arrays.sort(order, (a, b) -> Integer.compare(d[a], d[b]));
+            for (int r = 1; r <= Math.min(k, C - 1); r++) {
+                arcs[i][order[r]] = true;
+                arcs[order[r]][i] = true;
+            }
+        }
+        switch (model) {
+            case "circuit":
+                solver = circuit(D, arcs);
+                break;
+            case "graph":
+                solver = graph(arcs);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown model: " + model);
+        }
+        solver.limitFail(fails);
+    }
+
+    private Solver circuit(int[][] D, boolean[][] arcs) {
+        Model m = new Model("TSP");
+        int max = 0;
+        IntVar[] succ = new IntVar[C];
+        for (int i = 0; i < C; i++) {
+            int[] values = new int[C];
+            int n = 0;
+            for (int j = 0; j < C; j++) {
+                if (arcs[i][j]) {
+                    values[n++] = j;
+                    max = Math.max(max, D[i][j]);
+                }
+            }
+            succ[i] = m.intVar("succ_" + i, Arrays.copyOf(values, n));
+        }
+        IntVar[] dist = m.intVarArray("dist", C, 0, max);
+        for (int i = 0; i < C; i++) {
+            Tuples tuples = new Tuples(true);
+            for (int j = 0; j < C; j++) {
+                if (arcs[i][j]) {
+                    tuples.add(j, D[i][j]);
+                }
+            }
+            m.table(succ[i], dist[i], tuples).post();
+        }
+        m.subCircuit(succ, 0, m.intVar(C)).post();
+        Solver s = m.getSolver();
+        s.setSearch(Search.inputOrderLBSearch(succ));
+        return s;
+    }
+
+    private Solver graph(boolean[][] arcs) {
+        Model m = new Model("TSP");
+        DirectedGraph LB = GraphFactory.makeStoredDirectedGraph(m, C, SetType.BITSET, SetType.BITSET);
+        DirectedGraph UB = GraphFactory.makeStoredDirectedGraph(m, C, SetType.BITSET, SetType.BITSET);
+        for (int i = 0; i < C; i++) {
+            LB.addNode(i);
+            UB.addNode(i);
+        }
+        for (int i = 0; i < C; i++) {
+            for (int j = 0; j < C; j++) {
+                if (arcs[i][j]) {
+                    UB.addEdge(i, j);
+                }
+            }
+        }
+        DirectedGraphVar g = m.digraphVar("route", LB, UB);
+        m.minInDegree(g, 1).post();
+        m.maxInDegree(g, 1).post();
+        m.minOutDegree(g, 1).post();
+        m.maxOutDegree(g, 1).post();
+        m.stronglyConnected(g).post();
+        m.reachability(g, 0).post();
+        Solver s = m.getSolver();
+        s.setSearch(Search.graphVarSearch(g));
+        return s;
+    }
+
+    @Benchmark
+    public long solve() {
+        solver.solve();
+        return solver.getNodeCount();
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks.lp;
+
+import gnu.trove.list.array.TIntArrayList;
+import org.chocosolver.lp.LinearProgram;
+import org.chocosolver.lp.SparseLinearProgram;
+import org.chocosolver.parser.mps.MPSParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the dense {@link LinearProgram} with the {@link SparseLinearProgram}
+ * on the continuous relaxation of MPS instances, read with {@link MPSParser}.
+ * Both a resolution from scratch and a branching step (bounding a fractional variable, solving
+ * then restoring the bound) are measured, the latter being warm-started for the sparse implementation.
+ * <p>
+ * The dense implementation only deals with nonnegative variables, so the relaxation is converted:
+ * each variable is shifted by its lower bound (or mirrored through its upper bound, or split when free),
+ * finite upper bounds and ranged rows become additional inequalities.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SimplexBenchmark {
+
+    /**
+     * Directory of the instances, relative to the benchmarks module by default
+     */
+    @Param({"../parsers/src/test/resources/mps"})
+    String dir;
+
+    @Param({"example1.mps", "markshare_5_0.mps.gz", "noswot.mps.gz", "timtab1.mps.gz", "glass4.mps.gz"})
+    String instance;
+
+    private SparseLinearProgram sparse;
+    private LinearProgram dense;
+    // fractional variables, their value in the relaxation, and their column in the dense program
+    private int[] fractional;
+    private double[] values;
+    private int[] column;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        sparse = new MPSParser().relaxation(new File(dir, instance).getPath(), false);
+        if (sparse.solve() != LinearProgram.Status.FEASIBLE) {
+            throw new IllegalStateException("The relaxation of " + instance + " is not feasible");
+        }
+        dense = toDense(sparse);
+        // the variables to branch on, shifted in the dense program
+        TIntArrayList frac = new TIntArrayList();
+        for (int j = 0; j < sparse.nbVariables(); j++) {
+            double v = sparse.value(j);
+            if (Math.abs(v - Math.rint(v)) > 1e-6 && sparse.getLB(j) > Double.NEGATIVE_INFINITY) {
+                frac.add(j);
+            }
+        }
+        if (frac.isEmpty()) {
+            frac.add(0);
+        }
+        fractional = frac.toArray();
+        values = new double[fractional.length];
+        for (int k = 0; k < fractional.length; k++) {
+            values[k] = sparse.value(fractional[k]);
+        }
+        column = new int[sparse.nbVariables()];
+        for (int j = 0, c = 0; j < sparse.nbVariables(); j++) {
+            column[j] = c;
+            c += sparse.getLB(j) == Double.NEGATIVE_INFINITY && sparse.getUB(j) == Double.POSITIVE_INFINITY ? 2 : 1;
+        }
+    }
+
+    /**
+     * Build the standard form of a linear program with bounded variables and ranged rows
+     */
+    private static LinearProgram toDense(SparseLinearProgram lp) {
+        int n = lp.nbVariables();
+        // x_j = off[j] + sgn[j].p_j (- q_j when free)
+        int[] col = new int[n];
+        double[] off = new double[n];
+        double[] sgn = new double[n];
+        int nd = 0;
+        for (int j = 0; j < n; j++) {
+            col[j] = nd;
+            if (lp.getLB(j) > Double.NEGATIVE_INFINITY) {
+                off[j] = lp.getLB(j);
+                sgn[j] = 1;
+                nd++;
+            } else if (lp.getUB(j) < Double.POSITIVE_INFINITY) {
+                off[j] = lp.getUB(j);
+                sgn[j] = -1;
+                nd++;
+            } else {
+                sgn[j] = 1;
+                nd += 2;
+            }
+        }
+        LinearProgram dense = new LinearProgram(false);
+        dense.makeVariables(nd);
+        for (int j = 0; j < n; j++) {
+            if (sgn[j] > 0 && lp.getLB(j) > Double.NEGATIVE_INFINITY && lp.getUB(j) < Double.POSITIVE_INFINITY) {
+                dense.addLeq(col[j], 1, lp.getUB(j) - lp.getLB(j));
+            }
+        }
+        for (int i = 0; i < lp.nbRows(); i++) {
+            double[] a = new double[nd];
+            double shift = 0;
+            int[] vars = lp.getRowVars(i);
+            double[] coeffs = lp.getRowCoeffs(i);
+            for (int k = 0; k < vars.length; k++) {
+                int j = vars[k];
+                a[col[j]] += coeffs[k] * sgn[j];
+                if (lp.getLB(j) == Double.NEGATIVE_INFINITY && lp.getUB(j) == Double.POSITIVE_INFINITY) {
+                    a[col[j] + 1] -= coeffs[k];
+                }
+                shift += coeffs[k] * off[j];
+            }
+            if (lp.getRowUB(i) < Double.POSITIVE_INFINITY) {
+                dense.addLeq(a, lp.getRowUB(i) - shift);
+            }
+            if (lp.getRowLB(i) > Double.NEGATIVE_INFINITY) {
+                dense.addGeq(a, lp.getRowLB(i) - shift);
+            }
+        }
+        double[] c = new double[nd];
+        for (int j = 0; j < n; j++) {
+            double cj = lp.getObjectiveCoeff(j);
+            c[col[j]] = cj * sgn[j];
+            if (lp.getLB(j) == Double.NEGATIVE_INFINITY && lp.getUB(j) == Double.POSITIVE_INFINITY) {
+                c[col[j] + 1] = -cj;
+            }
+        }
+        dense.setObjective(lp.isMaximization(), c);
+        return dense;
+    }
+
+    @Benchmark
+    public double dense() {
+        dense.simplex();
+        return dense.objective();
+    }
+
+    @Benchmark
+    public double sparse() {
+        sparse.resetBasis();
+        sparse.solve();
+        return sparse.objective();
+    }
+
+    /**
+     * Branch x &le; floor(v) on a fractional variable, solve, then remove the branching constraint
+     */
+    @Benchmark
+    public double denseBranch() {
+        int k = next;
+        next = (next + 1) % fractional.length;
+        int j = fractional[k];
+        dense.addLeq(column[j], 1, Math.floor(values[k]) - sparse.getLB(j));
+        dense.simplex();
+        double obj = dense.objective();
+        dense.dropLast();
+        return obj;
+    }
+
+    /**
+     * Branch x &le; floor(v) on a fractional variable, solve, then restore the bound and solve again,
+     * both resolutions being warm-started
+     */
+    @Benchmark
+    public double sparseBranch() {
+        int k = next;
+        next = (next + 1) % fractional.length;
+        int j = fractional[k];
+        double lb = sparse.getLB(j);
+        double ub = sparse.getUB(j);
+        sparse.setBounds(j, lb, Math.max(lb, Math.floor(values[k])));
+        sparse.solve();
+        double obj = sparse.objective();
+        sparse.setBounds(j, lb, ub);
+        sparse.solve();
+        return obj;
+    }
+}
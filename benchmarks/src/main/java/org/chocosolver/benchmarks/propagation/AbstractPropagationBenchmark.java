@@ -0,0 +1,93 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks.propagation;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.propagation.PropagationEngine;
+import org.chocosolver.solver.variables.IntVar;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * Base class for benchmarks that measure the propagation of a model in isolation from the search.
+ * <br/>
+ * Once the root node is propagated, each probe opens a world, instantiates a variable
+ * to a value of its domain, reaches a fix point (or a failure) then backtracks.
+ * Probes are drawn once and for all, so that each run applies the same sequence.
+ *
+ * @author agent
+ * @since 16/10/2026
+ */
+@State(Scope.Thread)
+public abstract class AbstractPropagationBenchmark {
+
+    private static final int NB_PROBES = 1 << 10;
+
+    /**
+     * The model to propagate
+     */
+    protected Model model;
+    private IntVar[] decisions;
+    private IEnvironment environment;
+    private PropagationEngine engine;
+    private final int[][] probes = new int[NB_PROBES][2];
+    private int next;
+
+    /**
+     * Declare the model in {@link #model}
+     *
+     * @param rnd random number generator
+     * @return the variables to instantiate in probes
+     */
+    protected abstract IntVar[] buildModel(Random rnd);
+
+    @Setup(Level.Trial)
+    public void setup() throws ContradictionException {
+        Random rnd = new Random(0);
+        decisions = buildModel(rnd);
+        model.getSolver().propagate();
+        environment = model.getEnvironment();
+        engine = model.getSolver().getEngine();
+        for (int[] probe : probes) {
+            probe[0] = rnd.nextInt(decisions.length);
+            IntVar var = decisions[probe[0]];
+            // the first value of the domain from a random point, domains may have holes
+            probe[1] = var.nextValue(var.getLB() - 1 + rnd.nextInt(var.getUB() - var.getLB() + 1));
+        }
+    }
+
+    /**
+     * Apply the next probe
+     *
+     * @return <i>true</i> if the probe reaches a fix point, <i>false</i> if it fails
+     */
+    protected final boolean probe() {
+        int[] probe = probes[next];
+        next = (next + 1) & (NB_PROBES - 1);
+        boolean ok = true;
+        environment.worldPush();
+        try {
+            decisions[probe[0]].instantiateTo(probe[1], Cause.Null);
+            engine.propagate();
+        } catch (ContradictionException e) {
+            engine.flush();
+            ok = false;
+        }
+        environment.worldPop();
+        return ok;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks.propagation;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.constraints.extension.RelationCache;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.constraints.extension.TuplesFactory;
+import org.chocosolver.solver.variables.IntVar;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the filtering of binary tables on RLFAP-like instances.
+ * <br/>
+ * As in CELAR instances, links have their frequencies in a few domains of values spaced by 14,
+ * links are paired by equality constraints |x - y| = 238
+ * and interfere through constraints |x - y| > k, with <i>k</i> in a few distances.
+ * Since many constraints have the same relation, the memory of the model depends on
+ * {@link Settings#enableRelationSharing()}, which is printed on setup.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryTableBenchmark extends AbstractPropagationBenchmark {
+
+    private static final int[] DISTANCES = {10, 24, 45, 59, 73};
+
+    @Param({"AC3rm", "AC3bit+rm"})
+    String algo;
+
+    @Param({"true", "false"})
+    boolean sharing;
+
+    /**
+     * Number of links, an even number
+     */
+    @Param({"200"})
+    int n;
+
+    /**
+     * Number of interference constraints
+     */
+    @Param({"1000"})
+    int m;
+
+    /**
+     * Number of distinct domains
+     */
+    @Param({"4"})
+    int nbDoms;
+
+    @Override
+    protected IntVar[] buildModel(Random rnd) {
+        model = new Model(Settings.init().setEnableRelationSharing(sharing));
+        int[][] doms = new int[nbDoms][];
+        for (int d = 0; d < nbDoms; d++) {
+            doms[d] = IntStream.range(0, 44 - 4 * d).map(i -> 16 + 14 * i).toArray();
+        }
+        IntVar[] vars = new IntVar[n];
+        for (int i = 0; i < n; i++) {
+            vars[i] = model.intVar("F_" + i, doms[(i / 2) % nbDoms]);
+        }
+        for (int i = 0; i < n; i += 2) {
+            post(vars[i], vars[i + 1], true, 238);
+        }
+        for (int c = 0; c < m; c++) {
+            int i = rnd.nextInt(n);
+            int j = rnd.nextInt(n - 1);
+            post(vars[i], vars[j < i ? j : j + 1], false, DISTANCES[rnd.nextInt(DISTANCES.length)]);
+        }
+        RelationCache cache = model.getRelationCache();
+        System.out.printf("%n%s, sharing = %b: %d bytes, %d shared relations, %d hits%n", algo, sharing,
+                model.getEstimatedMemory(), cache.size(), cache.getNbHits());
+        return vars;
+    }
+
+    private void post(IntVar x, IntVar y, boolean eq, int k) {
+        Tuples tuples = TuplesFactory.generateTuples(
+                t -> eq ? Math.abs(t[0] - t[1]) == k : Math.abs(t[0] - t[1]) > k, true, x, y);
+        model.table(x, y, tuples, algo).post();
+    }
+
+    @Benchmark
+    public boolean propagate() {
+        return probe();
+    }
+}
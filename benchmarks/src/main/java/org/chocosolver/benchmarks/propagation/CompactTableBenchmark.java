@@ -0,0 +1,87 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks.propagation;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.variables.IntVar;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the filtering of table constraints (CT+ is {@code PropCompactTable})
+ * on random positive tables.
+ *
+ * @author agent
+ * @since 16/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompactTableBenchmark extends AbstractPropagationBenchmark {
+
+    @Param({"CT+", "STR2+"})
+    String algo;
+
+    /**
+     * Arity of the tables
+     */
+    @Param({"3", "6"})
+    int arity;
+
+    /**
+     * Number of tuples per table
+     */
+    @Param({"1000"})
+    int nbTuples;
+
+    /**
+     * Number of variables
+     */
+    @Param({"50"})
+    int n;
+
+    /**
+     * Domain size of the variables
+     */
+    @Param({"10"})
+    int d;
+
+    @Override
+    protected IntVar[] buildModel(Random rnd) {
+        model = new Model();
+        IntVar[] vars = model.intVarArray("X", n, 0, d - 1);
+        for (int c = 0; c < n; c++) {
+            IntVar[] scope = new IntVar[arity];
+            for (int i = 0; i < arity; i++) {
+                scope[i] = vars[(c + i) % n];
+            }
+            Tuples tuples = new Tuples(true);
+            int[] tuple = new int[arity];
+            for (int t = 0; t < nbTuples; t++) {
+                for (int i = 0; i < arity; i++) {
+                    tuple[i] = rnd.nextInt(d);
+                }
+                tuples.add(tuple);
+            }
+            model.table(scope, tuples, algo).post();
+        }
+        return vars;
+    }
+
+    @Benchmark
+    public boolean propagate() {
+        return probe();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks.propagation;
+
+import org.chocosolver.examples.integer.CarSequencing;
+import org.chocosolver.parser.SetUpException;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.variables.IntVar;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of reaching a fix point after a decision,
+ * that is mostly the cost of scheduling propagators and variables in the
+ * {@link org.chocosolver.solver.propagation.PropagationEngine}, on classical problems:
+ * <ul>
+ *     <li>"nqueen": n-queens with binary disequalities, <i>n = size</i>,</li>
+ *     <li>"rlfap": a random radio link frequency assignment problem, in the manner of the CELAR instances:
+ *     <i>size</i> links, each assigned a frequency among 48,
+ *     with distance constraints |x - y| &gt; d between interfering links
+ *     and equality constraints |x - y| = d between the two directions of a link,</li>
+ *     <li>"carseq": car sequencing, instance P4_72 of the examples module (<i>size</i> is ignored).</li>
+ * </ul>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FixpointBenchmark extends AbstractPropagationBenchmark {
+
+    @Param({"nqueen", "rlfap", "carseq"})
+    String problem;
+
+    @Param({"200"})
+    int size;
+
+    @Override
+    protected IntVar[] buildModel(Random rnd) {
+        switch (problem) {
+            case "nqueen":
+                return nqueen();
+            case "rlfap":
+                return rlfap(rnd);
+            case "carseq":
+                return carseq();
+            default:
+                throw new IllegalArgumentException("Unknown problem: " + problem);
+        }
+    }
+
+    private IntVar[] nqueen() {
+        model = new Model();
+        IntVar[] vars = model.intVarArray("Q", size, 1, size);
+        for (int i = 0; i < size - 1; i++) {
+            for (int j = i + 1; j < size; j++) {
+                int k = j - i;
+                model.arithm(vars[i], "!=", vars[j]).post();
+                model.arithm(vars[i], "!=", vars[j], "+", k).post();
+                model.arithm(vars[i], "!=", vars[j], "-", k).post();
+            }
+        }
+        return vars;
+    }
+
+    private IntVar[] rlfap(Random rnd) {
+        model = new Model();
+        // frequencies are numbered from 0 to 47, distances are expressed in number of channels
+        IntVar[] vars = model.intVarArray("F", size, 0, 47);
+        for (int i = 0; i + 1 < size; i += 2) {
+            model.distance(vars[i], vars[i + 1], "=", 17).post();
+        }
+        for (int c = 0; c < 2 * size; c++) {
+            int i = rnd.nextInt(size);
+            int j = rnd.nextInt(size);
+            if (i / 2 != j / 2) {
+                model.distance(vars[i], vars[j], ">", 1 + rnd.nextInt(2)).post();
+            }
+        }
+        return vars;
+    }
+
+    private IntVar[] carseq() {
+        CarSequencing cs = new CarSequencing();
+        try {
+            cs.setUp("-d", "P4_72");
+        } catch (SetUpException e) {
+            throw new IllegalStateException(e);
+        }
+        cs.buildModel();
+        model = cs.getModel();
+        return Arrays.stream(model.retrieveIntVars(true))
+                .filter(v -> v.getName().startsWith("cars"))
+                .toArray(IntVar[]::new);
+    }
+
+    @Benchmark
+    public boolean propagate() {
+        return probe();
+    }
+}
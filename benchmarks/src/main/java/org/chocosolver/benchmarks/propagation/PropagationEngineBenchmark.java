@@ -0,0 +1,89 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks.propagation;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.propagation.CoalescingPropagationEngine;
+import org.chocosolver.solver.variables.IntVar;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link org.chocosolver.solver.propagation.PropagationEngine#propagate()}
+ * on networks of cheap propagators, where the cost of scheduling dominates,
+ * with the default engine or with {@link CoalescingPropagationEngine}.
+ *
+ * @author agent
+ * @since 16/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropagationEngineBenchmark extends AbstractPropagationBenchmark {
+
+    /**
+     * <ul>
+     *     <li>"binary": random x + y &le; z + c constraints,</li>
+     *     <li>"queens": n-queens with binary disequalities.</li>
+     * </ul>
+     */
+    @Param({"binary", "queens"})
+    String network;
+
+    @Param({"default", "coalescing"})
+    String engine;
+
+    /**
+     * Number of variables.
+     * The "binary" network has about 20 * <i>n</i> propagators:
+     * "-p network=binary -p n=5000,50000" measures networks of 10^5 and 10^6 propagators.
+     */
+    @Param({"100"})
+    int n;
+
+    @Override
+    protected IntVar[] buildModel(Random rnd) {
+        model = new Model();
+        IntVar[] vars = model.intVarArray("X", n, 0, n - 1);
+        if ("queens".equals(network)) {
+            for (int i = 0; i < n - 1; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    int k = j - i;
+                    model.arithm(vars[i], "!=", vars[j]).post();
+                    model.arithm(vars[i], "!=", vars[j], "+", k).post();
+                    model.arithm(vars[i], "!=", vars[j], "-", k).post();
+                }
+            }
+        } else {
+            for (int i = 0; i < 10 * n; i++) {
+                IntVar x = vars[rnd.nextInt(n)];
+                IntVar y = vars[rnd.nextInt(n)];
+                IntVar z = vars[rnd.nextInt(n)];
+                if (x != y && y != z && x != z) {
+                    model.arithm(x, "+", y, "<=", n / 2).post();
+                    model.arithm(x, "<=", z, "+", n / 4).post();
+                }
+            }
+        }
+        if ("coalescing".equals(engine)) {
+            model.getSolver().setEngine(new CoalescingPropagationEngine(model));
+        }
+        return vars;
+    }
+
+    @Benchmark
+    public boolean propagate() {
+        return probe();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks.propagation;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.variables.IntVar;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the filtering of (weighted) sums, that is {@code PropSum} and {@code PropScalar},
+ * over overlapping random scopes.
+ *
+ * @author agent
+ * @since 16/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SumBenchmark extends AbstractPropagationBenchmark {
+
+    /**
+     * Set to <i>true</i> to post weighted sums
+     */
+    @Param({"false", "true"})
+    boolean scalar;
+
+    /**
+     * Number of variables in each sum
+     */
+    @Param({"10", "100", "1000"})
+    int size;
+
+    /**
+     * Number of sums
+     */
+    @Param({"20"})
+    int m;
+
+    @Override
+    protected IntVar[] buildModel(Random rnd) {
+        model = new Model();
+        int n = 2 * size;
+        IntVar[] vars = model.intVarArray("X", n, 0, 9);
+        for (int c = 0; c < m; c++) {
+            IntVar[] scope = new IntVar[size];
+            int[] coeffs = new int[size];
+            int offset = rnd.nextInt(n);
+            for (int i = 0; i < size; i++) {
+                scope[i] = vars[(offset + i) % n];
+                coeffs[i] = scalar ? 1 + rnd.nextInt(5) : 1;
+            }
+            IntVar total = model.intVar("S_" + c, 0, 9 * size * 5, true);
+            if (scalar) {
+                model.scalar(scope, coeffs, "=", total).post();
+            } else {
+                model.sum(scope, "=", total).post();
+            }
+            model.arithm(total, "<=", 4 * size * (scalar ? 3 : 1)).post();
+        }
+        return vars;
+    }
+
+    @Benchmark
+    public boolean propagate() {
+        return probe();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks.sat;
+
+import org.chocosolver.sat.MiniSat;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.IntVar;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the management of the learnt clauses database in Lazy Clause Generation mode,
+ * on the Golomb ruler problem with <i>m</i> marks, the length of the ruler being minimized.
+ * <p>
+ * The resolution is limited to <i>fails</i> conflicts, so the score translates directly into conflicts per second.
+ * <i>maxLocal</i> is the maximum number of learnt clauses in the local tier
+ * (see {@link Settings#setNbMaxLearntClauses(int)}).
+ * The content of the database at the end of the resolution is reported in auxiliary counters,
+ * including the number of words occupied by the clauses in memory.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class LearntClauseBenchmark {
+
+    /**
+     * Number of marks
+     */
+    @Param({"11"})
+    int m;
+
+    /**
+     * Maximum number of failures
+     */
+    @Param({"10000"})
+    int fails;
+
+    @Param({"2000", "100000"})
+    int maxLocal;
+
+    private Solver solver;
+
+    /**
+     * Content of the learnt clauses database at the end of the resolution
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Clauses {
+        public long core;
+        public long tier2;
+        public long local;
+        public long removed;
+        public long words;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            core = tier2 = local = removed = words = 0;
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        Model model = new Model("Golomb ruler", Settings.init().setLCG(true).setNbMaxLearntClauses(maxLocal));
+        int ub = (m < 31) ? (1 << (m + 1)) - 1 : 9999;
+        IntVar[] ticks = model.intVarArray("a", m, 0, ub, false);
+        IntVar[] diffs = model.intVarArray("d", (m * m - m) / 2, 0, ub, false);
+        model.arithm(ticks[0], "=", 0).post();
+        for (int i = 0; i < m - 1; i++) {
+            model.arithm(ticks[i + 1], ">", ticks[i]).post();
+        }
+        for (int k = 0, i = 0; i < m - 1; i++) {
+            for (int j = i + 1; j < m; j++, k++) {
+                // d[k] is m[j]-m[i] and must be at least sum of first j-i integers
+                model.arithm(ticks[j], "-", ticks[i], "=", diffs[k]).post();
+                model.arithm(diffs[k], ">=", (j - i) * (j - i + 1) / 2).post();
+            }
+        }
+        model.allDifferent(diffs).post();
+        // break symmetries
+        model.arithm(diffs[0], "<", diffs[diffs.length - 1]).post();
+        model.setObjective(Model.MINIMIZE, ticks[m - 1]);
+        solver = model.getSolver();
+        solver.setSearch(Search.inputOrderLBSearch(ticks));
+        solver.limitFail(fails);
+    }
+
+    @Benchmark
+    public int solve(Clauses clauses) {
+        int best = Integer.MAX_VALUE;
+        while (solver.solve()) {
+            best = solver.getObjectiveManager().getBestSolutionValue().intValue();
+        }
+        clauses.core += solver.getLearntClauseCount(MiniSat.CORE);
+        clauses.tier2 += solver.getLearntClauseCount(MiniSat.TIER2);
+        clauses.local += solver.getLearntClauseCount(MiniSat.LOCAL);
+        clauses.removed += solver.getRemovedClauseCount();
+        clauses.words += solver.getSat().nClauseWords();
+        return best;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks.sat;
+
+import gnu.trove.list.array.TIntArrayList;
+import org.chocosolver.sat.MiniSat;
+import org.chocosolver.util.ESat;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the unit propagation of {@link MiniSat} on random 3-SAT instances:
+ * each probe opens a decision level, enqueues a literal, propagates then backtracks.
+ * A complete resolution of a smaller instance is also measured.
+ *
+ * @author agent
+ * @since 16/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MiniSatBenchmark {
+
+    private static final int NB_PROBES = 1 << 10;
+
+    /**
+     * Number of variables
+     */
+    @Param({"10000"})
+    int n;
+
+    /**
+     * Ratio clauses / variables
+     */
+    @Param({"3.0", "4.0"})
+    double ratio;
+
+    private MiniSat sat;
+    private final int[] probes = new int[NB_PROBES];
+    private int next;
+
+    static MiniSat random3SAT(int n, double ratio, Random rnd) {
+        MiniSat sat = new MiniSat(false);
+        for (int i = 0; i < n; i++) {
+            sat.newVariable();
+        }
+        TIntArrayList clause = new TIntArrayList(3);
+        int m = (int) (n * ratio);
+        for (int c = 0; c < m; c++) {
+            clause.resetQuick();
+            while (clause.size() < 3) {
+                int v = rnd.nextInt(n);
+                if (!clause.contains(MiniSat.makeLiteral(v, true))
+                        && !clause.contains(MiniSat.makeLiteral(v, false))) {
+                    clause.add(MiniSat.makeLiteral(v, rnd.nextBoolean()));
+                }
+            }
+            sat.addClause(clause);
+        }
+        return sat;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random rnd = new Random(0);
+        sat = random3SAT(n, ratio, rnd);
+        if (!sat.propagate()) {
+            throw new IllegalStateException("The instance is unsatisfiable at root node");
+        }
+        for (int i = 0; i < NB_PROBES; i++) {
+            int v;
+            do {
+                v = rnd.nextInt(n);
+            } while (sat.valueVar(v) != MiniSat.lUndef);
+            probes[i] = MiniSat.makeLiteral(v, rnd.nextBoolean());
+        }
+    }
+
+    /**
+     * Unit propagation of one decision
+     */
+    @Benchmark
+    public boolean propagate() {
+        int l = probes[next];
+        next = (next + 1) & (NB_PROBES - 1);
+        sat.pushTrailMarker();
+        sat.uncheckedEnqueue(l);
+        boolean ok = sat.propagate();
+        sat.cancelUntil(0);
+        return ok;
+    }
+
+    /**
+     * Resolution of a random 3-SAT instance with 100 variables at the phase transition
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 20)
+    public ESat solve() {
+        return random3SAT(100, 4.26, new Random(next++)).solve();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks.scheduling;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.nary.cumulative.CumulFilter;
+import org.chocosolver.solver.constraints.nary.cumulative.Cumulative;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A random resource-constrained project scheduling problem, generated in the manner of PSPLIB instances:
+ * <i>n</i> tasks of random durations, each one requiring a random amount of some of the <i>R</i> resources,
+ * and random precedences between tasks. The makespan is minimized.
+ * <p>
+ * The cumulative constraints are posted with the filtering algorithms given by <i>filters</i>,
+ * separated by '+'.
+ * The model is built before each invocation, only the resolution is measured and limited to <i>fails</i> failures.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class CumulativeBenchmark {
+
+    @Param({"HEIGHTS+TIME", "HEIGHTS+SWEEP", "HEIGHTS+SWEEP+OVERLOAD_CHECK", "HEIGHTS+SWEEP+TTEF"})
+    String filters;
+
+    /**
+     * Number of tasks
+     */
+    @Param({"30", "120"})
+    int n;
+
+    /**
+     * Number of resources
+     */
+    @Param({"4"})
+    int R;
+
+    /**
+     * Maximum duration of a task
+     */
+    @Param({"10", "1000"})
+    int dmax;
+
+    /**
+     * Maximum number of failures
+     */
+    @Param({"5000"})
+    int fails;
+
+    @Param({"0"})
+    long seed;
+
+    private Solver solver;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        Random rnd = new Random(seed);
+        Cumulative.Filter[] fs = Arrays.stream(filters.split("\\+"))
+                .map(Cumulative.Filter::valueOf)
+                .toArray(Cumulative.Filter[]::new);
+        int[] duration = new int[n];
+        int horizon = 0;
+        for (int i = 0; i < n; i++) {
+            duration[i] = 1 + rnd.nextInt(dmax);
+            horizon += duration[i];
+        }
+        Model model = new Model("RCPSP");
+        IntVar[] starts = model.intVarArray("s", n, 0, horizon, true);
+        IntVar[] ends = new IntVar[n];
+        Task[] tasks = new Task[n];
+        for (int i = 0; i < n; i++) {
+            tasks[i] = new Task(starts[i], duration[i]);
+            ends[i] = tasks[i].getEnd();
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                if (rnd.nextInt(n) < 2) {
+                    model.arithm(ends[i], "<=", starts[j]).post();
+                }
+            }
+        }
+        for (int r = 0; r < R; r++) {
+            int capacity = 10;
+            IntVar[] heights = new IntVar[n];
+            for (int i = 0; i < n; i++) {
+                heights[i] = model.intVar(rnd.nextInt(3) == 0 ? 1 + rnd.nextInt(capacity) : 0);
+            }
+            model.cumulative(tasks, heights, model.intVar(capacity), true,
+                    Arrays.stream(fs).map(f -> f.make(n)).toArray(CumulFilter[]::new)).post();
+        }
+        IntVar makespan = model.intVar("makespan", 0, horizon, true);
+        model.max(makespan, ends).post();
+        model.setObjective(Model.MINIMIZE, makespan);
+        solver = model.getSolver();
+        solver.setSearch(Search.lastConflict(Search.inputOrderLBSearch(starts)));
+        solver.limitFail(fails);
+    }
+
+    @Benchmark
+    public int solve() {
+        int best = Integer.MAX_VALUE;
+        while (solver.solve()) {
+            best = solver.getObjectiveManager().getBestSolutionValue().intValue();
+        }
+        return best;
+    }
+}
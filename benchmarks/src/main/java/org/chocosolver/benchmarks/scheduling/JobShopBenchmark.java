@@ -0,0 +1,156 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks.scheduling;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A random job-shop, generated in the manner of Taillard's instances: <i>J</i> jobs, each one made of
+ * <i>M</i> operations processed on the <i>M</i> machines in a random order, with durations in [1,99].
+ * The makespan is minimized.
+ * <p>
+ * Three models of the machines are compared:
+ * <ul>
+ *     <li><i>cumulative</i>: a cumulative constraint of capacity one per machine,</li>
+ *     <li><i>precedences</i>: a reified precedence per pair of operations of a machine,</li>
+ *     <li><i>disjunctive</i>: a disjunctive constraint per machine.</li>
+ * </ul>
+ * The model is built before each invocation, only the resolution is measured and limited to <i>fails</i> failures.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class JobShopBenchmark {
+
+    @Param({"cumulative", "precedences", "disjunctive"})
+    String model;
+
+    /**
+     * Number of jobs
+     */
+    @Param({"10", "20"})
+    int J;
+
+    /**
+     * Number of machines
+     */
+    @Param({"10"})
+    int M;
+
+    /**
+     * Maximum number of failures
+     */
+    @Param({"10000"})
+    int fails;
+
+    @Param({"0"})
+    long seed;
+
+    private Solver solver;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        Random rnd = new Random(seed);
+        Model m = new Model("JobShop");
+        int[][] duration = new int[J][M];
+        int[][] machine = new int[J][M];
+        int horizon = 0;
+        for (int j = 0; j < J; j++) {
+            List<Integer> order = new ArrayList<>();
+            for (int r = 0; r < M; r++) {
+                order.add(r);
+            }
+            Collections.shuffle(order, rnd);
+            for (int o = 0; o < M; o++) {
+                machine[j][o] = order.get(o);
+                duration[j][o] = 1 + rnd.nextInt(99);
+                horizon += duration[j][o];
+            }
+        }
+        IntVar[] starts = new IntVar[J * M];
+        IntVar[] ends = new IntVar[J];
+        Task[][] byMachine = new Task[M][J];
+        for (int j = 0; j < J; j++) {
+            Task prev = null;
+            for (int o = 0; o < M; o++) {
+                IntVar s = m.intVar("s_" + j + "_" + o, 0, horizon - duration[j][o], true);
+                starts[j * M + o] = s;
+                Task t = m.taskVar(s, duration[j][o]);
+                byMachine[machine[j][o]][j] = t;
+                if (prev != null) {
+                    m.arithm(prev.getEnd(), "<=", s).post();
+                }
+                prev = t;
+            }
+            ends[j] = prev.getEnd();
+        }
+        for (int r = 0; r < M; r++) {
+            switch (model) {
+                case "cumulative":
+                    IntVar[] heights = new IntVar[J];
+                    for (int j = 0; j < J; j++) {
+                        heights[j] = m.intVar(1);
+                    }
+                    m.cumulative(byMachine[r], heights, m.intVar(1)).post();
+                    break;
+                case "precedences":
+                    for (int i = 0; i < J; i++) {
+                        for (int j = i + 1; j < J; j++) {
+                            Task a = byMachine[r][i];
+                            Task b = byMachine[r][j];
+                            BoolVar before = m.boolVar();
+                            m.arithm(a.getEnd(), "<=", b.getStart()).reifyWith(before);
+                            m.arithm(b.getEnd(), "<=", a.getStart()).reifyWith(before.not());
+                        }
+                    }
+                    break;
+                case "disjunctive":
+                    m.disjunctive(byMachine[r]).post();
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown model: " + model);
+            }
+        }
+        IntVar makespan = m.intVar("makespan", 0, horizon, true);
+        m.max(makespan, ends).post();
+        m.setObjective(Model.MINIMIZE, makespan);
+        solver = m.getSolver();
+        solver.setSearch(Search.lastConflict(Search.inputOrderLBSearch(starts)));
+        solver.limitFail(fails);
+    }
+
+    @Benchmark
+    public int solve() {
+        int best = Integer.MAX_VALUE;
+        while (solver.solve()) {
+            best = solver.getObjectiveManager().getBestSolutionValue().intValue();
+        }
+        return best;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks.search;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.strategy.selectors.variables.AbstractCriterionBasedVariableSelector;
+import org.chocosolver.solver.search.strategy.selectors.variables.ConflictHistorySearch;
+import org.chocosolver.solver.search.strategy.selectors.variables.DomOverWDeg;
+import org.chocosolver.solver.search.strategy.selectors.variables.DomOverWDegRef;
+import org.chocosolver.solver.variables.IntVar;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of the conflict-driven variable selectors on a random binary CSP:
+ * selecting a variable (once per node) and recording a failure (once per conflict).
+ * <br/>
+ * All propagators have failed once before the measurement,
+ * so that each variable has a non-trivial weight.
+ *
+ * @author agent
+ * @since 16/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VariableSelectorBenchmark {
+
+    @Param({"dom/wdeg", "dom/wdeg-ref", "chs"})
+    String selector;
+
+    /**
+     * Number of variables
+     */
+    @Param({"1000"})
+    int n;
+
+    /**
+     * Number of binary constraints
+     */
+    @Param({"20000"})
+    int m;
+
+    private IntVar[] vars;
+    private Propagator<?>[] props;
+    private AbstractCriterionBasedVariableSelector<IntVar> sel;
+    private final ContradictionException cex = new ContradictionException();
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Model model = new Model();
+        vars = model.intVarArray("X", n, 0, 9);
+        Random rnd = new Random(0);
+        for (int i = 0; i < m; i++) {
+            int a = rnd.nextInt(n);
+            int b = rnd.nextInt(n - 1);
+            if (b >= a) b++;
+            model.arithm(vars[a], "!=", vars[b], "+", rnd.nextInt(3)).post();
+        }
+        List<Propagator<?>> list = new ArrayList<>();
+        for (Constraint c : model.getCstrs()) {
+            for (Propagator<?> p : c.getPropagators()) {
+                list.add(p);
+            }
+        }
+        props = list.toArray(new Propagator<?>[0]);
+        switch (selector) {
+            case "dom/wdeg":
+                sel = new DomOverWDeg<>(vars, 0);
+                break;
+            case "dom/wdeg-ref":
+                sel = new DomOverWDegRef<>(vars, 0);
+                break;
+            case "chs":
+                sel = new ConflictHistorySearch<>(vars, 0);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown selector: " + selector);
+        }
+        sel.init();
+        for (Propagator<?> p : props) {
+            conflict(p);
+        }
+    }
+
+    private void conflict(Propagator<?> p) {
+        sel.onContradiction(cex.set(p, p.getVar(0), ""));
+    }
+
+    /**
+     * Selection cost per node
+     */
+    @Benchmark
+    public IntVar select() {
+        return sel.getVariable(vars);
+    }
+
+    /**
+     * Recording cost per conflict
+     */
+    @Benchmark
+    public void fail() {
+        conflict(props[next]);
+        next = (next + 1) % props.length;
+    }
+}
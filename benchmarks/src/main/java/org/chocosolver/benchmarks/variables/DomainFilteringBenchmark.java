@@ -0,0 +1,117 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.benchmarks.variables;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the removal of many values at once from bitset domains of size <i>d</i>,
+ * a fraction <i>density</i> of the values being removed,
+ * either value by value ({@code value}), from an {@link IntIterableRangeSet} ({@code set})
+ * or from a bitset ({@code mask}, applied word by word).
+ * <br/>
+ * Each invocation opens a world, filters <i>n</i> variables then backtracks.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DomainFilteringBenchmark {
+
+    @Param({"value", "set", "mask"})
+    String api;
+
+    /**
+     * Domain size of the variables
+     */
+    @Param({"256", "8192"})
+    int d;
+
+    /**
+     * Ratio of removed values
+     */
+    @Param({"0.1", "0.5"})
+    double density;
+
+    /**
+     * Number of variables
+     */
+    @Param({"16"})
+    int n;
+
+    private IEnvironment environment;
+    private IntVar[] vars;
+    private int[][] values;
+    private IntIterableRangeSet[] sets;
+    private long[][] masks;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random rnd = new Random(0);
+        Model model = new Model();
+        environment = model.getEnvironment();
+        vars = model.intVarArray("X", n, 0, d - 1, false);
+        values = new int[n][];
+        sets = new IntIterableRangeSet[n];
+        masks = new long[n][(d + 63) / 64];
+        for (int i = 0; i < n; i++) {
+            sets[i] = new IntIterableRangeSet();
+            // the bounds are kept, only holes are made
+            for (int v = 1; v < d - 1; v++) {
+                if (rnd.nextDouble() < density) {
+                    sets[i].add(v);
+                    masks[i][v >> 6] |= 1L << v;
+                }
+            }
+            values[i] = sets[i].toArray();
+        }
+    }
+
+    /**
+     * Remove the values from each variable
+     */
+    @Benchmark
+    public int removeValues() throws ContradictionException {
+        environment.worldPush();
+        int size = 0;
+        for (int i = 0; i < n; i++) {
+            switch (api) {
+                case "value":
+                    for (int v : values[i]) {
+                        vars[i].removeValue(v, Cause.Null);
+                    }
+                    break;
+                case "set":
+                    vars[i].removeValues(sets[i], Cause.Null);
+                    break;
+                default:
+                    vars[i].removeValues(masks[i], 0, Cause.Null);
+                    break;
+            }
+            size += vars[i].getDomainSize();
+        }
+        environment.worldPop();
+        return size;
+    }
+}
@@ -14,6 +14,8 @@ import gnu.trove.list.array.TIntArrayList;
 import gnu.trove.set.hash.TIntHashSet;
 import org.chocosolver.examples.AbstractProblem;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.extension.RelationCache;
+import org.chocosolver.solver.constraints.extension.TuplesFactory;
 import org.chocosolver.solver.search.limits.FailCounter;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ESat;
@@ -56,6 +58,9 @@ public class RLFAP extends AbstractProblem {
     @Option(name = "-o", aliases = "--optimize", usage = "Minimize the number of allocated frequencies", required = false)
     boolean opt = false;
 
+    @Option(name = "-t", aliases = "--table", usage = "Post distance constraints as binary tables, filtered with the given algorithm (e.g., AC3bit+rm)", required = false)
+    String table = null;
+
     int[][] _dom, _ctr;
     int[][] _var;
 
@@ -100,7 +105,17 @@ public class RLFAP extends AbstractProblem {
 
         for (int i = 0; i < _ctr.length; i++) {
             int[] ci = _ctr[i];
-            model.distance(vars[ci[0] - 1], vars[ci[1] - 1], (ci[2] == 0 ? "=" : ">"), ci[3]).post();
+            IntVar x = vars[ci[0] - 1];
+            IntVar y = vars[ci[1] - 1];
+            if (table != null) {
+                // identical relations are shared between tables, see Settings#enableRelationSharing()
+                boolean eq = ci[2] == 0;
+                int k = ci[3];
+                model.table(x, y, TuplesFactory.generateTuples(
+                        t -> eq ? Math.abs(t[0] - t[1]) == k : Math.abs(t[0] - t[1]) > k, true, x, y), table).post();
+            } else {
+                model.distance(x, y, (ci[2] == 0 ? "=" : ">"), ci[3]).post();
+            }
 
             // MARK BOTH SPOTS IN "PRECEDENCE" GRAPH
             graph[ci[0] - 1][ci[1] - 1] = 1;
@@ -150,6 +165,10 @@ public class RLFAP extends AbstractProblem {
         if (opt) {
             model.setObjective(true, nb0);
         }
+        if (table != null) {
+            RelationCache cache = model.getRelationCache();
+            System.out.printf("%d tables, %d distinct relations%n", _ctr.length, cache.size());
+        }
         while(model.getSolver().solve()){
             System.out.println(nb0);
             prettyOut();
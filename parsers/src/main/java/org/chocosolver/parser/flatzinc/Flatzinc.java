@@ -9,8 +9,6 @@
  */
 package org.chocosolver.parser.flatzinc;
 
-import org.antlr.v4.runtime.*;
-import org.antlr.v4.runtime.atn.PredictionMode;
 import org.chocosolver.parser.Level;
 import org.chocosolver.parser.RegParser;
 import org.chocosolver.parser.flatzinc.ast.Datas;
@@ -34,12 +32,15 @@ import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.util.tools.VariableUtils;
 import org.kohsuke.args4j.Option;
 
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
 import java.util.stream.Stream;
 
@@ -144,15 +145,26 @@ public class Flatzinc extends RegParser {
 
     @Override
     public void buildModel() {
-        List<Model> models = portfolio.getModels();
-        for (int i = 0; i < models.size(); i++) {
-            Model m = models.get(i);
+        // the instance is mapped once in memory, then each model is parsed concurrently from it
+        // (a file too large to be mapped is streamed by each model)
+        final ByteBuffer content;
+        try (FileChannel channel = FileChannel.open(Paths.get(instance), StandardOpenOption.READ)) {
+            content = channel.size() <= Integer.MAX_VALUE ?
+                    channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()) : null;
+        } catch (IOException e) {
+            throw new Error(e.getMessage());
+        }
+        portfolio.populate((m, i) -> {
             Solver s = m.getSolver();
             try {
                 long ptime = -System.currentTimeMillis();
-                FileInputStream fileInputStream = new FileInputStream(instance);
-                parse(m, datas[i], fileInputStream);
-                fileInputStream.close();
+                if (content != null) {
+                    parse(m, datas[i], content);
+                } else {
+                    try (FileChannel channel = FileChannel.open(Paths.get(instance), StandardOpenOption.READ)) {
+                        new FlatzincReader(channel, m, datas[i]).read();
+                    }
+                }
                 if(logFilePath != null) {
                     s.log().remove(System.out);
                     s.log().add(new PrintStream(Files.newOutputStream(Paths.get(logFilePath)), true));
@@ -185,27 +197,30 @@ public class Flatzinc extends RegParser {
             } catch (IOException e) {
                 throw new Error(e.getMessage());
             }
-        }
+        });
     }
 
+    /**
+     * Parse a FlatZinc model from a stream.
+     *
+     * @param target the model to populate
+     * @param data   the data of the model
+     * @param is     the stream to read from
+     */
     public void parse(Model target, Datas data, InputStream is) {
-        CharStream input = new UnbufferedCharStream(is);
-        Flatzinc4Lexer lexer = new Flatzinc4Lexer(input);
-        lexer.setTokenFactory(new CommonTokenFactory(true));
-        TokenStream tokens = new UnbufferedTokenStream<CommonToken>(lexer);
-        Flatzinc4Parser parser = new Flatzinc4Parser(tokens);
-        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
-        parser.setBuildParseTree(false);
-        parser.setTrimParseTree(false);
-        //parser.setProfile(true);
-        parser.flatzinc_model(target, data);
-        /*ParseInfo parseInfo = parser.getParseInfo();
-        ATN atn = parser.getATN();
-        for (DecisionInfo di : parseInfo.getDecisionInfo()) {
-            DecisionState ds = atn.decisionToState.get(di.decision);
-            String ruleName = Flatzinc4Parser.ruleNames[ds.ruleIndex];
-            System.out.println(ruleName +" -> " + di.toString());
-        }*/
+        new FlatzincReader(Channels.newChannel(is), target, data).read();
+    }
+
+    /**
+     * Parse a FlatZinc model from a buffer, typically a memory-mapped file.
+     * The buffer is not modified, so it can be shared by many models.
+     *
+     * @param target the model to populate
+     * @param data   the data of the model
+     * @param buffer the buffer to read from
+     */
+    public void parse(Model target, Datas data, ByteBuffer buffer) {
+        new FlatzincReader(buffer, target, data).read();
     }
 
     @Override
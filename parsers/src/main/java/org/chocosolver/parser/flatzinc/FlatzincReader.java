@@ -0,0 +1,852 @@
+/*
+ * This file is part of choco-parsers, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.parser.flatzinc;
+
+import org.chocosolver.parser.ParserException;
+import org.chocosolver.parser.flatzinc.ast.Datas;
+import org.chocosolver.parser.flatzinc.ast.FConstraint;
+import org.chocosolver.parser.flatzinc.ast.FGoal;
+import org.chocosolver.parser.flatzinc.ast.FParameter;
+import org.chocosolver.parser.flatzinc.ast.FVariable;
+import org.chocosolver.parser.flatzinc.ast.declaration.*;
+import org.chocosolver.parser.flatzinc.ast.expression.*;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ResolutionPolicy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A hand-written, streaming, reader of FlatZinc models.
+ * <p>
+ * It replaces the ANTLR-based parser ({@link Flatzinc4Parser}) on large instances:
+ * <ul>
+ *     <li>bytes are read from a channel through a fixed-size buffer, or from a (possibly memory-mapped)
+ *     buffer, and tokens are never materialized as objects,</li>
+ *     <li>identifiers are interned, so that a name referenced many times is stored once,</li>
+ *     <li>arrays of int constants are read directly into an {@code int[]}, see {@link EArray#EArray(int[])},</li>
+ *     <li>each statement is turned into variables or constraints as soon as it is read.</li>
+ * </ul>
+ * It accepts the same language as {@link Flatzinc4Parser} and builds the same model.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class FlatzincReader {
+
+    // TOKENS
+    private static final int EOF = 0;
+    private static final int IDENTIFIER = 1;
+    private static final int INT_CONST = 2;
+    private static final int FLOAT_CONST = 3;
+    private static final int STRING = 4;
+    private static final int DD = 5; // ..
+    private static final int LB = 6; // {
+    private static final int RB = 7; // }
+    private static final int CM = 8; // ,
+    private static final int LS = 9; // [
+    private static final int RS = 10; // ]
+    private static final int EQ = 11; // =
+    private static final int SC = 12; // ;
+    private static final int CL = 13; // :
+    private static final int DC = 14; // ::
+    private static final int LP = 15; // (
+    private static final int RP = 16; // )
+
+    private static final String[] NAMES = {"end of file", "identifier", "int", "float", "string",
+            "'..'", "'{'", "'}'", "','", "'['", "']'", "'='", "';'", "':'", "'::'", "'('", "')'"};
+
+    /**
+     * Size of the buffer when reading from a channel
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Model model;
+    private final Datas datas;
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+    private final Interner interner = new Interner();
+    /**
+     * Characters of the identifier, float or string being read
+     */
+    private byte[] chars = new byte[64];
+    /**
+     * Values of the array of int constants being read
+     */
+    private int[] ints = new int[64];
+    private int line = 1;
+
+    // CURRENT TOKEN
+    private int tok;
+    private int ival;
+    private String sval;
+
+    /**
+     * Create a reader that reads from a channel, through a buffer of fixed size.
+     *
+     * @param channel the channel to read from
+     * @param model   the model to populate
+     * @param datas   the data of the model
+     */
+    public FlatzincReader(ReadableByteChannel channel, Model model, Datas datas) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        this.buffer.flip();
+        this.model = model;
+        this.datas = datas;
+    }
+
+    /**
+     * Create a reader that reads from a buffer, typically a memory-mapped file.
+     * The buffer is read from its position to its limit.
+     * Reading does not modify the buffer's position, so the same buffer can be read by many readers,
+     * using one duplicate per thread.
+     *
+     * @param buffer the buffer to read from
+     * @param model  the model to populate
+     * @param datas  the data of the model
+     */
+    public FlatzincReader(ByteBuffer buffer, Model model, Datas datas) {
+        this.channel = null;
+        this.buffer = buffer.duplicate();
+        this.model = model;
+        this.datas = datas;
+    }
+
+    /**
+     * Read the model, declaration by declaration.
+     *
+     * @throws ParserException if the input is not a valid FlatZinc model
+     * @throws UncheckedIOException if the input cannot be read
+     */
+    public void read() {
+        next();
+        while (tok != EOF) {
+            if (tok != IDENTIFIER) {
+                throw error("a declaration");
+            }
+            switch (sval) {
+                case "predicate":
+                    predicate();
+                    break;
+                case "constraint":
+                    constraint();
+                    break;
+                case "solve":
+                    solve();
+                    break;
+                default:
+                    declaration();
+                    break;
+            }
+        }
+    }
+
+    //***********************************************************************************
+    // STATEMENTS
+    //***********************************************************************************
+
+    /**
+     * Predicates are not used, they are skipped
+     */
+    private void predicate() {
+        while (tok != SC) {
+            if (tok == EOF) {
+                throw error("';'");
+            }
+            next();
+        }
+        next();
+    }
+
+    private void declaration() {
+        boolean var;
+        Declaration type;
+        if (isKeyword("array")) {
+            next();
+            expect(LS);
+            List<Declaration> indices = new ArrayList<>(1);
+            indices.add(indexSet());
+            while (tok == CM) {
+                next();
+                indices.add(indexSet());
+            }
+            expect(RS);
+            keyword("of");
+            var = isKeyword("var");
+            if (var) {
+                next();
+            }
+            type = new DArray(indices, var ? varTypeU() : parTypeU());
+        } else if (isKeyword("var")) {
+            next();
+            var = true;
+            type = varTypeU();
+        } else {
+            var = false;
+            type = parTypeU();
+        }
+        expect(CL);
+        String id = identifier();
+        if (var) {
+            List<EAnnotation> anns = annotations();
+            Expression e = null;
+            if (tok == EQ) {
+                next();
+                e = expr();
+            }
+            expect(SC);
+            FVariable.make_variable(datas, type, id, anns, e, model);
+        } else {
+            annotations();
+            expect(EQ);
+            Expression e = expr();
+            expect(SC);
+            FParameter.make_parameter(datas, type, id, e);
+        }
+    }
+
+    private void constraint() {
+        next();
+        String name = identifier();
+        List<Expression> exps = expressions(LP, RP);
+        List<EAnnotation> anns = annotations();
+        expect(SC);
+        datas.incCstrCounter(name);
+        FConstraint.valueOf(name).build(model, datas, name, exps, anns);
+    }
+
+    private void solve() {
+        next();
+        List<EAnnotation> anns = annotations();
+        ResolutionPolicy policy;
+        Expression e = null;
+        if (isKeyword("satisfy")) {
+            next();
+            policy = ResolutionPolicy.SATISFACTION;
+        } else if (isKeyword("minimize")) {
+            next();
+            policy = ResolutionPolicy.MINIMIZE;
+            e = expr();
+        } else if (isKeyword("maximize")) {
+            next();
+            policy = ResolutionPolicy.MAXIMIZE;
+            e = expr();
+        } else {
+            throw error("satisfy, minimize or maximize");
+        }
+        expect(SC);
+        FGoal.define_goal(model, anns, policy, e);
+    }
+
+    //***********************************************************************************
+    // TYPES
+    //***********************************************************************************
+
+    private Declaration indexSet() {
+        if (isKeyword("int")) {
+            next();
+            return DInt.me;
+        }
+        EInt l = intConst();
+        expect(DD);
+        return new DInt2(l, intConst());
+    }
+
+    private Declaration parTypeU() {
+        if (tok == IDENTIFIER) {
+            switch (sval) {
+                case "bool":
+                    next();
+                    return DBool.me;
+                case "float":
+                    next();
+                    return DFloat.me;
+                case "int":
+                    next();
+                    return DInt.me;
+                case "set":
+                    next();
+                    keyword("of");
+                    keyword("int");
+                    return DSetOfInt.me;
+            }
+        }
+        throw error("a parameter type");
+    }
+
+    private Declaration varTypeU() {
+        if (tok == IDENTIFIER) {
+            switch (sval) {
+                case "bool":
+                    next();
+                    return DBool.me;
+                case "float":
+                    next();
+                    return DFloat.me;
+                case "int":
+                    next();
+                    return DInt.me;
+                case "set":
+                    next();
+                    keyword("of");
+                    if (isKeyword("int")) {
+                        next();
+                        return new DSet(DInt.me);
+                    }
+                    return new DSet(intDomain());
+            }
+        }
+        return intDomain();
+    }
+
+    /**
+     * @return either a range or a list of int constants
+     */
+    private Declaration intDomain() {
+        if (tok == LB) {
+            next();
+            List<EInt> values = new ArrayList<>();
+            values.add(intConst());
+            while (tok == CM) {
+                next();
+                values.add(intConst());
+            }
+            expect(RB);
+            return new DManyInt(values);
+        } else if (tok == INT_CONST) {
+            EInt l = intConst();
+            expect(DD);
+            return new DInt2(l, intConst());
+        }
+        throw error("a variable type");
+    }
+
+    //***********************************************************************************
+    // EXPRESSIONS
+    //***********************************************************************************
+
+    private Expression expr() {
+        switch (tok) {
+            case LB: {
+                next();
+                List<EInt> values = new ArrayList<>();
+                if (tok != RB) {
+                    values.add(intConst());
+                    while (tok == CM) {
+                        next();
+                        values.add(intConst());
+                    }
+                }
+                expect(RB);
+                return new ESetList(values);
+            }
+            case INT_CONST: {
+                EInt l = intConst();
+                if (tok == DD) {
+                    next();
+                    return new ESetBounds(l, intConst());
+                }
+                return l;
+            }
+            case FLOAT_CONST: {
+                Expression f = EFloat.make(sval);
+                next();
+                return f;
+            }
+            case STRING: {
+                Expression s = new EString(sval);
+                next();
+                return s;
+            }
+            case LS:
+                return array();
+            case IDENTIFIER:
+                return idExpr();
+            default:
+                throw error("an expression");
+        }
+    }
+
+    /**
+     * Read an array; if it only contains int constants, they are stored unboxed.
+     */
+    private Expression array() {
+        next();
+        if (tok == RS) {
+            next();
+            return new EArray();
+        }
+        int n = 0;
+        Expression first = null;
+        while (tok == INT_CONST) {
+            int v = ival;
+            next();
+            if (tok == DD) {
+                next();
+                first = new ESetBounds(EInt.make(v), intConst());
+                break;
+            }
+            if (n == ints.length) {
+                ints = Arrays.copyOf(ints, n * 2);
+            }
+            ints[n++] = v;
+            if (tok == RS) {
+                next();
+                return new EArray(Arrays.copyOf(ints, n));
+            }
+            expect(CM);
+        }
+        // mixed array
+        List<Expression> exps = new ArrayList<>(n + 8);
+        for (int i = 0; i < n; i++) {
+            exps.add(EInt.make(ints[i]));
+        }
+        exps.add(first != null ? first : expr());
+        while (tok == CM) {
+            next();
+            exps.add(expr());
+        }
+        expect(RS);
+        return new EArray(exps);
+    }
+
+    private Expression idExpr() {
+        String id = sval;
+        next();
+        switch (id) {
+            case "true":
+                return EBool.instanceTrue;
+            case "false":
+                return EBool.instanceFalse;
+        }
+        if (tok == LP) {
+            return new EAnnotation(new EIdentifier(datas, id), expressions(LP, RP));
+        } else if (tok == LS) {
+            next();
+            int i = intConst().value;
+            expect(RS);
+            return new EIdArray(datas, id, i);
+        }
+        return new EIdentifier(datas, id);
+    }
+
+    /**
+     * @return the non-empty list of expressions between <i>open</i> and <i>close</i>
+     */
+    private List<Expression> expressions(int open, int close) {
+        expect(open);
+        List<Expression> exps = new ArrayList<>();
+        exps.add(expr());
+        while (tok == CM) {
+            next();
+            exps.add(expr());
+        }
+        expect(close);
+        return exps;
+    }
+
+    private List<EAnnotation> annotations() {
+        if (tok != DC) {
+            return Collections.emptyList();
+        }
+        List<EAnnotation> anns = new ArrayList<>(2);
+        while (tok == DC) {
+            next();
+            String id = identifier();
+            List<Expression> exps = tok == LP ? expressions(LP, RP) : new ArrayList<>(0);
+            anns.add(new EAnnotation(new EIdentifier(datas, id), exps));
+        }
+        return anns;
+    }
+
+    private EInt intConst() {
+        if (tok != INT_CONST) {
+            throw error("an int");
+        }
+        int v = ival;
+        next();
+        return EInt.make(v);
+    }
+
+    private String identifier() {
+        if (tok != IDENTIFIER) {
+            throw error("an identifier");
+        }
+        String id = sval;
+        next();
+        return id;
+    }
+
+    private boolean isKeyword(String keyword) {
+        //noinspection StringEquality
+        return tok == IDENTIFIER && sval == keyword;
+    }
+
+    private void keyword(String keyword) {
+        if (!isKeyword(keyword)) {
+            throw error("'" + keyword + "'");
+        }
+        next();
+    }
+
+    private void expect(int token) {
+        if (tok != token) {
+            throw error(NAMES[token]);
+        }
+        next();
+    }
+
+    private ParserException error(String expected) {
+        String found = NAMES[tok];
+        if (tok == IDENTIFIER || tok == STRING || tok == FLOAT_CONST) {
+            found += " " + sval;
+        } else if (tok == INT_CONST) {
+            found += " " + ival;
+        }
+        return new ParserException("line " + line + ": expected " + expected + " but found " + found);
+    }
+
+    //***********************************************************************************
+    // LEXER
+    //***********************************************************************************
+
+    /**
+     * Read the next token
+     */
+    private void next() {
+        int c = skip();
+        switch (c) {
+            case -1:
+                tok = EOF;
+                return;
+            case '{':
+                tok = LB;
+                break;
+            case '}':
+                tok = RB;
+                break;
+            case ',':
+                tok = CM;
+                break;
+            case '[':
+                tok = LS;
+                break;
+            case ']':
+                tok = RS;
+                break;
+            case '=':
+                tok = EQ;
+                break;
+            case ';':
+                tok = SC;
+                break;
+            case '(':
+                tok = LP;
+                break;
+            case ')':
+                tok = RP;
+                break;
+            case '.':
+                if (peek(1) != '.') {
+                    throw new ParserException("line " + line + ": unexpected character '.'");
+                }
+                advance();
+                tok = DD;
+                break;
+            case ':':
+                if (peek(1) == ':') {
+                    advance();
+                    tok = DC;
+                } else {
+                    tok = CL;
+                }
+                break;
+            case '"':
+                string();
+                return;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    number();
+                } else if (c == '_' || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                    identifier(c);
+                } else {
+                    throw new ParserException("line " + line + ": unexpected character '" + (char) c + "'");
+                }
+                return;
+        }
+        advance();
+    }
+
+    /**
+     * Skip white spaces and comments
+     *
+     * @return the first byte of the next token, or -1
+     */
+    private int skip() {
+        int c = peek(0);
+        while (c != -1) {
+            if (c == '\n') {
+                line++;
+            } else if (c == '%') {
+                while (c != '\n' && c != -1) {
+                    advance();
+                    c = peek(0);
+                }
+                continue;
+            } else if (c != ' ' && c != '\t' && c != '\r') {
+                break;
+            }
+            advance();
+            c = peek(0);
+        }
+        return c;
+    }
+
+    private void identifier(int c) {
+        int n = 0;
+        int h = 0;
+        do {
+            if (n == chars.length) {
+                chars = Arrays.copyOf(chars, n * 2);
+            }
+            chars[n++] = (byte) c;
+            h = 31 * h + c;
+            advance();
+            c = peek(0);
+        } while (c == '_' || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9'));
+        sval = interner.intern(chars, n, h);
+        tok = IDENTIFIER;
+    }
+
+    private void number() {
+        int n = 0;
+        boolean neg = false;
+        if (peek(0) == '-') {
+            neg = true;
+            chars[n++] = '-';
+            advance();
+            if (!isDigit(peek(0))) {
+                throw new ParserException("line " + line + ": unexpected character '-'");
+            }
+        }
+        long v = 0;
+        int c;
+        while (isDigit(c = peek(0))) {
+            // v saturates: the literal may be a float, the range is checked once it is known to be an int
+            if (v <= Integer.MAX_VALUE + 1L) {
+                v = v * 10 + (c - '0');
+            }
+            n = append(n, c);
+            advance();
+        }
+        boolean isFloat = false;
+        if (c == '.' && isDigit(peek(1))) {
+            isFloat = true;
+            n = append(n, c);
+            advance();
+            while (isDigit(c = peek(0))) {
+                n = append(n, c);
+                advance();
+            }
+        }
+        if (c == 'e' || c == 'E') {
+            isFloat = true;
+            n = append(n, c);
+            advance();
+            c = peek(0);
+            if (c == '+' || c == '-') {
+                n = append(n, c);
+                advance();
+            }
+            while (isDigit(c = peek(0))) {
+                n = append(n, c);
+                advance();
+            }
+        }
+        if (isFloat) {
+            sval = new String(chars, 0, n, StandardCharsets.US_ASCII);
+            tok = FLOAT_CONST;
+        } else {
+            if (v > (neg ? Integer.MAX_VALUE + 1L : Integer.MAX_VALUE)) {
+                throw new ParserException("line " + line + ": int constant out of range");
+            }
+            ival = (int) (neg ? -v : v);
+            tok = INT_CONST;
+        }
+    }
+
+    /**
+     * Strings are kept with their quotes, as in {@link Flatzinc4Parser}
+     */
+    private void string() {
+        int n = append(0, '"');
+        advance();
+        int c;
+        while ((c = peek(0)) != '"') {
+            if (c == -1) {
+                throw new ParserException("line " + line + ": unterminated string");
+            }
+            if (c == '\\') {
+                n = append(n, c);
+                advance();
+                c = peek(0);
+            }
+            n = append(n, c);
+            advance();
+        }
+        n = append(n, c);
+        advance();
+        sval = new String(chars, 0, n, StandardCharsets.UTF_8);
+        tok = STRING;
+    }
+
+    private int append(int n, int c) {
+        if (n == chars.length) {
+            chars = Arrays.copyOf(chars, n * 2);
+        }
+        chars[n] = (byte) c;
+        return n + 1;
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * @param k offset from the current position, 0 or 1
+     * @return the byte at the current position plus <i>k</i>, or -1 if the end of input is reached
+     */
+    private int peek(int k) {
+        while (buffer.remaining() <= k) {
+            if (!fill()) {
+                return -1;
+            }
+        }
+        return buffer.get(buffer.position() + k) & 0xFF;
+    }
+
+    private void advance() {
+        buffer.position(buffer.position() + 1);
+    }
+
+    /**
+     * Read more bytes from the channel, if any
+     *
+     * @return <i>true</i> if at least one byte was read
+     */
+    private boolean fill() {
+        if (channel == null) {
+            return false;
+        }
+        buffer.compact();
+        try {
+            int r;
+            do {
+                r = channel.read(buffer);
+            } while (r == 0);
+            return r > 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buffer.flip();
+        }
+    }
+
+    /**
+     * An open-addressing table of identifiers, to only allocate a {@link String} for unseen identifiers.
+     * Keywords are registered first, so that they can be compared by reference to literals.
+     */
+    private static final class Interner {
+
+        private String[] table = new String[1 << 10];
+        private int[] hashes = new int[1 << 10];
+        private int size;
+
+        private Interner() {
+            for (String k : new String[]{"array", "of", "var", "par", "bool", "float", "int", "set",
+                    "predicate", "constraint", "solve", "satisfy", "minimize", "maximize", "true", "false"}) {
+                add(k, k.hashCode());
+            }
+        }
+
+        String intern(byte[] chars, int n, int h) {
+            int mask = table.length - 1;
+            int i = mix(h) & mask;
+            String s;
+            while ((s = table[i]) != null) {
+                if (hashes[i] == h && equals(s, chars, n)) {
+                    return s;
+                }
+                i = (i + 1) & mask;
+            }
+            s = new String(chars, 0, n, StandardCharsets.US_ASCII);
+            table[i] = s;
+            hashes[i] = h;
+            if (++size * 2 > table.length) {
+                grow();
+            }
+            return s;
+        }
+
+        private void add(String s, int h) {
+            int mask = table.length - 1;
+            int i = mix(h) & mask;
+            while (table[i] != null) {
+                i = (i + 1) & mask;
+            }
+            table[i] = s;
+            hashes[i] = h;
+            size++;
+        }
+
+        private static boolean equals(String s, byte[] chars, int n) {
+            if (s.length() != n) {
+                return false;
+            }
+            for (int k = 0; k < n; k++) {
+                if (s.charAt(k) != chars[k]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int mix(int h) {
+            return h ^ (h >>> 16);
+        }
+
+        private void grow() {
+            String[] ot = table;
+            int[] oh = hashes;
+            table = new String[ot.length * 2];
+            hashes = new int[ot.length * 2];
+            int mask = table.length - 1;
+            for (int j = 0; j < ot.length; j++) {
+                if (ot[j] != null) {
+                    int i = mix(oh[j]) & mask;
+                    while (table[i] != null) {
+                        i = (i + 1) & mask;
+                    }
+                    table[i] = ot[j];
+                    hashes[i] = oh[j];
+                }
+            }
+        }
+    }
+}
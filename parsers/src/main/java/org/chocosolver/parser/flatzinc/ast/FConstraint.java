@@ -1187,12 +1187,10 @@ public enum FConstraint {
             IntVar[] s = exps.get(0).toIntVarArray(model);
             IntVar[] d = exps.get(1).toIntVarArray(model);
             Task[] t = new Task[s.length];
-            IntVar[] h = new IntVar[s.length];
             for (int i = 0; i < s.length; i++) {
                 t[i] = model.taskVar(s[i], d[i]);
-                h[i] = model.intVar(1);
             }
-            model.cumulative(t, h, model.intVar(1)).post();
+            model.disjunctive(t).post();
         }
     },
     fzn_disjunctive_strict {
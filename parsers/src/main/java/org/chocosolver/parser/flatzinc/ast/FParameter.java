@@ -136,11 +136,7 @@ public final class FParameter {
             case INT:
             case INT2:
             case INTN:
-                int[] iarr = new int[size];
-                for (int i = 0; i < size; i++) {
-                    iarr[i] = ((EInt) value.getWhat_i(i)).value;
-                }
-                datas.register(name, iarr);
+                datas.register(name, value.toIntArray());
                 break;
             case SET: {
                 int[][] sarr = new int[size][];
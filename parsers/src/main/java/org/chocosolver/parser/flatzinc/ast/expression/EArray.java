@@ -14,6 +14,7 @@ import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.SetVar;
 
+import java.util.AbstractList;
 import java.util.Collections;
 import java.util.List;
 
@@ -29,14 +30,43 @@ public final class EArray extends Expression {
 
     public final List<Expression> what;
 
+    /**
+     * Values of an array of int constants, stored unboxed, or <i>null</i>
+     */
+    private final int[] values;
+
     public EArray(List<Expression> what) {
         super(EType.ARR);
         this.what = what;
+        this.values = null;
     }
 
     public EArray() {
         super(EType.ARR);
         this.what = Collections.emptyList();
+        this.values = null;
+    }
+
+    /**
+     * Create an array of int constants.
+     * The elements are only turned into {@link EInt} on demand, through {@link #what}.
+     *
+     * @param values the int constants, not copied
+     */
+    public EArray(int[] values) {
+        super(EType.ARR);
+        this.values = values;
+        this.what = new AbstractList<Expression>() {
+            @Override
+            public Expression get(int index) {
+                return EInt.make(values[index]);
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+        };
     }
 
     public Expression getWhat_i(int i) {
@@ -56,6 +86,10 @@ public final class EArray extends Expression {
 
     @Override
     public int[] toIntArray() {
+        if (values != null) {
+            // callers may modify the array, so the values of this array must not leak
+            return values.clone();
+        }
         int[] arr = new int[what.size()];
         for (int i = 0; i < what.size(); i++) {
             arr[i] = what.get(i).intValue();
@@ -65,6 +65,10 @@ public class MPS extends RegParser {
     @Option(name = "-split", usage = "Split any contraints of cardinality greater than this value (default: 100).")
     int split = 100;
 
+    @SuppressWarnings("FieldMayBeFinal")
+    @Option(name = "-lp", usage = "Bound the objective with the linear relaxation, solved every this number of nodes (default: 0, disabled).")
+    private int lp = 0;
+
 
     /**
      * Needed to print the last solution found
@@ -152,6 +156,9 @@ public class MPS extends RegParser {
 
     public void parse(Model target, MPSParser parser, int i) throws Exception {
         parser.model(target, instance, maximize, ninf, pinf, ibex, noeq);
+        if (lp > 0 && target.getObjective() instanceof IntVar) {
+            target.lpRelaxation((IntVar) target.getObjective(), maximize, lp).post();
+        }
         if (i == 0) {
             if (target.getNbRealVar() == 0) {
                 BlackBoxConfigurator.init()
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.parser.mps;
 
+import org.chocosolver.lp.SparseLinearProgram;
 import org.chocosolver.parser.ParserException;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.variables.IntVar;
@@ -65,6 +66,68 @@ public class MPSParser {
                       double ninf, double pinf,
                       boolean ibex,
                       boolean noeq) throws IOException {
+        read(instance, ninf, pinf);
+        build(model, maximize, ibex, noeq);
+    }
+
+    /**
+     * Read an MPS instance and return its continuous relaxation:
+     * integrality is ignored, bounds and ranged rows are kept as is, possibly infinite.
+     * Variables are indexed in their order of appearance in the COLUMNS section,
+     * rows are declared in the lexicographic order of their names, as in {@link #model}.
+     * The constant term of the objective function is ignored.
+     *
+     * @param instance path to the instance
+     * @param maximize set to <i>true</i> to maximize the objective function
+     * @return the relaxation of the instance
+     * @throws IOException if the instance cannot be read
+     */
+    public SparseLinearProgram relaxation(String instance, boolean maximize) throws IOException {
+        read(instance, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+        SparseLinearProgram lp = new SparseLinearProgram();
+        HashMap<String, Integer> index = new HashMap<>();
+        for (String vnam : allvars) {
+            Number[] bounds = varsDom.get(vnam);
+            if (bounds == null) {
+                index.put(vnam, lp.makeVariable(0., POS_INF));
+            } else {
+                index.put(vnam, lp.makeVariable(bounds[0].doubleValue(), bounds[1].doubleValue()));
+            }
+        }
+        String[] cnames = vars4eq.keySet().toArray(new String[0]);
+        Arrays.sort(cnames); // preserve order for determinism
+        boolean foundObj = false;
+        for (String cnam : cnames) {
+            int[] vars = vars4eq.get(cnam).stream().mapToInt(index::get).toArray();
+            double[] coefs = coeffs4eq.get(cnam).stream().mapToDouble(Number::doubleValue).toArray();
+            String op = ope4eq.get(cnam);
+            Number rhs = rhs4eq.get(cnam);
+            Number rng = range4eq.get(cnam);
+            double b = rhs == null ? 0. : rhs.doubleValue();
+            if (op == null) {
+                if (foundObj) {
+                    throw new ParserException("More than one objective function found");
+                }
+                lp.setObjective(maximize, vars, coefs);
+                foundObj = true;
+                continue;
+            }
+            double lo = "<=".equals(op) ? Double.NEGATIVE_INFINITY : b;
+            double up = ">=".equals(op) ? Double.POSITIVE_INFINITY : b;
+            if (rng != null) {
+                double r = Math.abs(rng.doubleValue());
+                if ("<=".equals(op) || ("=".equals(op) && rng.doubleValue() < 0)) {
+                    lo = b - r;
+                } else {
+                    up = b + r;
+                }
+            }
+            lp.addRow(vars, coefs, lo, up);
+        }
+        return lp;
+    }
+
+    private void read(String instance, double ninf, double pinf) throws IOException {
         ope4eq = new HashMap<>();
         coeffs4eq = new HashMap<>();
         vars4eq = new HashMap<>();
@@ -106,7 +169,6 @@ public class MPSParser {
                 line = br.readLine();
             }
         }
-        build(model, maximize, ibex, noeq);
         reader.close();
         if(gzis != null) {
             gzis.close();
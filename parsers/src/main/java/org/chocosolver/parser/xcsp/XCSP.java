@@ -19,6 +19,8 @@ import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.search.strategy.SearchParams;
 import org.chocosolver.util.logger.Logger;
 import org.kohsuke.args4j.Option;
+import org.w3c.dom.Document;
+import org.xcsp.common.Utilities;
 import org.xcsp.parser.callbacks.SolutionChecker;
 
 import java.io.ByteArrayInputStream;
@@ -85,12 +87,29 @@ public class XCSP extends RegParser {
     @Override
     public void buildModel() {
         List<Model> models = portfolio.getModels();
-        for (int i = 0; i < models.size(); i++) {
-            Model m = models.get(i);
+        // the instance is loaded once, then each model is fed from its own copy of the document
+        final Document[] original = new Document[1];
+        try {
+            original[0] = Utilities.loadDocument(instance);
+        } catch (Exception e) {
+            throw new RuntimeException("Cannot load " + instance + ": " + e.getMessage(), e);
+        }
+        final int[] remaining = {models.size()};
+        portfolio.populate((m, i) -> {
             Solver s = m.getSolver();
             try {
                 long ptime = -System.currentTimeMillis();
-                parse(m, parsers[i]);
+                // a DOM cannot be read concurrently: a copy is made on demand, the last model takes the original,
+                // so that, besides the original, at most one copy per running thread is alive
+                Document document;
+                synchronized (original) {
+                    document = --remaining[0] == 0 ? original[0] : (Document) original[0].cloneNode(true);
+                    if (remaining[0] == 0) {
+                        original[0] = null;
+                    }
+                }
+                parse(m, parsers[i], document);
+                document = null;
                 if (logFilePath != null) {
                     s.log().remove(System.out);
                     s.log().add(new PrintStream(Files.newOutputStream(Paths.get(logFilePath)), true));
@@ -126,9 +145,9 @@ public class XCSP extends RegParser {
                     s.log().printf("c %s\n", e.getMessage());
                 }
                 e.printStackTrace();
-                throw new RuntimeException("UNSUPPORTED");
+                throw new RuntimeException("UNSUPPORTED", e);
             }
-        }
+        });
     }
 
     public void parse(Model target, XCSPParser parser) throws Exception {
@@ -137,6 +156,12 @@ public class XCSP extends RegParser {
         freesearch(target.getSolver());
     }
 
+    public void parse(Model target, XCSPParser parser, Document document) throws Exception {
+        parser.model(target, document);
+        // and define a search strategy
+        freesearch(target.getSolver());
+    }
+
 
     @Override
     public void freesearch(Solver solver) {
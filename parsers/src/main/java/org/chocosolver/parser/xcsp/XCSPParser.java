@@ -36,12 +36,14 @@ import org.chocosolver.util.tools.MathUtils;
 import org.chocosolver.util.tools.VariableUtils;
 import org.xcsp.common.Condition;
 import org.xcsp.common.Types;
+import org.xcsp.common.Utilities;
 import org.xcsp.common.predicates.XNode;
 import org.xcsp.common.predicates.XNodeParent;
 import org.xcsp.common.structures.Transition;
 import org.xcsp.parser.callbacks.XCallbacks2;
 import org.xcsp.parser.entries.XConstraints;
 import org.xcsp.parser.entries.XVariables;
+import org.w3c.dom.Document;
 
 import java.io.File;
 import java.util.*;
@@ -85,18 +87,32 @@ public class XCSPParser implements XCallbacks2 {
     Implem implem;
 
     public void model(Model model, String instance) throws Exception {
+        File file = new File(instance);
+        if (file.exists()) {
+            model(model, Utilities.loadDocument(instance));
+        } else {
+            throw new RuntimeException("FILE DOES NOT EXIST");
+        }
+    }
+
+    /**
+     * Feed <i>model</i> with an instance already loaded in memory.
+     * The document is parsed as is: it may be modified and must not be read concurrently.
+     * To feed many models from a single loading, give each of them its own copy of the document,
+     * made with {@code document.cloneNode(true)}, which takes a time and a memory linear in the size of the document.
+     *
+     * @param model    the model to feed
+     * @param document the XCSP3 instance
+     * @throws Exception if the instance cannot be parsed
+     */
+    public void model(Model model, Document document) throws Exception {
         this.model = model;
         this.mvars = new HashMap<>();
         this.symbolics = new HashSet<>();
         this.symbolToInt = new TObjectIntHashMap<>();
         this.intToSymbol = new TIntObjectHashMap<>();
         this.implem = new Implem(this);
-        File file = new File(instance);
-        if (file.exists()) {
-            loadInstance(instance);
-        } else {
-            throw new RuntimeException("FILE DOES NOT EXIST");
-        }
+        loadInstance(document);
     }
 
     @Override
@@ -9,8 +9,11 @@
  */
 package org.chocosolver.mps;
 
+import org.chocosolver.lp.LinearProgram;
+import org.chocosolver.lp.SparseLinearProgram;
 import org.chocosolver.parser.SetUpException;
 import org.chocosolver.parser.mps.MPS;
+import org.chocosolver.parser.mps.MPSParser;
 import org.chocosolver.solver.search.SearchState;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
@@ -96,4 +99,22 @@ public class ParserTest {
         }
     }
 
+    @DataProvider(name = "relaxations")
+    public Object[][] relaxations() {
+        return new Object[][]{
+                {"example1.mps", 54.},
+                {"markshare_5_0.mps.gz", 0.},
+                {"noswot.mps.gz", -43.},
+                {"m100n500k4r1.mps.gz", -25.},
+                {"timtab1.mps.gz", 28694.},
+        };
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "relaxations")
+    public void testRelaxation(String name, double bound) throws IOException {
+        String file = this.getClass().getResource(ROOT + name).getFile();
+        SparseLinearProgram lp = new MPSParser().relaxation(file, false);
+        Assert.assertEquals(lp.solve(), LinearProgram.Status.FEASIBLE);
+        Assert.assertEquals(lp.objective(), bound, 1e-6);
+    }
 }
@@ -0,0 +1,204 @@
+/*
+ * This file is part of choco-parsers, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.parser.flatzinc;
+
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.chocosolver.parser.Level;
+import org.chocosolver.parser.ParserException;
+import org.chocosolver.parser.flatzinc.ast.Datas;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.variables.Variable;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * @author agent
+ * @since 17/10/2026
+ */
+public class FlatzincReaderTest {
+
+    private static final String MODEL = "% a comment\n" +
+            "predicate fzn_all_different_int(array [int] of var int: x);\n" +
+            "array [1..3] of int: c = [1,-2,300000];\n" +
+            "array [1..2] of set of int: s = [1..3,{2,4}];\n" +
+            "array [1..2] of bool: b = [true,false];\n" +
+            "int: k = 4;\n" +
+            "set of int: r = 1..4;\n" +
+            "var 1..4: x :: output_var;\n" +
+            "var {1,3,5}: y :: output_var; % another comment\n" +
+            "var bool: z :: output_var;\n" +
+            "var 0..100: o :: is_defined_var;\n" +
+            "array [1..2] of var int: xs :: output_array([1..2]) = [x,y];\n" +
+            "constraint int_lin_eq([1,1,-1],[x,y,o],0) :: defines_var(o);\n" +
+            "constraint fzn_all_different_int(xs);\n" +
+            "constraint bool2int(z, xs[1]);\n" +
+            "solve :: int_search(xs, input_order, indomain_min, complete) maximize o;\n";
+
+    private static Model read(ReadableByteChannel channel) {
+        Model model = new Model();
+        Datas datas = new Datas(model, Level.SILENT, false);
+        new FlatzincReader(channel, model, datas).read();
+        return model;
+    }
+
+    private static Model read(String fzn) {
+        Model model = new Model();
+        Datas datas = new Datas(model, Level.SILENT, false);
+        new FlatzincReader(ByteBuffer.wrap(fzn.getBytes(StandardCharsets.US_ASCII)), model, datas).read();
+        return model;
+    }
+
+    private static Model readWithANTLR(InputStream is) {
+        Model model = new Model();
+        Datas datas = new Datas(model, Level.SILENT, false);
+        Flatzinc4Lexer lexer = new Flatzinc4Lexer(new UnbufferedCharStream(is));
+        lexer.setTokenFactory(new CommonTokenFactory(true));
+        Flatzinc4Parser parser = new Flatzinc4Parser(new UnbufferedTokenStream<CommonToken>(lexer));
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.setBuildParseTree(false);
+        parser.flatzinc_model(model, datas);
+        return model;
+    }
+
+    private static String signature(Model model) {
+        StringBuilder st = new StringBuilder();
+        for (Variable v : model.getVars()) {
+            st.append(v).append('\n');
+        }
+        for (Constraint c : model.getCstrs()) {
+            st.append(c.getName()).append('\n');
+        }
+        return st.append(model.getResolutionPolicy()).append(' ').append(model.getObjective()).toString();
+    }
+
+    /**
+     * A channel that returns one byte per read, to check tokens spanning buffer refills
+     */
+    private static ReadableByteChannel slow(String fzn) {
+        byte[] bytes = fzn.getBytes(StandardCharsets.US_ASCII);
+        return new ReadableByteChannel() {
+            int pos = 0;
+
+            @Override
+            public int read(ByteBuffer dst) {
+                if (pos == bytes.length) {
+                    return -1;
+                }
+                dst.put(bytes[pos++]);
+                return 1;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    @Test(groups = "1s")
+    public void testSameAsANTLR() {
+        Model expected = readWithANTLR(new ByteArrayInputStream(MODEL.getBytes()));
+        Assert.assertEquals(signature(read(MODEL)), signature(expected));
+        Assert.assertEquals(signature(read(slow(MODEL))), signature(expected));
+    }
+
+    @DataProvider
+    public Object[][] instances() {
+        return new Object[][]{
+                {"/flatzinc/basics/all_different+test_globals.fzn"},
+                {"/flatzinc/basics/test_set_lt_1.fzn"},
+                {"/flatzinc/basics/seq_search_1.fzn"},
+                {"/flatzinc/2012/amaze+amaze+2012-03-08.fzn"},
+        };
+    }
+
+    private static byte[] readFully(InputStream is) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int n;
+        while ((n = is.read(buffer)) != -1) {
+            out.write(buffer, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    @Test(groups = "1s", dataProvider = "instances")
+    public void testInstances(String name) throws IOException {
+        byte[] bytes;
+        try (InputStream is = getClass().getResourceAsStream(name)) {
+            Assert.assertNotNull(is);
+            bytes = readFully(is);
+        }
+        Model expected = readWithANTLR(new ByteArrayInputStream(bytes));
+        Assert.assertEquals(signature(read(new String(bytes, StandardCharsets.US_ASCII))), signature(expected));
+    }
+
+    @Test(groups = "1s")
+    public void testSolve() {
+        Model model = read(slow(MODEL));
+        Assert.assertTrue(model.getSolver().solve());
+        //noinspection StatementWithEmptyBody
+        while (model.getSolver().solve()) {
+        }
+        // x is reified by z, so x = 1 and y = 5
+        Assert.assertEquals(model.getSolver().getBestSolutionValue().intValue(), 6);
+    }
+
+    @Test(groups = "1s")
+    public void testIntArrays() {
+        Model model = new Model();
+        Datas datas = new Datas(model, Level.SILENT, false);
+        new FlatzincReader(ByteBuffer.wrap(("array [1..4] of int: a = [1, -2,\n 3000000,-2147483648];\n" +
+                "array [1..0] of int: e = [];\n").getBytes()), model, datas).read();
+        Assert.assertEquals((int[]) datas.get("a"), new int[]{1, -2, 3000000, Integer.MIN_VALUE});
+        Assert.assertEquals((int[]) datas.get("e"), new int[0]);
+    }
+
+    @Test(groups = "1s")
+    public void testError() {
+        try {
+            read("var 1..4: x;\nvar 1..4 y;\n");
+            Assert.fail();
+        } catch (ParserException e) {
+            Assert.assertTrue(e.getMessage().startsWith("line 2:"), e.getMessage());
+        }
+    }
+
+    @Test(groups = "1s", expectedExceptions = ParserException.class)
+    public void testOverflow() {
+        read("int: k = 2147483648;\n");
+    }
+
+    @Test(groups = "1s", expectedExceptions = ParserException.class)
+    public void testLongOverflow() {
+        read("int: k = -123456789012345678901234567890;\n");
+    }
+
+    @Test(groups = "1s")
+    public void testLargeFloats() {
+        // the integer parts do not fit an int, but the literals are floats
+        read("float: f = 3000000000.5;\nfloat: g = -123456789012345678901234567890e-20;\n");
+    }
+}
@@ -15,7 +15,9 @@
  */
 module org.chocosolver.solver {
     // exports in alphabetical order
+    exports org.chocosolver.lp;
     exports org.chocosolver.memory;
+    exports org.chocosolver.memory.copying;
     exports org.chocosolver.memory.trailing;
     exports org.chocosolver.memory.trailing.trail;
     exports org.chocosolver.memory.trailing.trail.flatten;
@@ -49,9 +51,11 @@ module org.chocosolver.solver {
     exports org.chocosolver.solver.constraints.nary.cnf;
     exports org.chocosolver.solver.constraints.nary.count;
     exports org.chocosolver.solver.constraints.nary.cumulative;
+    exports org.chocosolver.solver.constraints.nary.disjunctive;
     exports org.chocosolver.solver.constraints.nary.element;
     exports org.chocosolver.solver.constraints.nary.globalcardinality;
     exports org.chocosolver.solver.constraints.nary.lex;
+    exports org.chocosolver.solver.constraints.nary.lp;
     exports org.chocosolver.solver.constraints.nary.min_max;
     exports org.chocosolver.solver.constraints.nary.nvalue;
     //exports org.chocosolver.solver.constraints.nary.nvalue.amnv.graph;
@@ -115,6 +119,7 @@ module org.chocosolver.solver {
     exports org.chocosolver.util.objects.queues;
     exports org.chocosolver.util.objects.setDataStructures;
     exports org.chocosolver.util.objects.setDataStructures.bitset;
+    exports org.chocosolver.util.objects.setDataStructures.csr;
     exports org.chocosolver.util.objects.setDataStructures.iterable;
     exports org.chocosolver.util.objects.setDataStructures.linkedlist;
     exports org.chocosolver.util.objects.setDataStructures.swapList;
@@ -145,6 +150,7 @@ module org.chocosolver.solver {
     opens org.chocosolver.solver.constraints.nary.binPacking to org.chocosolver.parsers, sizeof;
     opens org.chocosolver.solver.constraints.nary.circuit to org.chocosolver.parsers, sizeof;
     opens org.chocosolver.solver.constraints.nary.count to org.chocosolver.parsers, sizeof;
+    opens org.chocosolver.solver.constraints.nary.disjunctive to org.chocosolver.parsers, sizeof;
     opens org.chocosolver.solver.constraints.nary to org.chocosolver.parsers, sizeof;
     opens org.chocosolver.solver.constraints.nary.element to org.chocosolver.parsers, sizeof;
     opens org.chocosolver.solver.constraints.nary.lex to org.chocosolver.parsers, sizeof;
@@ -181,6 +187,7 @@ module org.chocosolver.solver {
     opens org.chocosolver.util.objects.setDataStructures to sizeof;
     opens org.chocosolver.util.objects.setDataStructures.bitset to sizeof;
     opens org.chocosolver.util.objects.setDataStructures.constant to sizeof;
+    opens org.chocosolver.util.objects.setDataStructures.csr to sizeof;
     opens org.chocosolver.util.objects.setDataStructures.linkedlist to sizeof;
     opens org.chocosolver.solver.search.loop.monitors to sizeof;
     opens org.chocosolver.solver.search.strategy.decision to sizeof;
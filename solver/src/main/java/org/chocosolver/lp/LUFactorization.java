@@ -0,0 +1,422 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.lp;
+
+import gnu.trove.list.array.TDoubleArrayList;
+import gnu.trove.list.array.TIntArrayList;
+
+import java.util.Arrays;
+
+/**
+ * <p>A sparse LU factorization of a basis matrix, maintained with product-form (eta) updates.</p>
+ * <p>The basis is given column by column, each column being the sparse column of the basic variable
+ * at a basis position. The factorization is a right-looking Gaussian elimination
+ * with Markowitz pivot selection: the column with the fewest active nonzeros is picked first
+ * and, among its entries that pass a threshold test, the one in the shortest row.
+ * Then, each basis change is recorded as an eta vector, until the factorization is recomputed from scratch.</p>
+ * <p>Vectors indexed by rows and vectors indexed by basis positions are dense and of size m.</p>
+ * <br/>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+final class LUFactorization {
+
+    /**
+     * Entries smaller than this (in absolute value) are dropped during the elimination
+     */
+    private static final double DROP = 1e-14;
+    /**
+     * A pivot candidate must be at least this fraction of the largest entry in its column
+     */
+    private static final double THRESHOLD = 0.01;
+    /**
+     * Columns whose largest entry is below this value are considered as empty
+     */
+    private static final double SINGULAR = 1e-11;
+
+    // dimension of the basis
+    private int m;
+    // the row pivoted at step k
+    private int[] prow = new int[0];
+    // the basis position pivoted at step k
+    private int[] pcol = new int[0];
+    // the pivot value of step k
+    private double[] diag = new double[0];
+    // off-diagonal entries of the kth row of U, as basis positions and values
+    private int[][] uidx = new int[0][];
+    private double[][] uval = new double[0][];
+    // multipliers of step k, as rows and values
+    private int[][] lidx = new int[0][];
+    private double[][] lval = new double[0][];
+    // eta file
+    private int netas;
+    private int[] epos = new int[8];
+    private double[] epiv = new double[8];
+    private int[][] eidx = new int[8][];
+    private double[][] eval = new double[8][];
+    // rows and basis positions left unpivoted by the last factorization
+    private int[] singularRows = new int[0];
+    private int[] singularPositions = new int[0];
+    private int nsingular;
+    // active columns of the factorization, chained by number of nonzeros
+    private int[] first;
+    private int[] next;
+    private int[] prev;
+
+    /**
+     * Factorize the m x m basis matrix whose pth column is made of the {@code len[p]} first entries of
+     * {@code idx[p]} (row indices) and {@code val[p]} (values).
+     *
+     * @param m   dimension of the basis
+     * @param idx row indices of each column
+     * @param val values of each column
+     * @param len number of entries of each column
+     * @return the number of basis positions that could not be pivoted, 0 if the basis is not singular.
+     * @see #singularRow(int)
+     * @see #singularPosition(int)
+     */
+    int factorize(int m, int[][] idx, double[][] val, int[] len) {
+        this.m = m;
+        this.netas = 0;
+        if (prow.length < m) {
+            prow = new int[m];
+            pcol = new int[m];
+            diag = new double[m];
+            uidx = new int[m][];
+            uval = new double[m][];
+            lidx = new int[m][];
+            lval = new double[m][];
+        }
+        // active submatrix, stored by rows, with the rows of each column
+        TIntArrayList[] rcol = new TIntArrayList[m];
+        TDoubleArrayList[] rval = new TDoubleArrayList[m];
+        TIntArrayList[] crow = new TIntArrayList[m];
+        int[] ccount = new int[m];
+        for (int i = 0; i < m; i++) {
+            rcol[i] = new TIntArrayList(4);
+            rval[i] = new TDoubleArrayList(4);
+            crow[i] = new TIntArrayList(4);
+        }
+        for (int p = 0; p < m; p++) {
+            for (int k = 0; k < len[p]; k++) {
+                if (Math.abs(val[p][k]) > DROP) {
+                    int r = idx[p][k];
+                    rcol[r].add(p);
+                    rval[r].add(val[p][k]);
+                    crow[p].add(r);
+                    ccount[p]++;
+                }
+            }
+        }
+        // active columns, chained by number of nonzeros
+        first = new int[m + 2];
+        next = new int[m];
+        prev = new int[m];
+        Arrays.fill(first, -1);
+        for (int p = 0; p < m; p++) {
+            link(p, ccount[p]);
+        }
+        int low = 0;
+        boolean[] rowDone = new boolean[m];
+        boolean[] colDone = new boolean[m];
+        // position of a column in the row being updated, and stamps to visit each row of a column once
+        int[] where = new int[m];
+        Arrays.fill(where, -1);
+        int[] stamp = new int[m];
+        TIntArrayList rows = new TIntArrayList();
+        TDoubleArrayList coefs = new TDoubleArrayList();
+        TIntArrayList empty = new TIntArrayList();
+        int step = 0;
+        int visit = 0;
+        while (step + empty.size() < m) {
+            // select the active column with the fewest nonzeros
+            while (first[low] == -1) {
+                low++;
+            }
+            int q = first[low];
+            unlink(q, ccount[q]);
+            // collect its active rows, with their value
+            rows.resetQuick();
+            coefs.resetQuick();
+            double max = 0.;
+            visit++;
+            for (int t = 0; t < crow[q].size(); t++) {
+                int r = crow[q].getQuick(t);
+                if (rowDone[r] || stamp[r] == visit) continue;
+                stamp[r] = visit;
+                int e = rcol[r].indexOf(q);
+                if (e >= 0) {
+                    double v = rval[r].getQuick(e);
+                    rows.add(r);
+                    coefs.add(v);
+                    max = Math.max(max, Math.abs(v));
+                }
+            }
+            if (max < SINGULAR) {
+                colDone[q] = true;
+                empty.add(q);
+                continue;
+            }
+            // among acceptable pivots, select the one in the shortest row
+            int pr = -1;
+            double pv = 0.;
+            for (int t = 0; t < rows.size(); t++) {
+                double v = coefs.getQuick(t);
+                int r = rows.getQuick(t);
+                if (Math.abs(v) >= THRESHOLD * max && (pr == -1 || rcol[r].size() < rcol[pr].size())) {
+                    pr = r;
+                    pv = v;
+                }
+            }
+            // store the pivot row in U
+            TIntArrayList pc = rcol[pr];
+            TDoubleArrayList pvs = rval[pr];
+            int[] ui = new int[pc.size() - 1];
+            double[] uv = new double[pc.size() - 1];
+            for (int t = 0, u = 0; t < pc.size(); t++) {
+                int c = pc.getQuick(t);
+                if (c != q) {
+                    unlink(c, ccount[c]);
+                    link(c, --ccount[c]);
+                    low = Math.min(low, ccount[c]);
+                    ui[u] = c;
+                    uv[u++] = pvs.getQuick(t);
+                }
+            }
+            prow[step] = pr;
+            pcol[step] = q;
+            diag[step] = pv;
+            uidx[step] = ui;
+            uval[step] = uv;
+            rowDone[pr] = true;
+            colDone[q] = true;
+            // eliminate the other rows of the pivot column
+            int nl = 0;
+            int[] li = new int[rows.size() - 1];
+            double[] lv = new double[rows.size() - 1];
+            for (int t = 0; t < rows.size(); t++) {
+                int r = rows.getQuick(t);
+                if (r == pr) continue;
+                double l = coefs.getQuick(t) / pv;
+                li[nl] = r;
+                lv[nl++] = l;
+                TIntArrayList rc = rcol[r];
+                TDoubleArrayList rv = rval[r];
+                for (int s = 0; s < rc.size(); s++) {
+                    where[rc.getQuick(s)] = s;
+                }
+                for (int u = 0; u < ui.length; u++) {
+                    int c = ui[u];
+                    if (where[c] >= 0) {
+                        rv.setQuick(where[c], rv.getQuick(where[c]) - l * uv[u]);
+                    } else {
+                        where[c] = rc.size();
+                        rc.add(c);
+                        rv.add(-l * uv[u]);
+                        crow[c].add(r);
+                        unlink(c, ccount[c]);
+                        link(c, ++ccount[c]);
+                    }
+                }
+                for (int s = 0; s < rc.size(); s++) {
+                    where[rc.getQuick(s)] = -1;
+                }
+                // remove the pivot column and the cancelled entries
+                int k = 0;
+                for (int s = 0; s < rc.size(); s++) {
+                    int c = rc.getQuick(s);
+                    double v = rv.getQuick(s);
+                    if (c == q) continue;
+                    if (Math.abs(v) <= DROP) {
+                        unlink(c, ccount[c]);
+                        link(c, --ccount[c]);
+                        low = Math.min(low, ccount[c]);
+                        continue;
+                    }
+                    rc.setQuick(k, c);
+                    rv.setQuick(k++, v);
+                }
+                rc.remove(k, rc.size() - k);
+                rv.remove(k, rv.size() - k);
+            }
+            lidx[step] = nl == li.length ? li : Arrays.copyOf(li, nl);
+            lval[step] = nl == lv.length ? lv : Arrays.copyOf(lv, nl);
+            step++;
+        }
+        // pair the unpivoted rows with the empty columns
+        nsingular = empty.size();
+        if (nsingular > 0) {
+            singularRows = new int[nsingular];
+            singularPositions = empty.toArray();
+            for (int i = 0, k = 0; i < m; i++) {
+                if (!rowDone[i]) {
+                    singularRows[k++] = i;
+                }
+            }
+        }
+        return nsingular;
+    }
+
+    private void link(int p, int count) {
+        next[p] = first[count];
+        prev[p] = -1;
+        if (first[count] >= 0) {
+            prev[first[count]] = p;
+        }
+        first[count] = p;
+    }
+
+    private void unlink(int p, int count) {
+        if (prev[p] >= 0) {
+            next[prev[p]] = next[p];
+        } else {
+            first[count] = next[p];
+        }
+        if (next[p] >= 0) {
+            prev[next[p]] = prev[p];
+        }
+    }
+
+    /**
+     * @param k index of a singularity, in [0, nsingular)
+     * @return the kth row left unpivoted by the last factorization
+     */
+    int singularRow(int k) {
+        return singularRows[k];
+    }
+
+    /**
+     * @param k index of a singularity, in [0, nsingular)
+     * @return the kth basis position left unpivoted by the last factorization
+     */
+    int singularPosition(int k) {
+        return singularPositions[k];
+    }
+
+    /**
+     * @return the number of eta vectors recorded since the last factorization
+     */
+    int nbUpdates() {
+        return netas;
+    }
+
+    /**
+     * Solve B.x = a.
+     *
+     * @param a a vector indexed by rows, overwritten
+     * @param x the solution, indexed by basis positions
+     */
+    void ftran(double[] a, double[] x) {
+        for (int k = 0; k < m; k++) {
+            double ar = a[prow[k]];
+            if (ar != 0.) {
+                int[] li = lidx[k];
+                double[] lv = lval[k];
+                for (int t = 0; t < li.length; t++) {
+                    a[li[t]] -= lv[t] * ar;
+                }
+            }
+        }
+        for (int k = m - 1; k >= 0; k--) {
+            double s = a[prow[k]];
+            int[] ui = uidx[k];
+            double[] uv = uval[k];
+            for (int t = 0; t < ui.length; t++) {
+                s -= uv[t] * x[ui[t]];
+            }
+            x[pcol[k]] = s / diag[k];
+        }
+        for (int e = 0; e < netas; e++) {
+            int r = epos[e];
+            double xr = x[r] / epiv[e];
+            x[r] = xr;
+            if (xr != 0.) {
+                int[] ei = eidx[e];
+                double[] ev = eval[e];
+                for (int t = 0; t < ei.length; t++) {
+                    x[ei[t]] -= ev[t] * xr;
+                }
+            }
+        }
+    }
+
+    /**
+     * Solve y.B = d.
+     *
+     * @param d a vector indexed by basis positions, overwritten
+     * @param y the solution, indexed by rows
+     */
+    void btran(double[] d, double[] y) {
+        for (int e = netas - 1; e >= 0; e--) {
+            int r = epos[e];
+            double s = d[r];
+            int[] ei = eidx[e];
+            double[] ev = eval[e];
+            for (int t = 0; t < ei.length; t++) {
+                s -= ev[t] * d[ei[t]];
+            }
+            d[r] = s / epiv[e];
+        }
+        for (int k = 0; k < m; k++) {
+            double z = d[pcol[k]] / diag[k];
+            y[prow[k]] = z;
+            if (z != 0.) {
+                int[] ui = uidx[k];
+                double[] uv = uval[k];
+                for (int t = 0; t < ui.length; t++) {
+                    d[ui[t]] -= z * uv[t];
+                }
+            }
+        }
+        for (int k = m - 1; k >= 0; k--) {
+            int[] li = lidx[k];
+            double[] lv = lval[k];
+            double s = y[prow[k]];
+            for (int t = 0; t < li.length; t++) {
+                s -= lv[t] * y[li[t]];
+            }
+            y[prow[k]] = s;
+        }
+    }
+
+    /**
+     * Record the replacement of the basic variable at position r
+     * by a variable whose column, once FTRANed, is alpha.
+     *
+     * @param r     the basis position
+     * @param alpha the FTRANed entering column, indexed by basis positions
+     */
+    void update(int r, double[] alpha) {
+        if (netas == epos.length) {
+            int c = netas * 3 / 2 + 1;
+            epos = Arrays.copyOf(epos, c);
+            epiv = Arrays.copyOf(epiv, c);
+            eidx = Arrays.copyOf(eidx, c);
+            eval = Arrays.copyOf(eval, c);
+        }
+        int nz = 0;
+        for (int i = 0; i < m; i++) {
+            if (i != r && alpha[i] != 0.) nz++;
+        }
+        int[] ei = new int[nz];
+        double[] ev = new double[nz];
+        for (int i = 0, k = 0; i < m; i++) {
+            if (i != r && alpha[i] != 0.) {
+                ei[k] = i;
+                ev[k++] = alpha[i];
+            }
+        }
+        epos[netas] = r;
+        epiv[netas] = alpha[r];
+        eidx[netas] = ei;
+        eval[netas++] = ev;
+    }
+}
@@ -0,0 +1,1085 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.lp;
+
+import org.chocosolver.lp.LinearProgram.Status;
+
+import java.util.Arrays;
+
+/**
+ * <p>A linear program solved with a sparse revised simplex method.</p>
+ * <p>Contrary to {@link LinearProgram}, the constraint matrix is stored sparse, column-wise and row-wise,
+ * variables are bounded (possibly by infinite bounds) and rows are ranged:
+ * <pre>
+ *     min (or max) c.x
+ *     s.t. lo_i &le; a_i.x &le; up_i, for each row i
+ *          lb_j &le; x_j &le; ub_j,  for each variable j
+ * </pre>
+ * Each row i comes with a logical variable s_i, such that a_i.x - s_i = 0 and lo_i &le; s_i &le; up_i.
+ * The basis is kept as a sparse LU factorization, updated in product form between two refactorizations.</p>
+ * <p>The resolution is warm-started: the basis found by the last call to {@link #solve()} is kept
+ * while rows are added or removed and bounds are modified.
+ * If the basis remains primal feasible, the primal simplex is resumed.
+ * Otherwise, if it is dual feasible, possibly after flipping some boxed variables to their other bound,
+ * the dual simplex with a bound-flipping ratio test is run.
+ * Otherwise, a primal phase 1, minimizing the sum of infeasibilities, is run first.</p>
+ * <pre> {@code
+ *  SparseLinearProgram lp = new SparseLinearProgram();
+ *  int x = lp.makeVariable(0, 10);
+ *  int y = lp.makeVariable(0, 10);
+ *  lp.addLeq(new int[]{x, y}, new double[]{4, 3}, 36);
+ *  lp.addLeq(new int[]{x, y}, new double[]{2, 3}, 48);
+ *  lp.setObjective(true, new int[]{x, y}, new double[]{5, 7});
+ *  lp.solve();
+ *  lp.setBounds(x, 0, 1);
+ *  lp.solve(); // warm-started
+ *  }</pre>
+ * </p>
+ * <br/>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class SparseLinearProgram {
+
+    private static final double PRIMAL_TOL = 1e-9;
+    private static final double DUAL_TOL = 1e-9;
+    private static final double PIVOT_TOL = 1e-9;
+    /**
+     * Number of basis updates before a refactorization
+     */
+    private static final int REFACTOR = 64;
+    /**
+     * Number of consecutive degenerate iterations before switching to Bland's rule
+     */
+    private static final int DEGENERATE = 50;
+
+    // the status of a variable
+    private static final byte BASIC = 0;
+    private static final byte AT_LB = 1;
+    private static final byte AT_UB = 2;
+    private static final byte FREE = 3;
+
+    // number of structural variables
+    private int n;
+    // number of rows
+    private int m;
+    // sparse columns of the structural variables, as row indices and values
+    private int[][] cidx = new int[8][];
+    private double[][] cval = new double[8][];
+    private int[] clen = new int[8];
+    // sparse rows, as structural variable indices and values
+    private int[][] ridx = new int[8][];
+    private double[][] rval = new double[8][];
+    // bounds, costs, values and status of the n + m variables, the logical variable of row i being n + i
+    private double[] lb = new double[16];
+    private double[] ub = new double[16];
+    private double[] cost = new double[16];
+    private double[] x = new double[16];
+    private byte[] state = new byte[16];
+    // position in the basis of each variable, -1 if nonbasic
+    private int[] where = new int[16];
+    // the basic variable at each basis position
+    private int[] head = new int[8];
+    // set to true when the factorization does not match the basis anymore
+    private boolean invalid = true;
+    private final LUFactorization lu = new LUFactorization();
+    // the sense of the objective
+    private boolean maximize;
+    // dual values
+    private double[] y = new double[8];
+    // working arrays, of size m
+    private double[] w1 = new double[8];
+    private double[] w2 = new double[8];
+    private double[] w3 = new double[8];
+    // working array, of size n + m
+    private double[] dj = new double[16];
+    private Status status = Status.UNKNOWN;
+    private double z;
+    private long iterations;
+    private long limit = Long.MAX_VALUE;
+    // anti-cycling
+    private int degenerate;
+
+    /**
+     * Create an empty linear program.
+     * Variables have to be declared first, then rows can be added.
+     */
+    public SparseLinearProgram() {
+        super();
+    }
+
+    /**
+     * Add a new variable in [lb, ub], infinite bounds being allowed.
+     *
+     * @param lb lower bound of the variable
+     * @param ub upper bound of the variable
+     * @return the index of the variable
+     * @throws UnsupportedOperationException if some rows are already declared
+     */
+    public int makeVariable(double lb, double ub) {
+        if (m > 0) {
+            throw new UnsupportedOperationException("Some rows are already declared");
+        }
+        if (n == cidx.length) {
+            int c = n * 3 / 2 + 1;
+            cidx = Arrays.copyOf(cidx, c);
+            cval = Arrays.copyOf(cval, c);
+            clen = Arrays.copyOf(clen, c);
+        }
+        cidx[n] = new int[2];
+        cval[n] = new double[2];
+        clen[n] = 0;
+        ensureVariables(n + 1);
+        this.lb[n] = lb;
+        this.ub[n] = ub;
+        this.cost[n] = 0.;
+        this.where[n] = -1;
+        toBound(n, lb, ub);
+        return n++;
+    }
+
+    /**
+     * Add n new variables, each of them being &ge; 0.
+     *
+     * @param n number of variables to add
+     * @throws UnsupportedOperationException if some rows are already declared
+     */
+    public void makeVariables(int n) {
+        for (int i = 0; i < n; i++) {
+            makeVariable(0., Double.POSITIVE_INFINITY);
+        }
+    }
+
+    /**
+     * @return the number of (structural) variables
+     */
+    public int nbVariables() {
+        return n;
+    }
+
+    /**
+     * @return the number of rows
+     */
+    public int nbRows() {
+        return m;
+    }
+
+    /**
+     * Set the objective function.
+     *
+     * @param maximize set to <i>true</i> to maximize the objective function, to <i>false</i> to minimize it
+     * @param vars     indices of the variables
+     * @param coeffs   their coefficient in the objective function
+     */
+    public void setObjective(boolean maximize, int[] vars, double[] coeffs) {
+        this.maximize = maximize;
+        Arrays.fill(cost, 0, n, 0.);
+        for (int k = 0; k < vars.length; k++) {
+            cost[vars[k]] += maximize ? -coeffs[k] : coeffs[k];
+        }
+        this.status = Status.UNKNOWN;
+    }
+
+    /**
+     * Set the objective function.
+     *
+     * @param maximize set to <i>true</i> to maximize the objective function, to <i>false</i> to minimize it
+     * @param coeffs   the coefficient of each variable in the objective function
+     */
+    public void setObjective(boolean maximize, double[] coeffs) {
+        int[] vars = new int[coeffs.length];
+        Arrays.setAll(vars, i -> i);
+        setObjective(maximize, vars, coeffs);
+    }
+
+    /**
+     * Add the row: lo &le; &Sigma; coeffs[k].vars[k] &le; up, infinite bounds being allowed.
+     * The basis is extended with the logical variable of the row.
+     *
+     * @param vars   indices of the variables
+     * @param coeffs their coefficient
+     * @param lo     lower bound of the row
+     * @param up     upper bound of the row
+     * @return the index of the row
+     */
+    public int addRow(int[] vars, double[] coeffs, double lo, double up) {
+        int i = m;
+        if (m == ridx.length) {
+            int c = m * 3 / 2 + 1;
+            ridx = Arrays.copyOf(ridx, c);
+            rval = Arrays.copyOf(rval, c);
+            head = Arrays.copyOf(head, c);
+            y = Arrays.copyOf(y, c);
+            w1 = new double[c];
+            w2 = new double[c];
+            w3 = new double[c];
+        }
+        ridx[i] = vars.clone();
+        rval[i] = coeffs.clone();
+        for (int k = 0; k < vars.length; k++) {
+            int j = vars[k];
+            if (clen[j] == cidx[j].length) {
+                cidx[j] = Arrays.copyOf(cidx[j], clen[j] * 2);
+                cval[j] = Arrays.copyOf(cval[j], clen[j] * 2);
+            }
+            cidx[j][clen[j]] = i;
+            cval[j][clen[j]++] = coeffs[k];
+        }
+        int s = n + i;
+        ensureVariables(s + 1);
+        lb[s] = lo;
+        ub[s] = up;
+        cost[s] = 0.;
+        state[s] = BASIC;
+        where[s] = i;
+        head[i] = s;
+        double v = 0.;
+        for (int k = 0; k < vars.length; k++) {
+            v += coeffs[k] * x[vars[k]];
+        }
+        x[s] = v;
+        y[i] = 0.;
+        m++;
+        invalid = true;
+        status = Status.UNKNOWN;
+        return i;
+    }
+
+    /**
+     * Add the row: &Sigma; coeffs[k].vars[k] &le; b
+     *
+     * @return the index of the row
+     * @see #addRow(int[], double[], double, double)
+     */
+    public int addLeq(int[] vars, double[] coeffs, double b) {
+        return addRow(vars, coeffs, Double.NEGATIVE_INFINITY, b);
+    }
+
+    /**
+     * Add the row: &Sigma; coeffs[k].vars[k] &ge; b
+     *
+     * @return the index of the row
+     * @see #addRow(int[], double[], double, double)
+     */
+    public int addGeq(int[] vars, double[] coeffs, double b) {
+        return addRow(vars, coeffs, b, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Add the row: &Sigma; coeffs[k].vars[k] = b
+     *
+     * @return the index of the row
+     * @see #addRow(int[], double[], double, double)
+     */
+    public int addEq(int[] vars, double[] coeffs, double b) {
+        return addRow(vars, coeffs, b, b);
+    }
+
+    /**
+     * Remove the row i. The rows declared after it are shifted by one.
+     * If the logical variable of the row is nonbasic, it first replaces a basic variable,
+     * so that the basis remains valid.
+     *
+     * @param i index of the row to remove
+     */
+    public void removeRow(int i) {
+        int s = n + i;
+        if (where[s] < 0) {
+            refactorIfNeeded();
+            // the logical variable can replace the basic variable at position p iff (B^-1.e_i)_p != 0
+            Arrays.fill(w1, 0, m, 0.);
+            w1[i] = 1.;
+            lu.ftran(w1, w2);
+            int p = 0;
+            for (int k = 1; k < m; k++) {
+                if (Math.abs(w2[k]) > Math.abs(w2[p])) p = k;
+            }
+            int v = head[p];
+            where[v] = -1;
+            toBound(v, lb[v], ub[v]);
+            head[p] = s;
+            where[s] = p;
+        }
+        // remove the logical variable from the basis
+        int p = where[s];
+        head[p] = head[m - 1];
+        where[head[p]] = p;
+        int nv = n + m;
+        for (int k = s; k < nv - 1; k++) {
+            lb[k] = lb[k + 1];
+            ub[k] = ub[k + 1];
+            cost[k] = cost[k + 1];
+            x[k] = x[k + 1];
+            state[k] = state[k + 1];
+            where[k] = where[k + 1];
+        }
+        for (int k = 0; k < m - 1; k++) {
+            if (head[k] > s) head[k]--;
+        }
+        // remove the row from the matrix
+        for (int k = 0; k < ridx[i].length; k++) {
+            int j = ridx[i][k];
+            int l = 0;
+            for (int t = 0; t < clen[j]; t++) {
+                if (cidx[j][t] != i) {
+                    cidx[j][l] = cidx[j][t];
+                    cval[j][l++] = cval[j][t];
+                }
+            }
+            clen[j] = l;
+        }
+        System.arraycopy(ridx, i + 1, ridx, i, m - i - 1);
+        System.arraycopy(rval, i + 1, rval, i, m - i - 1);
+        System.arraycopy(y, i + 1, y, i, m - i - 1);
+        m--;
+        ridx[m] = null;
+        rval[m] = null;
+        for (int j = 0; j < n; j++) {
+            for (int t = 0; t < clen[j]; t++) {
+                if (cidx[j][t] > i) cidx[j][t]--;
+            }
+        }
+        invalid = true;
+        status = Status.UNKNOWN;
+    }
+
+    /**
+     * Remove the last row.
+     */
+    public void dropLast() {
+        removeRow(m - 1);
+    }
+
+    /**
+     * Modify the bounds of a variable, infinite bounds being allowed.
+     *
+     * @param var index of the variable
+     * @param lb  new lower bound
+     * @param ub  new upper bound
+     */
+    public void setBounds(int var, double lb, double ub) {
+        setVarBounds(var, lb, ub);
+    }
+
+    /**
+     * Modify the bounds of a row, infinite bounds being allowed.
+     *
+     * @param row index of the row
+     * @param lo  new lower bound
+     * @param up  new upper bound
+     */
+    public void setRowBounds(int row, double lo, double up) {
+        setVarBounds(n + row, lo, up);
+    }
+
+    /**
+     * @param var index of a variable
+     * @return its lower bound
+     */
+    public double getLB(int var) {
+        return lb[var];
+    }
+
+    /**
+     * @param var index of a variable
+     * @return its upper bound
+     */
+    public double getUB(int var) {
+        return ub[var];
+    }
+
+    /**
+     * @param row index of a row
+     * @return its lower bound
+     */
+    public double getRowLB(int row) {
+        return lb[n + row];
+    }
+
+    /**
+     * @param row index of a row
+     * @return its upper bound
+     */
+    public double getRowUB(int row) {
+        return ub[n + row];
+    }
+
+    /**
+     * @param row index of a row
+     * @return the indices of the variables of the row, not to be modified
+     */
+    public int[] getRowVars(int row) {
+        return ridx[row];
+    }
+
+    /**
+     * @param row index of a row
+     * @return the coefficients of the variables of the row, not to be modified
+     */
+    public double[] getRowCoeffs(int row) {
+        return rval[row];
+    }
+
+    /**
+     * @param var index of a variable
+     * @return its coefficient in the objective function
+     */
+    public double getObjectiveCoeff(int var) {
+        return maximize ? -cost[var] : cost[var];
+    }
+
+    /**
+     * @return <i>true</i> if the objective function is maximized
+     */
+    public boolean isMaximization() {
+        return maximize;
+    }
+
+    /**
+     * Set the maximum number of simplex iterations of each call to {@link #solve()}.
+     * When reached, {@link #solve()} returns {@link Status#UNKNOWN}.
+     *
+     * @param limit maximum number of iterations
+     */
+    public void setIterationLimit(long limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Forget the current basis, the next call to {@link #solve()} will start from the slack basis.
+     */
+    public void resetBasis() {
+        for (int j = 0; j < n; j++) {
+            where[j] = -1;
+            toBound(j, lb[j], ub[j]);
+        }
+        for (int i = 0; i < m; i++) {
+            state[n + i] = BASIC;
+            where[n + i] = i;
+            head[i] = n + i;
+        }
+        invalid = true;
+        status = Status.UNKNOWN;
+    }
+
+    /**
+     * Run the simplex method, starting from the last basis.
+     *
+     * @return the status of the resolution
+     */
+    public Status solve() {
+        long start = iterations;
+        for (int j = 0; j < n + m; j++) {
+            if (lb[j] > ub[j] + PRIMAL_TOL) {
+                return status = Status.INFEASIBLE;
+            }
+        }
+        refactorIfNeeded();
+        computePrimal();
+        degenerate = 0;
+        Status st;
+        if (primalInfeasibility() <= PRIMAL_TOL) {
+            st = primal(false, start);
+        } else if (makeDualFeasible()) {
+            computePrimal();
+            st = dual(start);
+            if (st == Status.FEASIBLE) {
+                // cleans up what the tolerances may have left
+                st = primal(false, start);
+            }
+        } else {
+            computePrimal();
+            st = primal(true, start);
+            if (st == Status.FEASIBLE) {
+                st = primal(false, start);
+            }
+        }
+        status = st;
+        if (st == Status.FEASIBLE) {
+            z = 0.;
+            for (int j = 0; j < n; j++) {
+                z += cost[j] * x[j];
+            }
+            if (maximize) z = -z;
+            computeDuals(false);
+        }
+        return status;
+    }
+
+    /**
+     * @return the status of the last resolution
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * @return <i>true</i> if the last resolution computed the (optimal) solution.
+     */
+    public boolean isFeasible() {
+        return status == Status.FEASIBLE;
+    }
+
+    /**
+     * Return the value of the ith variable in the linear program.
+     * <p>
+     * If this is infeasible, return {@code -1.}, otherwise the value is returned.
+     * </p>
+     *
+     * @param i index of the variable.
+     * @return the value assigned the ith variable in this linear program.
+     */
+    public double value(int i) {
+        if (isFeasible()) {
+            return x[i];
+        } else return -1.;
+    }
+
+    /**
+     * Return the dual value of the ith row, in the sense of the objective function.
+     * <p>
+     * If this is infeasible, return {@code 0.}, otherwise the value is returned.
+     * </p>
+     *
+     * @param i index of the row.
+     * @return the dual value of the ith row
+     */
+    public double dual(int i) {
+        if (isFeasible()) {
+            return maximize ? -y[i] : y[i];
+        } else return 0.;
+    }
+
+    /**
+     * Return the reduced cost of the ith variable, in the sense of the objective function.
+     * That is the rate at which the objective value changes when a nonbasic variable moves away from its bound.
+     * <p>
+     * If this is infeasible or if the variable is basic, return {@code 0.}, otherwise the value is returned.
+     * </p>
+     *
+     * @param i index of the variable.
+     * @return the reduced cost of the ith variable
+     */
+    public double reducedCost(int i) {
+        if (isFeasible() && where[i] < 0) {
+            return maximize ? -dj[i] : dj[i];
+        } else return 0.;
+    }
+
+    /**
+     * Return the value of the objective function defined in this linear program.
+     * <p>
+     * If this is not feasible, returns {@link Double#NEGATIVE_INFINITY},
+     * otherwise, the optimal value is returnd.
+     * </p>
+     *
+     * @return the value of the objective function.
+     */
+    public double objective() {
+        if (isFeasible()) {
+            return z;
+        } else return Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * @return the total number of simplex iterations
+     */
+    public long getNbIterations() {
+        return iterations;
+    }
+
+    private void ensureVariables(int size) {
+        if (size > lb.length) {
+            int c = Math.max(size, lb.length * 3 / 2 + 1);
+            lb = Arrays.copyOf(lb, c);
+            ub = Arrays.copyOf(ub, c);
+            cost = Arrays.copyOf(cost, c);
+            x = Arrays.copyOf(x, c);
+            state = Arrays.copyOf(state, c);
+            where = Arrays.copyOf(where, c);
+            dj = new double[c];
+        }
+    }
+
+    /**
+     * Make a nonbasic variable sit on one of its bounds
+     */
+    private void toBound(int j, double l, double u) {
+        if (l > Double.NEGATIVE_INFINITY) {
+            state[j] = AT_LB;
+            x[j] = l;
+        } else if (u < Double.POSITIVE_INFINITY) {
+            state[j] = AT_UB;
+            x[j] = u;
+        } else {
+            state[j] = FREE;
+            x[j] = 0.;
+        }
+    }
+
+    private void setVarBounds(int j, double l, double u) {
+        lb[j] = l;
+        ub[j] = u;
+        if (state[j] != BASIC) {
+            if (state[j] == AT_UB && u < Double.POSITIVE_INFINITY) {
+                x[j] = u;
+            } else {
+                toBound(j, l, u);
+            }
+        }
+        status = Status.UNKNOWN;
+    }
+
+    /**
+     * Add a.x_j to the row-indexed vector v
+     */
+    private void addColumn(int j, double a, double[] v) {
+        if (j < n) {
+            int[] ci = cidx[j];
+            double[] cv = cval[j];
+            for (int t = 0; t < clen[j]; t++) {
+                v[ci[t]] += a * cv[t];
+            }
+        } else {
+            v[j - n] -= a;
+        }
+    }
+
+    /**
+     * @return the scalar product of the row-indexed vector v by the column of j
+     */
+    private double dot(int j, double[] v) {
+        if (j < n) {
+            int[] ci = cidx[j];
+            double[] cv = cval[j];
+            double s = 0.;
+            for (int t = 0; t < clen[j]; t++) {
+                s += v[ci[t]] * cv[t];
+            }
+            return s;
+        } else {
+            return -v[j - n];
+        }
+    }
+
+    /**
+     * Solve B.alpha = a_j, alpha being stored in w2
+     */
+    private double[] column(int j) {
+        Arrays.fill(w1, 0, m, 0.);
+        addColumn(j, 1., w1);
+        lu.ftran(w1, w2);
+        return w2;
+    }
+
+    private void refactorIfNeeded() {
+        if (invalid || lu.nbUpdates() >= REFACTOR) {
+            refactor();
+        }
+    }
+
+    /**
+     * Factorize the basis, replacing by logical variables the columns that make it singular
+     */
+    private void refactor() {
+        int[][] bi = new int[m][];
+        double[][] bv = new double[m][];
+        int[] bl = new int[m];
+        int nsing;
+        do {
+            for (int p = 0; p < m; p++) {
+                int j = head[p];
+                if (j < n) {
+                    bi[p] = cidx[j];
+                    bv[p] = cval[j];
+                    bl[p] = clen[j];
+                } else {
+                    bi[p] = new int[]{j - n};
+                    bv[p] = new double[]{-1.};
+                    bl[p] = 1;
+                }
+            }
+            nsing = lu.factorize(m, bi, bv, bl);
+            for (int k = 0; k < nsing; k++) {
+                int p = lu.singularPosition(k);
+                int v = head[p];
+                int s = n + lu.singularRow(k);
+                where[v] = -1;
+                toBound(v, lb[v], ub[v]);
+                head[p] = s;
+                where[s] = p;
+                state[s] = BASIC;
+            }
+        } while (nsing > 0);
+        invalid = false;
+        computePrimal();
+    }
+
+    /**
+     * Compute the values of the basic variables from the nonbasic ones: B.x_B = -N.x_N
+     */
+    private void computePrimal() {
+        Arrays.fill(w1, 0, m, 0.);
+        for (int j = 0; j < n + m; j++) {
+            if (where[j] < 0 && x[j] != 0.) {
+                addColumn(j, -x[j], w1);
+            }
+        }
+        lu.ftran(w1, w3);
+        for (int p = 0; p < m; p++) {
+            x[head[p]] = w3[p];
+        }
+    }
+
+    /**
+     * Compute the dual values y, such that y.B = c_B, and the reduced costs of the nonbasic variables.
+     * In phase 1, the costs are those of the sum of infeasibilities.
+     *
+     * @return <i>true</i> if some basic variable is infeasible (only relevant in phase 1)
+     */
+    private boolean computeDuals(boolean phase1) {
+        boolean infeasible = false;
+        for (int p = 0; p < m; p++) {
+            int j = head[p];
+            if (phase1) {
+                if (x[j] < lb[j] - PRIMAL_TOL) {
+                    w1[p] = -1.;
+                    infeasible = true;
+                } else if (x[j] > ub[j] + PRIMAL_TOL) {
+                    w1[p] = 1.;
+                    infeasible = true;
+                } else {
+                    w1[p] = 0.;
+                }
+            } else {
+                w1[p] = cost[j];
+            }
+        }
+        lu.btran(w1, y);
+        for (int j = 0; j < n + m; j++) {
+            if (where[j] < 0) {
+                dj[j] = (phase1 ? 0. : cost[j]) - dot(j, y);
+            }
+        }
+        return infeasible;
+    }
+
+    private double primalInfeasibility() {
+        double inf = 0.;
+        for (int p = 0; p < m; p++) {
+            int j = head[p];
+            inf = Math.max(inf, Math.max(lb[j] - x[j], x[j] - ub[j]));
+        }
+        return inf;
+    }
+
+    /**
+     * Flip boxed nonbasic variables whose reduced cost has the wrong sign.
+     *
+     * @return <i>true</i> if the current basis is dual feasible
+     */
+    private boolean makeDualFeasible() {
+        computeDuals(false);
+        for (int j = 0; j < n + m; j++) {
+            if (where[j] >= 0 || lb[j] == ub[j]) continue;
+            double d = dj[j];
+            if (state[j] == AT_LB && d < -DUAL_TOL) {
+                if (ub[j] == Double.POSITIVE_INFINITY) return false;
+                state[j] = AT_UB;
+                x[j] = ub[j];
+            } else if (state[j] == AT_UB && d > DUAL_TOL) {
+                if (lb[j] == Double.NEGATIVE_INFINITY) return false;
+                state[j] = AT_LB;
+                x[j] = lb[j];
+            } else if (state[j] == FREE && Math.abs(d) > DUAL_TOL) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Replace the basic variable at position r by q, whose FTRANed column is alpha
+     */
+    private void pivot(int r, int q, double[] alpha) {
+        int l = head[r];
+        where[l] = -1;
+        head[r] = q;
+        where[q] = r;
+        state[q] = BASIC;
+        lu.update(r, alpha);
+        if (lu.nbUpdates() >= REFACTOR) {
+            refactor();
+        }
+    }
+
+    private boolean bland(double step) {
+        if (step > 0.) {
+            degenerate = 0;
+        } else {
+            degenerate++;
+        }
+        return degenerate > DEGENERATE;
+    }
+
+    /**
+     * The primal simplex. In phase 1, the sum of infeasibilities is minimized.
+     */
+    private Status primal(boolean phase1, long start) {
+        boolean bland = false;
+        while (true) {
+            if (iterations - start >= limit) return Status.UNKNOWN;
+            boolean infeasible = computeDuals(phase1);
+            if (phase1 && !infeasible) return Status.FEASIBLE;
+            // pricing (Dantzig's rule, or Bland's rule when cycling is suspected)
+            int q = -1;
+            double best = 0.;
+            for (int j = 0; j < n + m; j++) {
+                if (where[j] >= 0 || lb[j] == ub[j]) continue;
+                double d = dj[j];
+                boolean eligible = (state[j] == AT_LB && d < -DUAL_TOL)
+                        || (state[j] == AT_UB && d > DUAL_TOL)
+                        || (state[j] == FREE && Math.abs(d) > DUAL_TOL);
+                if (eligible && Math.abs(d) > best) {
+                    q = j;
+                    best = Math.abs(d);
+                    if (bland) break;
+                }
+            }
+            if (q == -1) {
+                return phase1 ? Status.INFEASIBLE : Status.FEASIBLE;
+            }
+            iterations++;
+            double dir = dj[q] < 0. ? 1. : -1.;
+            double[] alpha = column(q);
+            // ratio test, Harris' two passes
+            double tmax = Double.POSITIVE_INFINITY;
+            for (int p = 0; p < m; p++) {
+                double t = ratio(p, -dir * alpha[p], phase1, PRIMAL_TOL);
+                if (t < tmax) tmax = t;
+            }
+            int r = -1;
+            double theta = Double.POSITIVE_INFINITY;
+            double piv = 0.;
+            if (tmax < Double.POSITIVE_INFINITY) {
+                for (int p = 0; p < m; p++) {
+                    double t = ratio(p, -dir * alpha[p], phase1, 0.);
+                    if (bland) {
+                        // smallest ratio, ties broken by smallest index
+                        if (t < theta || (t == theta && r >= 0 && head[p] < head[r])) {
+                            r = p;
+                            theta = t;
+                        }
+                    } else if (t <= tmax && Math.abs(alpha[p]) > piv) {
+                        // among the ratios below the relaxed one, the largest pivot
+                        r = p;
+                        theta = t;
+                        piv = Math.abs(alpha[p]);
+                    }
+                }
+                theta = Math.max(theta, 0.);
+            }
+            double range = ub[q] - lb[q];
+            if (range <= theta) {
+                // the entering variable reaches its other bound first
+                r = -1;
+                theta = range;
+            }
+            if (theta == Double.POSITIVE_INFINITY) {
+                return phase1 ? Status.INFEASIBLE : Status.UNBOUNDED;
+            }
+            bland = bland(theta);
+            boolean up = false;
+            if (r >= 0) {
+                // the bound reached by the leaving variable
+                int l = head[r];
+                up = -dir * alpha[r] > 0.;
+                if (phase1 && (up ? x[l] < lb[l] - PRIMAL_TOL : x[l] > ub[l] + PRIMAL_TOL)) {
+                    up = !up;
+                }
+            }
+            x[q] += dir * theta;
+            for (int p = 0; p < m; p++) {
+                x[head[p]] -= dir * theta * alpha[p];
+            }
+            if (r == -1) {
+                state[q] = dir > 0 ? AT_UB : AT_LB;
+                x[q] = dir > 0 ? ub[q] : lb[q];
+            } else {
+                int l = head[r];
+                state[l] = up ? AT_UB : AT_LB;
+                x[l] = up ? ub[l] : lb[l];
+                pivot(r, q, alpha);
+            }
+        }
+    }
+
+    /**
+     * @return the step after which the basic variable at position p, moving at the given rate, blocks
+     */
+    private double ratio(int p, double rate, boolean phase1, double tol) {
+        if (Math.abs(rate) <= PIVOT_TOL) return Double.POSITIVE_INFINITY;
+        int j = head[p];
+        double v = x[j];
+        if (rate < 0.) {
+            if (phase1 && v > ub[j] + PRIMAL_TOL) {
+                // becomes feasible when reaching its upper bound
+                return (v - ub[j] + tol) / -rate;
+            }
+            if (lb[j] == Double.NEGATIVE_INFINITY || v < lb[j] - PRIMAL_TOL) return Double.POSITIVE_INFINITY;
+            return (v - lb[j] + tol) / -rate;
+        } else {
+            if (phase1 && v < lb[j] - PRIMAL_TOL) {
+                // becomes feasible when reaching its lower bound
+                return (lb[j] - v + tol) / rate;
+            }
+            if (ub[j] == Double.POSITIVE_INFINITY || v > ub[j] + PRIMAL_TOL) return Double.POSITIVE_INFINITY;
+            return (ub[j] - v + tol) / rate;
+        }
+    }
+
+    /**
+     * The dual simplex, with a bound-flipping ratio test.
+     * The basis is expected to be dual feasible.
+     */
+    private Status dual(long start) {
+        boolean bland = false;
+        int[] cand = new int[n + m];
+        double[] ratios = new double[n + m];
+        double[] alphar = new double[n + m];
+        while (true) {
+            if (iterations - start >= limit) return Status.UNKNOWN;
+            // select the leaving variable: the most infeasible one
+            int r = -1;
+            double delta = PRIMAL_TOL;
+            for (int p = 0; p < m; p++) {
+                int j = head[p];
+                double inf = Math.max(lb[j] - x[j], x[j] - ub[j]);
+                if (inf > delta && (!bland || r == -1 || j < head[r])) {
+                    r = p;
+                    delta = inf;
+                }
+            }
+            if (r == -1) return Status.FEASIBLE;
+            iterations++;
+            int l = head[r];
+            boolean toUb = x[l] > ub[l];
+            double s = toUb ? 1. : -1.;
+            computeDuals(false);
+            // the rth row of B^-1.N
+            Arrays.fill(w1, 0, m, 0.);
+            w1[r] = 1.;
+            lu.btran(w1, w3);
+            int nc = 0;
+            for (int j = 0; j < n + m; j++) {
+                if (where[j] >= 0 || lb[j] == ub[j]) continue;
+                double a = s * dot(j, w3);
+                if (Math.abs(a) <= PIVOT_TOL) continue;
+                if ((a > 0. && state[j] != AT_UB) || (a < 0. && state[j] != AT_LB)) {
+                    cand[nc] = j;
+                    alphar[j] = a;
+                    ratios[nc++] = Math.max(0., dj[j] / a);
+                }
+            }
+            if (nc == 0) return Status.INFEASIBLE;
+            // bound-flipping ratio test: pass the breakpoints as long as the dual objective improves
+            sortCandidates(cand, ratios, alphar, nc, bland);
+            double slope = delta;
+            int q = -1;
+            int nf = 0;
+            for (int k = 0; k < nc; k++) {
+                int j = cand[k];
+                double range = ub[j] - lb[j];
+                double next = slope - Math.abs(alphar[j]) * range;
+                if (k < nc - 1 && next > PRIMAL_TOL && range < Double.POSITIVE_INFINITY) {
+                    slope = next;
+                    nf++;
+                } else {
+                    q = j;
+                    break;
+                }
+            }
+            bland = bland(ratios[nf]);
+            if (nf > 0) {
+                Arrays.fill(w1, 0, m, 0.);
+                for (int k = 0; k < nf; k++) {
+                    int j = cand[k];
+                    double v = state[j] == AT_LB ? ub[j] : lb[j];
+                    addColumn(j, v - x[j], w1);
+                    state[j] = state[j] == AT_LB ? AT_UB : AT_LB;
+                    x[j] = v;
+                }
+                lu.ftran(w1, w3);
+                for (int p = 0; p < m; p++) {
+                    x[head[p]] -= w3[p];
+                }
+            }
+            double[] alpha = column(q);
+            if (Math.abs(alpha[r]) <= PIVOT_TOL) {
+                // numerical trouble, start again from a fresh factorization
+                refactor();
+                continue;
+            }
+            double bound = toUb ? ub[l] : lb[l];
+            double step = (x[l] - bound) / alpha[r];
+            x[q] += step;
+            for (int p = 0; p < m; p++) {
+                x[head[p]] -= step * alpha[p];
+            }
+            state[l] = toUb ? AT_UB : AT_LB;
+            x[l] = bound;
+            pivot(r, q, alpha);
+        }
+    }
+
+    /**
+     * Sort the candidates by increasing ratio, then by decreasing pivot (or increasing index for Bland's rule)
+     */
+    private static void sortCandidates(int[] cand, double[] ratios, double[] alphar, int nc, boolean bland) {
+        // insertion sort, the candidate lists are usually short
+        for (int k = 1; k < nc; k++) {
+            int j = cand[k];
+            double t = ratios[k];
+            int h = k - 1;
+            while (h >= 0 && (ratios[h] > t
+                    || (ratios[h] == t && (bland ? cand[h] > j : Math.abs(alphar[cand[h]]) < Math.abs(alphar[j]))))) {
+                cand[h + 1] = cand[h];
+                ratios[h + 1] = ratios[h];
+                h--;
+            }
+            cand[h + 1] = j;
+            ratios[h + 1] = t;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder st = new StringBuilder();
+        st.append(maximize ? "max" : "min").append(':');
+        for (int j = 0; j < n; j++) {
+            if (cost[j] != 0.) {
+                st.append(' ').append(maximize ? -cost[j] : cost[j]).append(".x").append(j);
+            }
+        }
+        st.append('\n');
+        for (int i = 0; i < m; i++) {
+            st.append(lb[n + i]).append(" <=");
+            for (int k = 0; k < ridx[i].length; k++) {
+                st.append(' ').append(rval[i][k]).append(".x").append(ridx[i][k]);
+            }
+            st.append(" <= ").append(ub[n + i]).append('\n');
+        }
+        for (int j = 0; j < n; j++) {
+            st.append("x").append(j).append(" in [").append(lb[j]).append(", ").append(ub[j]).append("]\n");
+        }
+        return st.toString();
+    }
+}
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.memory;
 
+import org.chocosolver.memory.copying.EnvironmentCopying;
 import org.chocosolver.memory.trailing.EnvironmentTrailing;
 import org.chocosolver.memory.trailing.trail.*;
 import org.chocosolver.memory.trailing.trail.chunck.*;
@@ -178,6 +179,22 @@ public class EnvironmentBuilder {
         return env;
     }
 
+    /**
+     * Build an environment which copies primitives upon world push instead of trailing them.
+     * Only the operation trail, if any, is considered.
+     * <p>
+     * To be used in a model: {@code Settings.init().setEnvironmentSupplier(() -> new EnvironmentBuilder().buildCopying())}
+     * </p>
+     * @return the resulting environment
+     * @see EnvironmentCopying
+     */
+    public EnvironmentCopying buildCopying(){
+        if (ot == null) {
+            ot = new OperationTrail(worldsize, worldnumber, loadfactor);
+        }
+        return new EnvironmentCopying(worldsize, worldnumber, loadfactor, ot);
+    }
+
     /**
      * Build a chunk environment
      * @return {@code this}
@@ -117,4 +117,39 @@ public interface IStateBitSet  {
     int prevClearBit(int fromIndex);
 
     boolean isEmpty();
+
+    /**
+     * Returns the 64 bits from index <code>64 * wordIndex</code> (inclusive) to index
+     * <code>64 * (wordIndex + 1)</code> (exclusive), the lowest index being the least significant bit.
+     *
+     * @param wordIndex index of the word
+     * @return the word at <code>wordIndex</code>
+     */
+    default long getWord(int wordIndex) {
+        int from = wordIndex << 6;
+        long word = 0L;
+        for (int i = nextSetBit(from); i >= 0 && i < from + 64; i = nextSetBit(i + 1)) {
+            word |= 1L << i;
+        }
+        return word;
+    }
+
+    /**
+     * Intersects the word at <code>wordIndex</code> (see {@link #getWord(int)}) with <code>mask</code>,
+     * that is, clears the bits of the word that are not set in <code>mask</code>.
+     * The word is modified, and thus stored for backtracking, only if at least one bit is cleared.
+     * Clearing the bits set in a mask <i>m</i> is done with <code>andWord(wordIndex, ~m)</code>.
+     *
+     * @param wordIndex index of the word
+     * @param mask      bits to keep
+     * @return the bits cleared by this operation
+     */
+    default long andWord(int wordIndex, long mask) {
+        long cleared = getWord(wordIndex) & ~mask;
+        int from = wordIndex << 6;
+        for (long w = cleared; w != 0L; w &= w - 1) {
+            clear(from + Long.numberOfTrailingZeros(w));
+        }
+        return cleared;
+    }
 }
@@ -0,0 +1,145 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copying;
+
+import org.chocosolver.memory.IStorage;
+
+import java.util.Arrays;
+
+/**
+ * Storage of all {@link CopiedBool} of an environment.
+ * <p>
+ * The current values of the objects are kept in a dense array, written by {@link CopiedBool#set(boolean)}.
+ * Upon {@link #worldPush(int)}, this array is copied on top of a stack of snapshots, with a single
+ * {@link System#arraycopy(Object, int, Object, int, int)}, and, upon {@link #worldPop(int)}, the last snapshot
+ * is compared with it: only the objects whose value differs are restored.
+ * Values of objects created after a snapshot are reset to their initial value.
+ * The objects also keep their current value themselves, so that reading it is as cheap as with trailing.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+final class BoolStore implements IStorage {
+
+    /**
+     * Load factor
+     */
+    private final double loadfactor;
+    /**
+     * Objects, in creation order
+     */
+    private CopiedBool[] objects;
+    /**
+     * Current values, indexed by object
+     */
+    private boolean[] values;
+    /**
+     * Initial values, indexed by object
+     */
+    private boolean[] inits;
+    /**
+     * Number of objects
+     */
+    private int size;
+    /**
+     * Stack of snapshots
+     */
+    private boolean[] stack;
+    /**
+     * Points the top of {@link #stack}
+     */
+    private int top;
+    /**
+     * Number of objects in each snapshot, indexed by world
+     */
+    private int[] sizes;
+
+    /**
+     * Constructs a storage with predefined size.
+     *
+     * @param nObjects   expected number of objects
+     * @param nWorlds    expected number of worlds
+     * @param loadfactor load factor for structures
+     */
+    BoolStore(int nObjects, int nWorlds, double loadfactor) {
+        this.loadfactor = loadfactor;
+        this.objects = new CopiedBool[nObjects];
+        this.values = new boolean[nObjects];
+        this.inits = new boolean[nObjects];
+        this.stack = new boolean[nObjects];
+        this.sizes = new int[nWorlds];
+    }
+
+    /**
+     * Declare a new object
+     *
+     * @param object the object, with its initial value
+     * @return the index of the object in this storage
+     */
+    int add(CopiedBool object) {
+        if (size == objects.length) {
+            int ncap = Math.max(size + 1, (int) (size * loadfactor));
+            objects = Arrays.copyOf(objects, ncap);
+            values = Arrays.copyOf(values, ncap);
+            inits = Arrays.copyOf(inits, ncap);
+        }
+        objects[size] = object;
+        values[size] = inits[size] = object.get();
+        return size++;
+    }
+
+    /**
+     * Set the current value of an object
+     *
+     * @param index index of the object
+     * @param value its new value
+     */
+    void set(int index, boolean value) {
+        values[index] = value;
+    }
+
+    @Override
+    public void worldPush(int worldIndex) {
+        if (worldIndex >= sizes.length) {
+            sizes = Arrays.copyOf(sizes, Math.max(worldIndex + 1, (int) (sizes.length * loadfactor)));
+        }
+        sizes[worldIndex] = size;
+        if (top + size > stack.length) {
+            stack = Arrays.copyOf(stack, Math.max(top + size, (int) (stack.length * loadfactor)));
+        }
+        System.arraycopy(values, 0, stack, top, size);
+        top += size;
+    }
+
+    @Override
+    public void worldPop(int worldIndex) {
+        int s = sizes[worldIndex];
+        top -= s;
+        for (int i = 0; i < s; i++) {
+            boolean v = stack[top + i];
+            if (values[i] != v) {
+                values[i] = v;
+                objects[i].restore(v);
+            }
+        }
+        for (int i = s; i < size; i++) {
+            if (values[i] != inits[i]) {
+                values[i] = inits[i];
+                objects[i].restore(inits[i]);
+            }
+        }
+    }
+
+    @Override
+    public void worldCommit(int worldIndex) {
+        top -= sizes[worldIndex];
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copying;
+
+import org.chocosolver.memory.IStateBool;
+
+/**
+ * A class implementing backtrackable boolean whose value is copied upon each world push,
+ * with the values of all the other ones, by the environment.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public final class CopiedBool extends IStateBool {
+
+    /**
+     * Storage of the current value
+     */
+    private final BoolStore store;
+    /**
+     * Index of this object in {@link #store}
+     */
+    private final int index;
+
+    /**
+     * Constructs a copied boolean with an initial value.
+     * Note: this constructor should not be used directly: one should instead
+     * use the IEnvironment factory
+     */
+    public CopiedBool(final EnvironmentCopying env, final boolean i) {
+        super(env, i);
+        this.store = env.getBoolStore();
+        this.index = store.add(this);
+    }
+
+    /**
+     * Modifies the value, the former one is restored from the last snapshot.
+     */
+    @Override
+    public void set(final boolean y) {
+        currentValue = y;
+        store.set(index, y);
+    }
+
+    @Override
+    public void _set(final boolean y, final int wstamp) {
+        super._set(y, wstamp);
+        store.set(index, y);
+    }
+
+    /**
+     * Restores a value from a snapshot
+     */
+    void restore(final boolean y) {
+        currentValue = y;
+    }
+}
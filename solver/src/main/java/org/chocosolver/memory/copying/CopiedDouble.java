@@ -0,0 +1,64 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copying;
+
+import org.chocosolver.memory.IStateDouble;
+
+/**
+ * A class implementing backtrackable double whose value is copied upon each world push,
+ * with the values of all the other ones, by the environment.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public final class CopiedDouble extends IStateDouble {
+
+    /**
+     * Storage of the current value
+     */
+    private final DoubleStore store;
+    /**
+     * Index of this object in {@link #store}
+     */
+    private final int index;
+
+    /**
+     * Constructs a copied double with an initial value.
+     * Note: this constructor should not be used directly: one should instead
+     * use the IEnvironment factory
+     */
+    public CopiedDouble(final EnvironmentCopying env, final double i) {
+        super(env, i);
+        this.store = env.getDoubleStore();
+        this.index = store.add(this);
+    }
+
+    /**
+     * Modifies the value, the former one is restored from the last snapshot.
+     */
+    @Override
+    public void set(final double y) {
+        currentValue = y;
+        store.set(index, y);
+    }
+
+    @Override
+    public void _set(final double y, final int wstamp) {
+        super._set(y, wstamp);
+        store.set(index, y);
+    }
+
+    /**
+     * Restores a value from a snapshot
+     */
+    void restore(final double y) {
+        currentValue = y;
+    }
+}
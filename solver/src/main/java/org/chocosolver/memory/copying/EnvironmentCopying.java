@@ -0,0 +1,217 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copying;
+
+import org.chocosolver.memory.*;
+import org.chocosolver.memory.structure.IOperation;
+import org.chocosolver.memory.trailing.EnvironmentTrailing;
+import org.chocosolver.memory.trailing.trail.IOperationTrail;
+import org.chocosolver.memory.trailing.trail.flatten.OperationTrail;
+
+/**
+ * An environment which saves backtrackable primitives by copy instead of by trailing.
+ * <p>
+ * Upon {@link #worldPush()}, the current values of all ints, longs, doubles and booleans are copied
+ * on a stack of snapshots, one per type, and, upon {@link #worldPop()}, the last snapshots are copied back.
+ * The objects keep their current value, so reading it costs the same as with trailing.
+ * Thus, modifying a value costs a write into a dense array whereas pushing and popping a world
+ * is linear in the number of objects.
+ * This pays off when a large part of the objects, about half of them or more,
+ * is modified between two consecutive worlds.
+ * Otherwise, which is the common case, trailing is faster and remains the default.
+ * </p>
+ * <p>
+ * Operations and vectors, which cannot be copied densely, are saved on an operation trail,
+ * which makes this environment a hybrid one.
+ * </p>
+ *
+ * @author agent
+ * @see org.chocosolver.memory.EnvironmentBuilder#buildCopying()
+ * @since 17/10/2026
+ */
+public class EnvironmentCopying extends AbstractEnvironment {
+
+    private final IntStore intStore;
+    private final LongStore longStore;
+    private final DoubleStore doubleStore;
+    private final BoolStore boolStore;
+    private final IOperationTrail operationTrail;
+
+    /**
+     * Create a copying environment with default sizes.
+     */
+    public EnvironmentCopying() {
+        this(EnvironmentTrailing.NBUPATES, EnvironmentTrailing.NBWORLDS, EnvironmentTrailing.LOADFACTOR,
+                new OperationTrail(EnvironmentTrailing.NBUPATES, EnvironmentTrailing.NBWORLDS, EnvironmentTrailing.LOADFACTOR));
+    }
+
+    /**
+     * Create a copying environment.
+     *
+     * @param nObjects       expected number of objects of each type
+     * @param nWorlds        expected number of worlds
+     * @param loadfactor     load factor for structures
+     * @param operationTrail trail to consider to manage operations
+     */
+    public EnvironmentCopying(int nObjects, int nWorlds, double loadfactor, IOperationTrail operationTrail) {
+        this.intStore = new IntStore(nObjects, nWorlds, loadfactor);
+        this.longStore = new LongStore(nObjects, nWorlds, loadfactor);
+        this.doubleStore = new DoubleStore(nObjects, nWorlds, loadfactor);
+        this.boolStore = new BoolStore(nObjects, nWorlds, loadfactor);
+        this.operationTrail = operationTrail;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void worldPush() {
+        timestamp++;
+        final int wi = currentWorld + 1;
+        intStore.worldPush(wi);
+        longStore.worldPush(wi);
+        doubleStore.worldPush(wi);
+        boolStore.worldPush(wi);
+        operationTrail.worldPush(wi);
+        currentWorld++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void worldPop() {
+        timestamp++;
+        final int wi = currentWorld;
+        // operations may modify primitives, they are undone first
+        operationTrail.worldPop(wi);
+        intStore.worldPop(wi);
+        longStore.worldPop(wi);
+        doubleStore.worldPop(wi);
+        boolStore.worldPop(wi);
+        currentWorld--;
+        assert currentWorld >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void worldCommit() {
+        if (currentWorld == 0) {
+            throw new IllegalStateException("Commit in world 0?");
+        }
+        final int wi = currentWorld;
+        operationTrail.worldCommit(wi);
+        intStore.worldCommit(wi);
+        longStore.worldCommit(wi);
+        doubleStore.worldCommit(wi);
+        boolStore.worldCommit(wi);
+        currentWorld--;
+    }
+
+    IntStore getIntStore() {
+        return intStore;
+    }
+
+    LongStore getLongStore() {
+        return longStore;
+    }
+
+    DoubleStore getDoubleStore() {
+        return doubleStore;
+    }
+
+    BoolStore getBoolStore() {
+        return boolStore;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateInt makeInt() {
+        return makeInt(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateInt makeInt(final int initialValue) {
+        return new CopiedInt(this, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateBool makeBool(final boolean initialValue) {
+        return new CopiedBool(this, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateIntVector makeIntVector(final int size, final int initialValue) {
+        return new CopiedIntVector(this, size, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateDoubleVector makeDoubleVector(final int size, final double initialValue) {
+        return new CopiedDoubleVector(this, size, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateDouble makeFloat() {
+        return makeFloat(Double.NaN);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateDouble makeFloat(final double initialValue) {
+        return new CopiedDouble(this, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateLong makeLong() {
+        return makeLong(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateLong makeLong(final long init) {
+        return new CopiedLong(this, init);
+    }
+
+    @Override
+    public void save(IOperation operation) {
+        operationTrail.savePreviousState(operation);
+    }
+
+    @Override
+    public void saveAt(IOperation operation, int worldIndex) {
+        operationTrail.savePreviousStateAt(operation, worldIndex, currentWorld);
+    }
+}
@@ -340,6 +340,24 @@ public class OneWordS32BitSet implements IStateBitSet {
         return word.get() == 0;
     }
 
+    @Override
+    public long getWord(int wordIndex) {
+        return wordIndex == 0 ? word.get() & 0xffffffffL : 0L;
+    }
+
+    @Override
+    public long andWord(int wordIndex, long mask) {
+        if (wordIndex != 0) {
+            return 0L;
+        }
+        int w = word.get();
+        int cleared = w & ~(int) mask;
+        if (cleared != 0) {
+            word.set(w & (int) mask);
+        }
+        return cleared & 0xffffffffL;
+    }
+
     /**
      * Returns the number of bits set to <tt>true</tt> in this
      * <code>BitSet</code>.
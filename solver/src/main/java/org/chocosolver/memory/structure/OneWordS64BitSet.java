@@ -328,6 +328,24 @@ public class OneWordS64BitSet implements IStateBitSet {
         return word.get() == 0;
     }
 
+    @Override
+    public long getWord(int wordIndex) {
+        return wordIndex == 0 ? word.get() : 0L;
+    }
+
+    @Override
+    public long andWord(int wordIndex, long mask) {
+        if (wordIndex != 0) {
+            return 0L;
+        }
+        long w = word.get();
+        long cleared = w & ~mask;
+        if (cleared != 0L) {
+            word.set(w & mask);
+        }
+        return cleared;
+    }
+
     /**
      * Returns the number of bits set to <tt>true</tt> in this
      * <code>BitSet</code>.
@@ -556,6 +556,29 @@ public class S64BitSet implements IStateBitSet {
         return wordsInUse.get() == 0;
     }
 
+    @Override
+    public long getWord(int wordIndex) {
+        return wordIndex < wordsInUse.get() ? words[wordIndex].get() : 0L;
+    }
+
+    @Override
+    public long andWord(int wordIndex, long mask) {
+        int n = wordsInUse.get();
+        if (wordIndex >= n) {
+            return 0L;
+        }
+        long word = words[wordIndex].get();
+        long cleared = word & ~mask;
+        if (cleared != 0L) {
+            words[wordIndex].set(word & mask);
+            if (wordIndex == n - 1) {
+                recalculateWordsInUse();
+            }
+        }
+        if (CHECK) checkInvariants();
+        return cleared;
+    }
+
     /**
      * Returns the number of bits set to <tt>true</tt> in this
      * <code>BitSet</code>.
@@ -263,6 +263,30 @@ public class SparseBitSet implements IStateBitSet {
     return true;
   }
 
+  @Override
+  public long getWord(final int wordIndex) {
+    if (blockSize != 64) {
+      return IStateBitSet.super.getWord(wordIndex);
+    }
+    // One block per word.
+    if (!index.get(wordIndex)) {
+      return 0L;
+    }
+    return blocks[wordIndex].getWord(0);
+  }
+
+  @Override
+  public long andWord(final int wordIndex, final long mask) {
+    if (blockSize != 64) {
+      return IStateBitSet.super.andWord(wordIndex, mask);
+    }
+    if (!index.get(wordIndex)) {
+      // Un-registered block, nothing to clear.
+      return 0L;
+    }
+    return blocks[wordIndex].andWord(0, mask);
+  }
+
   @Override
   public void clear(final int from, final int to) {
     validIndexRange(from, to);
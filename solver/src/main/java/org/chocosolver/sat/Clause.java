@@ -31,10 +31,6 @@ public class Clause extends Reason {
      * Indicate if the clause is learnt or not
      */
     private final boolean learnt;
-    /**
-     * Activity of the clause (related to frequency of conflict)
-     */
-    double activity;
     /**
      * A unique id
      */
@@ -153,6 +149,13 @@ public class Clause extends Reason {
         return literals_[i];
     }
 
+    /**
+     * @return the literals of the clause, not a copy
+     */
+    int[] literals() {
+        return literals_;
+    }
+
     /**
      * Set the i-th literal of the clause
      *
@@ -0,0 +1,250 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.sat;
+
+import gnu.trove.list.TIntList;
+
+import java.util.Arrays;
+
+/**
+ * A region-based allocator for clauses stored in a {@link MiniSat} solver.
+ * <br/>
+ * All clauses are packed in one growable <code>int[]</code> and are referenced by their offset
+ * in it (namely a <i>clause reference</i>, or <i>cref</i>).
+ * A clause is laid out as follows:
+ * <pre>
+ *     [header | activity | meta | lit_0 | lit_1 | ... | lit_n-1]
+ * </pre>
+ * where the header stores the size of the clause and some flags (learnt, deleted, relocated),
+ * activity is the raw bits of a <code>float</code>
+ * and meta stores the literal block distance (LBD) of a learnt clause, its tier and its usage counter.
+ * Once a clause is relocated, its activity slot stores the new reference.
+ * <br/>
+ * This is inspired by the <code>ClauseAllocator</code> of <a href="http://minisat.se/">MiniSat</a>.
+ *
+ * @author agent
+ * @since 16/10/2026
+ */
+final class ClauseArena {
+
+    /**
+     * Undefined clause reference
+     */
+    static final int CRef_Undef = -1;
+    /**
+     * Number of words preceding the literals of a clause
+     */
+    static final int HEADER = 3;
+    private static final int LEARNT = 0b001;
+    private static final int DELETED = 0b010;
+    private static final int RELOCED = 0b100;
+    private static final int FLAGS = 3;
+    /**
+     * Layout of the meta word: <code>lbd << 4 | used << 2 | tier</code>
+     */
+    private static final int TIER_MASK = 0b0011;
+    private static final int USED_MASK = 0b1100;
+    private static final int LBD_SHIFT = 4;
+    /**
+     * The memory region
+     */
+    int[] mem;
+    /**
+     * Number of words in use
+     */
+    private int size;
+    /**
+     * Number of words occupied by deleted clauses
+     */
+    private int wasted;
+
+    ClauseArena(int capacity) {
+        this.mem = new int[Math.max(capacity, 16)];
+    }
+
+    private void ensure(int capacity) {
+        if (capacity > mem.length) {
+            int ncap = mem.length;
+            while (ncap < capacity) {
+                ncap += (ncap >> 1) + 2;
+            }
+            mem = Arrays.copyOf(mem, ncap);
+        }
+    }
+
+    private int allocate(int nlits, boolean learnt) {
+        ensure(size + HEADER + nlits);
+        int cr = size;
+        mem[cr] = (nlits << FLAGS) | (learnt ? LEARNT : 0);
+        mem[cr + 1] = Float.floatToRawIntBits(0f);
+        mem[cr + 2] = 0;
+        size += HEADER + nlits;
+        return cr;
+    }
+
+    /**
+     * Store a new clause in the arena.
+     *
+     * @param ps     literals
+     * @param learnt indicate if the clause is learnt
+     * @return the reference of the clause
+     */
+    int alloc(TIntList ps, boolean learnt) {
+        int cr = allocate(ps.size(), learnt);
+        for (int i = 0; i < ps.size(); i++) {
+            mem[cr + HEADER + i] = ps.get(i);
+        }
+        return cr;
+    }
+
+    /**
+     * Store a new clause in the arena.
+     *
+     * @param ps     literals
+     * @param learnt indicate if the clause is learnt
+     * @return the reference of the clause
+     */
+    int alloc(int[] ps, boolean learnt) {
+        int cr = allocate(ps.length, learnt);
+        System.arraycopy(ps, 0, mem, cr + HEADER, ps.length);
+        return cr;
+    }
+
+    /**
+     * Mark the clause <i>cr</i> as deleted.
+     * The memory it occupies is reclaimed on next {@link #moveTo(ClauseArena, int)}.
+     *
+     * @param cr a clause reference
+     */
+    void free(int cr) {
+        assert !deleted(cr);
+        mem[cr] |= DELETED;
+        wasted += HEADER + size(cr);
+    }
+
+    /**
+     * @param cr a clause reference
+     * @return the number of literals of the clause <i>cr</i>
+     */
+    int size(int cr) {
+        return mem[cr] >>> FLAGS;
+    }
+
+    boolean learnt(int cr) {
+        return (mem[cr] & LEARNT) != 0;
+    }
+
+    boolean deleted(int cr) {
+        return (mem[cr] & DELETED) != 0;
+    }
+
+    /**
+     * @param cr a clause reference
+     * @param i  index of the literal
+     * @return the i-th literal of the clause <i>cr</i>
+     */
+    int lit(int cr, int i) {
+        return mem[cr + HEADER + i];
+    }
+
+    void lit(int cr, int i, int l) {
+        mem[cr + HEADER + i] = l;
+    }
+
+    float activity(int cr) {
+        return Float.intBitsToFloat(mem[cr + 1]);
+    }
+
+    void activity(int cr, float a) {
+        mem[cr + 1] = Float.floatToRawIntBits(a);
+    }
+
+    /**
+     * @param cr a clause reference
+     * @return the literal block distance of the clause <i>cr</i>, as last computed
+     */
+    int lbd(int cr) {
+        return mem[cr + 2] >>> LBD_SHIFT;
+    }
+
+    void lbd(int cr, int lbd) {
+        mem[cr + 2] = (lbd << LBD_SHIFT) | (mem[cr + 2] & (USED_MASK | TIER_MASK));
+    }
+
+    /**
+     * @param cr a clause reference
+     * @return the tier the learnt clause <i>cr</i> belongs to
+     */
+    int tier(int cr) {
+        return mem[cr + 2] & TIER_MASK;
+    }
+
+    void tier(int cr, int tier) {
+        assert (tier & ~TIER_MASK) == 0;
+        mem[cr + 2] = (mem[cr + 2] & ~TIER_MASK) | tier;
+    }
+
+    /**
+     * @param cr a clause reference
+     * @return the usage counter of the clause <i>cr</i>, between 0 and 3
+     */
+    int used(int cr) {
+        return (mem[cr + 2] & USED_MASK) >>> 2;
+    }
+
+    void used(int cr, int used) {
+        assert used >= 0 && used <= 3;
+        mem[cr + 2] = (mem[cr + 2] & ~USED_MASK) | (used << 2);
+    }
+
+    /**
+     * @return number of words in use, including wasted ones
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return number of words occupied by deleted clauses
+     */
+    int wasted() {
+        return wasted;
+    }
+
+    /**
+     * Copy the clause <i>cr</i> into <i>to</i>, unless it has already been done,
+     * and return its new reference.
+     *
+     * @param to the arena to copy the clause in
+     * @param cr a clause reference in this arena
+     * @return the reference of the clause in <i>to</i>
+     */
+    int moveTo(ClauseArena to, int cr) {
+        if ((mem[cr] & RELOCED) != 0) {
+            return mem[cr + 1];
+        }
+        assert !deleted(cr);
+        int n = size(cr);
+        int ncr = to.allocate(n, learnt(cr));
+        to.mem[ncr + 1] = mem[cr + 1];
+        to.mem[ncr + 2] = mem[cr + 2];
+        System.arraycopy(mem, cr + HEADER, to.mem, ncr + HEADER, n);
+        mem[cr] |= RELOCED;
+        mem[cr + 1] = ncr;
+        return ncr;
+    }
+
+    /**
+     * @return the number of words a compacted copy of this arena requires
+     */
+    int liveSize() {
+        return size - wasted;
+    }
+}
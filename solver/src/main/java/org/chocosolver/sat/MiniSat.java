@@ -12,16 +12,17 @@ package org.chocosolver.sat;
 import gnu.trove.list.TIntList;
 import gnu.trove.list.array.TDoubleArrayList;
 import gnu.trove.list.array.TIntArrayList;
-import gnu.trove.map.hash.TIntObjectHashMap;
 import org.chocosolver.solver.variables.impl.LitVar;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.objects.IntHeap;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
-import java.util.Comparator;
 import java.util.Random;
 
+import static org.chocosolver.sat.ClauseArena.CRef_Undef;
+
 /**
  * <p>A MiniSat solver.</p>
  * <p>This is a transposition in Java of <a href="http://minisat.se/">MiniSat</a>.</p>
@@ -52,26 +53,50 @@ public class MiniSat implements SatFactory, Dimacs {
     public static final int lTrue = 0b01;
     public static final int lFalse = 0b10;
     public static final int lUndef = 0b11;
+    // Tiers of learnt clauses
+    public static final int CORE = 0;
+    public static final int TIER2 = 1;
+    public static final int LOCAL = 2;
     // undefined clause
     protected static ThreadLocal<Integer> clauseCounter = ThreadLocal.withInitial(() -> 0);
     public static final Clause C_Undef = Clause.undef();
     private static final Reason R_Undef = Reason.undef();
-    static final VarData VD_Undef = new VarData(R_Undef, -1, -1);
+    static final VarData VD_Undef = new VarData(R_Undef, CRef_Undef, -1, -1);
     public Clause confl = C_Undef;
 
     public static final Clause C_Fail = new Clause(new int[]{0, 0});
+    /**
+     * Conflict raised by a clause stored in the arena, whose reference is {@link #confl_cr}.
+     */
+    public static final Clause C_Arena = new Clause(new int[]{0, 0});
+    // Reference of the conflicting clause when 'confl' is C_Arena
+    int confl_cr = CRef_Undef;
     static final ChannelInfo CI_Null = new ChannelInfo(null, 0, 0, 0);
 
     // If false, the constraints are already unsatisfiable. No part of
     // the solver state may be used!
     public boolean ok_;
-    // List of problem addClauses.
-    public final ArrayList<Clause> clauses = new ArrayList<>();
-    // List of learnt addClauses.
-    private final ArrayList<Clause> learnts = new ArrayList<>();
+    // Memory region where problem and learnt clauses are stored.
+    ClauseArena ca = new ClauseArena(1024);
+    // List of problem addClauses (references in 'ca').
+    public final TIntArrayList clauses = new TIntArrayList();
+    // List of learnt addClauses (references in 'ca').
+    final TIntArrayList learnts = new TIntArrayList();
     // 'watches_[lit]' is a list of constraints watching 'lit'(will go
     // there if literal becomes true).
-    private final TIntObjectHashMap<ArrayList<Watcher>> watches_ = new TIntObjectHashMap<>();
+    // Each watcher is stored as a pair of consecutive ints: the clause reference and the blocker.
+    private int[][] watches_ = new int[0][];
+    // 'wsizes_[lit]' is the number of ints in use in 'watches_[lit]'
+    private int[] wsizes_ = new int[0];
+    // Fraction of wasted memory allowed before a garbage collection is triggered.
+    double garbage_frac = 0.20;
+    // Temporary storage used to sort learnt clauses by activity
+    private long[] reduce_keys_ = new long[0];
+    // Number of learnt clauses in each tier
+    private final int[] tier_sizes_ = new int[3];
+    // 'lbd_stamps_[lvl]' is equal to 'lbd_stamp_' if the level 'lvl' has already been counted
+    private int[] lbd_stamps_ = new int[0];
+    private int lbd_stamp_;
     // The current assignments.
     //TIntObjectHashMap<Boolean> assignment_ = new TIntObjectHashMap<>();
     TIntArrayList assignment_ = new TIntArrayList();
@@ -97,11 +122,10 @@ public class MiniSat implements SatFactory, Dimacs {
     boolean luby_restart = true;
     int restart_first = 100;
     int random_seed = 7;
-    double learntsize_adjust_confl = 100;
-    int learntsize_adjust_cnt = 100;
-    double learntsize_adjust_inc = 1.5;
-    double learntsize_inc = 1.1;
-    double learntsize_factor = 1 / 3d;
+    int core_lbd = 2; // Learnt clauses with an LBD smaller or equal to this are kept forever
+    int tier2_lbd = 6; // Learnt clauses with an LBD smaller or equal to this are kept as long as they are used
+    int reduce_first = 2000; // Number of conflicts before the first reduction of the learnt clauses
+    int reduce_inc = 300; // Increment of the number of conflicts between two reductions
     boolean rnd_pol;
     int conflict_budget = -1;
     int propagation_budget = -1;
@@ -119,7 +143,12 @@ public class MiniSat implements SatFactory, Dimacs {
     int dec_vars;
     int clauses_literals;
     int learnts_literals;
-    double max_learnts;
+    long learnt_conflicts; // number of conflicts analysed, used as a clock for the learnt clauses
+    long last_reduce; // value of 'learnt_conflicts' on the last reduction
+    int reductions;
+    long removed_learnts;
+    long promotions;
+    long demotions;
     BitSet seen = new BitSet();
     BitSet decision = new BitSet();
     BitSet polarity = new BitSet();
@@ -128,6 +157,12 @@ public class MiniSat implements SatFactory, Dimacs {
     IntHeap order_heap = new IntHeap((a, b) -> activity.get(a) > activity.get(b));
     Random rand;
     private final TIntArrayList temporary_add_vector_ = new TIntArrayList();
+    // Literals of the clause currently inspected by conflict analysis:
+    // 'r_lits[r_from .. r_from + r_size - 1]', stored in the arena at 'r_cr' if it is not CRef_Undef.
+    private int[] r_lits;
+    private int r_from;
+    private int r_size;
+    private int r_cr = CRef_Undef;
 
     /**
      * Create a new instance of MiniSat solver.
@@ -143,14 +178,14 @@ public class MiniSat implements SatFactory, Dimacs {
             int v = newVariable();
             int l = makeLiteral(v, true);
             assignment_.set(v, makeBoolean(sgn(l)));
-            vardata.set(v, new VarData(R_Undef, trailMarker(), trail_.size()));
+            vardata.set(v, new VarData(R_Undef, CRef_Undef, trailMarker(), trail_.size()));
             trail_.add(l);
             seen.set(v);
             // false literal
             v = newVariable();
             l = makeLiteral(v, true);
             assignment_.set(v, makeBoolean(sgn(l)));
-            vardata.set(v, new VarData(R_Undef, trailMarker(), trail_.size()));
+            vardata.set(v, new VarData(R_Undef, CRef_Undef, trailMarker(), trail_.size()));
             trail_.add(l);
             seen.set(v);
         }
@@ -183,6 +218,7 @@ public class MiniSat implements SatFactory, Dimacs {
         assignment_.add(lUndef);
         vardata.add(VD_Undef);
         cinfo.add(ci);
+        ensureWatches(2 * v + 2);
         //activity .push(0);
         activity.add(rnd_init_act ? rand.nextDouble() * 0.00001 : 0);
         seen.clear(v);
@@ -193,6 +229,18 @@ public class MiniSat implements SatFactory, Dimacs {
         return v;
     }
 
+    private void ensureWatches(int nlits) {
+        if (watches_.length < nlits) {
+            int ncap = Math.max(nlits, watches_.length * 3 / 2 + 2);
+            int from = watches_.length;
+            watches_ = Arrays.copyOf(watches_, ncap);
+            wsizes_ = Arrays.copyOf(wsizes_, ncap);
+            for (int i = from; i < ncap; i++) {
+                watches_[i] = new int[4];
+            }
+        }
+    }
+
     private void insertVarOrder(int v) {
         if (!order_heap.contains(v) && decision.get(v)) {
             order_heap.insert(v);
@@ -243,7 +291,7 @@ public class MiniSat implements SatFactory, Dimacs {
                 propagate();
                 return (ok_ = (confl == C_Undef));
             default:
-                Clause cr = new Clause(ps);
+                int cr = ca.alloc(ps, false);
                 clauses.add(cr);
                 attachClause(cr);
                 break;
@@ -298,23 +346,25 @@ public class MiniSat implements SatFactory, Dimacs {
         for (int v = 0; v < nVars(); v++) {
             assert valueVar(v) != MiniSat.lUndef || order_heap.contains(v) : v + " not heaped";
         }
+        learnt_conflicts++;
         if (learnt_clause.size() == 1) {
             uncheckedEnqueue(learnt_clause.get(0));
         } else {
-            Clause cr = new Clause(learnt_clause, true);
+            int cr = ca.alloc(learnt_clause, true);
+            // levels of unassigned literals are stale but still those of the conflict
+            int lbd = computeLBD(learnt_clause);
+            int tier = tierOf(lbd);
+            ca.lbd(cr, lbd);
+            ca.tier(cr, tier);
+            ca.used(cr, tier == TIER2 ? 2 : 1);
+            tier_sizes_[tier]++;
             learnts.add(cr);
             attachClause(cr);
             claBumpActivity(cr);
-            uncheckedEnqueue(learnt_clause.get(0), Reason.r(cr));
+            uncheckedEnqueue(learnt_clause.get(0), cr);
         }
         varDecayActivity();
         claDecayActivity();
-
-        if (--learntsize_adjust_cnt == 0) {
-            learntsize_adjust_confl *= learntsize_adjust_inc;
-            learntsize_adjust_cnt = (int) learntsize_adjust_confl;
-            max_learnts *= learntsize_inc;
-        }
     }
 
 
@@ -363,9 +413,6 @@ public class MiniSat implements SatFactory, Dimacs {
             int x = var(trail_.get(i));
             seen.set(x);
         }
-        max_learnts = nClauses() * learntsize_factor;
-        learntsize_adjust_confl = 100;
-        learntsize_adjust_cnt = (int) learntsize_adjust_confl;
         simplify();
     }
 
@@ -404,6 +451,36 @@ public class MiniSat implements SatFactory, Dimacs {
         return learnts.size();
     }
 
+    /**
+     * @param tier one of {@link #CORE}, {@link #TIER2} and {@link #LOCAL}
+     * @return the current number of learnt clauses in <i>tier</i>
+     */
+    public int nLearnts(int tier) {
+        return tier_sizes_[tier];
+    }
+
+    /**
+     * @return the number of words occupied by the clauses in memory,
+     * including those of removed clauses that have not been reclaimed yet
+     */
+    public int nClauseWords() {
+        return ca.size();
+    }
+
+    /**
+     * @return the number of learnt clauses removed by {@link #doReduceDB()} so far
+     */
+    public long nRemovedLearnts() {
+        return removed_learnts;
+    }
+
+    /**
+     * @return the number of calls to {@link #doReduceDB()} so far
+     */
+    public int nReductions() {
+        return reductions;
+    }
+
 
     private int incrementVariableCounter() {
         return num_vars_++;
@@ -420,6 +497,15 @@ public class MiniSat implements SatFactory, Dimacs {
 
     // Enqueue a literal. Assumes value of literal is undefined.
     public void uncheckedEnqueue(int l, Reason from) {
+        uncheckedEnqueue(l, from, CRef_Undef);
+    }
+
+    // Enqueue a literal due to a clause stored in the arena. Assumes value of literal is undefined.
+    void uncheckedEnqueue(int l, int cr) {
+        uncheckedEnqueue(l, R_Undef, cr);
+    }
+
+    private void uncheckedEnqueue(int l, Reason from, int cr) {
         assert valueLit(l) == lUndef : "l: " + printLit(l) + " from: " + from;
         int v = var(l);
         if (assignment_.getQuick(v) == lUndef) {
@@ -437,9 +523,9 @@ public class MiniSat implements SatFactory, Dimacs {
         assert vardata.size() >= v;
         VarData vd = vardata.get(v);
         if (vd != VD_Undef) {
-            vd.set(from, trailMarker(), trail_.size());
+            vd.set(from, cr, trailMarker(), trail_.size());
         } else {
-            vardata.set(v, new VarData(from, trailMarker(), trail_.size()));
+            vardata.set(v, new VarData(from, cr, trailMarker(), trail_.size()));
         }
         trail_.add(l);
         cinfo.get(v).channel(sgn(l));
@@ -477,47 +563,68 @@ public class MiniSat implements SatFactory, Dimacs {
         assert vardata.size() >= v;
         VarData vd = vardata.get(v);
         if (vd != VD_Undef) {
-            vd.set(r, trailMarker(), trail_.size());
+            vd.set(r, CRef_Undef, trailMarker(), trail_.size());
         } else {
-            vardata.set(v, new VarData(r, trailMarker(), trail_.size()));
+            vardata.set(v, new VarData(r, CRef_Undef, trailMarker(), trail_.size()));
         }
         trail_.add(l);
     }
 
     // Attach a clause to watcher lists.
-    void attachClause(Clause cr) {
-        assert cr.size() > 1;
-        ArrayList<Watcher> l0 = watches_.get(neg(cr._g(0)));
-        if (l0 == null) {
-            l0 = new ArrayList<>();
-            watches_.put(neg(cr._g(0)), l0);
-        }
-        ArrayList<Watcher> l1 = watches_.get(neg(cr._g(1)));
-        if (l1 == null) {
-            l1 = new ArrayList<>();
-            watches_.put(neg(cr._g(1)), l1);
-        }
-        l0.add(new Watcher(cr, cr._g(1)));
-        l1.add(new Watcher(cr, cr._g(0)));
-        if (cr.learnt()) learnts_literals += cr.size();
-        else clauses_literals += cr.size();
-    }
-
-    void detachClause(Clause cr) {
-        ArrayList<Watcher> ws = watches_.get(neg(cr._g(0)));
-        int i = ws.size() - 1;
-        while (i >= 0 && ws.get(i).clause != cr) {
-            i--;
+    void attachClause(int cr) {
+        assert ca.size(cr) > 1;
+        int c0 = ca.lit(cr, 0);
+        int c1 = ca.lit(cr, 1);
+        watch(neg(c0), cr, c1);
+        watch(neg(c1), cr, c0);
+        if (ca.learnt(cr)) learnts_literals += ca.size(cr);
+        else clauses_literals += ca.size(cr);
+    }
+
+    // Add a watcher to the list of 'lit'.
+    private void watch(int lit, int cr, int blocker) {
+        int[] ws = watches_[lit];
+        int n = wsizes_[lit];
+        if (n + 2 > ws.length) {
+            ws = watches_[lit] = Arrays.copyOf(ws, ws.length * 2);
         }
-        assert i > -1;
-        ws.remove(i);
-        ws = watches_.get(neg(cr._g(1)));
-        i = ws.size() - 1;
-        while (i >= 0 && ws.get(i).clause != cr) {
-            i--;
+        ws[n] = cr;
+        ws[n + 1] = blocker;
+        wsizes_[lit] = n + 2;
+    }
+
+    void detachClause(int cr) {
+        unwatch(neg(ca.lit(cr, 0)), cr);
+        unwatch(neg(ca.lit(cr, 1)), cr);
+    }
+
+    // Remove the watcher of 'cr' from the list of 'lit'.
+    private void unwatch(int lit, int cr) {
+        int[] ws = watches_[lit];
+        int n = wsizes_[lit];
+        int i = n - 2;
+        while (i >= 0 && ws[i] != cr) {
+            i -= 2;
         }
         assert i > -1;
-        ws.remove(i);
+        System.arraycopy(ws, i + 2, ws, i, n - i - 2);
+        wsizes_[lit] = n - 2;
+    }
+
+    // Remove watchers of deleted clauses from all lists.
+    private void cleanWatches() {
+        for (int l = 0; l < 2 * nVars(); l++) {
+            int[] ws = watches_[l];
+            int n = wsizes_[l];
+            int j = 0;
+            for (int i = 0; i < n; i += 2) {
+                if (!ca.deleted(ws[i])) {
+                    ws[j++] = ws[i];
+                    ws[j++] = ws[i + 1];
+                }
+            }
+            wsizes_[l] = j;
+        }
     }
 
     // Perform unit propagation. returns true upon success.
@@ -535,52 +642,53 @@ public class MiniSat implements SatFactory, Dimacs {
 
     private void propagateLit(int p) {
         // 'p' is enqueued fact to propagate.
-        ArrayList<Watcher> ws = watches_.get(p);
+        final int[] ws = watches_[p];
+        final int n = wsizes_[p];
+        // no clause can be allocated during propagation, the memory region is stable
+        final int[] mem = ca.mem;
+        final int false_lit = neg(p);
 
         int i = 0;
         int j = 0;
-        while (ws != null && i < ws.size()) {
-            Watcher w = ws.get(i);
+        while (i < n) {
+            int cr = ws[i];
             // Try to avoid inspecting the clause:
-            int blocker = w.blocker;
+            int blocker = ws[i + 1];
             if (valueLit(blocker) == lTrue) {
-                ws.set(j++, w);
-                i++;
+                ws[j++] = cr;
+                ws[j++] = blocker;
+                i += 2;
                 continue;
             }
 
             // Make sure the false literal is data[1]:
-            Clause cr = w.clause;
-            final int false_lit = neg(p);
-            if (cr._g(0) == false_lit) {
-                cr._s(0, cr._g(1));
-                cr._s(1, false_lit);
+            int c0 = cr + ClauseArena.HEADER;
+            if (mem[c0] == false_lit) {
+                mem[c0] = mem[c0 + 1];
+                mem[c0 + 1] = false_lit;
             }
-            assert (cr._g(1) == false_lit);
-            i++;
+            assert (mem[c0 + 1] == false_lit);
+            i += 2;
 
             // If 0th watch is true, then clause is already satisfied.
-            final int first = cr._g(0);
-//            Watcher w = new Watcher(cr, first);
-            /* ws.set(i - 1, null); // now w can be used
-            w.clause = cr; */
-            w.blocker = first;
+            final int first = mem[c0];
             if (first != blocker && valueLit(first) == lTrue) {
-                ws.set(j++, w);
+                ws[j++] = cr;
+                ws[j++] = first;
                 continue;
             }
 
-            boolean cont = newWatch(cr, false_lit, w);
-
             // Did not find watch -- clause is unit under assignment:
-            if (!cont) {
-                ws.set(j++, w);
+            if (!newWatch(mem, cr, c0, false_lit, first)) {
+                ws[j++] = cr;
+                ws[j++] = first;
                 if (valueLit(first) == lFalse) {
-                    confl = cr;
+                    confl = C_Arena;
+                    confl_cr = cr;
                     qhead_ = trail_.size();
                     // Copy the remaining watches_:
-                    while (i < ws.size()) {
-                        ws.set(j++, ws.get(i++));
+                    while (i < n) {
+                        ws[j++] = ws[i++];
                     }
                     onLiteralPushed(first);
                 } else {
@@ -588,26 +696,18 @@ public class MiniSat implements SatFactory, Dimacs {
                 }
             }
         }
-        if (ws != null && ws.size() > j) {
-//            for (int k = ws.size() - 1; k >= j; k--) {
-//                ws.remove(j);
-//            }
-            ws.subList(j, ws.size()).clear();
-        }
+        wsizes_[p] = j;
     }
 
-    private boolean newWatch(Clause cr, int false_lit, Watcher w) {
+    private boolean newWatch(int[] mem, int cr, int c0, int false_lit, int blocker) {
         // Look for new watch:
-        for (int k = 2; k < cr.size(); k++) {
-            if (valueLit(cr._g(k)) != lFalse) {
-                cr._s(1, cr._g(k));
-                cr._s(k, false_lit);
-                ArrayList<Watcher> lw = watches_.get(neg(cr._g(1)));
-                if (lw == null) {
-                    lw = new ArrayList<>();
-                    watches_.put(neg(cr._g(1)), lw);
-                }
-                lw.add(w);
+        int size = ca.size(cr);
+        for (int k = 2; k < size; k++) {
+            int l = mem[c0 + k];
+            if (valueLit(l) != lFalse) {
+                mem[c0 + 1] = l;
+                mem[c0 + k] = false_lit;
+                watch(neg(l), cr, blocker);
                 return true;
             }
         }
@@ -627,9 +727,6 @@ public class MiniSat implements SatFactory, Dimacs {
         model.clear();
         conflict.clear();
         if (!ok_) return ESat.FALSE;
-        max_learnts = nClauses() * learntsize_factor;
-        learntsize_adjust_confl = 100;
-        learntsize_adjust_cnt = (int) learntsize_adjust_confl;
         ESat status = ESat.UNDEFINED;
 
         // Search:
@@ -703,7 +800,7 @@ public class MiniSat implements SatFactory, Dimacs {
                 if (trailMarker() == 0 && !simplify())
                     return ESat.FALSE;
 
-                if (learnts.size() - trail_.size() >= max_learnts)
+                if (isReduceDBDue())
                     doReduceDB();
 
                 // New variable decision:
@@ -748,8 +845,9 @@ public class MiniSat implements SatFactory, Dimacs {
 
     public int findConflictLevel() {
         int lvl = -1;
-        for (int i = 0; i < confl.size(); i++) {
-            int l = vardata.get(var(confl._g(i))).level;
+        loadConflict(confl);
+        for (int i = 0; i < r_size; i++) {
+            int l = vardata.get(var(r_lits[r_from + i])).level;
             if (l > lvl) {
                 lvl = l;
             }
@@ -757,6 +855,51 @@ public class MiniSat implements SatFactory, Dimacs {
         return lvl;
     }
 
+    /**
+     * Make the literals of a conflict readable through {@link #r_lits}.
+     *
+     * @param c a conflict, may be {@link #C_Arena}
+     */
+    private void loadConflict(Clause c) {
+        if (c == C_Arena) {
+            loadClause(confl_cr);
+        } else {
+            r_cr = CRef_Undef;
+            r_lits = c.literals();
+            r_from = 0;
+            r_size = c.size();
+        }
+    }
+
+    /**
+     * Make the literals of the clause <i>cr</i> readable through {@link #r_lits}.
+     *
+     * @param cr a clause reference
+     */
+    private void loadClause(int cr) {
+        r_cr = cr;
+        r_lits = ca.mem;
+        r_from = cr + ClauseArena.HEADER;
+        r_size = ca.size(cr);
+    }
+
+    /**
+     * Make the literals of the reason of <i>x</i> readable through {@link #r_lits}.
+     *
+     * @param x a variable
+     * @return {@code false} if <i>x</i> has no reason
+     */
+    private boolean loadReason(int x) {
+        VarData vd = vardata.get(x);
+        if (vd.cref != CRef_Undef) {
+            loadClause(vd.cref);
+            return true;
+        }
+        Clause c = vd.cr.getConflict();
+        loadConflict(c);
+        return c != C_Undef;
+    }
+
     public int analyze(Clause confl, TIntArrayList out_learnt) {
         int pathC = 0;
         int p = litUndef;
@@ -785,15 +928,16 @@ public class MiniSat implements SatFactory, Dimacs {
             for (i = j = 1; i < out_learnt.size(); i++) {
                 int x = var(out_learnt.get(i));
 
-                if (getConfl(x) == C_Undef)
+                if (!loadReason(x))
                     out_learnt.set(j++, out_learnt.get(i));
                 else {
-                    Clause c = getConfl(var(out_learnt.get(i)));
-                    for (int k = 1; k < c.size(); k++)
-                        if (!seen.get(var(c._g(k))) && level(var(c._g(k))) > rootlvl) {
+                    for (int k = 1; k < r_size; k++) {
+                        int q = r_lits[r_from + k];
+                        if (!seen.get(var(q)) && level(var(q)) > rootlvl) {
                             out_learnt.set(j++, out_learnt.get(i));
                             break;
                         }
+                    }
                 }
             }
         } else
@@ -816,28 +960,28 @@ public class MiniSat implements SatFactory, Dimacs {
         out_learnt.add(litUndef);      // (leave room for the asserting literal)
         int index = trail_.size() - 1;
 
+        loadConflict(confl);
         do {
-            assert (confl != C_Undef); // (otherwise should be UIP)
-            Clause c = confl;
+            assert (r_size > 0); // (otherwise should be UIP)
 
             if (DEBUG > 0) {
                 if (p != litUndef) {
-                    c._s(0, p);
+                    r_lits[r_from] = p;
                 }
-                if (DEBUG > 1)
-                    System.out.printf("%s\n", c.toString(this));
-                else System.out.printf("%s\n", c.toString());
+                System.out.printf("%s\n", printClause(r_lits, r_from, r_size));
             }
 
-            if (c.learnt())
-                claBumpActivity(c);
+            if (r_cr != CRef_Undef && ca.learnt(r_cr)) {
+                claBumpActivity(r_cr);
+                onLearntUsed(r_cr);
+            }
 
-            for (int j = (p == litUndef) ? 0 : 1; j < c.size(); j++) {
-                int q = c._g(j);
+            for (int j = (p == litUndef) ? 0 : 1; j < r_size; j++) {
+                int q = r_lits[r_from + j];
                 int x = var(q);
                 if (!seen.get(x) && level(x) > rootlvl) {
                     assert p == litUndef || pos(var(p)) > pos(x) : "chronological inconsistency :(" + printLit(p) + " @ " + pos(var(p)) +
-                            ") is explained by a previous event (" + printLit(x) + " @ " + pos(x) + ") "+c;
+                            ") is explained by a previous event (" + printLit(x) + " @ " + pos(x) + ") " + printClause(r_lits, r_from, r_size);
                     varBumpActivity(x);
                     seen.set(x);
                     if (DEBUG > 1) System.out.printf("mark %d\n", x);
@@ -854,7 +998,7 @@ public class MiniSat implements SatFactory, Dimacs {
             //noinspection StatementWithEmptyBody
             while (!seen.get(var(trail_.get(index--)))) ;
             p = trail_.get(index + 1);
-            confl = getConfl(p);
+            loadReason(var(p));
             seen.clear(var(p));
             if (DEBUG > 1) System.out.printf("clear %d l:%d\n", var(p), p);
             pathC--;
@@ -879,14 +1023,14 @@ public class MiniSat implements SatFactory, Dimacs {
             if (DEBUG > 0) {
                 System.out.printf("replacing %s in %s\n", p, out_learnt);
             }
-            Clause c = getConfl(neg(p));
+            loadReason(var(p));
             temporary_add_vector_.add(p);
             int at = out_learnt.size() - 1;
             out_learnt.set(i, out_learnt.get(at));
             out_learnt.removeAt(at);
             i--;
-            for (int j = 1; j < c.size(); j++) {
-                int q = c._g(j);
+            for (int j = 1; j < r_size; j++) {
+                int q = r_lits[r_from + j];
                 if (!seen.get(var(q))) {
                     seen.set(var(q));
                     out_learnt.add(q);
@@ -952,23 +1096,226 @@ public class MiniSat implements SatFactory, Dimacs {
     }
 
 
+    /**
+     * Reductions are scheduled over the search time, as in Glucose, instead of on the size of the database.
+     * Search time is measured in conflicts rather than in seconds:
+     * the schedule is then deterministic, so runs can be reproduced, and it does not depend
+     * on the speed of the machine or on the time spent in the CP propagators of lazy clause generation.
+     * The <i>k</i>-th reduction occurs {@code reduce_first} + <i>k</i>.{@code reduce_inc} conflicts
+     * after the previous one.
+     *
+     * @return <i>true</i> if enough conflicts have been analysed since the last call to {@link #doReduceDB()}
+     */
+    public boolean isReduceDBDue() {
+        return learnt_conflicts - last_reduce >= reduce_first + (long) reduce_inc * reductions;
+    }
+
+    /**
+     * Reduce the database of learnt clauses, which is split in three tiers depending on the LBD of the clauses
+     * (see "Predicting Learnt Clauses Quality in Modern SAT Solvers", G. Audemard and L. Simon, IJCAI'09
+     * and "Between Restarts and Backjumps", C. Oh, SAT'15):
+     * <ul>
+     *     <li>core clauses are never removed,</li>
+     *     <li>tier-2 clauses that have not been used since the previous two reductions are moved to the local tier,</li>
+     *     <li>the less active half of the local clauses is removed.</li>
+     * </ul>
+     * Binary and locked clauses are never removed.
+     * The next reduction is then scheduled a bit later than this one,
+     * that is the time between two reductions is expressed in number of conflicts.
+     */
     public void doReduceDB() {
         int i, j;
-        double extra_lim = cla_inc / learnts.size();    // Remove any clause below this activity
-
-        learnts.sort(Comparator.comparingDouble(c -> c.activity));
-        // Don't delete binary or locked clauses. From the rest, delete clauses from the first half
-        // and clauses with activity smaller than 'extra_lim':
-        for (i = j = 0; i < learnts.size(); i++) {
-            Clause c = learnts.get(i);
-            if (c.size() > 2 && !locked(c) && (i < learnts.size() / 2 || c.activity < extra_lim))
-                removeClause(learnts.get(i));
-            else
-                learnts.set(j++, learnts.get(i));
-        }
         int n = learnts.size();
-        learnts.subList(j, n).clear();
-        // System.out.printf("reduceDB removed %d clauses\n", n - j);
+        if (reduce_keys_.length < n) {
+            reduce_keys_ = new long[n];
+        }
+        // Sort local clauses by increasing activity.
+        // Activities are non-negative, so the order of their raw bits matches the order of their values.
+        int m = 0;
+        for (i = 0; i < n; i++) {
+            int cr = learnts.getQuick(i);
+            switch (ca.tier(cr)) {
+                case TIER2:
+                    if (ca.used(cr) > 0) {
+                        ca.used(cr, ca.used(cr) - 1);
+                    } else {
+                        moveTo(cr, LOCAL);
+                        demotions++;
+                    }
+                    break;
+                case LOCAL:
+                    reduce_keys_[m++] = ((long) Float.floatToRawIntBits(ca.activity(cr)) << 32) | i;
+                    break;
+            }
+        }
+        Arrays.sort(reduce_keys_, 0, m);
+        for (i = 0; i < m / 2; i++) {
+            int cr = learnts.getQuick((int) reduce_keys_[i]);
+            if (ca.size(cr) > 2 && !locked(cr)) {
+                removeClause(cr);
+                removed_learnts++;
+            }
+        }
+        for (i = j = 0; i < n; i++) {
+            int cr = learnts.getQuick(i);
+            if (!ca.deleted(cr)) {
+                learnts.setQuick(j++, cr);
+            }
+        }
+        learnts.remove(j, n - j);
+        cleanWatches();
+        checkGarbage();
+        reductions++;
+        last_reduce = learnt_conflicts;
+    }
+
+    /**
+     * Update the LBD of the learnt clause <i>cr</i>, which is involved in the analysis of a conflict,
+     * and promote it if needed.
+     *
+     * @param cr a learnt clause reference
+     */
+    private void onLearntUsed(int cr) {
+        int tier = ca.tier(cr);
+        if (tier == CORE) {
+            return;
+        }
+        int lbd = computeLBD(cr);
+        if (lbd < ca.lbd(cr)) {
+            ca.lbd(cr, lbd);
+            int ntier = tierOf(lbd);
+            if (ntier < tier) {
+                moveTo(cr, ntier);
+                promotions++;
+                tier = ntier;
+            }
+        }
+        ca.used(cr, tier == TIER2 ? 2 : 1);
+    }
+
+    private void moveTo(int cr, int tier) {
+        tier_sizes_[ca.tier(cr)]--;
+        tier_sizes_[tier]++;
+        ca.tier(cr, tier);
+    }
+
+    private int tierOf(int lbd) {
+        if (lbd <= core_lbd) {
+            return CORE;
+        }
+        return lbd <= tier2_lbd ? TIER2 : LOCAL;
+    }
+
+    /**
+     * @param lits literals
+     * @return the number of distinct decision levels among <i>lits</i>
+     */
+    private int computeLBD(TIntList lits) {
+        nextLBDStamp();
+        int lbd = 0;
+        for (int i = 0; i < lits.size(); i++) {
+            if (stampLevel(level(var(lits.get(i))))) {
+                lbd++;
+            }
+        }
+        return lbd;
+    }
+
+    /**
+     * @param cr a clause reference
+     * @return the number of distinct decision levels among the literals of <i>cr</i>
+     */
+    private int computeLBD(int cr) {
+        nextLBDStamp();
+        int lbd = 0;
+        for (int i = 0; i < ca.size(cr); i++) {
+            if (stampLevel(level(var(ca.lit(cr, i))))) {
+                lbd++;
+            }
+        }
+        return lbd;
+    }
+
+    private void nextLBDStamp() {
+        if (++lbd_stamp_ == Integer.MAX_VALUE) {
+            Arrays.fill(lbd_stamps_, 0);
+            lbd_stamp_ = 1;
+        }
+    }
+
+    private boolean stampLevel(int lvl) {
+        if (lvl >= lbd_stamps_.length) {
+            lbd_stamps_ = Arrays.copyOf(lbd_stamps_, Math.max(lvl + 1, lbd_stamps_.length * 3 / 2));
+        }
+        if (lbd_stamps_[lvl] == lbd_stamp_) {
+            return false;
+        }
+        lbd_stamps_[lvl] = lbd_stamp_;
+        return true;
+    }
+
+    /**
+     * Compact the memory region of clauses if too much of it is wasted.
+     */
+    void checkGarbage() {
+        if (ca.wasted() > ca.size() * garbage_frac) {
+            garbageCollect();
+        }
+    }
+
+    /**
+     * Move all living clauses to a fresh memory region, without holes.
+     */
+    void garbageCollect() {
+        ClauseArena to = new ClauseArena(ca.liveSize());
+        relocAll(to);
+        ca = to;
+    }
+
+    /**
+     * Update all clause references to their copy in <i>to</i>.
+     * Subclasses that store clause references must relocate them too.
+     *
+     * @param to the new memory region
+     */
+    void relocAll(ClauseArena to) {
+        // All watchers:
+        for (int l = 0; l < 2 * nVars(); l++) {
+            int[] ws = watches_[l];
+            int n = wsizes_[l];
+            for (int i = 0; i < n; i += 2) {
+                ws[i] = ca.moveTo(to, ws[i]);
+            }
+        }
+        // All reasons:
+        for (int v = 0; v < nVars(); v++) {
+            VarData vd = vardata.get(v);
+            if (vd.cref != CRef_Undef) {
+                if (valueVar(v) != lUndef && !ca.deleted(vd.cref)) {
+                    vd.cref = ca.moveTo(to, vd.cref);
+                } else {
+                    vd.cref = CRef_Undef;
+                }
+            }
+        }
+        if (confl_cr != CRef_Undef) {
+            confl_cr = confl == C_Arena ? ca.moveTo(to, confl_cr) : CRef_Undef;
+        }
+        // All clauses:
+        reloc(clauses, to);
+        reloc(learnts, to);
+    }
+
+    /**
+     * Update references in <i>crs</i> to their copy in <i>to</i>.
+     *
+     * @param crs list of clause references
+     * @param to  the new memory region
+     */
+    final void reloc(TIntArrayList crs, ClauseArena to) {
+        for (int i = 0; i < crs.size(); i++) {
+            crs.setQuick(i, ca.moveTo(to, crs.getQuick(i)));
+        }
     }
 
 
@@ -978,11 +1325,6 @@ public class MiniSat implements SatFactory, Dimacs {
                 (propagation_budget < 0 || propagations < propagation_budget);
     }
 
-    Clause getConfl(int p) {
-        Reason r = reason(var(p));
-        return r.getConflict();
-    }
-
     Reason reason(int x) {
         return vardata.get(x).cr;
     }
@@ -995,27 +1337,40 @@ public class MiniSat implements SatFactory, Dimacs {
         return vardata.get(x).pos;
     }
 
-    boolean locked(Clause c) {
-        Clause cr = getConfl(c._g(0));
-        return valueLit(c._g(0)) == lTrue
-                && cr != C_Undef
-                && cr == c;
+    boolean locked(int cr) {
+        int c0 = ca.lit(cr, 0);
+        return valueLit(c0) == lTrue
+                && vardata.get(var(c0)).cref == cr;
     }
 
-    void removeClause(Clause cr) {
-        detachClause(cr);
+    /**
+     * Free the clause <i>cr</i>.
+     * Its watchers are removed lazily, on next {@link #cleanWatches()},
+     * unless {@link #detachClause(int)} has been called before.
+     *
+     * @param cr a clause reference
+     */
+    void removeClause(int cr) {
         // Don't leave pointers to free'd memory!
         if (locked(cr)) {
-            vardata.get(var(cr._g(0))).clearReason();
+            vardata.get(var(ca.lit(cr, 0))).clearReason();
         }
+        if (ca.learnt(cr)) {
+            learnts_literals -= ca.size(cr);
+            tier_sizes_[ca.tier(cr)]--;
+        } else clauses_literals -= ca.size(cr);
+        ca.free(cr);
     }
 
 
-    void claBumpActivity(Clause c) {
-        if ((c.activity += cla_inc) > 1e20d) {
+    void claBumpActivity(int cr) {
+        float a = (float) (ca.activity(cr) + cla_inc);
+        ca.activity(cr, a);
+        if (a > 1e20f) {
             // Rescale:
             for (int i = 0; i < learnts.size(); i++) {
-                learnts.get(i).activity *= 1e-20d;
+                int c = learnts.getQuick(i);
+                ca.activity(c, ca.activity(c) * 1e-20f);
             }
             cla_inc *= 1e-20d;
         }
@@ -1187,47 +1542,41 @@ public class MiniSat implements SatFactory, Dimacs {
         return st.toString();
     }
 
-    /**
-     * A watcher represent a clause attached to a literal.
-     * <br/>
-     * (or-tools, booleans.cc, ty L. Perron).
-     * <p>
-     * todo: recycle
-     *
-     * @author Charles Prud'homme
-     * @since 12/07/13
-     */
-    private static final class Watcher {
-
-        final Clause clause;
-        int blocker;
-
-        Watcher(final Clause cr, int l) {
-            this.clause = cr;
-            this.blocker = l;
+    private String printClause(int[] lits, int from, int size) {
+        StringBuilder st = new StringBuilder();
+        st.append("Size:").append(size).append(" - ");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) st.append(" ∨ ");
+            st.append(DEBUG > 1 ? printLit(lits[from + i]) : String.valueOf(lits[from + i]));
         }
+        return st.toString();
     }
 
-
     private static final class VarData {
+        // reason, when it is not a clause stored in the arena
         private Reason cr;
+        // reference of the reason, when it is a clause stored in the arena
+        private int cref;
         private int level;
         private int pos;
 
-        public VarData(Reason cr, int level, int pos) {
+        public VarData(Reason cr, int cref, int level, int pos) {
             this.cr = cr;
+            this.cref = cref;
             this.level = level;
             this.pos = pos;
         }
 
-        private void set(Reason cr, int level, int pos){
+        private void set(Reason cr, int cref, int level, int pos){
             this.cr = cr;
+            this.cref = cref;
             this.level = level;
             this.pos = pos;
         }
 
         private void clearReason(){
             this.cr = R_Undef;
+            this.cref = CRef_Undef;
         }
     }
 
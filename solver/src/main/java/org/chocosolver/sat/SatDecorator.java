@@ -30,8 +30,8 @@ import java.util.function.Consumer;
  */
 public class SatDecorator extends MiniSat {
 
-    // store clauses dynamically added from outside
-    public ArrayList<Clause> dynClauses = new ArrayList<>();
+    // store clauses dynamically added from outside (references in the clause arena)
+    public TIntArrayList dynClauses = new TIntArrayList();
     private final TIntObjectHashMap<Literalizer> lits = new TIntObjectHashMap<>();
     private final HashMap<Variable, List<Literalizer>> vars = new HashMap<>();
     /**
@@ -84,8 +84,9 @@ public class SatDecorator extends MiniSat {
                 ok_ = (confl == C_Undef);
                 return;
             default:
-                Clause cr = new Clause(ps);
-                removeDominated(cr);
+                removeDominated(ps);
+                checkGarbage();
+                int cr = ca.alloc(ps, false);
                 dynClauses.add(cr);
                 attachClause(cr);
                 break;
@@ -93,25 +94,26 @@ public class SatDecorator extends MiniSat {
     }
 
     /**
-     * Check wether {@code cr} dominates one or more learnt clauses.
+     * Check wether {@code last} dominates one or more learnt clauses.
      *
-     * @param last the clause to compare the other with
+     * @param last the sorted literals of the clause to compare the other with
      */
-    private void removeDominated(Clause last) {
+    private void removeDominated(int[] last) {
         for (int c = dynClauses.size() - 1; c >= 0; c--) {
-            Clause prev = dynClauses.get(c);
-            if (last.size() < prev.size()) {
+            int prev = dynClauses.get(c);
+            int psize = ca.size(prev);
+            if (last.length < psize) {
                 int i = 0, j = 0;
-                while (i < last.size() && j < prev.size()) {
-                    int l = last._g(i);
-                    int p = prev._g(j);
+                while (i < last.length && j < psize) {
+                    int l = last[i];
+                    int p = ca.lit(prev, j);
                     if (l < p) break;
                     j++;
                     if (l == p) {
                         i++;
                     }
                 }
-                if (i == last.size() && j == prev.size()) {
+                if (i == last.length && j == psize) {
                     // then 'last' dominates 'prev'
                     detachLearnt(c);
                 }
@@ -120,9 +122,16 @@ public class SatDecorator extends MiniSat {
     }
 
     public void detachLearnt(int ci) {
-        Clause cr = dynClauses.get(ci);
+        int cr = dynClauses.get(ci);
         detachClause(cr);
-        dynClauses.remove(ci);
+        removeClause(cr);
+        dynClauses.removeAt(ci);
+    }
+
+    @Override
+    void relocAll(ClauseArena to) {
+        super.relocAll(to);
+        reloc(dynClauses, to);
     }
 
     private void dynUncheckedEnqueue(int l) {
@@ -268,15 +277,16 @@ public class SatDecorator extends MiniSat {
     /**
      * Checks if all clauses from <code>clauses</code> are satisfied
      *
-     * @param clauses list of clause
+     * @param clauses list of clause references
      * @return <tt>true</tt> if all clauses are satisfied, <tt>false</tt> otherwise
      */
-    public boolean clauseEntailed(ArrayList<Clause> clauses) {
+    public boolean clauseEntailed(TIntArrayList clauses) {
         int lit;
         cl:
-        for (Clause c : clauses) {
-            for (int i = 0; i < c.size(); i++) {
-                lit = c._g(i);
+        for (int k = 0; k < clauses.size(); k++) {
+            int c = clauses.getQuick(k);
+            for (int i = 0; i < ca.size(c); i++) {
+                lit = ca.lit(c, i);
                 Literalizer ltz = lits.get(var(lit));
                 // ltz is null only for 'addClausesSumBoolArrayLessEqKVar' that needs an extra var.
                 if (ltz == null || lits.get(var(lit)).check(sgn(lit))) {
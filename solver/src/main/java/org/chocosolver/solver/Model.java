@@ -14,6 +14,7 @@ import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.sat.MiniSat;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.extension.RelationCache;
 import org.chocosolver.solver.constraints.nary.cnf.SatConstraint;
 import org.chocosolver.solver.constraints.real.IbexHandler;
 import org.chocosolver.solver.constraints.unary.BooleanConstraint;
@@ -65,6 +66,7 @@ public final class Model implements IModel {
     public static final String TASK_SET_HOOK_NAME = "H_TASKSET";
     public static final String MINISAT_HOOK_NAME = "H_MINISAT";
     public static final String IBEX_HOOK_NAME = "H_IBEX";
+    public static final String RELATION_CACHE_HOOK_NAME = "H_RELATIONS";
 
     /**
      * Settings to use with this solver
@@ -639,6 +641,20 @@ public final class Model implements IModel {
         return (SatConstraint) getHook(MINISAT_HOOK_NAME);
     }
 
+    /**
+     * Returns the unique cache of relations of this model, to share identical relations between constraints.
+     * A call to this method will create the cache if it does not exist already.
+     *
+     * @return the cache of relations
+     * @see Settings#enableRelationSharing()
+     */
+    public RelationCache getRelationCache() {
+        if (getHook(RELATION_CACHE_HOOK_NAME) == null) {
+            addHook(RELATION_CACHE_HOOK_NAME, new RelationCache());
+        }
+        return (RelationCache) getHook(RELATION_CACHE_HOOK_NAME);
+    }
+
     /**
      * Unpost minisat constraint from model, if any.
      */
@@ -0,0 +1,798 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.loop.monitors.IMonitorOpenNode;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperator;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
+import org.chocosolver.solver.search.strategy.decision.Decision;
+import org.chocosolver.solver.search.strategy.decision.IntDecision;
+import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>
+ * An Embarrassingly Parallel Search (EPS) helper.
+ * </p>
+ * <p>
+ * The search tree of the problem is first split into many disjoint subproblems, called <i>cubes</i>:
+ * the search strategy of the first model is applied, with propagation, up to a given depth,
+ * and each decision path reaching that depth (or a leaf) makes a cube.
+ * The cubes are then solved by a work-stealing pool of workers, one per model added,
+ * each worker borrowing a free model to explore a cube then giving it back.
+ * Since there are many more cubes than workers, the load is balanced with no communication
+ * but the best bound, which is shared among the workers when dealing with an optimization problem.
+ * </p>
+ * <p>
+ * The models must be equivalent, that is built the same way, since a cube refers to variables by their ID.
+ * When dealing with an optimization problem, the objective variable <b>HAS</b> to be declared eagerly with
+ * {@link Model#setObjective(boolean, Variable)}.
+ * Stop criteria declared on the models are removed before solving a cube.
+ * </p>
+ * <p>
+ * A cube is deterministic: it can be replayed on its own with {@link #replay(Model, int)},
+ * for instance to investigate the part of the search tree it covers.
+ * </p>
+ * <p>
+ *     Example of use.
+ *
+ * <pre>
+ * <code>ParallelEPS eps = new ParallelEPS();
+ * int n = 4; // number of models to use
+ * for (int i = 0; i < n; i++) {
+ *      eps.addModel(new Model());
+ * }
+ * eps.populate((m, i) -> modeller(m));
+ * eps.streamSolutions().forEach(s -> ...);
+ * </code>
+ * </pre>
+ *
+ * </p>
+ *
+ * @author agent
+ * @see ParallelPortfolio
+ * @since 17/10/2026
+ */
+public class ParallelEPS {
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////       VARIABLES       //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Value of the incumbent when no solution has been found yet
+     */
+    private static final long NO_INCUMBENT = -1L;
+    /**
+     * Number of cubes expected per worker, when the depth is not set
+     */
+    private static final int CUBES_PER_WORKER = 30;
+    /*
+     * Operators of a cube's decisions
+     */
+    private static final int INT_EQ = 0;
+    private static final int INT_NEQ = 1;
+    private static final int INT_LE = 2;
+    private static final int INT_GT = 3;
+
+    /**
+     * List of models to solve the cubes with
+     */
+    private final List<Model> models = new ArrayList<>();
+    /**
+     * The cubes, each one made of triplets: variable ID, operator and value
+     */
+    private final List<int[]> cubes = new ArrayList<>();
+    /**
+     * The strategy of each model, restricted to a cube
+     */
+    private final List<CubeStrategy> strategies = new ArrayList<>();
+    /**
+     * Maximum number of decisions per cube, or -1 to deduce it from the number of models
+     */
+    private int depth = -1;
+    private boolean isPrepared = false;
+    /**
+     * When set to <i>true</i>, the workers stop
+     */
+    private final AtomicBoolean terminated = new AtomicBoolean(false);
+    /**
+     * When it returns <i>true</i>, the workers stop, even before the resolution starts
+     */
+    private BooleanSupplier cancelled;
+    /**
+     * The best objective value found so far (32 upper bits) and the index of the model that found it (32 lower bits),
+     * or {@link #NO_INCUMBENT}.
+     */
+    private final AtomicLong incumbent = new AtomicLong(NO_INCUMBENT);
+    /**
+     * The last incumbent imported by each model
+     */
+    private long[] imported;
+    /**
+     * The best solution found so far
+     */
+    private Solution best;
+    /**
+     * Where solutions are sent to, as they are found
+     */
+    private Consumer<Solution> onSolution;
+    /**
+     * Set to <i>true</i> to stop on the first solution of a satisfaction problem
+     */
+    private boolean stopOnFirst;
+    private final LongAdder cubesSolved = new LongAdder();
+    private final LongAdder solutions = new LongAdder();
+    private final LongAdder nodes = new LongAdder();
+    private final LongAdder fails = new LongAdder();
+    private final LongAdder boundsReceived = new LongAdder();
+    /**
+     * Number of threads waiting for the caller to consume the stream of solutions
+     */
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////      CONSTRUCTOR      //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates a new EPS helper.
+     */
+    public ParallelEPS() {
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////        METHODS        //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Adds a model to the list of models used to solve the cubes.
+     * There are as many workers as models.
+     * The model can either be a fresh one, ready for populating, or a populated one.
+     *
+     * @param model a model to add
+     */
+    public void addModel(Model model) {
+        this.models.add(model);
+    }
+
+    /**
+     * Populates the models concurrently.
+     *
+     * @param populator an action that populates a model, given its index
+     * @throws SolverException if the populating process of one model fails
+     * @see ParallelPortfolio#populate(ObjIntConsumer)
+     */
+    public void populate(ObjIntConsumer<Model> populator) {
+        ParallelPortfolio pares = new ParallelPortfolio(false);
+        models.forEach(pares::addModel);
+        pares.populate(populator);
+    }
+
+    /**
+     * Sets the maximum number of decisions of a cube.
+     * There are at most 2<sup>depth</sup> cubes, less when propagation closes branches of the search tree.
+     * By default, the depth is chosen to produce about {@value #CUBES_PER_WORKER} cubes per model.
+     *
+     * @param depth maximum number of decisions of a cube, must be positive
+     * @throws SolverException if the cubes have already been computed
+     */
+    public void setDepth(int depth) {
+        if (isPrepared) {
+            throw new SolverException("The depth cannot be modified once the cubes are computed");
+        }
+        if (depth < 0) {
+            throw new SolverException("The depth must be positive");
+        }
+        this.depth = depth;
+    }
+
+    /**
+     * Solves all the cubes in parallel.
+     * On a satisfaction problem, the resolution stops on the first solution found.
+     * On an optimization problem, it ends when the optimality is proven.
+     * Each call starts a new resolution.
+     *
+     * @return <i>true</i> if and only if at least one solution has been found
+     * @throws SolverException if no model has been added
+     * @see #getBestSolution()
+     */
+    public boolean solve() {
+        run(true, s -> {
+        }, () -> false);
+        return best != null;
+    }
+
+    /**
+     * Solves all the cubes in parallel and streams the solutions as they are found.
+     * On a satisfaction problem, all solutions are streamed, in no particular order.
+     * On an optimization problem, the improving solutions are streamed.
+     * <p>
+     * The resolution runs in the background and buffers at most one solution per model:
+     * while the buffer is full, the workers wait for the caller to consume the stream.
+     * Closing the stream stops the resolution.
+     * A stream that is neither consumed to the end nor closed keeps the workers waiting,
+     * so it should be used in a try-with-resources statement.
+     * </p>
+     *
+     * @return a stream of solutions
+     * @throws SolverException if no model has been added
+     */
+    public Stream<Solution> streamSolutions() {
+        if (!isPrepared) {
+            prepare();
+        }
+        BlockingQueue<Object> queue = new ArrayBlockingQueue<>(models.size());
+        AtomicBoolean closed = new AtomicBoolean(false);
+        Object end = new Object();
+        Thread runner = new Thread(() -> {
+            try {
+                run(false, sol -> put(queue, sol, closed), closed::get);
+            } catch (RuntimeException e) {
+                put(queue, e, closed);
+            } finally {
+                put(queue, end, closed);
+            }
+        }, "eps-stream");
+        runner.setDaemon(true);
+        runner.start();
+        //noinspection Convert2Diamond
+        Spliterator<Solution> it = new Spliterator<Solution>() {
+            boolean done;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Solution> action) {
+                if (done) {
+                    return false;
+                }
+                Object o;
+                try {
+                    o = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    closed.set(true);
+                    return false;
+                }
+                if (o == end) {
+                    done = true;
+                    return false;
+                }
+                if (o instanceof RuntimeException) {
+                    done = true;
+                    throw (RuntimeException) o;
+                }
+                action.accept((Solution) o);
+                return true;
+            }
+
+            @Override
+            public Spliterator<Solution> trySplit() {
+                return null;
+            }
+
+            @Override
+            public long estimateSize() {
+                return Long.MAX_VALUE;
+            }
+
+            @Override
+            public int characteristics() {
+                return Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.CONCURRENT;
+            }
+        };
+        return StreamSupport.stream(it, false).onClose(() -> closed.set(true));
+    }
+
+    /**
+     * Waits for space in <i>queue</i> to add <i>o</i> to it, unless the stream is closed in the meantime.
+     */
+    private void put(BlockingQueue<Object> queue, Object o, AtomicBoolean closed) {
+        if (queue.offer(o)) {
+            return;
+        }
+        waiting.incrementAndGet();
+        try {
+            while (!closed.get()) {
+                if (queue.offer(o, 10, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            closed.set(true);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    /**
+     * Restricts the search of <i>model</i> to the <i>cube</i>-th cube.
+     * Subsequent calls to {@code model.getSolver().solve()} explore this cube only,
+     * in a deterministic way as long as the search strategy of <i>model</i> is.
+     * <p>
+     * The model should be equivalent to the ones of this helper,
+     * it is typically a fresh copy built the same way.
+     * </p>
+     *
+     * @param model a model equivalent to the ones of this helper
+     * @param cube  index of a cube, in {@link #getCubes()}
+     */
+    public void replay(Model model, int cube) {
+        if (!isPrepared) {
+            prepare();
+        }
+        CubeStrategy strategy = CubeStrategy.make(model);
+        strategy.cube = cubes.get(cube);
+        model.getSolver().setSearch(strategy);
+    }
+
+    /**
+     * @return the cubes, each one made of triplets: a variable ID, an operator and a value.
+     * Operators are, in order: =, &ne;, &le; and &gt;.
+     */
+    public List<int[]> getCubes() {
+        if (!isPrepared) {
+            prepare();
+        }
+        return Collections.unmodifiableList(cubes);
+    }
+
+    /**
+     * @return the (mutable!) list of models used in this ParallelEPS
+     */
+    public List<Model> getModels() {
+        return models;
+    }
+
+    /**
+     * Returns the best solution found, that is the first one on a satisfaction problem,
+     * or <tt>null</tt> if no solution has been found.
+     * Values are recorded by variable IDs: they can be read with the variables of any model of this helper.
+     *
+     * @return the best solution found, or <tt>null</tt>
+     */
+    public synchronized Solution getBestSolution() {
+        return best;
+    }
+
+    /**
+     * @return the number of cubes fully explored during the last resolution
+     */
+    public long getNbCubesSolved() {
+        return cubesSolved.sum();
+    }
+
+    /**
+     * @return the number of solutions found during the last resolution
+     */
+    public long getSolutionCount() {
+        return solutions.sum();
+    }
+
+    /**
+     * @return the number of nodes explored during the last resolution, over all cubes
+     */
+    public long getNodeCount() {
+        return nodes.sum();
+    }
+
+    /**
+     * @return the number of failures during the last resolution, over all cubes
+     */
+    public long getFailCount() {
+        return fails.sum();
+    }
+
+    /**
+     * @return the number of times a model imported a bound found by another one
+     */
+    public long getNbBoundsReceived() {
+        return boundsReceived.sum();
+    }
+
+    /**
+     * @return the number of threads waiting for the caller to consume the stream of solutions,
+     * because the buffer of {@link #streamSolutions()} is full
+     */
+    public int getNbWaitingWorkers() {
+        return waiting.get();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////   INTERNAL METHODS    //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Computes the cubes and plugs the workers in the models.
+     */
+    public void prepare() {
+        if (isPrepared) {
+            return;
+        }
+        check();
+        int d = depth;
+        if (d < 0) {
+            d = 32 - Integer.numberOfLeadingZeros(CUBES_PER_WORKER * models.size());
+        }
+        split(models.get(0), d);
+        imported = new long[models.size()];
+        for (int i = 0; i < models.size(); i++) {
+            final int idx = i;
+            Model m = models.get(i);
+            Solver s = m.getSolver();
+            CubeStrategy strategy = CubeStrategy.make(m);
+            s.setSearch(strategy);
+            strategies.add(strategy);
+            s.plugMonitor((IMonitorSolution) () -> onSolution(idx));
+            if (m.getResolutionPolicy() != ResolutionPolicy.SATISFACTION) {
+                s.plugMonitor(new IMonitorOpenNode() {
+                    @Override
+                    public void beforeOpenNode() {
+                        importBound(idx);
+                    }
+                });
+            }
+        }
+        isPrepared = true;
+    }
+
+    private void check() {
+        if (models.isEmpty()) {
+            throw new SolverException("No model found in the ParallelEPS.");
+        }
+        ResolutionPolicy policy = models.get(0).getResolutionPolicy();
+        for (Model m : models) {
+            if (m.getResolutionPolicy() != policy) {
+                throw new SolverException("Models of a ParallelEPS must share the same resolution policy.");
+            }
+            if (policy != ResolutionPolicy.SATISFACTION && m.getObjective() == null) {
+                throw new SolverException("No objective variable has been defined whereas policy implies optimization");
+            }
+            if (m.getSolver().isSolving()) {
+                throw new SolverException("Models of a ParallelEPS must not be solving.");
+            }
+        }
+    }
+
+    /**
+     * Splits the search tree of <i>model</i> up to depth <i>d</i>, then restores it to its initial state.
+     */
+    private void split(Model model, int d) {
+        Solver solver = model.getSolver();
+        if (solver.getSearch() == null) {
+            model.getSettings().makeDefaultSearch(model);
+        }
+        AbstractStrategy<?> strategy = solver.getSearch();
+        IEnvironment env = model.getEnvironment();
+        int world = env.getWorldIndex();
+        env.worldPush();
+        try {
+            if (strategy.init()) {
+                solver.propagate();
+                split(solver, strategy, new TIntArrayList(), d);
+            }
+        } catch (ContradictionException ignored) {
+            // the problem has no solution: no cube
+        } finally {
+            strategy.remove();
+            env.worldPopUntil(world);
+            solver.getEngine().reset();
+        }
+    }
+
+    private void split(Solver solver, AbstractStrategy<?> strategy, TIntArrayList path, int d) {
+        Decision<?> decision = path.size() < 3 * d ? strategy.getDecision() : null;
+        int op = decision == null ? -1 : asCode(decision);
+        if (op == -1) {
+            // maximum depth reached, no more decision or unsupported decision
+            if (decision != null) {
+                decision.free();
+            }
+            cubes.add(path.toArray());
+            return;
+        }
+        IEnvironment env = solver.getModel().getEnvironment();
+        int id = decision.getDecisionVariable().getId();
+        int value = ((IntDecision) decision).getDecisionValue();
+        if (op == INT_GT) {
+            // x >= v is encoded as x > v - 1
+            value--;
+        }
+        while (decision.hasNext()) {
+            decision.buildNext();
+            env.worldPush();
+            try {
+                decision.apply();
+                solver.getEngine().propagate();
+                // the refutation is encoded with the opposite operator
+                path.add(id);
+                path.add(decision.triesLeft() == 0 && decision.getArity() > 1 ? op ^ 1 : op);
+                path.add(value);
+                split(solver, strategy, path, d);
+                path.remove(path.size() - 3, 3);
+            } catch (ContradictionException cex) {
+                solver.getEngine().flush();
+            }
+            env.worldPop();
+        }
+        decision.free();
+    }
+
+    /**
+     * @return the operator code of <i>decision</i>, or -1 if it cannot be part of a cube
+     */
+    private static int asCode(Decision<?> decision) {
+        if (decision instanceof IntDecision) {
+            DecisionOperator<IntVar> op = ((IntDecision) decision).getDecOp();
+            if (DecisionOperatorFactory.makeIntEq().equals(op)) {
+                return INT_EQ;
+            } else if (DecisionOperatorFactory.makeIntNeq().equals(op)) {
+                return INT_NEQ;
+            } else if (DecisionOperatorFactory.makeIntSplit().equals(op)) {
+                return INT_LE;
+            } else if (DecisionOperatorFactory.makeIntReverseSplit().equals(op)) {
+                return INT_GT;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Solves all cubes with the workers.
+     *
+     * @param first set to <i>true</i> to stop on the first solution of a satisfaction problem
+     * @param onSol where to send the solutions to
+     * @param stop  stops the workers when it returns <i>true</i>
+     */
+    private void run(boolean first, Consumer<Solution> onSol, BooleanSupplier stop) {
+        if (!isPrepared) {
+            prepare();
+        }
+        terminated.set(false);
+        incumbent.set(NO_INCUMBENT);
+        synchronized (this) {
+            best = null;
+        }
+        stopOnFirst = first;
+        onSolution = onSol;
+        cancelled = stop;
+        cubesSolved.reset();
+        solutions.reset();
+        nodes.reset();
+        fails.reset();
+        boundsReceived.reset();
+        BlockingQueue<Integer> idle = new ArrayBlockingQueue<>(models.size());
+        for (int i = 0; i < models.size(); i++) {
+            idle.add(i);
+        }
+        ExecutorService executorService = Executors.newWorkStealingPool(models.size());
+        try {
+            List<Future<?>> futures = new ArrayList<>(cubes.size());
+            for (int c = 0; c < cubes.size(); c++) {
+                final int cube = c;
+                futures.add(executorService.submit(() -> {
+                    if (terminated.get() || cancelled.getAsBoolean()) {
+                        return null;
+                    }
+                    int w = idle.take();
+                    try {
+                        solveCube(w, cube);
+                    } finally {
+                        idle.add(w);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SolverException("Solving cubes has been interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new SolverException("Solving cubes failed: " + e.getCause());
+        } finally {
+            executorService.shutdownNow();
+            terminated.set(false);
+        }
+    }
+
+    /**
+     * Explores the <i>cube</i>-th cube with the <i>w</i>-th model.
+     */
+    private void solveCube(int w, int cube) {
+        Solver s = models.get(w).getSolver();
+        s.reset();
+        s.addStopCriterion(() -> terminated.get() || cancelled.getAsBoolean());
+        strategies.get(w).cube = cubes.get(cube);
+        imported[w] = NO_INCUMBENT;
+        importBound(w);
+        //noinspection StatementWithEmptyBody
+        while (s.solve()) {
+        }
+        if (!s.isStopCriterionMet()) {
+            cubesSolved.increment();
+        }
+        nodes.add(s.getNodeCount());
+        fails.add(s.getFailCount());
+    }
+
+    /**
+     * Records the solution found by the <i>idx</i>-th model.
+     * On optimization problem, the model installs its bound as the incumbent, unless a better one is known.
+     */
+    private void onSolution(int idx) {
+        Model m = models.get(idx);
+        solutions.increment();
+        if (m.getResolutionPolicy() == ResolutionPolicy.SATISFACTION) {
+            Solution sol = new Solution(m).record();
+            synchronized (this) {
+                if (best == null) {
+                    best = sol;
+                }
+            }
+            terminated.compareAndSet(false, stopOnFirst);
+            onSolution.accept(sol);
+        } else {
+            int val = ((IntVar) m.getObjective()).getValue();
+            boolean max = m.getResolutionPolicy() == ResolutionPolicy.MAXIMIZE;
+            long next = ((long) val << 32) | (idx & 0xFFFFFFFFL);
+            long prev;
+            while ((prev = incumbent.get()) == NO_INCUMBENT
+                    || (max ? val > (int) (prev >> 32) : val < (int) (prev >> 32))) {
+                if (incumbent.compareAndSet(prev, next)) {
+                    imported[idx] = next;
+                    Solution sol = new Solution(m).record();
+                    synchronized (this) {
+                        // a better solution may have been recorded in the meantime
+                        if (incumbent.get() == next) {
+                            best = sol;
+                            onSolution.accept(sol);
+                        }
+                    }
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Imports the incumbent bound in the <i>idx</i>-th model, if it changed since the last import.
+     */
+    private void importBound(int idx) {
+        long inc = incumbent.get();
+        if (inc != imported[idx] && inc != NO_INCUMBENT) {
+            models.get(idx).getSolver().onReceivingExternalCut((int) (inc >> 32));
+            boundsReceived.increment();
+            imported[idx] = inc;
+        }
+    }
+
+    /**
+     * A strategy that first applies the decisions of a cube, which cannot be refuted,
+     * then delegates to the strategy declared in the model.
+     */
+    private static final class CubeStrategy extends AbstractStrategy<Variable> {
+
+        private final Solver solver;
+        private final AbstractStrategy<Variable> main;
+        private final TIntObjectHashMap<IntVar> vars = new TIntObjectHashMap<>();
+        private int[] cube = new int[0];
+
+        @SuppressWarnings("unchecked")
+        private CubeStrategy(Model model, AbstractStrategy<?> main) {
+            super(((AbstractStrategy<Variable>) main).getVariables());
+            this.solver = model.getSolver();
+            this.main = (AbstractStrategy<Variable>) main;
+            for (Variable v : model.getVars()) {
+                if ((v.getTypeAndKind() & Variable.KIND) == Variable.INT
+                        || (v.getTypeAndKind() & Variable.KIND) == Variable.BOOL) {
+                    vars.put(v.getId(), (IntVar) v);
+                }
+            }
+        }
+
+        static CubeStrategy make(Model model) {
+            Solver solver = model.getSolver();
+            AbstractStrategy<?> main = solver.getSearch();
+            if (main instanceof CubeStrategy) {
+                return (CubeStrategy) main;
+            }
+            if (main == null) {
+                model.getSettings().makeDefaultSearch(model);
+                main = solver.getSearch();
+            }
+            return new CubeStrategy(model, main);
+        }
+
+        @Override
+        public boolean init() {
+            return main.init();
+        }
+
+        @Override
+        public void remove() {
+            main.remove();
+        }
+
+        // raw type, like WarmStart: decisions of the cube are on integer variables, the next ones on any variable
+        @SuppressWarnings("rawtypes")
+        @Override
+        public Decision getDecision() {
+            // the decisions of the cube are the first ones of the decision path, ROOT excepted
+            int i = 3 * (solver.getDecisionPath().size() - 1);
+            if (i < cube.length) {
+                IntVar var = vars.get(cube[i]);
+                if (var == null) {
+                    throw new SolverException("Unknown variable ID in cube: " + cube[i]);
+                }
+                DecisionOperator<IntVar> op;
+                int value = cube[i + 2];
+                switch (cube[i + 1]) {
+                    case INT_EQ:
+                        op = DecisionOperatorFactory.makeIntEq();
+                        break;
+                    case INT_NEQ:
+                        op = DecisionOperatorFactory.makeIntNeq();
+                        break;
+                    case INT_LE:
+                        op = DecisionOperatorFactory.makeIntSplit();
+                        break;
+                    case INT_GT:
+                        op = DecisionOperatorFactory.makeIntReverseSplit();
+                        value++;
+                        break;
+                    default:
+                        throw new SolverException("Unknown operator in cube: " + cube[i + 1]);
+                }
+                IntDecision d = solver.getDecisionPath().makeIntDecision(var, op, value);
+                d.setRefutable(false);
+                return d;
+            }
+            return main.getDecision();
+        }
+
+        @Override
+        public Decision<Variable> computeDecision(Variable variable) {
+            return main.computeDecision(variable);
+        }
+    }
+}
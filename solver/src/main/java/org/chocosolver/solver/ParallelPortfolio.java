@@ -14,6 +14,7 @@ import org.chocosolver.solver.constraints.nary.sat.NogoodStealer;
 import org.chocosolver.solver.constraints.real.RealConstraint;
 import org.chocosolver.solver.exception.InvalidSolutionException;
 import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.loop.monitors.IMonitorOpenNode;
 import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
 import org.chocosolver.solver.search.loop.monitors.NogoodFromRestarts;
 import org.chocosolver.solver.search.strategy.BlackBoxConfigurator;
@@ -31,11 +32,15 @@ import java.util.Spliterator;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -108,6 +113,11 @@ public class ParallelPortfolio {
     ///////////////////////////////////////       VARIABLES       //////////////////////////////////////////////////////
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
 
+    /**
+     * Value of the incumbent when no solution has been found yet
+     */
+    private static final long NO_INCUMBENT = -1L;
+
     /**
      * List of {@link Model}s to be executed in parallel.
      */
@@ -138,9 +148,26 @@ public class ParallelPortfolio {
     private final AtomicInteger solverRunning = new AtomicInteger(0);
 
     /**
-     * Point to (one of) the solver(s) which found a solution
+     * The best bound found so far (32 high-order bits) and
+     * the index of (one of) the model(s) which found it (32 low-order bits), or <i>-1</i>.
+     * On satisfaction problem, only the index is relevant.
+     */
+    private final AtomicLong incumbent = new AtomicLong(NO_INCUMBENT);
+
+    /**
+     * Number of times a model improved the incumbent
+     */
+    private final LongAdder boundsShared = new LongAdder();
+
+    /**
+     * Number of times a model imported a bound found by another one
      */
-    private Model finder;
+    private final LongAdder boundsReceived = new LongAdder();
+
+    /**
+     * Number of failed attempts to update the incumbent, because of concurrent updates
+     */
+    private final LongAdder boundsContention = new LongAdder();
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     ///////////////////////////////////////      CONSTRUCTOR      //////////////////////////////////////////////////////
@@ -184,6 +211,21 @@ public class ParallelPortfolio {
         this.manager = new NogoodStealer();
     }
 
+    /**
+     * Calling this method will ensure that workers equipped with a restart policy not only
+     * record nogoods from themselves (based on {@link NogoodFromRestarts}) but also based on
+     * other workers of the portfolio.
+     *
+     * @param capacity number of decision paths a worker can share before overwriting the oldest ones
+     * @param maxSize  maximum number of decisions of a shared path, longer paths are truncated
+     * @implSpec It is assumed that all models in this portfolio are equivalent (ie, each variable has
+     * the same ID in each worker).
+     * @see NogoodStealer#NogoodStealer(int, int)
+     */
+    public void stealNogoodsOnRestarts(int capacity, int maxSize) {
+        this.manager = new NogoodStealer(capacity, maxSize);
+    }
+
     /**
      * <p>
      * Adds a model to the list of models to run in parallel.
@@ -248,6 +290,50 @@ public class ParallelPortfolio {
         this.reliableness.put(model, reliable);
     }
 
+    /**
+     * <p>
+     * Populates the models of this portfolio concurrently.
+     * The <i>populator</i> is called once per model, with the model and its index in {@link #getModels()},
+     * and each call is made in a dedicated thread.
+     * </p>
+     * <p>
+     * This is useful when the source of the models (e.g., an instance file) is costly to process:
+     * it can be loaded once in memory, then all models are built from it at the same time.
+     * The <i>populator</i> must then only read the shared source, never modify it.
+     * </p>
+     *
+     * @param populator an action that populates a model, given its index
+     * @throws SolverException if the populating process of one model fails
+     */
+    public void populate(ObjIntConsumer<Model> populator) {
+        if (models.size() == 1) {
+            populator.accept(models.get(0), 0);
+            return;
+        }
+        int nbThreads = Math.min(models.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService executorService = Executors.newFixedThreadPool(nbThreads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < models.size(); i++) {
+                final int idx = i;
+                futures.add(executorService.submit(() -> populator.accept(models.get(idx), idx)));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SolverException("Populating models has been interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new SolverException("Populating models failed: " + e.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
     /**
      * Run the solve() instruction of every model of the portfolio in parallel.
      *
@@ -272,7 +358,7 @@ public class ParallelPortfolio {
                 if (!getSolverTerminated().get()) {
                     boolean so = m.getSolver().solve();
                     // if a solution is found, update the best model
-                    if (!so || finder == m) {
+                    if (!so || getBestModel() == m) {
                         getSolverTerminated().set(so || reliableness.get(m) || getSolverRunning().decrementAndGet() <= 0);
                     }
                 }
@@ -322,7 +408,37 @@ public class ParallelPortfolio {
      * @return the first model which finds a solution (or the best one) or <tt>null</tt> if no such model exists.
      */
     public Model getBestModel() {
-        return finder;
+        long inc = incumbent.get();
+        return inc == NO_INCUMBENT ? null : models.get((int) inc);
+    }
+
+    /**
+     * @return the number of times a model found a solution that improves (or equals) the best one known so far
+     */
+    public long getNbBoundsShared() {
+        return boundsShared.sum();
+    }
+
+    /**
+     * @return the number of times a model imported a bound found by another one
+     */
+    public long getNbBoundsReceived() {
+        return boundsReceived.sum();
+    }
+
+    /**
+     * @return the number of failed attempts to share a bound, because of concurrent updates
+     */
+    public long getNbBoundsContention() {
+        return boundsContention.sum();
+    }
+
+    /**
+     * @return the object that manages nogood sharing among models
+     * @see #stealNogoodsOnRestarts()
+     */
+    public NogoodStealer getNogoodStealer() {
+        return manager;
     }
 
     /**
@@ -392,18 +508,36 @@ public class ParallelPortfolio {
         isPrepared = true;
         check();
         for (int i = 0; i < models.size(); i++) {
+            final int idx = i;
             Solver s = models.get(i).getSolver();
             s.addStopCriterion(() -> getSolverTerminated().get());
-            s.plugMonitor((IMonitorSolution) () -> updateFromSolution(s.getModel()));
+            s.plugMonitor((IMonitorSolution) () -> updateFromSolution(idx));
+            if (s.getModel().getResolutionPolicy() != ResolutionPolicy.SATISFACTION) {
+                s.plugMonitor(new IMonitorOpenNode() {
+                    long last = NO_INCUMBENT;
+
+                    @Override
+                    public void beforeOpenNode() {
+                        last = importBound(s, last);
+                    }
+                });
+            }
             if (searchAutoConf) {
                 configureModel(i);
             }
         }
     }
 
-    private synchronized void updateFromSolution(Model m) {
+    /**
+     * Record the solution found by the <i>idx</i>-th model.
+     * This is lock-free: on optimization problem, the model tries to install its bound as the incumbent
+     * and gives up as soon as a better one is installed by another model.
+     * The other models import the new bound by themselves, on their next node.
+     */
+    private void updateFromSolution(int idx) {
+        Model m = models.get(idx);
         if (m.getResolutionPolicy() == ResolutionPolicy.SATISFACTION) {
-            finder = m;
+            incumbent.set(idx);
             getSolutionFound().set(true);
         } else {
             int solverVal = ((IntVar) m.getObjective()).getValue();
@@ -414,13 +548,41 @@ public class ParallelPortfolio {
                 assert
                         m.getResolutionPolicy() != ResolutionPolicy.MINIMIZE || solverVal >= bestVal : solverVal + "<" + bestVal;
             if (solverVal == bestVal) {
-                getSolutionFound().set(true);
-                finder = m;
-                models.forEach(s1 -> s1.getSolver().onReceivingExternalCut(bestVal));
+                boolean max = m.getResolutionPolicy() == ResolutionPolicy.MAXIMIZE;
+                long next = ((long) bestVal << 32) | (idx & 0xFFFFFFFFL);
+                long prev;
+                while ((prev = incumbent.get()) == NO_INCUMBENT
+                        || (max ? bestVal >= (int) (prev >> 32) : bestVal <= (int) (prev >> 32))) {
+                    if (incumbent.compareAndSet(prev, next)) {
+                        boundsShared.increment();
+                        getSolutionFound().set(true);
+                        return;
+                    }
+                    boundsContention.increment();
+                }
             }
         }
     }
 
+    /**
+     * Import the incumbent bound in <i>s</i>, if it changed since <i>last</i>.
+     *
+     * @param s    a solver
+     * @param last the last incumbent imported in <i>s</i>
+     * @return the incumbent imported in <i>s</i>
+     */
+    private long importBound(Solver s, long last) {
+        long inc = incumbent.get();
+        if (inc != last && inc != NO_INCUMBENT) {
+            if (models.get((int) inc) != s.getModel()) {
+                s.onReceivingExternalCut((int) (inc >> 32));
+                boundsReceived.increment();
+            }
+            return inc;
+        }
+        return last;
+    }
+
     private void configureModel(int workerID) {
         Model worker = getModels().get(workerID);
         ResolutionPolicy policy = worker.getResolutionPolicy();
@@ -551,7 +713,13 @@ public class ParallelPortfolio {
                 //TODO DEAL WITH SETVAR --> MINIZINC
                 break;
         }
+        // nogoods from restarts are recorded by a dedicated monitor when shared
+        boolean share = manager.contains(worker) && !worker.getSolver().isLCG();
+        bb.setNogoodOnRestart(!share);
         bb.make(worker);
+        if (share) {
+            worker.getSolver().plugMonitor(new NogoodFromRestarts(worker, manager));
+        }
     }
 
     private void check() {
@@ -573,15 +741,15 @@ public class ParallelPortfolio {
         }
     }
 
-    private synchronized AtomicBoolean getSolverTerminated() {
+    private AtomicBoolean getSolverTerminated() {
         return solverTerminated;
     }
 
-    private synchronized AtomicBoolean getSolutionFound() {
+    private AtomicBoolean getSolutionFound() {
         return solutionFound;
     }
 
-    private synchronized AtomicInteger getSolverRunning() {
+    private AtomicInteger getSolverRunning() {
         return solverRunning;
     }
 }
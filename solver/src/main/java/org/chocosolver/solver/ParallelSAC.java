@@ -0,0 +1,437 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * <p>
+ * A Singleton Arc Consistency (SAC) preprocessing helper.
+ * </p>
+ * <p>
+ * A value <i>a</i> of a variable <i>x</i> is SAC if propagating <i>x = a</i> does not fail.
+ * Each pass probes every value of every variable of the master model, each value found inconsistent
+ * is removed, and passes are repeated until no more value is removed (SAC-1),
+ * or until the time limit is reached.
+ * </p>
+ * <p>
+ * Probes are run on worker models, one thread per worker, the variables being shared out among the workers.
+ * A worker removes the inconsistent values it finds from its own domains as soon as they are detected,
+ * so that the next probes it runs benefit from them (in the manner of SAC-3).
+ * At the end of a pass, the domains of the workers are merged back into the ones of the master,
+ * and the domains of the master are copied into the ones of the workers at the beginning of the next pass.
+ * When no worker is added, the probes are run sequentially on the master model itself.
+ * </p>
+ * <p>
+ * The workers must be equivalent to the master, that is built the same way,
+ * since variables are matched by their position in {@link Model#retrieveIntVars(boolean)}.
+ * They are modified at their root node and should not be used to solve the problem afterward.
+ * </p>
+ * <p>
+ * For large interval domains, a bounds-only mode (Singleton Bounds Consistency) only probes the bounds of the domains,
+ * and shrinks them until they are singleton consistent.
+ * This mode is always used for variables with a bounded domain.
+ * </p>
+ * <p>
+ * Example of use.
+ *
+ * <pre>
+ * <code>Model master = modeller(new Model());
+ * ParallelSAC sac = new ParallelSAC(master);
+ * int n = 4; // number of workers
+ * for (int i = 0; i < n; i++) {
+ *      sac.addModel(new Model());
+ * }
+ * sac.populate((m, i) -> modeller(m));
+ * if(sac.preprocess(2000)){
+ *     master.getSolver().solve();
+ * }
+ * </code>
+ * </pre>
+ *
+ * </p>
+ *
+ * @author agent
+ * @see Solver#preprocessing(long)
+ * @since 17/10/2026
+ */
+public class ParallelSAC {
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////       VARIABLES       //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * The model whose domains are filtered
+     */
+    private final Model master;
+    /**
+     * The models the probes are run on
+     */
+    private final List<Model> workers = new ArrayList<>();
+    /**
+     * Set to <i>true</i> to only probe the bounds of the domains
+     */
+    private boolean boundsOnly;
+    private final LongAdder probes = new LongAdder();
+    private long removals;
+    private int passes;
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////      CONSTRUCTOR      //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates a new SAC preprocessing helper.
+     *
+     * @param master the model whose domains are filtered
+     */
+    public ParallelSAC(Model master) {
+        this.master = master;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////        METHODS        //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Adds a worker model.
+     * There are as many threads as workers.
+     * The model can either be a fresh one, ready for populating, or a populated one.
+     *
+     * @param model a model to add
+     */
+    public void addModel(Model model) {
+        if (model == master) {
+            throw new SolverException("The master model cannot be a worker.");
+        }
+        this.workers.add(model);
+    }
+
+    /**
+     * Populates the worker models concurrently.
+     *
+     * @param populator an action that populates a model, given its index
+     * @throws SolverException if the populating process of one model fails
+     * @see ParallelPortfolio#populate(ObjIntConsumer)
+     */
+    public void populate(ObjIntConsumer<Model> populator) {
+        ParallelPortfolio pares = new ParallelPortfolio(false);
+        workers.forEach(pares::addModel);
+        pares.populate(populator);
+    }
+
+    /**
+     * Sets the bounds-only mode: when set to <i>true</i>, only the bounds of the domains are probed.
+     *
+     * @param boundsOnly <i>true</i> to enforce singleton bounds consistency instead of singleton arc consistency
+     */
+    public void setBoundsOnly(boolean boundsOnly) {
+        this.boundsOnly = boundsOnly;
+    }
+
+    /**
+     * @return the (mutable!) list of worker models
+     */
+    public List<Model> getModels() {
+        return workers;
+    }
+
+    /**
+     * @return the number of probes run during the last preprocessing
+     */
+    public long getNbProbes() {
+        return probes.sum();
+    }
+
+    /**
+     * @return the number of values removed from the master model during the last preprocessing,
+     * including the ones removed by propagation
+     */
+    public long getNbRemovals() {
+        return removals;
+    }
+
+    /**
+     * @return the number of passes made during the last preprocessing
+     */
+    public int getNbPasses() {
+        return passes;
+    }
+
+    /**
+     * Filters the domains of the master model until they are singleton (bounds) consistent
+     * or until the time limit is reached.
+     * Removals are made at the current world of the master, which is expected to be the root node.
+     *
+     * @param timeLimitInMS time limit, in milliseconds; when not positive, nothing is done
+     * @return <i>false</i> if the master model is proven to have no solution, <i>true</i> otherwise
+     * @throws SolverException if a worker is not equivalent to the master or is solving
+     */
+    public boolean preprocess(long timeLimitInMS) {
+        probes.reset();
+        removals = 0;
+        passes = 0;
+        if (timeLimitInMS <= 0) {
+            return true;
+        }
+        long deadline = System.currentTimeMillis() + timeLimitInMS;
+        IntVar[] mvars = master.retrieveIntVars(true);
+        List<Prober> probers = new ArrayList<>();
+        if (!propagate(master)) {
+            return false;
+        }
+        if (workers.isEmpty()) {
+            probers.add(new Prober(master, mvars, mvars, deadline));
+        } else {
+            for (Model w : workers) {
+                IntVar[] wvars = w.retrieveIntVars(true);
+                if (wvars.length != mvars.length) {
+                    throw new SolverException("Workers of a ParallelSAC must be equivalent to the master.");
+                }
+                if (w.getSolver().isSolving()) {
+                    throw new SolverException("Workers of a ParallelSAC must not be solving.");
+                }
+                if (!propagate(w)) {
+                    return false;
+                }
+                probers.add(new Prober(w, wvars, mvars, deadline));
+            }
+        }
+        long size = size(mvars);
+        ExecutorService executorService = probers.size() > 1 ? Executors.newFixedThreadPool(probers.size()) : null;
+        try {
+            boolean changed;
+            do {
+                passes++;
+                AtomicInteger next = new AtomicInteger();
+                for (Prober p : probers) {
+                    p.next = next;
+                }
+                if (!run(executorService, probers)) {
+                    return false;
+                }
+                if (!workers.isEmpty() && !merge(mvars, probers)) {
+                    return false;
+                }
+                long nsize = size(mvars);
+                changed = nsize < size;
+                removals += size - nsize;
+                size = nsize;
+            } while (changed && System.currentTimeMillis() < deadline);
+        } finally {
+            if (executorService != null) {
+                executorService.shutdownNow();
+            }
+        }
+        return true;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////   INTERNAL METHODS    //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Runs a pass on each prober, concurrently when there are many of them.
+     *
+     * @return <i>false</i> if a prober proves that the problem has no solution
+     */
+    private static boolean run(ExecutorService executorService, List<Prober> probers) {
+        if (executorService == null) {
+            return probers.get(0).call();
+        }
+        boolean ok = true;
+        try {
+            List<Future<Boolean>> futures = executorService.invokeAll(probers);
+            for (Future<Boolean> f : futures) {
+                ok &= f.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SolverException("Preprocessing has been interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new SolverException("Preprocessing failed: " + e.getCause());
+        }
+        return ok;
+    }
+
+    /**
+     * Merges the domains of the workers into the ones of the master.
+     *
+     * @return <i>false</i> if the master fails
+     */
+    private boolean merge(IntVar[] mvars, List<Prober> probers) {
+        try {
+            for (Prober p : probers) {
+                for (int i = 0; i < mvars.length; i++) {
+                    restrict(mvars[i], p.vars[i]);
+                }
+            }
+            master.getSolver().getEngine().propagate();
+            return true;
+        } catch (ContradictionException e) {
+            master.getSolver().getEngine().flush();
+            return false;
+        }
+    }
+
+    /**
+     * Removes from the domain of <i>to</i> the values that are not in the domain of <i>from</i>.
+     */
+    private static void restrict(IntVar to, IntVar from) throws ContradictionException {
+        to.updateBounds(from.getLB(), from.getUB(), Cause.Null);
+        if (to.hasEnumeratedDomain()) {
+            int ub = to.getUB();
+            for (int a = to.getLB(); a <= ub; a = to.nextValue(a)) {
+                if (!from.contains(a)) {
+                    to.removeValue(a, Cause.Null);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reaches a fix point on <i>model</i>, initializing its propagation engine if needed.
+     *
+     * @return <i>false</i> if the model fails
+     */
+    private static boolean propagate(Model model) {
+        try {
+            model.getSolver().propagate();
+            return true;
+        } catch (ContradictionException e) {
+            return false;
+        }
+    }
+
+    private static long size(IntVar[] vars) {
+        long size = 0;
+        for (IntVar v : vars) {
+            size += v.getDomainSize();
+        }
+        return size;
+    }
+
+    /**
+     * Runs the probes of a pass on a model.
+     * The variables are shared out among the probers with a common counter.
+     */
+    private final class Prober implements Callable<Boolean> {
+
+        private final Model model;
+        private final IntVar[] vars;
+        private final IntVar[] mvars;
+        private final long deadline;
+        private AtomicInteger next;
+
+        Prober(Model model, IntVar[] vars, IntVar[] mvars, long deadline) {
+            this.model = model;
+            this.vars = vars;
+            this.mvars = mvars;
+            this.deadline = deadline;
+        }
+
+        /**
+         * @return <i>false</i> if the problem is proven to have no solution
+         */
+        @Override
+        public Boolean call() {
+            Solver solver = model.getSolver();
+            try {
+                if (model != master) {
+                    // import the removals of the previous pass
+                    for (int i = 0; i < vars.length; i++) {
+                        restrict(vars[i], mvars[i]);
+                    }
+                    solver.getEngine().propagate();
+                }
+                int i;
+                while ((i = next.getAndIncrement()) < vars.length && System.currentTimeMillis() < deadline) {
+                    IntVar v = vars[i];
+                    if (boundsOnly || !v.hasEnumeratedDomain()) {
+                        probeBounds(v);
+                    } else {
+                        probeValues(v);
+                    }
+                }
+                return true;
+            } catch (ContradictionException e) {
+                solver.getEngine().flush();
+                return false;
+            }
+        }
+
+        private void probeValues(IntVar v) throws ContradictionException {
+            int ub = v.getUB();
+            for (int a = v.getLB(); a <= ub && !v.isInstantiated(); a = v.nextValue(a)) {
+                if (System.currentTimeMillis() >= deadline) {
+                    return;
+                }
+                if (!probe(v, a)) {
+                    remove(v, a);
+                }
+            }
+        }
+
+        private void probeBounds(IntVar v) throws ContradictionException {
+            while (!v.isInstantiated() && System.currentTimeMillis() < deadline && !probe(v, v.getLB())) {
+                remove(v, v.getLB());
+            }
+            while (!v.isInstantiated() && System.currentTimeMillis() < deadline && !probe(v, v.getUB())) {
+                remove(v, v.getUB());
+            }
+        }
+
+        /**
+         * @return <i>true</i> if propagating <i>v = a</i> does not fail
+         */
+        private boolean probe(IntVar v, int a) {
+            probes.increment();
+            IEnvironment env = model.getEnvironment();
+            Solver solver = model.getSolver();
+            env.worldPush();
+            try {
+                v.instantiateTo(a, Cause.Null);
+                solver.getEngine().propagate();
+                return true;
+            } catch (ContradictionException e) {
+                solver.getEngine().flush();
+                return false;
+            } finally {
+                env.worldPop();
+            }
+        }
+
+        /**
+         * Removes <i>a</i> from <i>v</i> at the current world and reaches a fix point.
+         */
+        private void remove(IntVar v, int a) throws ContradictionException {
+            v.removeValue(a, Cause.Null);
+            model.getSolver().getEngine().propagate();
+        }
+    }
+}
@@ -49,6 +49,8 @@ public class Settings {
 
     private int maxTupleSizeForSubstitution = 10_000;
 
+    private boolean enableRelationSharing = true;
+
     private int timeLimitForPreprocessing = -1;
 
     private boolean sortPropagatorActivationWRTPriority = true;
@@ -170,7 +172,10 @@ public class Settings {
     }
 
     /**
-     * Set the environment to be used
+     * Set the environment to be used.
+     * By default, a trailing environment is used.
+     * A copying one, see {@link EnvironmentBuilder#buildCopying()}, may be preferred
+     * when about half of the backtrackable objects, or more, are modified between two consecutive worlds.
      *
      * @param environmentSupplier provide an environment
      * @return the current instance
@@ -306,6 +311,28 @@ public class Settings {
         return this;
     }
 
+    /**
+     * @return <tt>true</tt> if identical relations are shared between constraints
+     * (see {@link Model#getRelationCache()})
+     */
+    public boolean enableRelationSharing() {
+        return enableRelationSharing;
+    }
+
+    /**
+     * Define whether identical relations are shared between constraints, instead of being stored
+     * by each of them.
+     * This concerns binary tables, the supports of CT+ tables, the MDDs of MDD+ tables
+     * and the layered graphs of regular constraints.
+     *
+     * @param enableRelationSharing enable relation sharing
+     * @return the current instance
+     */
+    public Settings setEnableRelationSharing(boolean enableRelationSharing) {
+        this.enableRelationSharing = enableRelationSharing;
+        return this;
+    }
+
     /**
      * @return the time allocated for the preprocessing
      */
@@ -628,7 +655,8 @@ public class Settings {
     }
 
     /**
-     * @return maximum number of learnt clauses to store. When reached, a reduction is applied.
+     * @return maximum number of learnt clauses to store in the local tier. When reached, a reduction is applied,
+     * regardless of the number of conflicts since the previous one.
      * @see #setNbMaxLearntClauses(int)
      */
     public int getNbMaxLearntClauses() {
@@ -636,7 +664,8 @@ public class Settings {
     }
 
     /**
-     * Set the maximum of number of learnt clauses to store before running a reduction of the store.
+     * Set the maximum of number of learnt clauses to store in the local tier before running a reduction of the store.
+     * Otherwise, reductions are scheduled on the number of conflicts.
      *
      * @param n maximum number of learnt clauses before reducing the store.
      * @return the current instance
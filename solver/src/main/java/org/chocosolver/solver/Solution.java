@@ -9,20 +9,32 @@
  */
 package org.chocosolver.solver;
 
-import gnu.trove.map.hash.TIntIntHashMap;
-import gnu.trove.map.hash.TIntObjectHashMap;
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.propagation.PropagationEngine;
 import org.chocosolver.solver.variables.*;
+import org.chocosolver.util.objects.setDataStructures.ISet;
 
+import java.io.*;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 /**
  * Class which stores the value of each variable in a solution <br/>
+ * <p>
+ * Values are stored in dense arrays, indexed by the position of the variables in {@link #varsToStore}
+ * and split into blocks of 64 positions.
+ * Recording a new solution into the same object only writes the variables whose value changed
+ * since the previous recording (see {@link #getDeltaSize()}).
+ * {@link #copySolution()} creates a snapshot which shares the blocks with this object:
+ * a block is copied on the first write into it, by either of them.
+ * </p>
+ * <p>
+ * A solution can be exported to and imported from a compact binary format,
+ * see {@link #writeTo(DataOutput)} and {@link #readFrom(DataInput)}.
+ * </p>
  *
  * @author Jean-Guillaume Fages
  * @author Charles Prud'homme
@@ -35,9 +47,17 @@ public class Solution implements ICause {
     //***********************************************************************************
 
     /**
-     * No entry value for maps
+     * Marks a variable id which is not stored
      */
-    private static final int NO_ENTRY = Integer.MAX_VALUE;
+    private static final int NO_ENTRY = -1;
+    /**
+     * Number of positions per block is 2<sup>BLOCK</sup>, the number of bits of a long
+     */
+    private static final int BLOCK = 6;
+    /**
+     * Mask of a position within its block
+     */
+    private static final int MASK = (1 << BLOCK) - 1;
 
     // SOLUTION
     /**
@@ -45,17 +65,40 @@ public class Solution implements ICause {
      */
     private boolean empty;
     /**
-     * Maps of value for integer variable (id - value)
+     * Layout of the stored variables, shared by snapshots
+     */
+    private Layout layout;
+    /**
+     * Values of integer variables, by block then by position in the block
      */
-    private TIntIntHashMap intmap;
+    private int[][] ivals;
     /**
-     * Maps of value for real variable (id - value)
+     * Bounds of real variables, by block then by position in the block
+     * (<i>2.p</i> for the lower bound, <i>2.p+1</i> for the upper one), a block is <i>null</i> until written
      */
-    private TIntObjectHashMap<double[]> realmap;
+    private double[][] rvals;
     /**
-     * Maps of value for set variable (id - values)
+     * Values of set variables, by block then by position in the block, a block is <i>null</i> until written
      */
-    private TIntObjectHashMap<int[]> setmap;
+    private int[][][] svals;
+    /**
+     * Bit <i>p</i> of word <i>b</i> is set when the variable at position <i>p</i> of block <i>b</i>
+     * has a value in this solution
+     */
+    private long[] known;
+    /**
+     * Set to <tt>true</tt> when the arrays of blocks are shared with a snapshot and should be copied before writing
+     */
+    private boolean shared;
+    /**
+     * Bit <i>b</i> is set when the <i>b</i>-th blocks are not shared with a snapshot,
+     * <i>null</i> when no block is shared
+     */
+    private long[] owned;
+    /**
+     * Number of variables modified by the last recording
+     */
+    private int delta;
 
     // INPUT
     /**
@@ -91,7 +134,8 @@ public class Solution implements ICause {
     //***********************************************************************************
 
     /**
-     * Records the current solution of the solver clears all previous recordings
+     * Records the current solution of the solver clears all previous recordings.
+     * Only the variables whose value differs from the previous recording are written.
      *
      * @return this object
      */
@@ -102,51 +146,56 @@ public class Solution implements ICause {
             varsToStore = model.getVars();
         }
         assert varsToStore.length > 0;
-        if (intmap != null) {
-            intmap.clear();
-        }
-        if (realmap != null) {
-            realmap.clear();
-        }
-        if (setmap != null) {
-            setmap.clear();
+        if (layout != null && layout.base != varsToStore) {
+            // values were set by hand before the variables to store were known
+            layout = null;
         }
-        for (Variable var : varsToStore) {
-            if ((var.getTypeAndKind() & Variable.TYPE) != Variable.CSTE) {
-                int kind = var.getTypeAndKind() & Variable.KIND;
-                if (var.isInstantiated()) {
-                    switch (kind) {
-                        case Variable.INT:
-                        case Variable.BOOL:
-                            if (intmap == null) {
-                                intmap = new TIntIntHashMap(16, .5f, Solution.NO_ENTRY,
-                                    Solution.NO_ENTRY);
-                            }
-                            IntVar v = (IntVar) var;
-                            intmap.put(v.getId(), v.getValue());
-                            break;
-                        case Variable.REAL:
-                            if (realmap == null) {
-                                realmap = new TIntObjectHashMap<>(16, 05f, Solution.NO_ENTRY);
-                            }
-                            RealVar r = (RealVar) var;
-                            realmap.put(r.getId(), new double[]{r.getLB(), r.getUB()});
-                            break;
-                        case Variable.SET:
-                            if (setmap == null) {
-                                setmap = new TIntObjectHashMap<>(16, 05f, Solution.NO_ENTRY);
-                            }
-                            SetVar s = (SetVar) var;
-                            setmap.put(s.getId(), s.getValue().toArray());
-                            break;
-                        default:
-                            // do not throw exception to allow extending the solver with other variable kinds (e.g. graph)
-                            // that should then be stored externally to this object
-                            break;
-                    }
-                } else {
-                    warn = true;
+        Layout l = layout();
+        delta = 0;
+        for (int p = 0; p < l.vars.length; p++) {
+            Variable var = l.vars[p];
+            if (p >= varsToStore.length || (var.getTypeAndKind() & Variable.TYPE) == Variable.CSTE) {
+                // values set by hand on other variables are forgotten
+                if (isKnown(p)) {
+                    forget(p);
+                }
+            } else if (var.isInstantiated()) {
+                switch (var.getTypeAndKind() & Variable.KIND) {
+                    case Variable.INT:
+                    case Variable.BOOL:
+                        int val = ((IntVar) var).getValue();
+                        if (!isKnown(p) || ivals[p >>> BLOCK][p & MASK] != val) {
+                            writable(p);
+                            ivals[p >>> BLOCK][p & MASK] = val;
+                            learn(p);
+                        }
+                        break;
+                    case Variable.REAL:
+                        RealVar r = (RealVar) var;
+                        if (!isKnown(p) || lb(p) != r.getLB() || ub(p) != r.getUB()) {
+                            writable(p);
+                            putBounds(p, r.getLB(), r.getUB());
+                            learn(p);
+                        }
+                        break;
+                    case Variable.SET:
+                        ISet set = ((SetVar) var).getValue();
+                        if (!isKnown(p) || !sameSet(set(p), set)) {
+                            writable(p);
+                            putSet(p, set.toArray());
+                            learn(p);
+                        }
+                        break;
+                    default:
+                        // do not throw exception to allow extending the solver with other variable kinds (e.g. graph)
+                        // that should then be stored externally to this object
+                        break;
+                }
+            } else {
+                if (isKnown(p)) {
+                    forget(p);
                 }
+                warn = true;
             }
         }
         if (warn && varsToStore[0].getModel().getSettings().warnUser()) {
@@ -155,6 +204,175 @@ public class Solution implements ICause {
         return this;
     }
 
+    /**
+     * @return the number of variables whose value has been written, or erased, by the last call to {@link #record()}
+     */
+    public int getDeltaSize() {
+        return delta;
+    }
+
+    private static boolean sameSet(int[] values, ISet set) {
+        if (values.length != set.size()) {
+            return false;
+        }
+        for (int v : values) {
+            if (!set.contains(v)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the layout of this solution, built on {@link #varsToStore}, or on the model's variables
+     * when none are declared yet
+     */
+    private Layout layout() {
+        if (layout == null) {
+            layout = new Layout(varsToStore.length > 0 || model == null ? varsToStore : model.getVars());
+            int nb = (layout.vars.length + MASK) >>> BLOCK;
+            ivals = new int[nb][1 << BLOCK];
+            rvals = null;
+            svals = null;
+            known = new long[nb];
+            shared = false;
+            owned = null;
+        }
+        return layout;
+    }
+
+    /**
+     * @return the position of <i>var</i> in the layout, or {@link #NO_ENTRY}
+     */
+    private int position(Variable var) {
+        return layout == null ? NO_ENTRY : layout.position(var);
+    }
+
+    /**
+     * @return the position of <i>var</i>, after having appended it to the layout if needed
+     */
+    private int positionOrAdd(Variable var) {
+        int p = layout().position(var);
+        if (p == NO_ENTRY) {
+            writable();
+            layout = layout.append(var);
+            p = layout.vars.length - 1;
+            int b = p >>> BLOCK;
+            if (b == ivals.length) {
+                ivals = Arrays.copyOf(ivals, b + 1);
+                ivals[b] = new int[1 << BLOCK];
+                if (rvals != null) {
+                    rvals = Arrays.copyOf(rvals, b + 1);
+                }
+                if (svals != null) {
+                    svals = Arrays.copyOf(svals, b + 1);
+                }
+                known = Arrays.copyOf(known, b + 1);
+                if (owned != null) {
+                    owned = Arrays.copyOf(owned, (b >>> BLOCK) + 1);
+                    owned[b >>> BLOCK] |= 1L << b;
+                }
+            }
+        }
+        return p;
+    }
+
+    /**
+     * Copy the arrays of blocks shared with a snapshot, if any, before writing them.
+     * The blocks themselves remain shared.
+     */
+    private void writable() {
+        if (shared) {
+            ivals = ivals.clone();
+            if (rvals != null) {
+                rvals = rvals.clone();
+            }
+            if (svals != null) {
+                svals = svals.clone();
+            }
+            known = known.clone();
+            owned = new long[(ivals.length >>> BLOCK) + 1];
+            shared = false;
+        }
+    }
+
+    /**
+     * Copy the blocks of position <i>p</i> shared with a snapshot, if any, before writing them
+     */
+    private void writable(int p) {
+        writable();
+        int b = p >>> BLOCK;
+        if (owned != null && (owned[b >>> BLOCK] & (1L << b)) == 0) {
+            ivals[b] = ivals[b].clone();
+            if (rvals != null && rvals[b] != null) {
+                rvals[b] = rvals[b].clone();
+            }
+            if (svals != null && svals[b] != null) {
+                svals[b] = svals[b].clone();
+            }
+            owned[b >>> BLOCK] |= 1L << b;
+        }
+    }
+
+    private boolean isKnown(int p) {
+        return (known[p >>> BLOCK] & (1L << p)) != 0;
+    }
+
+    private void learn(int p) {
+        known[p >>> BLOCK] |= 1L << p;
+        delta++;
+    }
+
+    private void forget(int p) {
+        writable(p);
+        known[p >>> BLOCK] &= ~(1L << p);
+        if (svals != null && svals[p >>> BLOCK] != null) {
+            svals[p >>> BLOCK][p & MASK] = null;
+        }
+        delta++;
+    }
+
+    private double lb(int p) {
+        return rvals[p >>> BLOCK][2 * (p & MASK)];
+    }
+
+    private double ub(int p) {
+        return rvals[p >>> BLOCK][2 * (p & MASK) + 1];
+    }
+
+    private int[] set(int p) {
+        return svals[p >>> BLOCK][p & MASK];
+    }
+
+    /**
+     * Write the bounds at position <i>p</i>, whose blocks are expected to be writable
+     */
+    private void putBounds(int p, double lb, double ub) {
+        if (rvals == null) {
+            rvals = new double[ivals.length][];
+        }
+        double[] block = rvals[p >>> BLOCK];
+        if (block == null) {
+            block = rvals[p >>> BLOCK] = new double[2 << BLOCK];
+        }
+        block[2 * (p & MASK)] = lb;
+        block[2 * (p & MASK) + 1] = ub;
+    }
+
+    /**
+     * Write the set at position <i>p</i>, whose blocks are expected to be writable
+     */
+    private void putSet(int p, int[] values) {
+        if (svals == null) {
+            svals = new int[ivals.length][][];
+        }
+        int[][] block = svals[p >>> BLOCK];
+        if (block == null) {
+            block = svals[p >>> BLOCK] = new int[1 << BLOCK][];
+        }
+        block[p & MASK] = values;
+    }
+
     @Override
     public String toString() {
         if (empty) {
@@ -164,23 +382,25 @@ public class Solution implements ICause {
         for (Variable var : varsToStore) {
             if ((var.getTypeAndKind() & Variable.TYPE) != Variable.CSTE) {
                 int kind = var.getTypeAndKind() & Variable.KIND;
+                int p = position(var);
+                boolean k = p != NO_ENTRY && isKnown(p);
                 switch (kind) {
                     case Variable.INT:
                     case Variable.BOOL:
-                        IntVar v = (IntVar) var;
-                        st.append(v.getName()).append("=").append(intmap.get(v.getId()))
+                        st.append(var.getName()).append("=").append(k ? String.valueOf(ivals[p >>> BLOCK][p & MASK]) : "?")
                             .append(", ");
                         break;
                     case Variable.REAL:
-                        RealVar r = (RealVar) var;
-                        double[] bounds = realmap.get(r.getId());
-                        st.append(r.getName()).append("=[").append(bounds[0]).append(",")
-                            .append(bounds[1]).append("], ");
+                        if (k) {
+                            st.append(var.getName()).append("=[").append(lb(p)).append(",")
+                                .append(ub(p)).append("], ");
+                        } else {
+                            st.append(var.getName()).append("=?, ");
+                        }
                         break;
                     case Variable.SET:
-                        SetVar s = (SetVar) var;
-                        st.append(s.getName()).append("=")
-                            .append(Arrays.toString(setmap.get(s.getId()))).append(", ");
+                        st.append(var.getName()).append("=")
+                            .append(k ? Arrays.toString(set(p)) : "?").append(", ");
                         break;
                     default:
                         // do not throw exception to allow extending the solver with other variable kinds (e.g. graph)
@@ -192,17 +412,28 @@ public class Solution implements ICause {
         return st.toString();
     }
 
+    /**
+     * Create a snapshot of this solution.
+     * The snapshot shares its blocks of values with this object until one of them is modified,
+     * so that copying a solution costs O(1).
+     * The first write afterward, in this object or in the snapshot, copies the arrays of blocks,
+     * that is one reference per 64 variables, and each write into a block not written yet copies that block.
+     * So recording a new solution in this object costs O(n/64 + 64.d) for <i>n</i> variables
+     * and <i>d</i> of them modified.
+     *
+     * @return a copy of this solution
+     */
     public Solution copySolution() {
         Solution ret = new Solution(model, varsToStore);
         ret.empty = empty;
-        if (intmap != null) {
-            ret.intmap = new TIntIntHashMap(intmap);
-        }
-        if (realmap != null) {
-            ret.realmap = new TIntObjectHashMap<>(realmap);
-        }
-        if (setmap != null) {
-            ret.setmap = new TIntObjectHashMap<>(setmap);
+        if (layout != null) {
+            ret.layout = layout;
+            ret.ivals = ivals;
+            ret.rvals = rvals;
+            ret.svals = svals;
+            ret.known = known;
+            ret.shared = shared = true;
+            ret.owned = null;
         }
         return ret;
     }
@@ -221,8 +452,9 @@ public class Solution implements ICause {
             throw new SolverException("Cannot access value of " + v
                 + ": No solution has been recorded yet (empty solution). Make sure this.record() has been called.");
         }
-        if (intmap != null && intmap.containsKey(v.getId())) {
-            return intmap.get(v.getId());
+        int p = position(v);
+        if (p != NO_ENTRY && isKnown(p)) {
+            return ivals[p >>> BLOCK][p & MASK];
         } else {
             if ((v.getTypeAndKind() & Variable.TYPE) == Variable.CSTE) {
                 return v.getValue();
@@ -241,10 +473,10 @@ public class Solution implements ICause {
      */
     public void setIntVal(IntVar var, int val) {
         empty = false;
-        if (intmap == null) {
-            intmap = new TIntIntHashMap(16, .5f, Solution.NO_ENTRY, Solution.NO_ENTRY);
-        }
-        intmap.put(var.getId(), val);
+        int p = positionOrAdd(var);
+        writable(p);
+        ivals[p >>> BLOCK][p & MASK] = val;
+        known[p >>> BLOCK] |= 1L << p;
     }
 
     /**
@@ -261,8 +493,9 @@ public class Solution implements ICause {
             throw new SolverException("Cannot access value of " + s
                 + ": No solution has been recorded yet (empty solution). Make sure this.record() has been called.");
         }
-        if (setmap != null && setmap.containsKey(s.getId())) {
-            return setmap.get(s.getId());
+        int p = position(s);
+        if (p != NO_ENTRY && isKnown(p)) {
+            return set(p);
         } else if ((s.getTypeAndKind() & Variable.TYPE) == Variable.CSTE) {
             return s.getValue().toArray();
         } else {
@@ -279,10 +512,10 @@ public class Solution implements ICause {
      */
     public void setSetVal(SetVar var, int[] val) {
         empty = false;
-        if (setmap == null) {
-            setmap = new TIntObjectHashMap<>(16, 05f, Solution.NO_ENTRY);
-        }
-        setmap.put(var.getId(), val);
+        int p = positionOrAdd(var);
+        writable(p);
+        putSet(p, val);
+        known[p >>> BLOCK] |= 1L << p;
     }
 
     /**
@@ -299,8 +532,9 @@ public class Solution implements ICause {
             throw new SolverException("Cannot access value of " + r
                 + ": No solution has been recorded yet (empty solution). Make sure this.record() has been called.");
         }
-        if (realmap != null && realmap.containsKey(r.getId())) {
-            return realmap.get(r.getId());
+        int p = position(r);
+        if (p != NO_ENTRY && isKnown(p)) {
+            return new double[]{lb(p), ub(p)};
         } else {
             if ((r.getTypeAndKind() & Variable.TYPE) == Variable.CSTE) {
                 return new double[]{r.getLB(), r.getUB()};
@@ -319,13 +553,13 @@ public class Solution implements ICause {
      */
     public void setRealBounds(RealVar var, double[] val) {
         empty = false;
-        if (realmap == null) {
-            realmap = new TIntObjectHashMap<>(16, 05f, Solution.NO_ENTRY);
-        }
         if (val.length != 2) {
             throw new SolverException("wrong array size");
         }
-        realmap.put(var.getId(), val);
+        int p = positionOrAdd(var);
+        writable(p);
+        putBounds(p, val[0], val[1]);
+        known[p >>> BLOCK] |= 1L << p;
     }
 
     /**
@@ -379,16 +613,16 @@ public class Solution implements ICause {
                     case Variable.INT:
                     case Variable.BOOL:
                         IntVar v = (IntVar) var;
-                        v.instantiateTo(intmap.get(v.getId()), this);
+                        v.instantiateTo(getIntVal(v), this);
                         break;
                     case Variable.REAL:
                         RealVar r = (RealVar) var;
-                        double[] bounds = realmap.get(r.getId());
+                        double[] bounds = getRealBounds(r);
                         r.updateBounds(bounds[0], bounds[1], this);
                         break;
                     case Variable.SET:
                         SetVar s = (SetVar) var;
-                        s.instantiateTo(setmap.get(s.getId()), this);
+                        s.instantiateTo(getSetVal(s), this);
                         break;
                     default:
                         // do not throw exception to allow extending the solver with other variable kinds (e.g. graph)
@@ -475,4 +709,173 @@ public class Solution implements ICause {
         return rvars;
     }
 
+    /**
+     * Export the values of this solution in a compact binary format:
+     * the number of stored variables, then, for each of them, its id, its kind and its value(s).
+     * Set values are prefixed by their size.
+     * Variables are identified by their id, so that the solution can be read back into
+     * a solution of an equivalent model (see {@link #readFrom(DataInput)}).
+     *
+     * @param out where to write the solution
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        int n = 0;
+        int size = layout == null ? 0 : layout.vars.length;
+        for (int p = 0; p < size; p++) {
+            if (isKnown(p)) {
+                n++;
+            }
+        }
+        out.writeInt(n);
+        for (int p = 0; p < size; p++) {
+            if (isKnown(p)) {
+                Variable var = layout.vars[p];
+                int kind = var.getTypeAndKind() & Variable.KIND;
+                out.writeInt(var.getId());
+                out.writeByte(kind);
+                switch (kind) {
+                    case Variable.REAL:
+                        out.writeDouble(lb(p));
+                        out.writeDouble(ub(p));
+                        break;
+                    case Variable.SET:
+                        int[] values = set(p);
+                        out.writeInt(values.length);
+                        for (int v : values) {
+                            out.writeInt(v);
+                        }
+                        break;
+                    default:
+                        out.writeInt(ivals[p >>> BLOCK][p & MASK]);
+                        break;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the values of this solution in a compact binary format
+     * @see #writeTo(DataOutput)
+     */
+    public byte[] toByteArray() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Import values written by {@link #writeTo(DataOutput)} into this solution, which clears all previous recordings.
+     * Each variable is looked up by its id among the variables to store of this solution.
+     *
+     * @param in where to read the solution
+     * @return this object
+     * @throws IOException if an I/O error occurs
+     * @throws SolverException if a variable is unknown or its kind does not match
+     */
+    public Solution readFrom(DataInput in) throws IOException {
+        if (varsToStore.length == 0) {
+            varsToStore = model.getVars();
+        }
+        if (layout != null && layout.base != varsToStore) {
+            layout = null;
+        }
+        Layout l = layout();
+        writable();
+        Arrays.fill(known, 0L);
+        if (svals != null) {
+            Arrays.fill(svals, null);
+        }
+        int n = in.readInt();
+        for (int i = 0; i < n; i++) {
+            int id = in.readInt();
+            int kind = in.readByte();
+            int p = id < l.position.length ? l.position[id] : NO_ENTRY;
+            if (p == NO_ENTRY || p >= varsToStore.length || (l.vars[p].getTypeAndKind() & Variable.KIND) != kind) {
+                throw new SolverException("Cannot import value of variable #" + id
+                    + ": no such variable is declared to be recorded in the Solution object.");
+            }
+            writable(p);
+            switch (kind) {
+                case Variable.REAL:
+                    double lb = in.readDouble();
+                    putBounds(p, lb, in.readDouble());
+                    break;
+                case Variable.SET:
+                    int[] values = new int[in.readInt()];
+                    for (int j = 0; j < values.length; j++) {
+                        values[j] = in.readInt();
+                    }
+                    putSet(p, values);
+                    break;
+                default:
+                    ivals[p >>> BLOCK][p & MASK] = in.readInt();
+                    break;
+            }
+            known[p >>> BLOCK] |= 1L << p;
+        }
+        empty = false;
+        delta = n;
+        return this;
+    }
+
+    /**
+     * Positions of the stored variables, indexed by their id.
+     * A layout is immutable, and shared by a solution and its snapshots.
+     */
+    private static final class Layout {
+        /**
+         * The array of variables it was built on
+         */
+        private final Variable[] base;
+        /**
+         * Stored variables, <i>base</i> first then the ones appended on the fly
+         */
+        private final Variable[] vars;
+        /**
+         * Variable id to position in {@link #vars}, or {@link #NO_ENTRY}
+         */
+        private final int[] position;
+
+        Layout(Variable[] base) {
+            this(base, base, index(base));
+        }
+
+        private Layout(Variable[] base, Variable[] vars, int[] position) {
+            this.base = base;
+            this.vars = vars;
+            this.position = position;
+        }
+
+        private static int[] index(Variable[] vars) {
+            int max = -1;
+            for (Variable v : vars) {
+                max = Math.max(max, v.getId());
+            }
+            int[] position = new int[max + 1];
+            Arrays.fill(position, NO_ENTRY);
+            for (int p = vars.length - 1; p >= 0; p--) {
+                position[vars[p].getId()] = p;
+            }
+            return position;
+        }
+
+        int position(Variable var) {
+            int id = var.getId();
+            return id < position.length ? position[id] : NO_ENTRY;
+        }
+
+        Layout append(Variable var) {
+            Variable[] nvars = Arrays.copyOf(vars, vars.length + 1);
+            nvars[vars.length] = var;
+            int[] npos = Arrays.copyOf(position, Math.max(position.length, var.getId() + 1));
+            Arrays.fill(npos, position.length, npos.length, NO_ENTRY);
+            npos[var.getId()] = vars.length;
+            return new Layout(base, nvars, npos);
+        }
+    }
 }
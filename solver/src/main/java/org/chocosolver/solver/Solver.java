@@ -52,7 +52,6 @@ import org.chocosolver.solver.variables.Task;
 import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.criteria.Criterion;
-import org.chocosolver.util.iterators.DisposableValueIterator;
 import org.chocosolver.util.logger.ANSILogger;
 import org.chocosolver.util.logger.Logger;
 
@@ -604,9 +603,12 @@ public final class Solver implements ISolver, IMeasures, IOutputFactory {
 
     /**
      * This method is called after the initial propagation and before the search loop starts.
-     * It sequentially applies Arc Consistency on every combination of (variable, value).
-     * If a value is not supported by any other variable, it is removed from the domain of the variable.
-     * The method ends when the time limit is reached or when all combination have been checked.
+     * It applies Singleton Arc Consistency: every combination of (variable, value) is propagated,
+     * and if it fails, the value is removed from the domain of the variable.
+     * Combinations are checked again until no more value is removed or until the time limit is reached.
+     * <p>
+     * To run the checks in parallel, or on bounds only, see {@link ParallelSAC}.
+     * </p>
      *
      * @implSpec A first propagation must have been done before calling this method.
      */
@@ -614,48 +616,19 @@ public final class Solver implements ISolver, IMeasures, IOutputFactory {
         if (!getEngine().isInitialized()) {
             throw new SolverException("A call to solver.propagate() must be done before calling solver.preprocessing()");
         }
-        if (timeLimitInMS > 0 && getModel().getSettings().warnUser()) {
+        if (timeLimitInMS <= 0) {
+            return;
+        }
+        if (getModel().getSettings().warnUser()) {
             logger.white().printf("Running preprocessing step (%dms).\n", timeLimitInMS);
         }
-        long tl = System.currentTimeMillis() + timeLimitInMS;
-        IntVar[] ivars = mModel.retrieveIntVars(true);
-        loop:
-        for (int i = 0; i < ivars.length; i++) {
-            IntVar v = ivars[i];
-            if (!v.isInstantiated()) { // if the variable is not instantiated
-                DisposableValueIterator it = v.getValueIterator(true);
-                while (it.hasNext()) {
-                    if (System.currentTimeMillis() > tl) {
-                        break loop;
-                    }
-                    int a = it.next();
-                    if (!hasSupport(v, a)) {
-                        try {
-                            v.removeValue(a, Cause.Null);
-                            if (getModel().getSettings().warnUser()) {
-                                logger.white().printf("Preprocessing removed value %d from %s\n", a, v.getName());
-                            }
-                        } catch (ContradictionException e) {
-                            throw new SolverException("Preprocessing failed");
-                        }
-                    }
-                }
-                it.dispose();
-            }
+        ParallelSAC sac = new ParallelSAC(mModel);
+        if (!sac.preprocess(timeLimitInMS)) {
+            throw new SolverException("Preprocessing failed");
         }
-    }
-
-    private boolean hasSupport(IntVar var, int val) {
-        mModel.getEnvironment().worldPush();
-        try {
-            var.instantiateTo(val, Cause.Null);
-            mModel.getSolver().getEngine().propagate();
-            return true;
-        } catch (ContradictionException e) {
-            mModel.getSolver().getEngine().flush();
-            return false;
-        } finally {
-            mModel.getEnvironment().worldPop();
+        if (getModel().getSettings().warnUser()) {
+            logger.white().printf("Preprocessing removed %d values (%d probes, %d passes)\n",
+                    sac.getNbRemovals(), sac.getNbProbes(), sac.getNbPasses());
         }
     }
 
@@ -1695,6 +1668,16 @@ public final class Solver implements ISolver, IMeasures, IOutputFactory {
         return getMeasures().getBackjumpCount();
     }
 
+    @Override
+    public long getLearntClauseCount(int tier) {
+        return getMeasures().getLearntClauseCount(tier);
+    }
+
+    @Override
+    public long getRemovedClauseCount() {
+        return getMeasures().getRemovedClauseCount();
+    }
+
     @Override
     public long getFailCount() {
         return getMeasures().getFailCount();
@@ -93,6 +93,8 @@ public class ConstraintsName {
 
     public static final String LEX = "LEX";
 
+    public static final String LPRELAXATION = "LPRELAXATION";
+
     public static final String MDDC = "MDDC";
 
     public static final String MULTICOSTREGULAR = "MULTICOSTREGULAR";
@@ -161,6 +163,8 @@ public class ConstraintsName {
 
     public static final String CUMULATIVE = "CUMULATIVE";
 
+    public static final String DISJUNCTIVE = "DISJUNCTIVE";
+
     public static final String GCC = "GCC";
 
     public static final String NOGOODCONSTRAINT = "NOGOODCONSTRAINT";
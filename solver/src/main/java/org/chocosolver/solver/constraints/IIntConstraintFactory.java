@@ -16,6 +16,7 @@ import org.chocosolver.solver.ISelf;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.binary.*;
 import org.chocosolver.solver.constraints.binary.element.ElementFactory;
+import org.chocosolver.solver.constraints.extension.RelationCache;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.constraints.extension.TuplesFactory;
 import org.chocosolver.solver.constraints.extension.binary.*;
@@ -46,6 +47,7 @@ import org.chocosolver.solver.constraints.nary.count.PropCountVar;
 import org.chocosolver.solver.constraints.nary.count.PropCount_AC;
 import org.chocosolver.solver.constraints.nary.cumulative.CumulFilter;
 import org.chocosolver.solver.constraints.nary.cumulative.Cumulative;
+import org.chocosolver.solver.constraints.nary.disjunctive.PropDisjunctive;
 import org.chocosolver.solver.constraints.nary.element.PropElementV_fast;
 import org.chocosolver.solver.constraints.nary.globalcardinality.GlobalCardinality;
 import org.chocosolver.solver.constraints.nary.knapsack.PropKnapsack;
@@ -53,6 +55,7 @@ import org.chocosolver.solver.constraints.nary.knapsack.PropKnapsackKatriel01;
 import org.chocosolver.solver.constraints.nary.lex.PropIncreasing;
 import org.chocosolver.solver.constraints.nary.lex.PropLex;
 import org.chocosolver.solver.constraints.nary.lex.PropLexChain;
+import org.chocosolver.solver.constraints.nary.lp.PropLPRelaxation;
 import org.chocosolver.solver.constraints.nary.min_max.*;
 import org.chocosolver.solver.constraints.nary.nvalue.*;
 import org.chocosolver.solver.constraints.nary.nvalue.amnv.graph.Gci;
@@ -1676,6 +1679,32 @@ public interface IIntConstraintFactory extends ISelf<Model> {
     }
 
 
+    /**
+     * Creates a disjunctive constraint: Enforces that the tasks do not overlap in time,
+     * that is, they share a resource of capacity one.
+     * <p>
+     * Task duration should be >= 0.
+     * Tasks whose duration is equal to zero can be scheduled at any time.
+     * <p>
+     * The filtering is based on Theta-Lambda trees (overload checking, edge-finding, detectable precedences
+     * and not-first/not-last) and runs in O(n log n).
+     * It is stronger than a cumulative constraint of capacity one
+     * and does not need pairwise precedences.
+     *
+     * @param tasks Task objects containing start, duration and end variables
+     * @return a disjunctive constraint
+     */
+    default Constraint disjunctive(Task[] tasks) {
+        // remove tasks that cannot use the resource
+        Task[] useful = Arrays.stream(tasks)
+                .filter(t -> t.getDuration().getUB() > 0)
+                .toArray(Task[]::new);
+        if (useful.length < 2) {
+            return ref().trueConstraint();
+        }
+        return new Constraint(ConstraintsName.DISJUNCTIVE, new PropDisjunctive(useful));
+    }
+
     /**
      * Creates a element constraint: value = table[index-offset]
      * where table is an array of variables.
@@ -2098,6 +2127,32 @@ public interface IIntConstraintFactory extends ISelf<Model> {
         return new Constraint(ConstraintsName.LEX, new PropLex(vars1, vars2, false));
     }
 
+    /**
+     * Creates a constraint which bounds <i>objective</i> with the linear relaxation of the model.
+     * The linear constraints connected to <i>objective</i>, directly or through other linear constraints,
+     * are gathered into a linear program when this method is called, so it should be called once the model is stated.
+     * The linear program is solved every <i>frequency</i> nodes, starting from the previous optimal basis,
+     * to bound <i>objective</i> and to apply reduced-cost fixing on the other variables.
+     * <p>
+     * This constraint is redundant: the linear constraints remain posted.
+     *
+     * @param objective the objective variable
+     * @param maximize  set to <i>true</i> when <i>objective</i> is maximized, <i>false</i> when it is minimized
+     * @param frequency the linear program is solved every <i>frequency</i> nodes (must be positive)
+     * @return a linear relaxation constraint
+     * @implNote In LCG mode, this constraint is not available and a TRUE constraint is returned.
+     */
+    default Constraint lpRelaxation(IntVar objective, boolean maximize, int frequency) {
+        if (ref().getSolver().isLCG()) {
+            if (ref().getSettings().warnUser()) {
+                ref().getSolver().log().white().println(
+                        "Warning: linear relaxation constraint is ignored (due to LCG).");
+            }
+            return ref().trueConstraint();
+        }
+        return new Constraint(ConstraintsName.LPRELAXATION, new PropLPRelaxation(objective, maximize, frequency));
+    }
+
     /**
      * Creates an Argmax constraint.
      * z is the index of the maximum value of the collection of domain variables vars.
@@ -2806,9 +2861,22 @@ public interface IIntConstraintFactory extends ISelf<Model> {
                 }
             }
             break;
-            case "MDD+":
-                p = new PropLargeMDDC(new MultivaluedDecisionDiagram(vars, tuples), vars);
-                break;
+            case "MDD+": {
+                IntVar[] scope = vars;
+                MultivaluedDecisionDiagram mdd;
+                if (ref().getSettings().enableRelationSharing()) {
+                    // the MDD only depends on the tuples and the domains, it is shared
+                    RelationCache cache = ref().getRelationCache();
+                    Tuples snapshot = cache.snapshot(tuples);
+                    mdd = cache.computeIfAbsent(
+                            RelationCache.key("MDD", snapshot, RelationCache.domains(vars)),
+                            () -> new MultivaluedDecisionDiagram(scope, snapshot));
+                } else {
+                    mdd = new MultivaluedDecisionDiagram(vars, tuples);
+                }
+                p = new PropLargeMDDC(mdd, vars);
+            }
+            break;
             case "FC":
                 p = new PropLargeFC(vars, tuples);
                 break;
@@ -0,0 +1,41 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints;
+
+/**
+ * An interface for propagators that can be described as a linear constraint over their variables:
+ * <pre>
+ *     SUM(getCoeff(i) * vars[i]) getOperator() getRHS()
+ * </pre>
+ * where the operator is one among {@link Operator#EQ}, {@link Operator#LE}, {@link Operator#GE}
+ * and {@link Operator#NQ}.
+ * It makes it possible to gather the linear part of a model, for instance to build its linear relaxation.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public interface ILinearPropagator {
+
+    /**
+     * @param idx index of a variable in the propagator
+     * @return the coefficient of the <i>idx</i>-th variable of the propagator
+     */
+    long getCoeff(int idx);
+
+    /**
+     * @return the operator of the linear constraint
+     */
+    Operator getOperator();
+
+    /**
+     * @return the right-hand side of the linear constraint
+     */
+    long getRHS();
+}
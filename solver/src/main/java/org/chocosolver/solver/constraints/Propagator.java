@@ -168,7 +168,7 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
     ////////////////////////////////////////////////////////////////////////////////////////////////
 
     /**
-     * True if this is scheduled for propagation
+     * True if this is scheduled for propagation, only maintained for {@link #doSchedule(CircularQueue[])}
      */
     private boolean scheduled;
     /**
@@ -896,27 +896,29 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
 
     /**
      * Set this as unscheduled
+     *
+     * @deprecated the propagation engine now records scheduled propagators in its own queues,
+     * see {@link org.chocosolver.util.objects.queues.IdentityQueue}; to be removed in the next release
      */
+    @Deprecated
     public final void unschedule() {
         scheduled = false;
     }
 
-    private void schedule() {
-        scheduled = true;
-    }
-
-
     /**
      * Apply scheduling instruction
      *
      * @param queues array of queues in which this can be scheduled
      * @return propagator priority
+     * @deprecated the propagation engine now records scheduled propagators in its own queues,
+     * see {@link org.chocosolver.util.objects.queues.IdentityQueue}; to be removed in the next release
      */
+    @Deprecated
     public int doSchedule(CircularQueue<Propagator<?>>[] queues) {
         int prio = priority.getValue();
         if (!scheduled) {
             queues[prio].addLast(this);
-            schedule();
+            scheduled = true;
         }
         return prio;
     }
@@ -953,7 +955,7 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
                 eventmasks[v] = 0;
             }
         }
-        unschedule();
+        scheduled = false;
     }
 
     /**
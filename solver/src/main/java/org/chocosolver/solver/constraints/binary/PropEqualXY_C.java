@@ -11,6 +11,8 @@ package org.chocosolver.solver.constraints.binary;
 
 import org.chocosolver.sat.Reason;
 import org.chocosolver.solver.constraints.Explained;
+import org.chocosolver.solver.constraints.ILinearPropagator;
+import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -29,7 +31,7 @@ import org.chocosolver.util.procedure.IntProcedure;
  * @since 1 oct. 2010
  */
 @Explained
-public final class PropEqualXY_C extends Propagator<IntVar> {
+public final class PropEqualXY_C extends Propagator<IntVar> implements ILinearPropagator {
 
     private final IntVar x;
     private final IntVar y;
@@ -138,4 +140,18 @@ public final class PropEqualXY_C extends Propagator<IntVar> {
         return vars[0] + " + " + vars[1] + " = " + cste;
     }
 
+    @Override
+    public long getCoeff(int idx) {
+        return 1;
+    }
+
+    @Override
+    public Operator getOperator() {
+        return Operator.EQ;
+    }
+
+    @Override
+    public long getRHS() {
+        return cste;
+    }
 }
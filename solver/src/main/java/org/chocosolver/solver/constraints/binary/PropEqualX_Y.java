@@ -11,6 +11,8 @@ package org.chocosolver.solver.constraints.binary;
 
 import org.chocosolver.sat.Reason;
 import org.chocosolver.solver.constraints.Explained;
+import org.chocosolver.solver.constraints.ILinearPropagator;
+import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -31,7 +33,7 @@ import org.chocosolver.util.tools.ArrayUtils;
  * @since 1 oct. 2010
  */
 @Explained
-public final class PropEqualX_Y extends Propagator<IntVar> {
+public final class PropEqualX_Y extends Propagator<IntVar> implements ILinearPropagator {
 
     private final IntVar x;
     private final IntVar y;
@@ -134,4 +136,18 @@ public final class PropEqualX_Y extends Propagator<IntVar> {
         return "prop(" + vars[0].getName() + ".EQ." + vars[1].getName() + ")";
     }
 
+    @Override
+    public long getCoeff(int idx) {
+        return idx == 0 ? 1 : -1;
+    }
+
+    @Override
+    public Operator getOperator() {
+        return Operator.EQ;
+    }
+
+    @Override
+    public long getRHS() {
+        return 0;
+    }
 }
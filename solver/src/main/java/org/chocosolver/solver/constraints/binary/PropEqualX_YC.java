@@ -11,6 +11,8 @@ package org.chocosolver.solver.constraints.binary;
 
 import org.chocosolver.sat.Reason;
 import org.chocosolver.solver.constraints.Explained;
+import org.chocosolver.solver.constraints.ILinearPropagator;
+import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -29,7 +31,7 @@ import org.chocosolver.util.procedure.IntProcedure;
  * @since 1 oct. 2010
  */
  @Explained(partial = true, comment = "must be tested")
-public final class PropEqualX_YC extends Propagator<IntVar> {
+public final class PropEqualX_YC extends Propagator<IntVar> implements ILinearPropagator {
 
 
     private final IntVar x;
@@ -144,4 +146,19 @@ public final class PropEqualX_YC extends Propagator<IntVar> {
         bf.append(")");
         return bf.toString();
     }
+
+    @Override
+    public long getCoeff(int idx) {
+        return idx == 0 ? 1 : -1;
+    }
+
+    @Override
+    public Operator getOperator() {
+        return Operator.EQ;
+    }
+
+    @Override
+    public long getRHS() {
+        return cste;
+    }
 }
@@ -11,6 +11,8 @@ package org.chocosolver.solver.constraints.binary;
 
 import org.chocosolver.sat.Reason;
 import org.chocosolver.solver.constraints.Explained;
+import org.chocosolver.solver.constraints.ILinearPropagator;
+import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -27,7 +29,7 @@ import org.chocosolver.util.ESat;
  * @since 1 oct. 2010
  */
 @Explained
-public final class PropGreaterOrEqualX_Y extends Propagator<IntVar> {
+public final class PropGreaterOrEqualX_Y extends Propagator<IntVar> implements ILinearPropagator {
 
     private final IntVar x;
     private final IntVar y;
@@ -83,4 +85,18 @@ public final class PropGreaterOrEqualX_Y extends Propagator<IntVar> {
         return "prop(" + vars[0].getName() + ".GEQ." + vars[1].getName() + ")";
     }
 
+    @Override
+    public long getCoeff(int idx) {
+        return idx == 0 ? 1 : -1;
+    }
+
+    @Override
+    public Operator getOperator() {
+        return Operator.GE;
+    }
+
+    @Override
+    public long getRHS() {
+        return 0;
+    }
 }
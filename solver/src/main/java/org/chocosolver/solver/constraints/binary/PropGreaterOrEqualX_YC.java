@@ -11,6 +11,8 @@ package org.chocosolver.solver.constraints.binary;
 
 import org.chocosolver.sat.Reason;
 import org.chocosolver.solver.constraints.Explained;
+import org.chocosolver.solver.constraints.ILinearPropagator;
+import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -28,7 +30,7 @@ import org.chocosolver.util.tools.MathUtils;
  * @since 13/06/12
  */
 @Explained
-public final class PropGreaterOrEqualX_YC extends Propagator<IntVar> {
+public final class PropGreaterOrEqualX_YC extends Propagator<IntVar> implements ILinearPropagator {
 
     private final IntVar x;
     private final IntVar y;
@@ -92,4 +94,18 @@ public final class PropGreaterOrEqualX_YC extends Propagator<IntVar> {
         return x.getName() + " >= " + y.getName() + " + " + cste;
     }
 
+    @Override
+    public long getCoeff(int idx) {
+        return idx == 0 ? 1 : -1;
+    }
+
+    @Override
+    public Operator getOperator() {
+        return Operator.GE;
+    }
+
+    @Override
+    public long getRHS() {
+        return cste;
+    }
 }
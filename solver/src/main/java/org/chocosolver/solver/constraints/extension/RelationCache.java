@@ -0,0 +1,212 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.extension;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.function.Supplier;
+
+/**
+ * A model-level cache of relations, to share identical relations between constraints.
+ * <br/>
+ * Relations are interned by content: two relations are identical when they are equal
+ * in the sense of {@link Object#equals(Object)}, which is expected to compare their content.
+ * Only immutable relations can be interned, since they are shared between propagators.
+ * Structures derived from a relation, like the supports of a table, can also be cached
+ * with {@link #computeIfAbsent(Object, Supplier)}, under a key made of the relation and the domains
+ * of the variables (see {@link #key(Object...)} and {@link #domains(IntVar...)}).
+ * <br/>
+ * {@link Tuples} are shared through {@link #snapshot(Tuples)}, which keeps one read-only snapshot
+ * per distinct content. A snapshot shares the values of the tuples it is taken from,
+ * so sharing a table costs no copy of its tuples.
+ * Looking for a snapshot takes a time linear in the size of the tuples, to hash and compare them,
+ * unless the same unmodified tuples are posted again.
+ * The cache of a model is obtained with {@link Model#getRelationCache()}
+ * and is used only if {@link Settings#enableRelationSharing()} is set.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class RelationCache {
+
+    /**
+     * Interned relations, mapped to themselves
+     */
+    private final HashMap<Object, Object> relations = new HashMap<>();
+
+    /**
+     * Snapshots of the tuples, mapped to themselves
+     */
+    private final HashMap<Tuples, Tuples> snapshots = new HashMap<>();
+
+    /**
+     * Number of relations found in the cache
+     */
+    private int hits;
+
+    /**
+     * Returns the relation equal to <i>relation</i> in this cache, if any.
+     * Otherwise, <i>relation</i> is added to this cache and returned.
+     *
+     * @param relation a relation
+     * @param <R>      type of the relation, whose {@code equals} method must compare classes
+     * @return the unique relation equal to <i>relation</i>
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R intern(R relation) {
+        Object r = relations.putIfAbsent(relation, relation);
+        if (r == null) {
+            return relation;
+        }
+        hits++;
+        return (R) r;
+    }
+
+    /**
+     * Returns the snapshot of tuples equal to <i>tuples</i> in this cache, if any.
+     * Otherwise, a snapshot of <i>tuples</i> is added to this cache and returned.
+     * The snapshot does not copy the tuples and is not affected by later modifications of <i>tuples</i>.
+     *
+     * @param tuples tuples
+     * @return the unique read-only tuples equal to <i>tuples</i>
+     */
+    public Tuples snapshot(Tuples tuples) {
+        Tuples s = snapshots.get(tuples);
+        if (s == null) {
+            s = tuples.snapshot();
+            snapshots.put(s, s);
+        }
+        return s;
+    }
+
+    /**
+     * Returns the structure associated with a key equal to <i>key</i> in this cache, if any.
+     * Otherwise, the structure is built by <i>builder</i>, associated with <i>key</i> then returned.
+     * <br/>
+     * The key is retained by this cache, so it must not be modified afterwards,
+     * except for the {@link Tuples} parts of a key made by {@link #key(Object...)},
+     * which are replaced by their {@link #snapshot(Tuples)}.
+     *
+     * @param key     content of the structure
+     * @param builder builds the structure when it is not in this cache
+     * @param <R>     type of the structure
+     * @return the unique structure associated with <i>key</i>
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R computeIfAbsent(Object key, Supplier<R> builder) {
+        Object r = relations.get(key);
+        if (r == null) {
+            r = builder.get();
+            relations.put(key instanceof Key ? retain((Key) key) : key, r);
+            return (R) r;
+        }
+        hits++;
+        return (R) r;
+    }
+
+    /**
+     * Makes a key out of <i>parts</i>, compared with {@link Arrays#deepEquals(Object[], Object[])}.
+     * The first part is expected to name the kind of structure associated with the key.
+     * {@link Tuples} parts are replaced by their snapshot once the key is retained by this cache,
+     * so that they can be modified afterwards.
+     * Passing snapshots directly makes the key cheaper to compare.
+     *
+     * @param parts parts of the key, arrays are compared by content
+     * @return a key
+     */
+    public static Object key(Object... parts) {
+        return new Key(parts);
+    }
+
+    /**
+     * @param vars variables
+     * @return the values of the domain of each variable
+     */
+    public static int[][] domains(IntVar... vars) {
+        int[][] domains = new int[vars.length][];
+        for (int i = 0; i < vars.length; i++) {
+            domains[i] = new int[vars[i].getDomainSize()];
+            int k = 0;
+            int ub = vars[i].getUB();
+            for (int v = vars[i].getLB(); v <= ub; v = vars[i].nextValue(v)) {
+                domains[i][k++] = v;
+            }
+        }
+        return domains;
+    }
+
+    /**
+     * @return the number of distinct relations and structures in this cache
+     */
+    public int size() {
+        return relations.size();
+    }
+
+    /**
+     * @return the number of times a relation or a structure was found in this cache
+     */
+    public int getNbHits() {
+        return hits;
+    }
+
+    /**
+     * Empties this cache.
+     * Relations already shared are not affected.
+     */
+    public void clear() {
+        relations.clear();
+        snapshots.clear();
+        hits = 0;
+    }
+
+    /**
+     * @return a key equal to <i>key</i>, safe from later modifications of its tuples
+     */
+    private Key retain(Key key) {
+        Object[] parts = key.parts;
+        for (int i = 0; i < parts.length; i++) {
+            if (parts[i] instanceof Tuples && !((Tuples) parts[i]).isFrozen()) {
+                if (parts == key.parts) {
+                    parts = parts.clone();
+                }
+                parts[i] = snapshot((Tuples) parts[i]);
+            }
+        }
+        return parts == key.parts ? key : new Key(parts);
+    }
+
+    private static final class Key {
+
+        private final Object[] parts;
+        private final int hash;
+
+        private Key(Object[] parts) {
+            this.parts = parts;
+            this.hash = Arrays.deepHashCode(parts);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return hash == other.hash && Arrays.deepEquals(parts, other.parts);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
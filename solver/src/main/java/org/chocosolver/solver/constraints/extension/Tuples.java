@@ -12,16 +12,24 @@ package org.chocosolver.solver.constraints.extension;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.sort.ArraySort;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
-import java.util.List;
 
 /**
  * A unique interface to declare tuples for table constraints.
  * Handles both feasible tuples and forbidden tuples.
  * <br/>
+ * Tuples are stored column by column: the values of each variable are packed in a primitive array,
+ * whose type (<code>byte</code>, <code>short</code> or <code>int</code>) is the narrowest one
+ * that fits the column's range of values.
+ * Propagators should read values with {@link #get(int, int)}, which does not allocate.
+ * <br/>
+ * Values already stored are never overwritten in place: sorting builds new arrays
+ * and adding a tuple only writes past the last one.
+ * So a {@link #snapshot()} shares the arrays of the tuples it is taken from, and stays valid
+ * whatever happens to them afterwards.
+ * <br/>
  *
  * @author Charles Prud'homme
  * @since 22/04/2014
@@ -33,11 +41,30 @@ public class Tuples {
 	//***********************************************************************************
 
 	private final boolean feasible;
-	protected final List<int[]> tuples;
+	/**
+	 * Values of the tuples, one column per variable
+	 */
+	private Column[] columns;
+	/**
+	 * Number of tuples stored
+	 */
+	private int size;
+	/**
+	 * Number of tuples the columns can store before growing
+	 */
+	private int capacity;
 	private int arity;
 	private int[] ranges;
 	private boolean allowStar;
 	private int star;
+	/**
+	 * Set for snapshots, which cannot be modified
+	 */
+	private boolean frozen;
+	/**
+	 * Hash code of the tuples, 0 if not computed yet
+	 */
+	private int hash;
 
 	//***********************************************************************************
 	// CONSTRUCTOR
@@ -54,7 +81,7 @@ public class Tuples {
      */
     public Tuples(int[][] values, boolean feasible) {
         this.feasible = feasible;
-        tuples = new ArrayList<>();
+        this.capacity = values.length;
         for(int[] t : values){
             add(t);
         }
@@ -68,7 +95,6 @@ public class Tuples {
 	 */
 	public Tuples(boolean feasible) {
 		this.feasible = feasible;
-		tuples = new ArrayList<>();
 	}
 
 	/**
@@ -88,6 +114,7 @@ public class Tuples {
 	 * @param star the universal value that can appear in any tuple.
 	 */
 	public void setUniversalValue(int star){
+		modify();
 		this.star = star;
 		this.allowStar = true;
 	}
@@ -128,11 +155,11 @@ public class Tuples {
 				return ESat.UNDEFINED;
 			}
 		}
-		for (int ti = 0; ti < nbTuples(); ti++) {
-			int[] tuple = tuples.get(ti);
+		for (int ti = 0; ti < size; ti++) {
 			boolean valid = true;
 			for (int i = 0; i < values.length && valid; i++) {
-				valid = tuple[i] == values[i] || (allowStar && tuple[i] == star);
+				int v = columns[i].get(ti);
+				valid = v == values[i] || (allowStar && v == star);
 			}
 			if (valid) {
 				return isFeasible()? ESat.TRUE: ESat.FALSE;
@@ -142,25 +169,40 @@ public class Tuples {
 	}
 
 	/**
-	 * Add a new tuple to the set of tuples
+	 * Add a new tuple to the set of tuples.
+	 * The values are copied, so <i>tuple</i> can be reused by the caller.
 	 *
 	 * @param tuple a tuple.
-	 * @throws org.chocosolver.solver.exception.SolverException if the size of the tuple added does not correspond to a the previous ones (if any).
+	 * @throws org.chocosolver.solver.exception.SolverException if the size of the tuple added does not correspond to a the previous ones (if any),
+	 * or if these tuples are a snapshot.
 	 */
 	public void add(int... tuple) {
-		if (tuples.size() == 0) {
+		modify();
+		if (size == 0) {
 			arity = tuple.length;
 			ranges = new int[2 * arity];
 			Arrays.fill(ranges, 0, arity, Integer.MAX_VALUE);
 			Arrays.fill(ranges, arity, 2 * arity, Integer.MIN_VALUE);
+			capacity = Math.max(capacity, 16);
+			columns = new Column[arity];
+			for (int i = 0; i < arity; i++) {
+				columns[i] = new Column(capacity);
+			}
 		} else if (arity != tuple.length) {
 			throw new SolverException("The given tuple does not match the arity: " + arity);
 		}
-		tuples.add(tuple.clone());
+		if (size == capacity) {
+			capacity += (capacity >> 1) + 1;
+			for (int i = 0; i < arity; i++) {
+				columns[i].grow(capacity);
+			}
+		}
 		for (int i = 0; i < arity; i++) {
 			ranges[i] = Math.min(ranges[i], tuple[i]);
 			ranges[i + arity] = Math.max(ranges[i + arity], tuple[i]);
+			columns[i].set(size, tuple[i], ranges[i], ranges[i + arity]);
 		}
+		size++;
 	}
 
 	/**
@@ -174,6 +216,21 @@ public class Tuples {
 		}
 	}
 
+	/**
+	 * Append all the tuples of <i>other</i>, in order
+	 *
+	 * @param other a tuple set
+	 */
+	public void addAll(Tuples other) {
+		int[] t = new int[other.arity];
+		for (int k = 0; k < other.size; k++) {
+			for (int i = 0; i < other.arity; i++) {
+				t[i] = other.columns[i].get(k);
+			}
+			add(t);
+		}
+	}
+
 	/**
 	 * Return true if these are allowed tuples, false otherwise
 	 *
@@ -209,21 +266,45 @@ public class Tuples {
 	 * @return number of tuples stored
 	 */
 	public int nbTuples() {
-		return tuples.size();
+		return size;
+	}
+
+	/**
+	 * @return the arity of the tuples, 0 if no tuple is stored
+	 */
+	public int arity() {
+		return size == 0 ? 0 : arity;
 	}
 
 	/**
-	 * Return the idx^th tuple
+	 * Return a copy of the idx^th tuple.
+	 * Modifying the returned array does not modify the tuples.
+	 * Prefer {@link #get(int, int)}, which does not allocate.
 	 */
 	public int[] get(int idx) {
-		return tuples.get(idx);
+		int[] tuple = new int[arity];
+		for (int i = 0; i < arity; i++) {
+			tuple[i] = columns[i].get(idx);
+		}
+		return tuple;
+	}
+
+	/**
+	 * Return the value of the col^th variable in the idx^th tuple, without allocating
+	 *
+	 * @param idx index of the tuple
+	 * @param col index of the column
+	 * @return a value
+	 */
+	public int get(int idx, int col) {
+		return columns[col].get(idx);
 	}
 
 	@Override
 	public String toString() {
 		StringBuilder st = new StringBuilder(isFeasible() ? "Allowed" : "Fordidden").append(" tuples: {");
-		for (int i = 0; i < tuples.size(); i++) {
-			st.append(Arrays.toString(tuples.get(i)));
+		for (int i = 0; i < size; i++) {
+			st.append(Arrays.toString(get(i)));
 		}
 
 		st.append("}");
@@ -231,32 +312,284 @@ public class Tuples {
 
 	}
 
+	/**
+	 * @return a copy of this, with the same tuples in the same order
+	 */
+	public Tuples duplicate() {
+		Tuples copy = new Tuples(feasible);
+		copy.capacity = size;
+		copy.addAll(this);
+		if (allowStar) {
+			copy.setUniversalValue(star);
+		}
+		return copy;
+	}
+
+	/**
+	 * Returns a read-only view of the tuples stored so far, in O(arity).
+	 * The snapshot shares the values of this, which can still be modified:
+	 * the snapshot is not affected.
+	 * Any attempt to modify the snapshot throws a {@link SolverException}.
+	 *
+	 * @return an unmodifiable snapshot of this
+	 */
+	Tuples snapshot() {
+		if (frozen) {
+			return this;
+		}
+		Tuples copy = new Tuples(feasible);
+		copy.size = size;
+		copy.capacity = capacity;
+		copy.arity = arity;
+		if (size > 0) {
+			copy.ranges = ranges.clone();
+			copy.columns = new Column[arity];
+			for (int i = 0; i < arity; i++) {
+				copy.columns[i] = new Column(columns[i]);
+			}
+		}
+		copy.allowStar = allowStar;
+		copy.star = star;
+		copy.hash = hash;
+		copy.frozen = true;
+		return copy;
+	}
+
+	/**
+	 * @return <i>true</i> if these tuples are a snapshot, and cannot be modified
+	 */
+	boolean isFrozen() {
+		return frozen;
+	}
+
+	private void modify() {
+		if (frozen) {
+			throw new SolverException("These tuples are a snapshot and cannot be modified");
+		}
+		hash = 0;
+	}
+
+	/**
+	 * Two tuple sets are equal when they store the same tuples in the same order,
+	 * with the same feasibility and the same universal value, if any.
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (!(o instanceof Tuples)) return false;
+		Tuples other = (Tuples) o;
+		if (feasible != other.feasible || allowStar != other.allowStar
+				|| (allowStar && star != other.star)
+				|| size != other.size || arity() != other.arity()) {
+			return false;
+		}
+		for (int i = 0; i < arity(); i++) {
+			if (ranges[i] != other.ranges[i] || ranges[i + arity] != other.ranges[i + arity]) {
+				return false;
+			}
+		}
+		for (int i = 0; i < arity(); i++) {
+			if (columns[i].shares(other.columns[i])) {
+				continue;
+			}
+			for (int t = 0; t < size; t++) {
+				if (columns[i].get(t) != other.columns[i].get(t)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		if (hash != 0) {
+			return hash;
+		}
+		int h = Boolean.hashCode(feasible);
+		h = 31 * h + (allowStar ? star : 0);
+		h = 31 * h + size;
+		for (int i = 0; i < arity(); i++) {
+			for (int t = 0; t < size; t++) {
+				h = 31 * h + columns[i].get(t);
+			}
+		}
+		hash = h;
+		return h;
+	}
+
 	/**
 	 * @return an array of tuples, each tuple is an int array
 	 */
 	public int[][] toMatrix() {
-		int i = 0;
-		int[][] matrix = new int[tuples.size()][];
-		for (int[] tuple : tuples) {
-			matrix[i++] = tuple.clone();
+		int[][] matrix = new int[size][];
+		for (int i = 0; i < size; i++) {
+			matrix[i] = get(i);
 		}
 		return matrix;
 	}
 
+	/**
+	 * Sort the tuples in lexicographical order.
+	 * The columns are permuted one at a time.
+	 */
 	public void sort() {
-		tuples.sort(new TupleComparator());
+		modify();
+		if (size < 2) {
+			return;
+		}
+		int[] perm = new int[size];
+		for (int i = 0; i < size; i++) {
+			perm[i] = i;
+		}
+		new ArraySort<>(size, false, true).sort(perm, size, this::compare);
+		for (int i = 0; i < arity; i++) {
+			columns[i].permute(perm, size);
+		}
+	}
+
+	/**
+	 * Sort the tuples in lexicographical order and remove the duplicated ones.
+	 */
+	public void removeDuplicates() {
+		sort();
+		int w = Math.min(size, 1);
+		for (int t = 1; t < size; t++) {
+			if (compare(t, w - 1) != 0) {
+				if (t != w) {
+					for (int i = 0; i < arity; i++) {
+						columns[i].set(w, columns[i].get(t));
+					}
+				}
+				w++;
+			}
+		}
+		size = w;
+	}
+
+	private int compare(int t1, int t2) {
+		for (int i = 0; i < arity; i++) {
+			int c = Integer.compare(columns[i].get(t1), columns[i].get(t2));
+			if (c != 0) {
+				return c;
+			}
+		}
+		return 0;
 	}
 
-	private static class TupleComparator implements Comparator<int[]> {
+	/**
+	 * A column of values, packed in the narrowest primitive array that fits its range.
+	 * Exactly one of the arrays is not null.
+	 */
+	private static final class Column {
+		private byte[] bytes;
+		private short[] shorts;
+		private int[] ints;
+
+		Column(int capacity) {
+			bytes = new byte[capacity];
+		}
+
+		/**
+		 * A column sharing the values of <i>other</i>
+		 */
+		Column(Column other) {
+			bytes = other.bytes;
+			shorts = other.shorts;
+			ints = other.ints;
+		}
+
+		/**
+		 * @return <i>true</i> if this and <i>other</i> share their values
+		 */
+		boolean shares(Column other) {
+			return bytes == other.bytes && shorts == other.shorts && ints == other.ints;
+		}
+
+		int get(int t) {
+			if (bytes != null) {
+				return bytes[t];
+			} else if (shorts != null) {
+				return shorts[t];
+			}
+			return ints[t];
+		}
+
+		/**
+		 * Set the t^th value, assuming it fits the current array
+		 */
+		void set(int t, int v) {
+			if (bytes != null) {
+				bytes[t] = (byte) v;
+			} else if (shorts != null) {
+				shorts[t] = (short) v;
+			} else {
+				ints[t] = v;
+			}
+		}
+
+		/**
+		 * Set the t^th value, after having widened the array if [min,max] does not fit it anymore
+		 */
+		void set(int t, int v, int min, int max) {
+			if (bytes != null && (min < Byte.MIN_VALUE || max > Byte.MAX_VALUE)) {
+				int capacity = bytes.length;
+				if (min < Short.MIN_VALUE || max > Short.MAX_VALUE) {
+					ints = new int[capacity];
+					for (int i = 0; i < capacity; i++) {
+						ints[i] = bytes[i];
+					}
+				} else {
+					shorts = new short[capacity];
+					for (int i = 0; i < capacity; i++) {
+						shorts[i] = bytes[i];
+					}
+				}
+				bytes = null;
+			} else if (shorts != null && (min < Short.MIN_VALUE || max > Short.MAX_VALUE)) {
+				int capacity = shorts.length;
+				ints = new int[capacity];
+				for (int i = 0; i < capacity; i++) {
+					ints[i] = shorts[i];
+				}
+				shorts = null;
+			}
+			set(t, v);
+		}
+
+		void grow(int capacity) {
+			if (bytes != null) {
+				bytes = Arrays.copyOf(bytes, capacity);
+			} else if (shorts != null) {
+				shorts = Arrays.copyOf(shorts, capacity);
+			} else {
+				ints = Arrays.copyOf(ints, capacity);
+			}
+		}
 
-		@Override
-		public int compare(int[] o1, int[] o2) {
-			int i = 0;
-			int l = o1.length;
-			while (i < l && o1[i] == o2[i]) {
-				i++;
+		/**
+		 * Reorder the first <i>size</i> values: the new i^th value is the former perm[i]^th one
+		 */
+		void permute(int[] perm, int size) {
+			if (bytes != null) {
+				byte[] nbytes = new byte[bytes.length];
+				for (int i = 0; i < size; i++) {
+					nbytes[i] = bytes[perm[i]];
+				}
+				bytes = nbytes;
+			} else if (shorts != null) {
+				short[] nshorts = new short[shorts.length];
+				for (int i = 0; i < size; i++) {
+					nshorts[i] = shorts[perm[i]];
+				}
+				shorts = nshorts;
+			} else {
+				int[] nints = new int[ints.length];
+				for (int i = 0; i < size; i++) {
+					nints[i] = ints[perm[i]];
+				}
+				ints = nints;
 			}
-			return (i == l ? 0 : o1[i] - o2[i]);
 		}
 	}
 }
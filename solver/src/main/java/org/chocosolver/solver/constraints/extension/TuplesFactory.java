@@ -13,8 +13,14 @@ import org.chocosolver.solver.Settings;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.graphs.MultivaluedDecisionDiagram;
 
+import java.util.ArrayDeque;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
 
 import static org.chocosolver.util.tools.ArrayUtils.concat;
 
@@ -52,7 +58,7 @@ public class TuplesFactory {
             t[j] = doms[j][0];
         }
         while (true) {
-            if (filter.valid(t)) tuples.add(t.clone());
+            if (filter.valid(t)) tuples.add(t);
             int j;
             for (j = 0; j < n; j++) {
                 i[j]++;
@@ -87,7 +93,7 @@ public class TuplesFactory {
             t[j] = cvalue[j] = vars[j].getLB();
         }
         while (true) {
-            if (filter.valid(t)) tuples.add(t.clone());
+            if (filter.valid(t)) tuples.add(t);
             int j;
             for (j = 0; j < n; j++) {
                 int v = t[j] = cvalue[j] = vars[j].nextValue(cvalue[j]);
@@ -102,6 +108,154 @@ public class TuplesFactory {
 
     }
 
+    /**
+     * Under this number of combinations, tuples are generated by the calling thread
+     */
+    private static final long PARALLEL_THRESHOLD = 1 << 15;
+
+    /**
+     * Minimum number of combinations enumerated by a forked task
+     */
+    private static final long MIN_CHUNK = 1 << 12;
+
+    /**
+     * A method that generates all tuples from a set of variables and stores (and returns) the valid tuples wrt to the <code>filter</code>.
+     * <p>
+     * The Cartesian product is split into chunks which are checked in parallel in the common {@link ForkJoinPool},
+     * the valid tuples of each chunk are appended to the result as soon as the previous chunks are.
+     * Thus, the tuples are returned in the same order as {@link #generateTuples(TupleValidator, boolean, IntVar...)} does.
+     * Small products are enumerated by the calling thread.
+     * </p>
+     * <b>The filter is called concurrently, it must be stateless (or thread-safe).</b>
+     *
+     * @param filter   tuple validator, must be thread-safe
+     * @param feasible are tuples feasible (or infeasible)
+     * @param vars     concerned variables
+     * @return the valid tuples wrt to <code>filter</code>
+     */
+    public static Tuples generateTuplesInParallel(TupleValidator filter, boolean feasible, IntVar... vars) {
+        Tuples tuples = new Tuples(feasible);
+        enumerate(filter, feasible, domains(vars), tuples::addAll);
+        return tuples;
+    }
+
+    /**
+     * A method that generates all tuples from a set of variables and stores the valid ones wrt to the <code>filter</code>
+     * in a multivalued decision diagram, to be used in a positive table (see {@link org.chocosolver.solver.Model#mddc(IntVar[], MultivaluedDecisionDiagram)}).
+     * <p>
+     * Tuples are checked in parallel as in {@link #generateTuplesInParallel(TupleValidator, boolean, IntVar...)},
+     * but each chunk of valid tuples is added to the MDD then dropped, so that the whole list of tuples is never materialised.
+     * The MDD is compacted once all tuples are added.
+     * </p>
+     * <b>The filter is called concurrently, it must be stateless (or thread-safe).</b>
+     *
+     * @param filter tuple validator, must be thread-safe
+     * @param vars   concerned variables
+     * @return a MDD encoding the valid tuples wrt to <code>filter</code>
+     */
+    public static MultivaluedDecisionDiagram generateMDD(TupleValidator filter, IntVar... vars) {
+        MultivaluedDecisionDiagram mdd = new MultivaluedDecisionDiagram(vars, new Tuples(true),
+                MultivaluedDecisionDiagram.Compact.NEVER, false);
+        boolean[] added = {false};
+        enumerate(filter, true, domains(vars), tuples -> added[0] |= mdd.addTuples(tuples));
+        if (added[0]) {
+            mdd.compact();
+        }
+        return mdd;
+    }
+
+    private static int[][] domains(IntVar... vars) {
+        int[][] doms = new int[vars.length][];
+        for (int j = 0; j < vars.length; j++) {
+            doms[j] = new int[vars[j].getDomainSize()];
+            int k = 0;
+            for (int v = vars[j].getLB(); v <= vars[j].getUB(); v = vars[j].nextValue(v)) {
+                doms[j][k++] = v;
+            }
+        }
+        return doms;
+    }
+
+    /**
+     * Enumerate the Cartesian product of <i>doms</i> by chunks, in parallel when it is big enough,
+     * and give the valid tuples of each chunk to <i>sink</i>, in order.
+     * At most twice as many chunks as workers are in flight, to bound the memory footprint.
+     */
+    private static void enumerate(TupleValidator filter, boolean feasible, int[][] doms, Consumer<Tuples> sink) {
+        long card = 1;
+        for (int j = 0; j < doms.length && card < Long.MAX_VALUE; j++) {
+            if (card > Long.MAX_VALUE / doms[j].length) {
+                card = Long.MAX_VALUE;
+            } else {
+                card *= doms[j].length;
+            }
+        }
+        int par = ForkJoinPool.getCommonPoolParallelism();
+        if (card < PARALLEL_THRESHOLD || par < 2 || card == Long.MAX_VALUE) {
+            sink.accept(generateTuples(filter, feasible, doms));
+            return;
+        }
+        long nbChunks = Math.min(8L * par, (card + MIN_CHUNK - 1) / MIN_CHUNK);
+        long chunk = (card + nbChunks - 1) / nbChunks;
+        ArrayDeque<ForkJoinTask<Tuples>> inFlight = new ArrayDeque<>();
+        long from = 0;
+        while (from < card || !inFlight.isEmpty()) {
+            while (from < card && inFlight.size() < 2 * par) {
+                long to = Math.min(card, from + chunk);
+                inFlight.addLast(ForkJoinPool.commonPool().submit(new Enumeration(filter, feasible, doms, from, to)));
+                from = to;
+            }
+            sink.accept(inFlight.pollFirst().join());
+        }
+    }
+
+    /**
+     * Enumerates the combinations of rank in [from, to) of a Cartesian product, the first domain varying the fastest.
+     */
+    private static final class Enumeration extends RecursiveTask<Tuples> {
+
+        private final TupleValidator filter;
+        private final boolean feasible;
+        private final int[][] doms;
+        private final long from;
+        private final long to;
+
+        Enumeration(TupleValidator filter, boolean feasible, int[][] doms, long from, long to) {
+            this.filter = filter;
+            this.feasible = feasible;
+            this.doms = doms;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Tuples compute() {
+            Tuples tuples = new Tuples(feasible);
+            int n = doms.length;
+            int[] t = new int[n];
+            int[] i = new int[n];
+            long r = from;
+            for (int j = 0; j < n; j++) {
+                i[j] = (int) (r % doms[j].length);
+                r /= doms[j].length;
+                t[j] = doms[j][i[j]];
+            }
+            for (long k = from; k < to; k++) {
+                if (filter.valid(t)) tuples.add(t);
+                for (int j = 0; j < n; j++) {
+                    i[j]++;
+                    if (i[j] < doms[j].length) {
+                        t[j] = doms[j][i[j]];
+                        break;
+                    }
+                    i[j] = 0;
+                    t[j] = doms[j][0];
+                }
+            }
+            return tuples;
+        }
+    }
+
     /**
      * A method that randomly generates tuples from a set of variables.
      *
@@ -346,7 +500,7 @@ public class TuplesFactory {
             for (int i = 0; i < VARS.length; i++) {
                 t[i] = k;
             }
-            tuples.add(t.clone());
+            tuples.add(t);
         }
         return tuples;
         /*return generateTuples(new TupleValidator() {
@@ -400,14 +554,14 @@ public class TuplesFactory {
         Tuples left = generateTuples(TupleValidator.TRUE, true, VARS);
         Tuples tuples = new Tuples(true);
         int n = VARS.length;
-        for (int[] tleft : left.tuples) {
+        int[] t = new int[n + 1];
+        for (int k = 0; k < left.nbTuples(); k++) {
             int right = 0;
             for (int i = 0; i < n; i++) {
-                right += tleft[i] * COEFFS[i];
+                t[i] = left.get(k, i);
+                right += t[i] * COEFFS[i];
             }
             if (right % SCALAR_COEFF == 0 && SCALAR.contains(right / SCALAR_COEFF)) {
-                int[] t = new int[n + 1];
-                System.arraycopy(tleft, 0, t, 0, n);
                 t[n] = right / SCALAR_COEFF;
                 tuples.add(t);
             }
@@ -12,7 +12,7 @@ package org.chocosolver.solver.constraints.extension.binary;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.variables.IntVar;
 
-import java.util.BitSet;
+import java.util.Arrays;
 
 /**
  * <br/>
@@ -23,16 +23,21 @@ import java.util.BitSet;
 class CouplesBitSetTable extends BinRelation {
 
     /**
-     * table[0][i] gives the supports of value i of variable 0
-     * table[1][i] gives the supports of value i of variable 1
+     * table[0][i] gives the supports of value i of variable 0, as words, the bit j standing for value j of variable 1
+     * table[1][i] gives the supports of value i of variable 1, as words, the bit j standing for value j of variable 0
      */
-    private final BitSet[][] table;
+    private final long[][][] table;
 
     /**
      * first value of x, and y
      */
     private final int[] offsets;
 
+    /**
+     * hash code of the relation, computed once
+     */
+    private final int hash;
+
     /**
      * Create a tuple list for AC3bit+rm
      *
@@ -42,41 +47,69 @@ class CouplesBitSetTable extends BinRelation {
         offsets = new int[]{var1.getLB(), var2.getLB()};
         int range1 = var1.getUB() - offsets[0] + 1;
         int range2 = var2.getUB() - offsets[1] + 1;
-        this.table = new BitSet[2][];
-        this.table[0] = new BitSet[range1];
+        this.table = new long[2][][];
+        this.table[0] = new long[range1][(range2 + 63) >>> 6];
+        this.table[1] = new long[range2][(range1 + 63) >>> 6];
         boolean feasible = tuples.isFeasible();
-        for (int i = 0; i < range1; i++) {
-            table[0][i] = new BitSet(range2);
-            if (!feasible) table[0][i].set(0, range2);
-        }
-        this.table[1] = new BitSet[range2];
-        for (int i = 0; i < range2; i++) {
-            table[1][i] = new BitSet(range1);
-            if (!feasible) table[1][i].set(0, range1);
+        if (!feasible) {
+            for (int i = 0; i < range1; i++) {
+                fill(table[0][i], range2);
+            }
+            for (int i = 0; i < range2; i++) {
+                fill(table[1][i], range1);
+            }
         }
-
         int nt = tuples.nbTuples();
         for (int i = 0; i < nt; i++) {
-            int[] tuple = tuples.get(i);
-//            setCouple(tuple[0], tuple[1]);
-            if (var1.contains(tuple[0]) && var2.contains(tuple[1])) {
+            int t0 = tuples.get(i, 0);
+            int t1 = tuples.get(i, 1);
+            if (var1.contains(t0) && var2.contains(t1)) {
+                int b0 = t0 - offsets[0];
+                int b1 = t1 - offsets[1];
                 if (feasible) {
-                    table[0][tuple[0] - offsets[0]].set(tuple[1] - offsets[1]);
-                    table[1][tuple[1] - offsets[1]].set(tuple[0] - offsets[0]);
+                    table[0][b0][b1 >>> 6] |= 1L << b1;
+                    table[1][b1][b0 >>> 6] |= 1L << b0;
                 } else {
-                    table[0][tuple[0] - offsets[0]].clear(tuple[1] - offsets[1]);
-                    table[1][tuple[1] - offsets[1]].clear(tuple[0] - offsets[0]);
+                    table[0][b0][b1 >>> 6] &= ~(1L << b1);
+                    table[1][b1][b0 >>> 6] &= ~(1L << b0);
                 }
             }
         }
+        this.hash = 31 * (31 * Arrays.hashCode(offsets) + range2) + Arrays.deepHashCode(table[0]);
+    }
+
+    private static void fill(long[] words, int nbits) {
+        Arrays.fill(words, -1L);
+        if ((nbits & 63) != 0) {
+            words[words.length - 1] = -1L >>> -nbits;
+        }
     }
 
     public boolean isConsistent(int x, int y) {
-        return table[0][x - offsets[0]].get(y - offsets[1]);
+        int b = y - offsets[1];
+        return (table[0][x - offsets[0]][b >>> 6] & (1L << b)) != 0L;
     }
 
     public boolean checkCouple(int x, int y) {
-        return table[0][x - offsets[0]].get(y - offsets[1]);
+        return isConsistent(x, y);
+    }
+
+    /**
+     * @param var a variable index
+     * @param val a value for var
+     * @return the supports of var = val, as words, the bit i standing for the value {@code offset(1 - var) + i}
+     * of the other variable
+     */
+    public long[] supports(int var, int val) {
+        return table[var][val - offsets[var]];
+    }
+
+    /**
+     * @param var a variable index
+     * @return the value of the first bit of the supports of the other variable
+     */
+    public int offset(int var) {
+        return offsets[var];
     }
 
 	/**
@@ -87,11 +120,12 @@ class CouplesBitSetTable extends BinRelation {
      * @return true iff there exists no support for v where var = val
      */
     public boolean checkUnsupportedValue(int var, int val, IntVar v) {
-        int UB = v.getUB();
-        BitSet _table = table[var][val - offsets[var]];
+        long[] _table = table[var][val - offsets[var]];
         int o = offsets[1 - var];
-        for (int i = v.getLB(); i <= UB; i = v.nextValue(i)) {
-            if (_table.get(i - o)) {
+        int lw = Math.max(0, (v.getLB() - o) >> 6);
+        int uw = Math.min(_table.length - 1, (v.getUB() - o) >> 6);
+        for (int w = lw; w <= uw; w++) {
+            if ((_table[w] & v.getDomainWord(o + (w << 6))) != 0L) {
                 return false;
             }
         }
@@ -101,11 +135,31 @@ class CouplesBitSetTable extends BinRelation {
     @Override
     public Tuples convert() {
         Tuples tuples = new Tuples(true);
-        for(int i = 0; i < table[0].length; i++) {
-            for (int b = table[0][i].nextSetBit(0); b > -1; b = table[0][i].nextSetBit(b + 1)) {
-                tuples.add(i + offsets[0], b + offsets[1]);
+        for (int i = 0; i < table[0].length; i++) {
+            long[] words = table[0][i];
+            for (int w = 0; w < words.length; w++) {
+                for (long word = words[w]; word != 0L; word &= word - 1) {
+                    tuples.add(i + offsets[0], (w << 6) + Long.numberOfTrailingZeros(word) + offsets[1]);
+                }
             }
         }
         return tuples;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CouplesBitSetTable that = (CouplesBitSetTable) o;
+        // the supports of variable 1 are deduced from the ones of variable 0
+        return hash == that.hash
+                && Arrays.equals(offsets, that.offsets)
+                && table[1].length == that.table[1].length
+                && Arrays.deepEquals(table[0], that.table[0]);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
 }
@@ -13,6 +13,7 @@ import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.variables.IntVar;
 
 import java.util.BitSet;
+import java.util.Objects;
 
 class CouplesTable extends BinRelation {
 
@@ -31,6 +32,11 @@ class CouplesTable extends BinRelation {
 
     private final boolean feasible;
 
+    /**
+     * hash code of the relation, computed once
+     */
+    private final int hash;
+
     public CouplesTable(Tuples tuples, IntVar var1, IntVar var2) {
         offset1 = var1.getLB();
         offset2 = var2.getLB();
@@ -40,10 +46,12 @@ class CouplesTable extends BinRelation {
         feasible = tuples.isFeasible();
         int nt = tuples.nbTuples();
         for (int i = 0; i < nt; i++) {
-            int[] tuple = tuples.get(i);
-            if (var1.contains(tuple[0]) && var2.contains(tuple[1]))
-                table.set((tuple[0] - offset1) * range2 + tuple[1] - offset2);
+            int t0 = tuples.get(i, 0);
+            int t1 = tuples.get(i, 1);
+            if (var1.contains(t0) && var2.contains(t1))
+                table.set((t0 - offset1) * range2 + t1 - offset2);
         }
+        hash = Objects.hash(offset1, offset2, range2, feasible, table);
     }
 
     public boolean isConsistent(int x, int y) {
@@ -64,4 +72,22 @@ class CouplesTable extends BinRelation {
         }
         return tuples;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CouplesTable that = (CouplesTable) o;
+        return hash == that.hash
+                && offset1 == that.offset1
+                && offset2 == that.offset2
+                && range2 == that.range2
+                && feasible == that.feasible
+                && table.equals(that.table);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
 }
@@ -38,7 +38,7 @@ public class PropBinAC2001 extends PropBinCSP {
 
 
     public PropBinAC2001(IntVar x, IntVar y, Tuples tuples) {
-        this(x, y, new CouplesTable(tuples, x, y));
+        this(x, y, share(new CouplesTable(tuples, x, y), x));
     }
 
     private PropBinAC2001(IntVar x, IntVar y, CouplesTable table) {
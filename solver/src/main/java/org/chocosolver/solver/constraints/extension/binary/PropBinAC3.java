@@ -28,7 +28,7 @@ public class PropBinAC3 extends PropBinCSP {
     private final IntIterableBitSet vrms;
 
     public PropBinAC3(IntVar x, IntVar y, Tuples tuples) {
-        this(x, y, new CouplesBitSetTable(tuples, x, y));
+        this(x, y, share(new CouplesBitSetTable(tuples, x, y), x));
     }
 
     private PropBinAC3(IntVar x, IntVar y, CouplesBitSetTable table) {
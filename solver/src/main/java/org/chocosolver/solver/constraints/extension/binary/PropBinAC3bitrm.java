@@ -16,11 +16,16 @@ import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.events.IntEventType;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
-import org.chocosolver.util.iterators.DisposableValueIterator;
+
+import java.util.Arrays;
 
 /**
  * AC3 bit rm algorithm for binary table constraint
  * <br/>
+ * The supports of a value are stored as words, and are checked against the domain of the other variable
+ * 64 values at a time. The residue of a value is the index of the word where a support was last found.
+ * Unsupported values of a variable are removed at once.
+ * <br/>
  *
  * @author Charles Prud'homme, Hadrien Cambazard
  * @since 22/04/2014
@@ -28,75 +33,70 @@ import org.chocosolver.util.iterators.DisposableValueIterator;
 @Explained(ignored = true, comment = "Turned into clauses")
 public class PropBinAC3bitrm extends PropBinCSP {
 
-    private int offset0;
-    private int offset1;
+    private final CouplesBitSetTable table;
+
+    private final int[] offsets;
+
+    private final int[] initDomSizes;
+
+    private final int[] minS;    //value with minimum number of supports for each variable
+
+    /**
+     * For each variable and each of its values, the index of the word where a support was last found
+     */
+    private final int[][] residues;
 
-    private int minS0;    //value with minimum number of supports for v0
-    private int minS1;    //value with minimum number of supports for v1
+    /**
+     * For each variable, its domain as words, updated before revising the other variable
+     */
+    private final long[][] domains;
 
-    private int initDomSize0;
-    private int initDomSize1;
+    /**
+     * For each variable, the values to remove as words
+     */
+    private final long[][] removals;
 
     public PropBinAC3bitrm(IntVar x, IntVar y, Tuples tuples) {
-        this(x, y, new CouplesBitSetTable(tuples, x, y));
+        this(x, y, share(new CouplesBitSetTable(tuples, x, y), x));
         if(!x.hasEnumeratedDomain() || !y.hasEnumeratedDomain()) {
             throw new SolverException("PropBinAC3bitrm (\"AC3bit+rm\")may produce incorrect filtering with bounded variables");
         }
-        offset0 = v0.getLB();
-        offset1 = v1.getLB();
-
-        initDomSize0 = v0.getUB() - offset0 + 1;
-        initDomSize1 = v1.getUB() - offset1 + 1;
     }
 
     private PropBinAC3bitrm(IntVar x, IntVar y, CouplesBitSetTable table) {
         super(x, y, table);
-        offset0 = v0.getLB();
-        offset1 = v1.getLB();
-
-        initDomSize0 = v0.getUB() - offset0 + 1;
-        initDomSize1 = v1.getUB() - offset1 + 1;
+        this.table = table;
+        offsets = new int[]{table.offset(0), table.offset(1)};
+        initDomSizes = new int[]{v0.getUB() - offsets[0] + 1, v1.getUB() - offsets[1] + 1};
+        minS = new int[2];
+        residues = new int[2][];
+        domains = new long[2][];
+        removals = new long[2][];
+        for (int i = 0; i < 2; i++) {
+            residues[i] = new int[initDomSizes[i]];
+            domains[i] = new long[(initDomSizes[i] + 63) >>> 6];
+            removals[i] = new long[(initDomSizes[i] + 63) >>> 6];
+        }
     }
 
     @Override
     public void propagate(int evtmask) throws ContradictionException {
         if (PropagatorEventType.isFullPropagation(evtmask)) {
             fastInitNbSupports();
-            DisposableValueIterator itv0 = v0.getValueIterator(true);
-            try {
-                while (itv0.hasNext()) {
-                    int val0 = itv0.next();
-                    if (((CouplesBitSetTable) relation).checkUnsupportedValue(0, val0, v1)) {
-                        v0.removeValue(val0, this);
-                    }
-                }
-            } finally {
-                itv0.dispose();
-            }
-            itv0 = v1.getValueIterator(true);
-            try {
-                while (itv0.hasNext()) {
-                    int val1 = itv0.next();
-                    if (((CouplesBitSetTable) relation).checkUnsupportedValue(1, val1, v0)) {
-                        v1.removeValue(val1, this);
-                    }
-                }
-            } finally {
-                itv0.dispose();
-            }
+            revise(0, true);
+            fixpoint(1, true);
+        } else {
+            fixpoint(0, false);
+            fixpoint(1, false);
         }
-        reviseV0();
-        reviseV1();
     }
 
     @Override
     public void propagate(int idxVarInProp, int mask) throws ContradictionException {
         if (IntEventType.isInstantiate(mask)) {
             onInstantiationOf(idxVarInProp);
-        } else if (idxVarInProp == 0) {
-            reviseV1();
         } else {
-            reviseV0();
+            fixpoint(1 - idxVarInProp, false);
         }
     }
 
@@ -105,102 +105,106 @@ public class PropBinAC3bitrm extends PropBinCSP {
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
 
+    private IntVar var(int idx) {
+        return idx == 0 ? v0 : v1;
+    }
+
+    /**
+     * Copies the domain of the variable <i>idx</i> in {@link #domains}, one word at a time
+     *
+     * @return the index of the last word of the domain
+     */
+    private int loadDomain(int idx) {
+        IntVar v = var(idx);
+        int o = offsets[idx];
+        int fw = (v.getLB() - o) >> 6;
+        int lw = (v.getUB() - o) >> 6;
+        long[] dom = domains[idx];
+        Arrays.fill(dom, 0, fw, 0L);
+        for (int w = fw; w <= lw; w++) {
+            dom[w] = v.getDomainWord(o + (w << 6));
+        }
+        Arrays.fill(dom, lw + 1, dom.length, 0L);
+        return lw;
+    }
 
     private void fastInitNbSupports() {
-        int[] initS1 = new int[initDomSize1];
-        minS0 = Integer.MAX_VALUE;
-        minS1 = Integer.MAX_VALUE;
-        DisposableValueIterator itv0 = v0.getValueIterator(true);
-        while (itv0.hasNext()) {
-            int val0 = itv0.next();
-            int initS0 = 0;
-            DisposableValueIterator itv1 = v1.getValueIterator(true);
-            while (itv1.hasNext()) {
-                int val1 = itv1.next();
-                if (relation.isConsistent(val0, val1)) {
-                    initS0++;
-                    initS1[val1 - offset1]++;
+        for (int idx = 0; idx < 2; idx++) {
+            IntVar x = var(idx);
+            long[] dy = domains[1 - idx];
+            loadDomain(1 - idx);
+            minS[idx] = Integer.MAX_VALUE;
+            int ub = x.getUB();
+            for (int a = x.getLB(); a <= ub; a = x.nextValue(a)) {
+                long[] s = table.supports(idx, a);
+                int nbS = 0;
+                for (int w = 0; w < s.length; w++) {
+                    nbS += Long.bitCount(s[w] & dy[w]);
                 }
+                if (nbS < minS[idx]) minS[idx] = nbS;
             }
-            if (initS0 < minS0) minS0 = initS0;
-            itv1.dispose();
-        }
-        itv0.dispose();
-        for (int i = 0; i < initS1.length; i++) {
-            if (initS1[i] < minS1) minS1 = initS1[i];
         }
     }
 
-
     /**
-     * updates the support for all values in the domain of v1, and remove unsupported values for v1
+     * Revises the variable <i>idx</i>, then the other one as long as values are removed
      */
-    private void reviseV1() throws ContradictionException {
-        int v0Size = v0.getDomainSize();
-        if (minS1 <= (initDomSize0 - v0Size)) {
-            DisposableValueIterator itv1 = v1.getValueIterator(true);
-            try {
-                while (itv1.hasNext()) {
-                    int y = itv1.next();
-                    if (((CouplesBitSetTable) relation).checkUnsupportedValue(1, y, v0)) {
-                        v1.removeValue(y, this);
-                    }
-                }
-            } finally {
-                itv1.dispose();
-            }
+    private void fixpoint(int idx, boolean force) throws ContradictionException {
+        while (revise(idx, force)) {
+            idx = 1 - idx;
         }
     }
 
     /**
-     * updates the support for all values in the domain of v0, and remove unsupported values for v0
+     * updates the support for all values in the domain of the variable <i>idx</i>,
+     * and remove unsupported values at once
+     *
+     * @param force set to <i>true</i> to revise even if no value can have lost all its supports
+     * @return <i>true</i> if at least one value is removed
      */
-    private void reviseV0() throws ContradictionException {
-        int v1Size = v1.getDomainSize();
-        if (minS0 <= (initDomSize1 - v1Size)) {
-            DisposableValueIterator itv0 = v0.getValueIterator(true);
-            try {
-                while (itv0.hasNext()) {
-                    int x = itv0.next();
-                    if (((CouplesBitSetTable) relation).checkUnsupportedValue(0, x, v1)) {
-                        v0.removeValue(x, this);
-                    }
-                }
-            } finally {
-                itv0.dispose();
-            }
+    private boolean revise(int idx, boolean force) throws ContradictionException {
+        IntVar x = var(idx);
+        IntVar y = var(1 - idx);
+        if (!force && minS[idx] > (initDomSizes[1 - idx] - y.getDomainSize())) {
+            return false;
         }
-    }
-
-
-    private void onInstantiationOf(int idx) throws ContradictionException {
-        if (idx == 0) {
-            int value = v0.getValue();
-            DisposableValueIterator itv1 = v1.getValueIterator(true);
-            try {
-                while (itv1.hasNext()) {
-                    int val = itv1.next();
-                    if (!relation.isConsistent(value, val)) {
-                        v1.removeValue(val, this);
-                    }
+        int fw = (y.getLB() - offsets[1 - idx]) >> 6;
+        int lw = loadDomain(1 - idx);
+        long[] dy = domains[1 - idx];
+        int[] res = residues[idx];
+        long[] rem = removals[idx];
+        int ox = offsets[idx];
+        boolean any = false;
+        int ub = x.getUB();
+        for (int a = x.getLB(); a <= ub; a = x.nextValue(a)) {
+            long[] s = table.supports(idx, a);
+            if ((s[res[a - ox]] & dy[res[a - ox]]) == 0L) {
+                int w = fw;
+                while (w <= lw && (s[w] & dy[w]) == 0L) {
+                    w++;
+                }
+                if (w <= lw) {
+                    res[a - ox] = w;
+                } else {
+                    rem[(a - ox) >> 6] |= 1L << (a - ox);
+                    any = true;
                 }
-            } finally {
-                itv1.dispose();
             }
-        } else {
-            int value = v1.getValue();
-            DisposableValueIterator itv0 = v0.getValueIterator(true);
+        }
+        if (any) {
             try {
-                while (itv0.hasNext()) {
-                    int val = itv0.next();
-                    if (!relation.isConsistent(val, value)) {
-                        v0.removeValue(val, this);
-                    }
-                }
+                return x.removeValues(rem, ox, this);
             } finally {
-                itv0.dispose();
+                Arrays.fill(rem, 0L);
             }
         }
+        return false;
+    }
+
+    private void onInstantiationOf(int idx) throws ContradictionException {
+        int value = var(idx).getValue();
+        // only the supports of the value are kept
+        var(1 - idx).removeAllValuesBut(table.supports(idx, value), offsets[1 - idx], this);
     }
 
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.extension.binary;
 
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.constraints.extension.Tuples;
@@ -34,6 +35,22 @@ public abstract class PropBinCSP extends Propagator<IntVar> {
         this.v1 = y;
     }
 
+    /**
+     * Returns the relation of the model equal to <i>relation</i>, if relations are shared,
+     * <i>relation</i> itself otherwise.
+     *
+     * @param relation a relation
+     * @param x        a variable of the relation
+     * @return the relation to use
+     */
+    protected static <R extends BinRelation> R share(R relation, IntVar x) {
+        Model model = x.getModel();
+        if (model.getSettings().enableRelationSharing()) {
+            return model.getRelationCache().intern(relation);
+        }
+        return relation;
+    }
+
     public final BinRelation getRelation() {
         return relation;
     }
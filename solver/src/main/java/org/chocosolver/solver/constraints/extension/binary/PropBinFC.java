@@ -30,7 +30,7 @@ public class PropBinFC extends PropBinCSP {
     private final IntIterableBitSet vrms;
 
     public PropBinFC(IntVar x, IntVar y, Tuples tuples) {
-        this(x, y, new CouplesTable(tuples, x, y));
+        this(x, y, share(new CouplesTable(tuples, x, y), x));
     }
 
     private PropBinFC(IntVar x, IntVar y, CouplesTable table) {
@@ -15,6 +15,7 @@ import org.chocosolver.memory.IStateLong;
 import org.chocosolver.solver.constraints.Explained;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.constraints.extension.RelationCache;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -44,6 +45,10 @@ public class PropCompactTable extends Propagator<IntVar> {
     int[][] residues;
     protected int[] offset;
     protected IIntDeltaMonitor[] monitors;
+    /**
+     * For each variable, values without support found by the last filtering, as a bitset starting at <i>offset</i>
+     */
+    private final long[][] unsupported;
     private final UnaryIntProcedure<Integer> onValRem;
 
     //***********************************************************************************
@@ -58,9 +63,27 @@ public class PropCompactTable extends Propagator<IntVar> {
      */
     public PropCompactTable(IntVar[] vars, Tuples tuples) {
         super(vars, PropagatorPriority.QUADRATIC, true);
-        this.tuples = tuples;
-        this.currTable = new RSparseBitSet(model.getEnvironment(), this.tuples.nbTuples());
-        computeSupports(tuples);
+        this.currTable = new RSparseBitSet(model.getEnvironment(), tuples.nbTuples());
+        if (model.getSettings().enableRelationSharing()) {
+            // tables with the same tuples over the same domains have the same supports
+            RelationCache cache = model.getRelationCache();
+            this.tuples = cache.snapshot(tuples);
+            setSupports(cache.computeIfAbsent(
+                    RelationCache.key(getClass().getName(), this.tuples, RelationCache.domains(vars)),
+                    () -> {
+                        computeSupports(this.tuples);
+                        return getSupports();
+                    }));
+        } else {
+            this.tuples = tuples;
+            computeSupports(tuples);
+        }
+        residues = new int[vars.length][];
+        unsupported = new long[vars.length][];
+        for (int i = 0; i < vars.length; i++) {
+            residues[i] = new int[supports[i].length];
+            unsupported[i] = new long[((supports[i].length - 1) >> 6) + 1];
+        }
         monitors = new IIntDeltaMonitor[vars.length];
         for (int i = 0; i < vars.length; i++) {
             monitors[i] = vars[i].monitorDelta(this);
@@ -91,31 +114,31 @@ public class PropCompactTable extends Propagator<IntVar> {
         };
     }
 
+    /**
+     * Compute {@link #offset} and {@link #supports}, which are not modified afterwards
+     */
     protected void computeSupports(Tuples tuples) {
         int n = vars.length;
         offset = new int[n];
         supports = new long[n][][];
-        residues = new int[n][];
         long[] tmp;
         for (int i = 0; i < n; i++) {
             int lb = vars[i].getLB();
             int ub = vars[i].getUB();
             offset[i] = lb;
             supports[i] = new long[ub - lb + 1][currTable.words.length];
-            residues[i] = new int[ub - lb + 1];
         }
         int wI = 0;
         byte bI = 63;
         top:
         for (int ti = 0; ti < tuples.nbTuples(); ti++) {
-            int[] tuple = tuples.get(ti);
-            for (int i = 0; i < tuple.length; i++) {
-                if (!vars[i].contains(tuple[i])) {
+            for (int i = 0; i < n; i++) {
+                if (!vars[i].contains(tuples.get(ti, i))) {
                     continue top;
                 }
             }
-            for (int i = 0; i < tuple.length; i++) {
-                tmp = supports[i][tuple[i] - offset[i]];
+            for (int i = 0; i < n; i++) {
+                tmp = supports[i][tuples.get(ti, i) - offset[i]];
                 tmp[wI] |= 1L << (bI);
             }
             if (--bI < 0) {
@@ -125,6 +148,21 @@ public class PropCompactTable extends Propagator<IntVar> {
         }
     }
 
+    /**
+     * @return the structures computed by {@link #computeSupports(Tuples)}, to share them
+     */
+    protected Object[] getSupports() {
+        return new Object[]{offset, supports};
+    }
+
+    /**
+     * Use the structures computed by another propagator, see {@link #getSupports()}
+     */
+    protected void setSupports(Object[] shared) {
+        offset = (int[]) shared[0];
+        supports = (long[][][]) shared[1];
+    }
+
     //***********************************************************************************
     // FILTERING
     //***********************************************************************************
@@ -215,18 +253,32 @@ public class PropCompactTable extends Propagator<IntVar> {
     }
 
     private void enumFilter(int i) throws ContradictionException {
+        int lb = vars[i].getLB();
         int ub = vars[i].getUB();
-        for (int v = vars[i].getLB(); v <= ub; v = vars[i].nextValue(v)) {
+        long[] rem = unsupported[i];
+        boolean any = false;
+        for (int v = lb; v <= ub; v = vars[i].nextValue(v)) {
             int index = residues[i][v - offset[i]];
             if ((currTable.words[index].get() & supports[i][v - offset[i]][index]) == 0L) {
                 index = currTable.intersectIndex(supports[i][v - offset[i]]);
                 if (index == -1) {
-                    vars[i].removeValue(v, this);
+                    rem[(v - offset[i]) >> 6] |= 1L << (v - offset[i]);
+                    any = true;
                 } else {
                     residues[i][v - offset[i]] = index;
                 }
             }
         }
+        if (any) {
+            // the values are removed at once, with a single event
+            try {
+                vars[i].removeValues(rem, offset[i], this);
+            } finally {
+                for (int w = (lb - offset[i]) >> 6; w <= (ub - offset[i]) >> 6; w++) {
+                    rem[w] = 0L;
+                }
+            }
+        }
     }
 
     @Override
@@ -77,29 +77,27 @@ public class PropCompactTableStar extends PropCompactTable {
         offset = new int[n];
         supports = new long[n][][];
         inc_supports = new long[n][][];
-        residues = new int[n][];
         for (int i = 0; i < n; i++) {
             int lb = vars[i].getLB();
             int ub = vars[i].getUB();
             offset[i] = lb;
             supports[i] = new long[ub - lb + 1][currTable.words.length];
             inc_supports[i] = new long[ub - lb + 1][currTable.words.length];
-            residues[i] = new int[ub - lb + 1];
         }
         int wI = 0;
         byte bI = 63;
         int star = tuples.getStarValue();
         top:
         for (int ti = 0; ti < tuples.nbTuples(); ti++) {
-            int[] tuple = tuples.get(ti);
-            for (int i = 0; i < tuple.length; i++) {
-                if (!vars[i].contains(tuple[i]) && tuple[i] != star) {
+            for (int i = 0; i < n; i++) {
+                int val = tuples.get(ti, i);
+                if (!vars[i].contains(val) && val != star) {
                     continue top;
                 }
             }
             long index = 1L << bI;
-            for (int i = 0; i < tuple.length; i++) {
-                int val = tuple[i];
+            for (int i = 0; i < n; i++) {
+                int val = tuples.get(ti, i);
                 if (val != star) {
                     supports[i][val - offset[i]][wI] |= index;
                     inc_supports[i][val - offset[i]][wI] |= index;
@@ -116,4 +114,15 @@ public class PropCompactTableStar extends PropCompactTable {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    protected Object[] getSupports() {
+        return new Object[]{offset, supports, inc_supports};
+    }
+
+    @Override
+    protected void setSupports(Object[] shared) {
+        super.setSupports(shared);
+        inc_supports = (long[][][]) shared[2];
+    }
+}
@@ -15,13 +15,21 @@ import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.DirectedGraphVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.delta.IGraphDeltaMonitor;
+import org.chocosolver.solver.variables.events.GraphEventType;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.graphOperations.connectivity.IncrementalStrongConnectivityFinder;
 import org.chocosolver.util.graphOperations.connectivity.StrongConnectivityFinder;
 
+import java.util.BitSet;
+
 /**
  * Propagator that ensures that the final graph consists in K Strongly Connected Components (SCC)
  * <p/>
  * simple checker and a bit of pruning (runs in linear time)
+ * <p/>
+ * The SCC of the envelope are maintained incrementally, from the removed arcs and nodes,
+ * with an {@link IncrementalStrongConnectivityFinder}.
  *
  * @author Jean-Guillaume Fages
  */
@@ -33,19 +41,26 @@ public class PropNbSCC extends Propagator<Variable> {
 
     private final DirectedGraphVar g;
     private final IntVar k;
-    private final StrongConnectivityFinder envCCFinder;
+    private final IncrementalStrongConnectivityFinder envCCFinder;
     private final StrongConnectivityFinder kerCCFinder;
+    private final StrongConnectivityFinder checker;
+    private final IGraphDeltaMonitor gdm;
+    // SCC of the envelope containing a mandatory node
+    private final BitSet mandSCC;
 
     //***********************************************************************************
     // CONSTRUCTORS
     //***********************************************************************************
 
     public PropNbSCC(DirectedGraphVar graph, IntVar k) {
-        super(new Variable[]{graph, k}, PropagatorPriority.LINEAR, false);
+        super(new Variable[]{graph, k}, PropagatorPriority.LINEAR, true);
         this.g = graph;
         this.k = k;
-        envCCFinder = new StrongConnectivityFinder(g.getUB());
+        envCCFinder = new IncrementalStrongConnectivityFinder(g.getUB(), model.getEnvironment());
         kerCCFinder = new StrongConnectivityFinder(g.getLB());
+        checker = new StrongConnectivityFinder(g.getUB());
+        gdm = g.monitorDelta(this);
+        mandSCC = new BitSet();
     }
 
     //***********************************************************************************
@@ -54,6 +69,21 @@ public class PropNbSCC extends Propagator<Variable> {
 
     @Override
     public void propagate(int evtmask) throws ContradictionException {
+        envCCFinder.findAllSCC();
+        filter();
+        gdm.startMonitoring();
+    }
+
+    @Override
+    public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+        if (idxVarInProp == 0) {
+            gdm.forEachEdge(envCCFinder::removeEdge, GraphEventType.REMOVE_EDGE);
+            gdm.forEachNode(envCCFinder::removeNode, GraphEventType.REMOVE_NODE);
+        }
+        filter();
+    }
+
+    private void filter() throws ContradictionException {
         // trivial case
         k.updateLowerBound(0, this);
         if (g.getPotentialNodes().size() == 0) {
@@ -63,41 +93,43 @@ public class PropNbSCC extends Propagator<Variable> {
         if (k.getUB() == 0) {
             for (int i : g.getPotentialNodes()) {
                 g.removeNode(i, this);
+                envCCFinder.removeNode(i);
             }
             return;
         }
+        envCCFinder.update();
 
         // bound computation
-        int min = minCC();
+        int min = minIncrementalCC();
         int max = maxCC();
         k.updateLowerBound(min, this);
         k.updateUpperBound(max, this);
 
         // A bit of pruning (removes unreachable nodes)
         if (k.getUB() == min && min != max) {
-            int ccs = envCCFinder.getNbSCC();
-            boolean pot = true;
-            for (int cc = 0; cc < ccs; cc++) {
-                for (int i = envCCFinder.getSCCFirstNode(cc); i >= 0 && pot; i = envCCFinder.getNextNode(i)) {
-                    if (g.getMandatoryNodes().contains(i)) {
-                        pot = false;
-                    }
-                }
-                if (pot) {
-                    for (int i = envCCFinder.getSCCFirstNode(cc); i >= 0; i = envCCFinder.getNextNode(i)) {
-                        g.removeNode(i, this);
-                    }
+            for (int i : g.getPotentialNodes()) {
+                if (!mandSCC.get(envCCFinder.getSCCOf(i))) {
+                    g.removeNode(i, this);
+                    envCCFinder.removeNode(i);
                 }
             }
         }
     }
 
+    private int minIncrementalCC() {
+        mandSCC.clear();
+        for (int i : g.getMandatoryNodes()) {
+            mandSCC.set(envCCFinder.getSCCOf(i));
+        }
+        return mandSCC.cardinality();
+    }
+
     public int minCC() {
-        envCCFinder.findAllSCC();
-        int ccs = envCCFinder.getNbSCC();
+        checker.findAllSCC();
+        int ccs = checker.getNbSCC();
         int minCC = 0;
         for (int cc = 0; cc < ccs; cc++) {
-            for (int i = envCCFinder.getSCCFirstNode(cc); i >= 0; i = envCCFinder.getNextNode(i)) {
+            for (int i = checker.getSCCFirstNode(cc); i >= 0; i = checker.getNextNode(i)) {
                 if (g.getMandatoryNodes().contains(i)) {
                     minCC++;
                     break;
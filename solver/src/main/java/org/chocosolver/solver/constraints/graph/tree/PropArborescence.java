@@ -9,15 +9,30 @@
  */
 package org.chocosolver.solver.constraints.graph.tree;
 
+import gnu.trove.list.array.TIntArrayList;
+import org.chocosolver.memory.IStateInt;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.DirectedGraphVar;
+import org.chocosolver.solver.variables.delta.IGraphDeltaMonitor;
+import org.chocosolver.solver.variables.events.GraphEventType;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.graphOperations.connectivity.StrongConnectivityFinder;
+import org.chocosolver.util.procedure.IntProcedure;
+import org.chocosolver.util.procedure.PairProcedure;
 
 import java.util.BitSet;
 
 /**
  * Arborescence constraint (simplification from tree constraint) based on dominators
+ * <p>
+ * The flow graph and its dominator tree are maintained incrementally along a branch of the search tree.
+ * Arc and node removals are applied to the flow graph and, as long as none of them
+ * can modify the dominator tree (see {@link org.chocosolver.util.graphOperations.dominance.AbstractLengauerTarjanDominatorsFinder#isNeutralRemoval(int, int)}),
+ * only dominators are enforced. Otherwise, the dominator tree is computed again.
+ * Modifications of the flow graph are logged so that they are undone upon backtrack,
+ * instead of building the flow graph from scratch.
+ * </p>
  *
  * @author Jean-Guillaume Fages
  */
@@ -30,6 +45,23 @@ public class PropArborescence extends PropArborescences {
     protected final int root;
     protected final BitSet visited;
     protected final int[] fifo;
+    protected final IGraphDeltaMonitor gdm;
+    // removed arcs, since the last propagation
+    private final TIntArrayList tails;
+    private final TIntArrayList heads;
+    private final PairProcedure arcRemoved;
+    private final IntProcedure nodeRemoved;
+    // modifications of the flow graph since it was last built, as pairs (x,y):
+    // (x,y) has been removed, or (n,y) has been added when x = n
+    private final TIntArrayList log;
+    // number of modifications of the flow graph to keep (restored upon backtrack)
+    private final IStateInt logSize;
+    // number of propagations, and its value when the last one started (restored upon backtrack)
+    private int nbPropagations;
+    private final IStateInt lastPropagation;
+    // number of times the flow graph was built, and its value when the flow graph was last built (restored upon backtrack)
+    private int nbResets;
+    private final IStateInt lastReset;
 
     //***********************************************************************************
     // CONSTRUCTORS
@@ -41,10 +73,24 @@ public class PropArborescence extends PropArborescences {
     }
 
     public PropArborescence(DirectedGraphVar graph, int root, boolean simple) {
-        super(graph, simple);
+        super(graph, simple, true);
         this.root = root;
         this.visited = new BitSet(n);
         this.fifo = new int[n];
+        this.gdm = g.monitorDelta(this);
+        this.tails = new TIntArrayList();
+        this.heads = new TIntArrayList();
+        this.arcRemoved = (x, y) -> {
+            removeFlowArc(x, y);
+            tails.add(x);
+            heads.add(y);
+        };
+        // a removed node is attached to the root of the flow graph, its arcs have been removed
+        this.nodeRemoved = this::attachToRoot;
+        this.log = new TIntArrayList();
+        this.logSize = model.getEnvironment().makeInt(0);
+        this.lastPropagation = model.getEnvironment().makeInt(-1);
+        this.lastReset = model.getEnvironment().makeInt(-1);
     }
 
     //***********************************************************************************
@@ -53,6 +99,8 @@ public class PropArborescence extends PropArborescences {
 
     @Override
     public void propagate(int evt) throws ContradictionException {
+        // from now on, any failure leads to a backtrack
+        lastPropagation.set(++nbPropagations);
         g.enforceNode(root, this);
         // explore the graph from the root
         explore();
@@ -61,11 +109,95 @@ public class PropArborescence extends PropArborescences {
             g.removeNode(o, this);
         }
         super.propagate(evt);
+        logSize.set(log.size());
+        gdm.startMonitoring();
+    }
+
+    @Override
+    public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+        boolean backtracked = lastPropagation.get() != nbPropagations;
+        if (backtracked) {
+            if (lastReset.get() != nbResets) {
+                // the flow graph has been built in a world that no longer exists
+                propagate(PropagatorEventType.FULL_PROPAGATION.getMask());
+                return;
+            }
+            undo();
+        }
+        lastPropagation.set(++nbPropagations);
+        tails.resetQuick();
+        heads.resetQuick();
+        gdm.forEachEdge(arcRemoved, GraphEventType.REMOVE_EDGE);
+        gdm.forEachNode(nodeRemoved, GraphEventType.REMOVE_NODE);
+        boolean neutral = !backtracked;
+        for (int k = 0; k < tails.size() && neutral; k++) {
+            neutral = domFinder.isNeutralRemoval(tails.getQuick(k), heads.getQuick(k));
+        }
+        if (neutral) {
+            // the dominator tree is unchanged, so is the set of reachable nodes
+            enforceDominators();
+        } else {
+            // the flow graph is up-to-date but the dominator tree has to be computed again
+            explore();
+            for (int o = visited.nextClearBit(0); o < n; o = visited.nextClearBit(o + 1)) {
+                if (g.removeNode(o, this)) {
+                    detach(o);
+                }
+            }
+            filter();
+        }
+        logSize.set(log.size());
+    }
+
+    /**
+     * Undo the modifications of the flow graph made in worlds that no longer exist
+     */
+    private void undo() {
+        int size = logSize.get();
+        for (int k = log.size() - 2; k >= size; k -= 2) {
+            int x = log.getQuick(k);
+            int y = log.getQuick(k + 1);
+            if (x == n) {
+                connectedGraph.removeEdge(n, y);
+            } else {
+                connectedGraph.addEdge(x, y);
+            }
+        }
+        log.remove(size, log.size() - size);
+    }
+
+    @Override
+    protected void removeFlowArc(int x, int y) {
+        if (connectedGraph.removeEdge(x, y)) {
+            log.add(x);
+            log.add(y);
+        }
+    }
+
+    private void attachToRoot(int i) {
+        if (connectedGraph.addEdge(n, i)) {
+            log.add(n);
+            log.add(i);
+        }
+    }
+
+    /**
+     * Remove the arcs of <i>i</i> from the flow graph and attach it to the root of the flow graph
+     */
+    private void detach(int i) {
+        for (int j : connectedGraph.getSuccessorsOf(i).toArray()) {
+            removeFlowArc(i, j);
+        }
+        for (int j : connectedGraph.getPredecessorsOf(i).toArray()) {
+            removeFlowArc(j, i);
+        }
+        attachToRoot(i);
     }
 
     @Override
     protected void reset() {
         // reset data structure
+        log.resetQuick();
         for (int i = 0; i < n + 1; i++) {
             connectedGraph.getSuccessorsOf(i).clear();
             connectedGraph.getPredecessorsOf(i).clear();
@@ -79,6 +211,7 @@ public class PropArborescence extends PropArborescences {
             }
         }
         connectedGraph.addEdge(n, root);
+        lastReset.set(++nbResets);
     }
 
     protected void explore() {
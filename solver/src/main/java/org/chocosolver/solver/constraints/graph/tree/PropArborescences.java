@@ -55,7 +55,11 @@ public class PropArborescences extends Propagator<DirectedGraphVar> {
     }
 
     public PropArborescences(DirectedGraphVar graph, boolean simple) {
-        super(new DirectedGraphVar[]{graph}, PropagatorPriority.QUADRATIC, false);
+        this(graph, simple, false);
+    }
+
+    protected PropArborescences(DirectedGraphVar graph, boolean simple, boolean reactOnFineEvent) {
+        super(new DirectedGraphVar[]{graph}, PropagatorPriority.QUADRATIC, reactOnFineEvent);
         g = graph;
         n = g.getNbMaxNodes();
         successors = new ISet[n];
@@ -76,6 +80,10 @@ public class PropArborescences extends Propagator<DirectedGraphVar> {
     public void propagate(int evtmask) throws ContradictionException {
         // reset data structures
         reset();
+        filter();
+    }
+
+    protected void filter() throws ContradictionException {
         // reach all nodes from root
         if (domFinder.findDominators()) {
             // remove backward arcs
@@ -108,15 +116,26 @@ public class PropArborescences extends Propagator<DirectedGraphVar> {
     protected void remBackArcs() throws ContradictionException {
         // remove backward arcs
         for (int x : g.getPotentialNodes()) {
-            g.removeEdge(x, x, this); // no loop
+            if (g.removeEdge(x, x, this)) { // no loop
+                removeFlowArc(x, x);
+            }
             for (int y : g.getPotentialSuccessorsOf(x)) {
                 if (domFinder.isDomminatedBy(x, y)) {
                     g.removeEdge(x, y, this);
+                    // backward arcs do not impact dominators, the flow graph is kept up-to-date
+                    removeFlowArc(x, y);
                 }
             }
         }
     }
 
+    /**
+     * Remove the arc (x,y) from the flow graph
+     */
+    protected void removeFlowArc(int x, int y) {
+        connectedGraph.removeEdge(x, y);
+    }
+
     protected void enforceDominators() throws ContradictionException {
         // enforce dominator nodes and arcs
         mandVert.clear();
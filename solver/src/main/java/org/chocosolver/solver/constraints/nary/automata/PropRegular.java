@@ -10,13 +10,17 @@
 package org.chocosolver.solver.constraints.nary.automata;
 
 import gnu.trove.iterator.TIntIterator;
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.hash.TIntIntHashMap;
 import gnu.trove.set.hash.TIntHashSet;
-import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.constraints.extension.RelationCache;
 import org.chocosolver.solver.constraints.nary.automata.FA.IAutomaton;
 import org.chocosolver.solver.constraints.nary.automata.structure.Node;
 import org.chocosolver.solver.constraints.nary.automata.structure.regular.Arc;
+import org.chocosolver.solver.constraints.nary.automata.structure.regular.LayeredMultiGraph;
 import org.chocosolver.solver.constraints.nary.automata.structure.regular.StoredDirectedMultiGraph;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -28,6 +32,7 @@ import org.chocosolver.util.procedure.UnaryIntProcedure;
 import org.jgrapht.graph.DirectedMultigraph;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.HashSet;
 
@@ -53,7 +58,7 @@ public class PropRegular extends Propagator<IntVar> {
         }
         rem_proc = new RemProc(this);
         this.automaton = automaton;
-        graph = initGraph(model.getEnvironment(), vars, automaton);
+        graph = new StoredDirectedMultiGraph(model.getEnvironment(), shareGraph(model, vars, automaton));
     }
 
     @Override
@@ -125,7 +130,61 @@ public class PropRegular extends Propagator<IntVar> {
 
     //////////////////////
 
-    private static StoredDirectedMultiGraph initGraph(IEnvironment environment, IntVar[] vars, IAutomaton auto) {
+    /**
+     * Returns the layered graph of a regular constraint of the model with the same automaton,
+     * up to state renaming, and the same domains, if relations are shared.
+     * Otherwise, the layered graph is built.
+     */
+    private static LayeredMultiGraph shareGraph(Model model, IntVar[] vars, IAutomaton auto) {
+        if (model.getSettings().enableRelationSharing()) {
+            int[][] domains = RelationCache.domains(vars);
+            return model.getRelationCache().computeIfAbsent(
+                    RelationCache.key("REGULAR", signature(auto, domains), domains),
+                    () -> initGraph(vars, auto));
+        }
+        return initGraph(vars, auto);
+    }
+
+    /**
+     * Encodes the states reachable from the initial state of <i>auto</i> and their transitions
+     * labelled by a value of <i>domains</i>.
+     * States are numbered in the order they are reached, values are visited in increasing order,
+     * so two automata with the same signature are identical up to state renaming
+     * (and two deterministic automata identical up to state renaming have the same signature).
+     */
+    private static int[] signature(IAutomaton auto, int[][] domains) {
+        int[] alphabet = Arrays.stream(domains).flatMapToInt(Arrays::stream).distinct().sorted().toArray();
+        TIntArrayList sig = new TIntArrayList();
+        TIntIntHashMap index = new TIntIntHashMap(16, .5f, -1, -1);
+        TIntArrayList states = new TIntArrayList();
+        TIntHashSet nexts = new TIntHashSet();
+        index.put(auto.getInitialState(), 0);
+        states.add(auto.getInitialState());
+        for (int s = 0; s < states.size(); s++) {
+            int k = states.get(s);
+            sig.add(auto.isFinal(k) ? 1 : 0);
+            for (int j : alphabet) {
+                nexts.clear();
+                auto.delta(k, j, nexts);
+                int[] succs = nexts.toArray();
+                for (int i = 0; i < succs.length; i++) {
+                    int id = index.get(succs[i]);
+                    if (id == -1) {
+                        id = states.size();
+                        index.put(succs[i], id);
+                        states.add(succs[i]);
+                    }
+                    succs[i] = id;
+                }
+                Arrays.sort(succs);
+                sig.add(succs.length);
+                sig.add(succs);
+            }
+        }
+        return sig.toArray();
+    }
+
+    private static LayeredMultiGraph initGraph(IntVar[] vars, IAutomaton auto) {
         int aid = 0;
         int nid = 0;
 
@@ -253,7 +312,7 @@ public class PropRegular extends Propagator<IntVar> {
                 if (!mark.get(layerIter.next()))
                     layerIter.remove();
         }
-        return new StoredDirectedMultiGraph(environment, graph, starts, offsets, totalSizes);
+        return new LayeredMultiGraph(graph, starts, offsets, totalSizes);
     }
 
 }
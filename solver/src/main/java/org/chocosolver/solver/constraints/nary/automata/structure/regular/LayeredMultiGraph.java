@@ -0,0 +1,109 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.automata.structure.regular;
+
+import gnu.trove.set.hash.TIntHashSet;
+import org.chocosolver.solver.constraints.nary.automata.structure.Node;
+import org.jgrapht.graph.DirectedMultigraph;
+
+import java.util.Set;
+
+/**
+ * The immutable part of a {@link StoredDirectedMultiGraph}: the arcs of the layered graph
+ * and, for each node and each pair (variable, value), the arcs attached to it.
+ * <br/>
+ * Such a graph only depends on the automaton and on the initial domains of the variables,
+ * so it can be shared between propagators.
+ * Each {@link StoredDirectedMultiGraph} built on it maintains its own backtrackable copies of the arc sets.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class LayeredMultiGraph {
+
+    final int[] starts;
+    final int[] offsets;
+
+    /**
+     * For each arc, its value, its destination node and its origin node
+     */
+    final int[] arcValues;
+    final int[] arcDests;
+    final int[] arcOrigs;
+
+    /**
+     * For each node, its layer and its outgoing and incoming arcs (<i>null</i> if there is none)
+     */
+    final int[] nodeLayers;
+    final int[][] outArcs;
+    final int[][] inArcs;
+
+    /**
+     * For each pair (variable, value), the arcs labelled by the value in the layer of the variable
+     * (<i>null</i> if there is none)
+     */
+    final int[][] supports;
+
+    public LayeredMultiGraph(DirectedMultigraph<Node, Arc> graph, int[] starts, int[] offsets, int supportLength) {
+        this.starts = starts;
+        this.offsets = offsets;
+
+        Set<Arc> arcs = graph.edgeSet();
+        arcValues = new int[arcs.size()];
+        arcDests = new int[arcs.size()];
+        arcOrigs = new int[arcs.size()];
+        // the order of the supports drives the order of the removals, and so the search: keep hash sets
+        TIntHashSet[] sups = new TIntHashSet[supportLength];
+        for (Arc a : arcs) {
+            arcValues[a.id] = a.value;
+            arcDests[a.id] = a.dest.id;
+            arcOrigs[a.id] = a.orig.id;
+
+            int idx = starts[a.orig.layer] + a.value - offsets[a.orig.layer];
+            if (sups[idx] == null)
+                sups[idx] = new TIntHashSet();
+            sups[idx].add(a.id);
+        }
+        supports = new int[supportLength][];
+        for (int i = 0; i < supportLength; i++) {
+            if (sups[i] != null)
+                supports[i] = sups[i].toArray();
+        }
+
+        Set<Node> nodes = graph.vertexSet();
+        nodeLayers = new int[nodes.size()];
+        outArcs = new int[nodes.size()][];
+        inArcs = new int[nodes.size()][];
+        for (Node n : nodes) {
+            nodeLayers[n.id] = n.layer;
+            outArcs[n.id] = ids(graph.outgoingEdgesOf(n));
+            inArcs[n.id] = ids(graph.incomingEdgesOf(n));
+        }
+    }
+
+    private static int[] ids(Set<Arc> arcs) {
+        if (arcs.isEmpty()) {
+            return null;
+        }
+        int[] ids = new int[arcs.size()];
+        int i = 0;
+        for (Arc a : arcs) {
+            ids[i++] = a.id;
+        }
+        return ids;
+    }
+
+    /**
+     * @return the number of arcs of this graph
+     */
+    public int getNbArcs() {
+        return arcValues.length;
+    }
+}
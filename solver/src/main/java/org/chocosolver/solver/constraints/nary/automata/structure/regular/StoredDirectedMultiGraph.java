@@ -9,7 +9,6 @@
  */
 package org.chocosolver.solver.constraints.nary.automata.structure.regular;
 
-import gnu.trove.set.hash.TIntHashSet;
 import gnu.trove.stack.TIntStack;
 import gnu.trove.stack.array.TIntArrayStack;
 import org.chocosolver.memory.IEnvironment;
@@ -22,8 +21,6 @@ import org.chocosolver.util.objects.StoredIndexedBipartiteSet;
 import org.chocosolver.util.objects.StoredIndexedBipartiteSetWithOffset;
 import org.jgrapht.graph.DirectedMultigraph;
 
-import java.util.Set;
-
 /**
  * Created by IntelliJ IDEA.
  * User: julien
@@ -33,93 +30,38 @@ import java.util.Set;
  */
 public class StoredDirectedMultiGraph {
 
-	private final int[] starts;
-	private final int[] offsets;
+	private final LayeredMultiGraph layout;
 	private final TIntStack stack = new TIntArrayStack();
 	private final StoredIndexedBipartiteSetWithOffset[] supports;
-
-	private class Nodes {
-		private int[] states;
-		private int[] layers;
-		private StoredIndexedBipartiteSetWithOffset[] outArcs;
-		private StoredIndexedBipartiteSetWithOffset[] inArcs;
-	}
-
-	private class Arcs {
-		private int[] values;
-		private int[] dests;
-		private int[] origs;
-	}
-
-	private final Nodes GNodes;
-	private final Arcs GArcs;
+	private final StoredIndexedBipartiteSetWithOffset[] outArcs;
+	private final StoredIndexedBipartiteSetWithOffset[] inArcs;
 
 	public StoredDirectedMultiGraph(IEnvironment environment, DirectedMultigraph<Node, Arc> graph,
 									int[] starts, int[] offsets, int supportLength) {
-		this.starts = starts;
-		this.offsets = offsets;
-
-		this.GNodes = new Nodes();
-		this.GArcs = new Arcs();
-
-		TIntHashSet[] sups = new TIntHashSet[supportLength];
-		this.supports = new StoredIndexedBipartiteSetWithOffset[supportLength];
-
-
-		Set<Arc> arcs = graph.edgeSet();
-
-		GArcs.values = new int[arcs.size()];
-		GArcs.dests = new int[arcs.size()];
-		GArcs.origs = new int[arcs.size()];
-
-		for (Arc a : arcs) {
-			GArcs.values[a.id] = a.value;
-			GArcs.dests[a.id] = a.dest.id;
-			GArcs.origs[a.id] = a.orig.id;
-
-			int idx = starts[a.orig.layer] + a.value - offsets[a.orig.layer];
-			if (sups[idx] == null)
-				sups[idx] = new TIntHashSet();
-			sups[idx].add(a.id);
-
-		}
-
-		for (int i = 0; i < sups.length; i++) {
-			if (sups[i] != null)
-				supports[i] = new StoredIndexedBipartiteSetWithOffset(environment, sups[i].toArray());
-		}
+		this(environment, new LayeredMultiGraph(graph, starts, offsets, supportLength));
+	}
 
-		Set<Node> nodes = graph.vertexSet();
-		GNodes.outArcs = new StoredIndexedBipartiteSetWithOffset[nodes.size()];
-		GNodes.inArcs = new StoredIndexedBipartiteSetWithOffset[nodes.size()];
-		GNodes.layers = new int[nodes.size()];
-		GNodes.states = new int[nodes.size()];
-
-
-		for (Node n : nodes) {
-			GNodes.layers[n.id] = n.layer;
-			GNodes.states[n.id] = n.state;
-			int i;
-			Set<Arc> outarc = graph.outgoingEdgesOf(n);
-			if (!outarc.isEmpty()) {
-				int[] out = new int[outarc.size()];
-				i = 0;
-				for (Arc a : outarc) {
-					out[i++] = a.id;
-				}
-				GNodes.outArcs[n.id] = new StoredIndexedBipartiteSetWithOffset(environment, out);
-			}
+	/**
+	 * Create the backtrackable arc sets of a layered graph, which is not modified.
+	 *
+	 * @param environment backtracking environment
+	 * @param layout      a layered graph, possibly shared with other propagators
+	 */
+	public StoredDirectedMultiGraph(IEnvironment environment, LayeredMultiGraph layout) {
+		this.layout = layout;
+		this.supports = stored(environment, layout.supports);
+		this.outArcs = stored(environment, layout.outArcs);
+		this.inArcs = stored(environment, layout.inArcs);
+	}
 
-			Set<Arc> inarc = graph.incomingEdgesOf(n);
-			if (!inarc.isEmpty()) {
-				int[] in = new int[inarc.size()];
-				i = 0;
-				for (Arc a : inarc) {
-					in[i++] = a.id;
-				}
-				GNodes.inArcs[n.id] = new StoredIndexedBipartiteSetWithOffset(environment, in);
-			}
+	private static StoredIndexedBipartiteSetWithOffset[] stored(IEnvironment environment, int[][] arcs) {
+		StoredIndexedBipartiteSetWithOffset[] sets = new StoredIndexedBipartiteSetWithOffset[arcs.length];
+		for (int i = 0; i < arcs.length; i++) {
+			if (arcs[i] != null)
+				// the sets reorder their values, hence the copy
+				sets[i] = new StoredIndexedBipartiteSetWithOffset(environment, arcs[i].clone());
 		}
+		return sets;
 	}
 
 	//***********************************************************************************
@@ -140,7 +82,7 @@ public class StoredDirectedMultiGraph {
 	//***********************************************************************************
 
 	private int getIdx(int i, int j) {
-		return starts[i] + j - offsets[i];
+		return layout.starts[i] + j - layout.offsets[i];
 	}
 
 	protected final StoredIndexedBipartiteSetWithOffset getSupport(int i, int j) {
@@ -151,11 +93,11 @@ public class StoredDirectedMultiGraph {
 		while (stack.size() > 0) {
 			int arcId = stack.pop();
 
-			int orig = GArcs.origs[arcId];
-			int dest = GArcs.dests[arcId];
+			int orig = layout.arcOrigs[arcId];
+			int dest = layout.arcDests[arcId];
 
-			int layer = GNodes.layers[orig];
-			int value = GArcs.values[arcId];
+			int layer = layout.nodeLayers[orig];
+			int value = layout.arcValues[arcId];
 
 			StoredIndexedBipartiteSetWithOffset support = getSupport(layer, value);
 			support.remove(arcId);
@@ -171,13 +113,13 @@ public class StoredDirectedMultiGraph {
 			}
 
 			DisposableIntIterator it;
-			StoredIndexedBipartiteSetWithOffset out = GNodes.outArcs[orig];
+			StoredIndexedBipartiteSetWithOffset out = outArcs[orig];
 			StoredIndexedBipartiteSetWithOffset in;
 
 			out.remove(arcId);
 
-			if (GNodes.layers[orig] > 0 && out.isEmpty()) {
-				in = GNodes.inArcs[orig];
+			if (layout.nodeLayers[orig] > 0 && out.isEmpty()) {
+				in = inArcs[orig];
 				if (in != null) {
 					it = in.getIterator();
 					while (it.hasNext()) {
@@ -188,11 +130,11 @@ public class StoredDirectedMultiGraph {
 				}
 			}
 
-			in = GNodes.inArcs[dest];
+			in = inArcs[dest];
 			in.remove(arcId);
 
-			if (GNodes.layers[dest] < propagator.getNbVars() && in.isEmpty()) {
-				out = GNodes.outArcs[dest];
+			if (layout.nodeLayers[dest] < propagator.getNbVars() && in.isEmpty()) {
+				out = outArcs[dest];
 				if (out != null) {
 					it = out.getIterator();
 					while (it.hasNext()) {
@@ -0,0 +1,136 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.util.sort.ArraySort;
+
+/**
+ * Resource profile made of the compulsory parts of tasks (time-table),
+ * stored as a sorted list of time points with the height of the profile from each of them.
+ * Built in O(n log n), the energy of the profile after a given time is then computed in O(log n).
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+class CompulsoryProfile {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    private final int[] events;
+    private final long[] deltas;
+    private final ArraySort<?> sorter;
+    /**
+     * Time points of the profile
+     */
+    private final long[] times;
+    /**
+     * Height of the profile in [times[k], times[k+1])
+     */
+    private final long[] heights;
+    /**
+     * Energy of the profile after times[k]
+     */
+    private final long[] after;
+    private int size;
+
+    //***********************************************************************************
+    // CONSTRUCTORS
+    //***********************************************************************************
+
+    CompulsoryProfile(int n) {
+        events = new int[2 * n];
+        deltas = new long[2 * n];
+        sorter = new ArraySort<>(2 * n, false, true);
+        times = new long[2 * n + 1];
+        heights = new long[2 * n + 1];
+        after = new long[2 * n + 1];
+    }
+
+    //***********************************************************************************
+    // METHODS
+    //***********************************************************************************
+
+    /**
+     * Build the profile of the compulsory parts [from[i], to[i]) of height h[i], for i in [0, m)
+     *
+     * @return the maximum height of the profile
+     */
+    long build(int m, long[] from, long[] to, long[] h) {
+        int k = 0;
+        for (int i = 0; i < m; i++) {
+            if (from[i] < to[i] && h[i] > 0) {
+                events[k] = 2 * i;
+                deltas[2 * i] = h[i];
+                k++;
+                events[k] = 2 * i + 1;
+                deltas[2 * i + 1] = -h[i];
+                k++;
+            }
+        }
+        sorter.sort(events, k, (a, b) -> Long.compare(time(a, from, to), time(b, from, to)));
+        size = 0;
+        long height = 0;
+        long max = 0;
+        for (int j = 0; j < k; j++) {
+            long t = time(events[j], from, to);
+            height += deltas[events[j]];
+            if (size > 0 && times[size - 1] == t) {
+                heights[size - 1] = height;
+            } else {
+                times[size] = t;
+                heights[size] = height;
+                size++;
+            }
+        }
+        long e = 0;
+        after[size] = 0;
+        for (int j = size - 1; j >= 0; j--) {
+            max = Math.max(max, heights[j]);
+            if (j + 1 < size) {
+                e += heights[j] * (times[j + 1] - times[j]);
+            }
+            after[j] = e;
+        }
+        return max;
+    }
+
+    private static long time(int event, long[] from, long[] to) {
+        return (event & 1) == 0 ? from[event >> 1] : to[event >> 1];
+    }
+
+    /**
+     * @param t a time point
+     * @return the energy of the profile from <i>t</i> onwards
+     */
+    long energyAfter(long t) {
+        // last time point lower than or equal to t
+        int lo = 0;
+        int hi = size - 1;
+        int k = -1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (times[mid] <= t) {
+                k = mid;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        if (k < 0) {
+            return size == 0 ? 0 : after[0];
+        }
+        if (k == size - 1) {
+            return 0;
+        }
+        return after[k + 1] + heights[k] * (times[k + 1] - t);
+    }
+}
@@ -185,6 +185,24 @@ public class Cumulative extends Constraint {
 				return new DisjunctiveTaskIntervalFilter(n);
 			}
 		},
+		/**
+		 * overload checking with time-table, based on a Theta-tree, in O(n log n)
+		 * only detects failures (no domain reduction)
+		 */
+		OVERLOAD_CHECK {
+			public CumulFilter make(int n){
+				return new OverloadCheckCumulFilter(n);
+			}
+		},
+		/**
+		 * time-table edge-finding, based on a Theta-Lambda tree, in O(n log n)
+		 * not idempotent
+		 */
+		TTEF {
+			public CumulFilter make(int n){
+				return new TTEFCumulFilter(n);
+			}
+		},
 		/**
 		 * Combines above filters as a black-box
 		 * not idempotent
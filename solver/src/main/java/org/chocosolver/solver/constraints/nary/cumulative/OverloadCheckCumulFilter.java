@@ -0,0 +1,169 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+import org.chocosolver.util.objects.tree.ThetaLambdaTree;
+import org.chocosolver.util.sort.ArraySort;
+
+/**
+ * Overload checking, based on a Theta-tree (P. Vilím, "Max Energy Filtering Algorithm for Discrete Cumulative
+ * Resources", CPAIOR 2009), strengthened with the compulsory parts of the tasks (time-table).
+ * <p>
+ * Each task is split into its compulsory part, which makes the time-table, and its free part.
+ * Fails as soon as, for some time window [a,b), the energy of the free parts of the tasks
+ * within [a,b) plus the energy of the time-table in [a,b) exceeds the capacity times (b - a),
+ * or as soon as the time-table exceeds the capacity.
+ * Only windows starting at the earliest starting time of a task and ending at the latest completion time
+ * of another are considered, in O(n log n).
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class OverloadCheckCumulFilter extends CumulFilter {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    /**
+     * Beyond this horizon times capacity, the filter does nothing to prevent overflows
+     */
+    private static final long MAX_ENERGY = 1L << 52;
+
+    protected final int[] ids;
+    protected final long[] est;
+    protected final long[] lct;
+    protected final long[] dur;
+    protected final long[] hei;
+    protected final long[] cFrom;
+    protected final long[] cTo;
+    protected final long[] free;
+    protected final int[] byEst;
+    protected final int[] byLct;
+    protected final int[] rank;
+    private final ArraySort<?> sorter;
+    protected final ThetaLambdaTree tree;
+    protected final CompulsoryProfile profile;
+    protected int m;
+    protected long capacity;
+
+    //***********************************************************************************
+    // CONSTRUCTORS
+    //***********************************************************************************
+
+    public OverloadCheckCumulFilter(int n) {
+        super(n);
+        ids = new int[n];
+        est = new long[n];
+        lct = new long[n];
+        dur = new long[n];
+        hei = new long[n];
+        cFrom = new long[n];
+        cTo = new long[n];
+        free = new long[n];
+        byEst = new int[n];
+        byLct = new int[n];
+        rank = new int[n];
+        sorter = new ArraySort<>(n, false, true);
+        tree = new ThetaLambdaTree(n);
+        profile = new CompulsoryProfile(n);
+    }
+
+    //***********************************************************************************
+    // METHODS
+    //***********************************************************************************
+
+    @Override
+    public void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, Propagator<IntVar> aCause) throws ContradictionException {
+        if (load(s, d, e, h, capa, tasks, false, aCause)) {
+            overloadCheck(aCause);
+        }
+    }
+
+    /**
+     * Load the tasks, sort them and build the time-table.
+     * In the mirror version, time is reversed, so that the same algorithms filter the ends of the tasks.
+     *
+     * @return false if the filter should not be applied
+     * @throws ContradictionException if the time-table exceeds the capacity
+     */
+    protected boolean load(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, boolean mirror,
+                           Propagator<IntVar> aCause) throws ContradictionException {
+        capacity = capa.getUB();
+        m = 0;
+        long horizon = 0;
+        ISetIterator tIter = tasks.iterator();
+        while (tIter.hasNext()) {
+            int i = tIter.nextInt();
+            ids[m] = i;
+            if (mirror) {
+                est[m] = -(long) e[i].getUB();
+                lct[m] = -(long) s[i].getLB();
+                cFrom[m] = -(long) e[i].getLB();
+                cTo[m] = -(long) s[i].getUB();
+            } else {
+                est[m] = s[i].getLB();
+                lct[m] = e[i].getUB();
+                cFrom[m] = s[i].getUB();
+                cTo[m] = e[i].getLB();
+            }
+            dur[m] = Math.max(0, d[i].getLB());
+            hei[m] = Math.max(0, h[i].getLB());
+            free[m] = hei[m] * Math.max(0, dur[m] - Math.max(0, cTo[m] - cFrom[m]));
+            horizon = Math.max(horizon, Math.max(Math.abs(est[m]), Math.abs(lct[m])));
+            byEst[m] = m;
+            byLct[m] = m;
+            m++;
+        }
+        if (m == 0 || horizon * Math.max(1, capacity) > MAX_ENERGY) {
+            return false;
+        }
+        if (profile.build(m, cFrom, cTo, hei) > capacity) {
+            aCause.fails();
+        }
+        sorter.sort(byEst, m, (a, b) -> Long.compare(est[a], est[b]));
+        sorter.sort(byLct, m, (a, b) -> Long.compare(lct[a], lct[b]));
+        for (int k = 0; k < m; k++) {
+            rank[byEst[k]] = k;
+        }
+        return true;
+    }
+
+    /**
+     * @return the envelope of task <i>i</i>, that is, capacity * est - energy of the time-table after est + free energy
+     */
+    protected long envelope(int i) {
+        return capacity * est[i] - profile.energyAfter(est[i]) + free[i];
+    }
+
+    /**
+     * @return the bound the envelope of the tasks ending before <i>t</i> must not exceed
+     */
+    protected long bound(long t) {
+        return capacity * t - profile.energyAfter(t);
+    }
+
+    private void overloadCheck(Propagator<IntVar> aCause) throws ContradictionException {
+        tree.clear();
+        for (int k = 0; k < m; k++) {
+            int j = byLct[k];
+            tree.addToTheta(rank[j], free[j], envelope(j));
+            if ((k == m - 1 || lct[byLct[k + 1]] != lct[j]) && tree.getEnvelope() > bound(lct[j])) {
+                aCause.fails();
+            }
+        }
+    }
+}
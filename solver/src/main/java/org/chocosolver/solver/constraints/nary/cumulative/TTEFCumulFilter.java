@@ -0,0 +1,109 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.cumulative;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.ISet;
+
+/**
+ * Time-table edge-finding (P. Vilím, "Timetable Edge Finding Filtering Algorithm for Discrete Cumulative
+ * Resources", CPAIOR 2011), based on a Theta-Lambda tree.
+ * <p>
+ * As in {@link OverloadCheckCumulFilter}, each task is split into its compulsory part and its free part.
+ * Windows [a,b) are scanned by decreasing <i>b</i>, the tasks ending after <i>b</i> being gray.
+ * When adding a gray task <i>i</i> to the window overloads it, the earliest starting time of <i>i</i> is
+ * raised so that the part of <i>i</i> within [a,b) fits into the energy left by the free parts of the tasks
+ * within [a,b) and the time-table.
+ * The same is done on reversed time to filter the ends of the tasks.
+ * </p>
+ * Each direction runs in O(n log n), the adjustment of a task being computed on the window that detects it.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class TTEFCumulFilter extends OverloadCheckCumulFilter {
+
+    //***********************************************************************************
+    // CONSTRUCTORS
+    //***********************************************************************************
+
+    public TTEFCumulFilter(int n) {
+        super(n);
+    }
+
+    //***********************************************************************************
+    // METHODS
+    //***********************************************************************************
+
+    @Override
+    public void filter(IntVar[] s, IntVar[] d, IntVar[] e, IntVar[] h, IntVar capa, ISet tasks, Propagator<IntVar> aCause) throws ContradictionException {
+        if (load(s, d, e, h, capa, tasks, false, aCause)) {
+            edgeFinding(s, e, false, aCause);
+        }
+        if (load(s, d, e, h, capa, tasks, true, aCause)) {
+            edgeFinding(s, e, true, aCause);
+        }
+    }
+
+    private void edgeFinding(IntVar[] s, IntVar[] e, boolean mirror, Propagator<IntVar> aCause) throws ContradictionException {
+        tree.clear();
+        for (int j = 0; j < m; j++) {
+            tree.setTheta(rank[j], free[j], envelope(j));
+        }
+        tree.refresh();
+        for (int k = m - 1; k >= 0; k--) {
+            int j = byLct[k];
+            long b = lct[j];
+            if (k == m - 1 || lct[byLct[k + 1]] != b) {
+                long bound = bound(b);
+                if (tree.getEnvelope() > bound) {
+                    aCause.fails();
+                }
+                while (tree.getLambdaEnvelope() > bound) {
+                    int i = byEst[tree.getResponsibleLambda()];
+                    int a = tree.getLambdaEnvelopeStart();
+                    adjust(s, e, i, est[byEst[a]], b, tree.getEnergyFrom(a), mirror, aCause);
+                    tree.remove(rank[i]);
+                }
+            }
+            tree.moveToLambda(rank[j]);
+        }
+    }
+
+    /**
+     * Raise the earliest starting time of <i>i</i> wrt the window [a,b), given the free energy
+     * <i>energy</i> of tasks within the window.
+     * If <i>i</i> starts at <i>t</i>, its part in [a,b), minus its compulsory part in [a,b) already counted
+     * in the time-table, must fit into the energy left.
+     */
+    private void adjust(IntVar[] s, IntVar[] e, int i, long a, long b, long energy, boolean mirror,
+                        Propagator<IntVar> aCause) throws ContradictionException {
+        // a gray task starting after b may be detected on an empty window
+        if (a >= b || hei[i] == 0 || dur[i] == 0) {
+            return;
+        }
+        long tt = profile.energyAfter(a) - profile.energyAfter(b);
+        long ci = hei[i] * Math.max(0, Math.min(cTo[i], b) - Math.max(cFrom[i], a));
+        // maximum length of i within [a,b)
+        long max = Math.floorDiv(capacity * (b - a) - energy - tt + ci, hei[i]);
+        if (max < b - a && dur[i] > max && est[i] + dur[i] > a + max) {
+            long t = b - max;
+            if (t > est[i]) {
+                if (mirror) {
+                    e[ids[i]].updateUpperBound((int) Math.max(Integer.MIN_VALUE, -t), aCause);
+                } else {
+                    s[ids[i]].updateLowerBound((int) Math.min(Integer.MAX_VALUE, t), aCause);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,476 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.disjunctive;
+
+import gnu.trove.list.array.TIntArrayList;
+import org.chocosolver.sat.MiniSat;
+import org.chocosolver.sat.Reason;
+import org.chocosolver.solver.constraints.Explained;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.tree.ThetaLambdaTree;
+import org.chocosolver.util.sort.ArraySort;
+import org.chocosolver.util.tools.ArrayUtils;
+
+import java.util.Arrays;
+
+/**
+ * Propagator for the disjunctive constraint: tasks do not overlap in time.
+ * Tasks whose duration is zero can be scheduled at any time.
+ * <p>
+ * Filtering algorithms of P. Vilím ("Global constraints in scheduling", PhD thesis, 2007),
+ * all based on a Theta-Lambda tree and running in O(n log n):
+ * <ul>
+ *     <li>overload checking,</li>
+ *     <li>edge-finding,</li>
+ *     <li>detectable precedences,</li>
+ *     <li>not-last and, on reversed time, not-first.</li>
+ * </ul>
+ * Edge-finding and detectable precedences are also applied on reversed time, to filter the ends of the tasks.
+ * The algorithms are run until a fix point is reached.
+ * </p>
+ * Each failure or filtering is explained, for lazy clause generation,
+ * by the bounds of the tasks of the window which triggers it.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+@Explained
+public class PropDisjunctive extends Propagator<IntVar> {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    private static final long NONE = Long.MIN_VALUE;
+
+    private final int n;
+    private final IntVar[] s;
+    private final IntVar[] d;
+    private final IntVar[] e;
+    /**
+     * Number of tasks of positive minimum duration, considered in the current pass
+     */
+    private int m;
+    /**
+     * Set to <i>true</i> when time is reversed
+     */
+    private boolean mirror;
+    private final int[] ids;
+    private final long[] est;
+    private final long[] lct;
+    private final long[] dur;
+    private final int[] byEst;
+    private final int[] byLct;
+    private final int[] byEct;
+    private final int[] byLst;
+    private final int[] rank;
+    private final boolean[] inTheta;
+    private final ArraySort<?> sorter;
+    private final ThetaLambdaTree tree;
+    private final long[] newEst;
+    private final long[] newLct;
+    private final Reason[] estReason;
+    private final Reason[] lctReason;
+    // for explanations
+    private final long[] reqEst;
+    private final long[] reqLct;
+    private final boolean[] required;
+    private final TIntArrayList touched;
+    private final TIntArrayList ps;
+
+    //***********************************************************************************
+    // CONSTRUCTORS
+    //***********************************************************************************
+
+    /**
+     * Disjunctive propagator
+     *
+     * @param tasks tasks that should not overlap
+     */
+    public PropDisjunctive(Task[] tasks) {
+        super(extract(tasks), PropagatorPriority.QUADRATIC, false);
+        this.n = tasks.length;
+        this.s = Arrays.copyOfRange(vars, 0, n);
+        this.d = Arrays.copyOfRange(vars, n, 2 * n);
+        this.e = Arrays.copyOfRange(vars, 2 * n, 3 * n);
+        this.ids = new int[n];
+        this.est = new long[n];
+        this.lct = new long[n];
+        this.dur = new long[n];
+        this.byEst = new int[n];
+        this.byLct = new int[n];
+        this.byEct = new int[n];
+        this.byLst = new int[n];
+        this.rank = new int[n];
+        this.inTheta = new boolean[n];
+        this.sorter = new ArraySort<>(n, false, true);
+        this.tree = new ThetaLambdaTree(n);
+        this.newEst = new long[n];
+        this.newLct = new long[n];
+        this.estReason = new Reason[n];
+        this.lctReason = new Reason[n];
+        this.reqEst = new long[n];
+        this.reqLct = new long[n];
+        this.required = new boolean[n];
+        this.touched = new TIntArrayList(n);
+        this.ps = new TIntArrayList();
+    }
+
+    private static IntVar[] extract(Task[] tasks) {
+        IntVar[] starts = new IntVar[tasks.length];
+        IntVar[] durations = new IntVar[tasks.length];
+        IntVar[] ends = new IntVar[tasks.length];
+        for (int i = 0; i < tasks.length; i++) {
+            starts[i] = tasks[i].getStart();
+            durations[i] = tasks[i].getDuration();
+            ends[i] = tasks[i].getEnd();
+        }
+        return ArrayUtils.append(starts, durations, ends);
+    }
+
+    //***********************************************************************************
+    // METHODS
+    //***********************************************************************************
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return IntEventType.boundAndInst();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        boolean change;
+        do {
+            change = filter(false);
+            change |= filter(true);
+        } while (change);
+    }
+
+    /**
+     * One pass of each filtering algorithm, on one direction of time
+     *
+     * @param mirror set to <i>true</i> to reverse time
+     * @return <i>true</i> if a bound has been modified
+     */
+    private boolean filter(boolean mirror) throws ContradictionException {
+        if (!load(mirror)) {
+            return false;
+        }
+        edgeFinding();
+        detectablePrecedences();
+        notLast();
+        boolean change = false;
+        for (int k = 0; k < m; k++) {
+            int i = ids[k];
+            if (newEst[k] > est[k]) {
+                if (mirror) {
+                    change |= e[i].updateUpperBound(toInt(-newEst[k]), this, estReason[k]);
+                } else {
+                    change |= s[i].updateLowerBound(toInt(newEst[k]), this, estReason[k]);
+                }
+            }
+            if (newLct[k] < lct[k]) {
+                if (mirror) {
+                    change |= s[i].updateLowerBound(toInt(-newLct[k]), this, lctReason[k]);
+                } else {
+                    change |= e[i].updateUpperBound(toInt(newLct[k]), this, lctReason[k]);
+                }
+            }
+        }
+        return change;
+    }
+
+    private static int toInt(long v) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, v));
+    }
+
+    /**
+     * Load the tasks of positive minimum duration and sort them
+     *
+     * @return <i>false</i> if there are not enough tasks to filter
+     */
+    private boolean load(boolean mirror) {
+        this.mirror = mirror;
+        m = 0;
+        for (int i = 0; i < n; i++) {
+            if (d[i].getLB() > 0) {
+                ids[m] = i;
+                if (mirror) {
+                    est[m] = -(long) e[i].getUB();
+                    lct[m] = -(long) s[i].getLB();
+                } else {
+                    est[m] = s[i].getLB();
+                    lct[m] = e[i].getUB();
+                }
+                dur[m] = d[i].getLB();
+                newEst[m] = est[m];
+                newLct[m] = lct[m];
+                byEst[m] = byLct[m] = byEct[m] = byLst[m] = m;
+                m++;
+            }
+        }
+        if (m < 2) {
+            return false;
+        }
+        sorter.sort(byEst, m, (a, b) -> Long.compare(est[a], est[b]));
+        sorter.sort(byLct, m, (a, b) -> Long.compare(lct[a], lct[b]));
+        sorter.sort(byEct, m, (a, b) -> Long.compare(est[a] + dur[a], est[b] + dur[b]));
+        sorter.sort(byLst, m, (a, b) -> Long.compare(lct[a] - dur[a], lct[b] - dur[b]));
+        for (int k = 0; k < m; k++) {
+            rank[byEst[k]] = k;
+        }
+        return true;
+    }
+
+    private void clearTheta() {
+        tree.clear();
+        Arrays.fill(inTheta, 0, m, false);
+    }
+
+    private void addToTheta(int k) {
+        tree.addToTheta(rank[k], dur[k], est[k] + dur[k]);
+        inTheta[k] = true;
+    }
+
+    private void removeFromTheta(int k) {
+        tree.remove(rank[k]);
+        inTheta[k] = false;
+    }
+
+    /**
+     * Overload checking and edge-finding.
+     * Tasks are removed from Θ by decreasing latest completion time and put in Λ.
+     * Θ must complete before the latest completion time of its tasks, and a task of Λ which cannot
+     * complete with Θ before that time must start after Θ.
+     */
+    private void edgeFinding() throws ContradictionException {
+        clearTheta();
+        for (int k = 0; k < m; k++) {
+            tree.setTheta(rank[k], dur[k], est[k] + dur[k]);
+            inTheta[k] = true;
+        }
+        tree.refresh();
+        for (int q = m - 1; q >= 0; q--) {
+            int j = byLct[q];
+            long b = lct[j];
+            if (tree.getEnvelope() > b) {
+                fails(lcg() ? explainOverload(b) : Reason.undef());
+            }
+            while (tree.getLambdaEnvelope() > b) {
+                int i = byEst[tree.getResponsibleLambda()];
+                long ect = tree.getEnvelope();
+                if (ect > newEst[i]) {
+                    newEst[i] = ect;
+                    estReason[i] = lcg() ? explainEdgeFinding(i, b) : Reason.undef();
+                }
+                tree.remove(rank[i]);
+            }
+            tree.moveToLambda(rank[j]);
+            inTheta[j] = false;
+        }
+    }
+
+    /**
+     * Detectable precedences: a task must start after the tasks that cannot start after its earliest completion time.
+     */
+    private void detectablePrecedences() {
+        clearTheta();
+        int q = 0;
+        for (int x = 0; x < m; x++) {
+            int i = byEct[x];
+            long ect = est[i] + dur[i];
+            while (q < m && ect > lct[byLst[q]] - dur[byLst[q]]) {
+                addToTheta(byLst[q++]);
+            }
+            boolean in = inTheta[i];
+            if (in) {
+                removeFromTheta(i);
+            }
+            long ectTheta = tree.getEnvelope();
+            if (ectTheta > newEst[i]) {
+                newEst[i] = ectTheta;
+                estReason[i] = lcg() ? explainPrecedences(i) : Reason.undef();
+            }
+            if (in) {
+                addToTheta(i);
+            }
+        }
+    }
+
+    /**
+     * Not-last: a task which cannot be the last one of a set of tasks must complete before the latest starting time
+     * of one of them.
+     */
+    private void notLast() {
+        clearTheta();
+        int q = 0;
+        int last = -1;
+        int prev = -1;
+        for (int x = 0; x < m; x++) {
+            int i = byLct[x];
+            while (q < m && lct[i] > lct[byLst[q]] - dur[byLst[q]]) {
+                prev = last;
+                last = byLst[q++];
+                addToTheta(last);
+            }
+            boolean in = inTheta[i];
+            if (in) {
+                removeFromTheta(i);
+            }
+            long lst = lct[i] - dur[i];
+            // the task of Θ \ {i} with the largest latest starting time
+            int j = last == i ? prev : last;
+            if (j >= 0 && tree.getEnvelope() > lst) {
+                long bound = lct[j] - dur[j];
+                if (bound < newLct[i]) {
+                    newLct[i] = bound;
+                    lctReason[i] = lcg() ? explainNotLast(i) : Reason.undef();
+                }
+            }
+            if (in) {
+                addToTheta(i);
+            }
+        }
+    }
+
+    //***********************************************************************************
+    // EXPLANATIONS
+    //***********************************************************************************
+
+    /**
+     * Require task <i>k</i> to start after <i>a</i>, to complete before <i>b</i> and to last at least its
+     * minimum duration
+     *
+     * @param a a time, or {@link #NONE}
+     * @param b a time, or {@link #NONE}
+     */
+    private void require(int k, long a, long b) {
+        if (!required[k]) {
+            required[k] = true;
+            reqEst[k] = NONE;
+            reqLct[k] = NONE;
+            touched.add(k);
+        }
+        if (a != NONE) {
+            reqEst[k] = Math.max(reqEst[k], a);
+        }
+        if (b != NONE) {
+            reqLct[k] = reqLct[k] == NONE ? b : Math.min(reqLct[k], b);
+        }
+    }
+
+    /**
+     * Require the tasks of Θ from <i>leaf</i> to start after the earliest starting time of <i>leaf</i>
+     * and to complete before <i>b</i> (or their own latest completion time if <i>b</i> is {@link #NONE})
+     */
+    private long requireTheta(int leaf, long b) {
+        long a = est[byEst[leaf]];
+        for (int r = leaf; r < m; r++) {
+            int k = byEst[r];
+            if (inTheta[k]) {
+                require(k, a, b == NONE ? lct[k] : b);
+            }
+        }
+        return a;
+    }
+
+    private Reason flush() {
+        ps.resetQuick();
+        ps.add(0);
+        for (int x = 0; x < touched.size(); x++) {
+            int k = touched.getQuick(x);
+            int i = ids[k];
+            if (reqEst[k] != NONE) {
+                ps.add(mirror ?
+                        MiniSat.neg(e[i].getLELit(toInt(-reqEst[k]))) :
+                        MiniSat.neg(s[i].getGELit(toInt(reqEst[k]))));
+            }
+            if (reqLct[k] != NONE) {
+                ps.add(mirror ?
+                        MiniSat.neg(s[i].getGELit(toInt(-reqLct[k]))) :
+                        MiniSat.neg(e[i].getLELit(toInt(reqLct[k]))));
+            }
+            if (!d[i].isAConstant()) {
+                ps.add(MiniSat.neg(d[i].getGELit(toInt(dur[k]))));
+            }
+            required[k] = false;
+        }
+        touched.resetQuick();
+        if (ps.size() == 2) {
+            return Reason.r(ps.getQuick(1));
+        }
+        return Reason.r(ps.toArray());
+    }
+
+    /**
+     * Θ from the start of its envelope cannot complete before <i>b</i>
+     */
+    private Reason explainOverload(long b) {
+        requireTheta(tree.getEnvelopeStart(), b);
+        return flush();
+    }
+
+    /**
+     * Task <i>i</i>, of Λ, cannot complete with Θ before <i>b</i>, so it starts after the completion of Θ
+     */
+    private Reason explainEdgeFinding(int i, long b) {
+        long a = requireTheta(tree.getLambdaEnvelopeStart(), b);
+        require(i, a, NONE);
+        requireTheta(tree.getEnvelopeStart(), b);
+        return flush();
+    }
+
+    /**
+     * The tasks of Θ \ {i} cannot start after the earliest completion time of <i>i</i>
+     */
+    private Reason explainPrecedences(int i) {
+        require(i, est[i], NONE);
+        requireTheta(tree.getEnvelopeStart(), NONE);
+        return flush();
+    }
+
+    /**
+     * The tasks of Θ \ {i} cannot complete before the latest starting time of <i>i</i>
+     */
+    private Reason explainNotLast(int i) {
+        require(i, NONE, lct[i]);
+        requireTheta(tree.getEnvelopeStart(), NONE);
+        return flush();
+    }
+
+    @Override
+    public ESat isEntailed() {
+        int[] order = new int[n];
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            if (!s[i].isInstantiated() || !d[i].isInstantiated() || !e[i].isInstantiated()) {
+                return ESat.UNDEFINED;
+            }
+            if (d[i].getValue() > 0) {
+                order[k++] = i;
+            }
+        }
+        int[] sorted = Arrays.stream(order, 0, k).boxed()
+                .sorted((a, b) -> Integer.compare(s[a].getValue(), s[b].getValue()))
+                .mapToInt(Integer::intValue).toArray();
+        for (int x = 1; x < k; x++) {
+            if (e[sorted[x - 1]].getValue() > s[sorted[x]].getValue()) {
+                return ESat.FALSE;
+            }
+        }
+        return ESat.TRUE;
+    }
+}
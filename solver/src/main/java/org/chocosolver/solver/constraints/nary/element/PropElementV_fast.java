@@ -18,6 +18,7 @@ import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.tools.ArrayUtils;
 
+import java.util.Arrays;
 import java.util.Random;
 
 import static java.lang.Integer.MAX_VALUE;
@@ -47,6 +48,10 @@ public class PropElementV_fast extends Propagator<IntVar> {
     private final Random rd;
     private int calls, success;
     private boolean rem;
+    /**
+     * Domain of a variable, as a bitset starting at its lower bound
+     */
+    private long[] mask = new long[1];
 
     //***********************************************************************************
     // CONSTRUCTORS
@@ -173,6 +178,10 @@ public class PropElementV_fast extends Propagator<IntVar> {
     private boolean filterFrom(IntVar a, IntVar b) throws ContradictionException {
         boolean filter = false;
         if (a.getDomainSize() != b.getDomainSize()) {
+            if (!lcg() && a.hasEnumeratedDomain() && b.hasEnumeratedDomain()) {
+                // no reason needed, the values are removed at once
+                return a.removeAllValuesBut(maskOf(b), b.getLB(), this);
+            }
             int lb = a.getLB();
             int ub = a.getUB();
             for (int i = lb; i <= ub; i = a.nextValue(i)) {
@@ -185,6 +194,21 @@ public class PropElementV_fast extends Propagator<IntVar> {
         return filter;
     }
 
+    private long[] maskOf(IntVar b) {
+        int lb = b.getLB();
+        int ub = b.getUB();
+        int n = ((ub - lb) >> 6) + 1;
+        if (mask.length < n) {
+            mask = new long[n];
+        } else {
+            Arrays.fill(mask, 0L);
+        }
+        for (int v = lb; v <= ub; v = b.nextValue(v)) {
+            mask[(v - lb) >> 6] |= 1L << (v - lb);
+        }
+        return mask;
+    }
+
     private boolean disjoint(IntVar a, IntVar b) {
         int la, ua, lb, ub;
         if ((la = a.getLB()) > (ub = b.getUB()) || (lb = b.getLB()) > (ua = a.getUB())) {
@@ -0,0 +1,281 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.lp;
+
+import gnu.trove.map.hash.TIntIntHashMap;
+import gnu.trove.set.hash.TIntHashSet;
+import org.chocosolver.lp.SparseLinearProgram;
+import org.chocosolver.solver.constraints.ILinearPropagator;
+import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A propagator that bounds an objective variable with the linear relaxation of the model.
+ * <p>
+ * The linear constraints (that is, the propagators implementing {@link ILinearPropagator})
+ * connected to the objective variable, directly or through other linear constraints, are gathered
+ * once, when this propagator is created, into a {@link SparseLinearProgram}.
+ * Then, on each propagation, the bounds of the linear program are updated from the domains of the variables
+ * and the linear program is solved again, starting from the previous optimal basis.
+ * The optimal value bounds the objective variable and the reduced costs fix the other variables
+ * wrt the current bound of the objective variable (reduced-cost fixing).
+ * </p>
+ * <p>
+ * Since solving the linear program can be costly, it is only done every <i>frequency</i> nodes,
+ * at most once per fixpoint, and the number of simplex iterations per resolution is limited.
+ * </p>
+ * <br/>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class PropLPRelaxation extends Propagator<IntVar> {
+
+    /**
+     * Tolerance used to round the values computed by the linear program
+     */
+    private static final double EPS = 1e-6;
+
+    /**
+     * Minimum number of simplex iterations allowed per resolution
+     */
+    private static final long MIN_ITERATIONS = 1000;
+
+    /**
+     * The linear relaxation, its first variable is the objective one.
+     */
+    private final SparseLinearProgram lp;
+
+    /**
+     * Set to <i>true</i> when the objective variable is maximized
+     */
+    private final boolean maximize;
+
+    /**
+     * The linear program is solved every <i>frequency</i> nodes
+     */
+    private final int frequency;
+
+    /**
+     * The last fixpoint the linear program was solved in
+     */
+    private long lastFixpoint = -1;
+
+    /**
+     * Create a propagator that bounds <i>objective</i> with the linear relaxation of
+     * the linear constraints connected to it.
+     *
+     * @param objective the objective variable
+     * @param maximize  set to <i>true</i> to maximize <i>objective</i>, <i>false</i> to minimize it
+     * @param frequency the linear program is solved every <i>frequency</i> nodes (must be positive)
+     */
+    public PropLPRelaxation(IntVar objective, boolean maximize, int frequency) {
+        this(objective, collect(objective), maximize, frequency);
+    }
+
+    private PropLPRelaxation(IntVar objective, List<Propagator<?>> props, boolean maximize, int frequency) {
+        super(scope(objective, props), PropagatorPriority.VERY_SLOW, false);
+        if (frequency < 1) {
+            throw new IllegalArgumentException("The frequency must be positive");
+        }
+        this.maximize = maximize;
+        this.frequency = frequency;
+        TIntIntHashMap columns = new TIntIntHashMap(vars.length, .5f, -1, -1);
+        for (int j = 0; j < vars.length; j++) {
+            columns.put(vars[j].getId(), j);
+        }
+        this.lp = new SparseLinearProgram();
+        for (IntVar var : vars) {
+            lp.makeVariable(var.getLB(), var.getUB());
+        }
+        lp.setObjective(maximize, new int[]{0}, new double[]{1.});
+        for (Propagator<?> p : props) {
+            ILinearPropagator l = (ILinearPropagator) p;
+            // the same variable may appear more than once in a propagator
+            TIntIntHashMap pos = new TIntIntHashMap(p.getNbVars(), .5f, -1, -1);
+            int[] cols = new int[p.getNbVars()];
+            double[] coeffs = new double[p.getNbVars()];
+            int k = 0;
+            for (int i = 0; i < p.getNbVars(); i++) {
+                int c = columns.get(p.getVar(i).getId());
+                int q = pos.get(c);
+                if (q == -1) {
+                    pos.put(c, k);
+                    cols[k] = c;
+                    coeffs[k++] = l.getCoeff(i);
+                } else {
+                    coeffs[q] += l.getCoeff(i);
+                }
+            }
+            double b = l.getRHS();
+            double lo = l.getOperator() == Operator.LE ? Double.NEGATIVE_INFINITY : b;
+            double up = l.getOperator() == Operator.GE ? Double.POSITIVE_INFINITY : b;
+            lp.addRow(Arrays.copyOf(cols, k), Arrays.copyOf(coeffs, k), lo, up);
+        }
+        lp.setIterationLimit(Math.max(MIN_ITERATIONS, 4L * (lp.nbVariables() + lp.nbRows())));
+    }
+
+    /**
+     * Gather, by a breadth-first search from <i>objective</i>, the linear propagators
+     * it is connected to.
+     * Reified propagators and those with an operator other than {@link Operator#EQ},
+     * {@link Operator#LE} and {@link Operator#GE} are ignored.
+     *
+     * @param objective the objective variable
+     * @return the list of linear propagators connected to <i>objective</i>
+     */
+    private static List<Propagator<?>> collect(IntVar objective) {
+        List<Propagator<?>> props = new ArrayList<>();
+        TIntHashSet seenProps = new TIntHashSet();
+        TIntHashSet seenVars = new TIntHashSet();
+        ArrayDeque<IntVar> queue = new ArrayDeque<>();
+        queue.add(objective);
+        seenVars.add(objective.getId());
+        while (!queue.isEmpty()) {
+            IntVar var = queue.poll();
+            var.streamPropagators()
+                    .filter(p -> p instanceof ILinearPropagator && !p.isReified())
+                    .filter(p -> {
+                        Operator o = ((ILinearPropagator) p).getOperator();
+                        return o == Operator.EQ || o == Operator.LE || o == Operator.GE;
+                    })
+                    .filter(p -> seenProps.add(p.getId()))
+                    .forEach(p -> {
+                        props.add(p);
+                        for (int i = 0; i < p.getNbVars(); i++) {
+                            IntVar v = (IntVar) p.getVar(i);
+                            if (seenVars.add(v.getId())) {
+                                queue.add(v);
+                            }
+                        }
+                    });
+        }
+        return props;
+    }
+
+    /**
+     * @return the objective variable followed by the variables of <i>props</i>, without duplicates
+     */
+    private static IntVar[] scope(IntVar objective, List<Propagator<?>> props) {
+        List<IntVar> scope = new ArrayList<>();
+        TIntHashSet ids = new TIntHashSet();
+        scope.add(objective);
+        ids.add(objective.getId());
+        for (Propagator<?> p : props) {
+            for (int i = 0; i < p.getNbVars(); i++) {
+                IntVar v = (IntVar) p.getVar(i);
+                if (ids.add(v.getId())) {
+                    scope.add(v);
+                }
+            }
+        }
+        return scope.toArray(new IntVar[0]);
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return IntEventType.boundAndInst();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        long fixpoint = model.getSolver().getFixpointCount();
+        if (fixpoint == lastFixpoint || model.getSolver().getNodeCount() % frequency != 0) {
+            return;
+        }
+        lastFixpoint = fixpoint;
+        for (int j = 0; j < vars.length; j++) {
+            lp.setBounds(j, vars[j].getLB(), vars[j].getUB());
+        }
+        switch (lp.solve()) {
+            case INFEASIBLE:
+                fails();
+                break;
+            case FEASIBLE:
+                filter();
+                break;
+            default:
+                // the iteration limit is reached, nothing can be deduced
+                break;
+        }
+    }
+
+    /**
+     * Bound the objective variable and apply reduced-cost fixing
+     *
+     * @throws ContradictionException if a domain becomes empty
+     */
+    private void filter() throws ContradictionException {
+        IntVar objective = vars[0];
+        double z = lp.objective();
+        double tol = EPS * Math.max(1., Math.abs(z));
+        if (maximize) {
+            objective.updateUpperBound(toInt(Math.floor(z + tol)), this);
+        } else {
+            objective.updateLowerBound(toInt(Math.ceil(z - tol)), this);
+        }
+        // any solution is at least (resp. at most) as good as the current bound of the objective,
+        // so a variable cannot move away from its bound further than gap / |reduced cost|
+        double gap = maximize ? z - objective.getLB() : objective.getUB() - z;
+        for (int j = 1; j < vars.length; j++) {
+            if (vars[j].isInstantiated()) {
+                continue;
+            }
+            // reduced cost in the sense of a minimization
+            double s = maximize ? -lp.reducedCost(j) : lp.reducedCost(j);
+            if (s > EPS) {
+                double bound = vars[j].getLB() + Math.floor(gap / s + EPS);
+                if (bound < vars[j].getUB()) {
+                    vars[j].updateUpperBound(toInt(bound), this);
+                }
+            } else if (s < -EPS) {
+                double bound = vars[j].getUB() - Math.floor(gap / -s + EPS);
+                if (bound > vars[j].getLB()) {
+                    vars[j].updateLowerBound(toInt(bound), this);
+                }
+            }
+        }
+    }
+
+    private static int toInt(double v) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, v));
+    }
+
+    @Override
+    public ESat isEntailed() {
+        for (IntVar var : vars) {
+            if (!var.isInstantiated()) {
+                return ESat.UNDEFINED;
+            }
+        }
+        for (int i = 0; i < lp.nbRows(); i++) {
+            int[] cols = lp.getRowVars(i);
+            double[] coeffs = lp.getRowCoeffs(i);
+            double s = 0.;
+            for (int k = 0; k < cols.length; k++) {
+                s += coeffs[k] * vars[cols[k]].getValue();
+            }
+            if (s < lp.getRowLB(i) || s > lp.getRowUB(i)) {
+                return ESat.FALSE;
+            }
+        }
+        return ESat.TRUE;
+    }
+}
@@ -12,7 +12,10 @@ package org.chocosolver.solver.constraints.nary.sat;
 import gnu.trove.map.hash.TIntIntHashMap;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.search.loop.monitors.NogoodFromRestarts;
 import org.chocosolver.solver.variables.Variable;
@@ -23,6 +26,13 @@ import org.chocosolver.solver.variables.Variable;
  * were created following the very same steps. The consequence is that a variable has the same ID in
  * all models.
  * <p>
+ * The sharing is lock-free: on restart, each model publishes its decision path,
+ * encoded in a model-independent way, in its own ring buffer (it is the only writer).
+ * Then, it reads the decision paths published by the other models since its previous restart
+ * and extracts nogoods from them.
+ * When a model is too slow to read the paths of another one, the oldest paths are overwritten
+ * and simply ignored.
+ * <p>
  * Project: choco.
  *
  * @author Charles Prud'homme
@@ -40,7 +50,7 @@ public class NogoodStealer {
         }
 
         @Override
-        public synchronized void nogoodStealing(Model model, NogoodFromRestarts caller) {
+        public void nogoodStealing(Model model, NogoodFromRestarts caller) {
             // void
         }
 
@@ -50,11 +60,32 @@ public class NogoodStealer {
         }
     };
 
+    /**
+     * Default number of decision paths a model can publish before overwriting the oldest ones.
+     */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * Default maximum number of decisions of a published path.
+     */
+    public static final int DEFAULT_MAX_SIZE = 128;
+
     /**
      * List of models to steal nogoods from
      */
     private final List<Model> models;
 
+    /**
+     * Sharing data of each model, in the same order as {@link #models}
+     */
+    private final List<Worker> workers;
+
+    /**
+     * Relation between a model and its sharing data.
+     * It is only modified before the resolution starts.
+     */
+    private final IdentityHashMap<Model, Worker> model2worker;
+
     /**
      * Maintain relation between id of a variable and its position in a model.
      * @implSpec This is a strong assumption that all models are equivalent (ie, each variable
@@ -62,22 +93,79 @@ public class NogoodStealer {
      */
     private final TIntIntHashMap id2pos;
 
+    /**
+     * Number of decision paths each model can publish before overwriting the oldest ones,
+     * a power of 2.
+     */
+    private final int capacity;
+
+    /**
+     * Maximum number of decisions of a published path. Longer paths are truncated.
+     */
+    private final int maxSize;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder truncated = new LongAdder();
+    private final LongAdder stolen = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
     /**
      * Create a class that steal nogoods (based on decision path) from models and store them in
      * another one.
      */
     public NogoodStealer() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Create a class that steal nogoods (based on decision path) from models and store them in
+     * another one.
+     *
+     * @param capacity number of decision paths each model can publish before overwriting the oldest ones
+     *                 (rounded up to the next power of 2)
+     * @param maxSize  maximum number of decisions of a published path, longer paths are truncated
+     */
+    public NogoodStealer(int capacity, int maxSize) {
+        if (capacity < 1 || maxSize < 1) {
+            throw new IllegalArgumentException("capacity and maxSize should be positive");
+        }
         this.models = new ArrayList<>();
+        this.workers = new ArrayList<>();
+        this.model2worker = new IdentityHashMap<>();
         this.id2pos = new TIntIntHashMap(10,.5f,-1,-1);
+        int c = 1;
+        while (c < capacity) {
+            c <<= 1;
+        }
+        this.capacity = c;
+        this.maxSize = maxSize;
     }
 
     /**
-     * Add a model to steal nogood from (based on decision path)
-     * @param model
+     * Add a model to steal nogood from (based on decision path).
+     * Adding the same model twice has no effect.
+     * @param model a model
      */
     public void add(Model model) {
+        if (model2worker.containsKey(model)) {
+            return;
+        }
         assert valid(model): "Cannot share nogoods between non equivalent models";
+        Worker w = new Worker(workers.size(), capacity);
         this.models.add(model);
+        this.workers.add(w);
+        this.model2worker.put(model, w);
+        for (Worker o : workers) {
+            o.grow(workers.size());
+        }
+    }
+
+    /**
+     * @param model a model
+     * @return <i>true</i> if <i>model</i> has been added to this
+     */
+    public boolean contains(Model model) {
+        return model2worker.containsKey(model);
     }
 
     private boolean valid(Model model) {
@@ -101,18 +189,100 @@ public class NogoodStealer {
     }
 
     /**
-     * Extract nogoods from decision paths of all models but <i>model</i>.
+     * Publish the current decision path of <i>model</i>, then
+     * extract nogoods from decision paths published by all models but <i>model</i>.
+     * This method is expected to be called by the thread solving <i>model</i> only.
      * @param model the model to skip
      * @param caller nogoods extractor
      */
-    public synchronized void nogoodStealing(Model model, NogoodFromRestarts caller) {
-        for (Model m : models) {
-            if (m != model) {
-                caller.extractNogoodFromPath(m.getSolver().getDecisionPath());
+    public void nogoodStealing(Model model, NogoodFromRestarts caller) {
+        Worker w = model2worker.get(model);
+        if (w == null) {
+            return;
+        }
+        int[] path = caller.encodePath(model.getSolver().getDecisionPath(), maxSize);
+        if (path.length > 0) {
+            w.publish(path);
+            published.increment();
+            if (path.length == maxSize * NogoodFromRestarts.ENCODING_SIZE) {
+                truncated.increment();
+            }
+        }
+        for (int j = 0; j < workers.size(); j++) {
+            Worker o = workers.get(j);
+            if (o != w) {
+                steal(w, o, caller);
             }
         }
     }
 
+    /**
+     * Read, from <i>w</i>, the paths published by <i>o</i> since the last call.
+     */
+    private void steal(Worker w, Worker o, NogoodFromRestarts caller) {
+        long head = o.head;
+        long cursor = w.cursors[o.idx];
+        if (head - cursor > capacity) {
+            // the oldest paths have been overwritten
+            dropped.add(head - cursor - capacity);
+            cursor = head - capacity;
+        }
+        while (cursor < head) {
+            int[] path = o.slots.get((int) (cursor & (capacity - 1)));
+            // the slot may have been reused meanwhile, then the path is ignored.
+            // Note that, in any case, a path is valid to extract nogoods from.
+            if (o.head - cursor > capacity) {
+                dropped.increment();
+            } else {
+                caller.extractNogoodFromEncodedPath(path);
+                stolen.increment();
+            }
+            cursor++;
+        }
+        w.cursors[o.idx] = cursor;
+    }
+
+    /**
+     * @return the number of decision paths published by all models
+     */
+    public long getNbPublished() {
+        return published.sum();
+    }
+
+    /**
+     * @return the number of decision paths that were truncated before being published
+     */
+    public long getNbTruncated() {
+        return truncated.sum();
+    }
+
+    /**
+     * @return the number of decision paths read by a model from another one
+     */
+    public long getNbStolen() {
+        return stolen.sum();
+    }
+
+    /**
+     * @return the number of decision paths overwritten before being read by a model
+     */
+    public long getNbDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * @param var   a variable ID
+     * @param model a model
+     * @return the variable whose ID is <i>id</i> in <i>model</i>
+     */
+    public Variable getById(int var, Model model) {
+        int p = id2pos.get(var);
+        if(p == -1){
+            p = binarySearch(model, var);
+        }
+        return model.getVar(p);
+    }
+
     /**
      * @param <V> type of variable to find
      * @param var variable to look for (based on its ID)
@@ -134,7 +304,7 @@ public class NogoodStealer {
      */
     private static <T> int binarySearch(Model model, int key) {
         int low = 0;
-        int high = model.getNbVars();
+        int high = model.getNbVars() - 1;
 
         while (low <= high) {
             int mid = (low + high) >>> 1;
@@ -151,4 +321,46 @@ public class NogoodStealer {
         return -(low + 1);  // key not found.
     }
 
+    /**
+     * Sharing data of a model: a single-producer ring buffer of decision paths,
+     * and the position of its reading in the ring buffer of each other model.
+     */
+    private static final class Worker {
+        /**
+         * Index of the model in the list of models
+         */
+        final int idx;
+        /**
+         * Published paths, written by the owner only
+         */
+        final AtomicReferenceArray<int[]> slots;
+        /**
+         * Number of paths published so far
+         */
+        volatile long head;
+        /**
+         * Position of the next path to read in each other ring, read and written by the owner only
+         */
+        long[] cursors;
+
+        Worker(int idx, int capacity) {
+            this.idx = idx;
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.cursors = new long[0];
+        }
+
+        void grow(int size) {
+            if (cursors.length < size) {
+                long[] tmp = cursors;
+                cursors = new long[size];
+                System.arraycopy(tmp, 0, cursors, 0, tmp.length);
+            }
+        }
+
+        void publish(int[] path) {
+            long h = head;
+            slots.set((int) (h & (slots.length() - 1)), path);
+            head = h + 1;
+        }
+    }
 }
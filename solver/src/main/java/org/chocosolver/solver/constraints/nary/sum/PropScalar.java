@@ -320,4 +320,8 @@ public class PropScalar extends PropSum {
         return new PropScalar(vars, c, pos, nop(o), b + nb(o));
     }
 
+    @Override
+    public long getCoeff(int idx) {
+        return c[idx];
+    }
 }
@@ -318,4 +318,8 @@ public class PropScalarWithLong extends PropSumWithLong {
         return new PropScalarWithLong(vars, c, pos, nop(o), b + nb(o));
     }
 
+    @Override
+    public long getCoeff(int idx) {
+        return c[idx];
+    }
 }
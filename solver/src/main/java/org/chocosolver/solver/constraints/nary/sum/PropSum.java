@@ -11,6 +11,7 @@ package org.chocosolver.solver.constraints.nary.sum;
 
 import org.chocosolver.sat.Reason;
 import org.chocosolver.solver.constraints.Explained;
+import org.chocosolver.solver.constraints.ILinearPropagator;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -30,7 +31,7 @@ import org.chocosolver.util.ESat;
  * @since 18/03/11
  */
 @Explained(partial = true, comment = "NQ (!=) is not explained")
-public class PropSum extends Propagator<IntVar> {
+public class PropSum extends Propagator<IntVar> implements ILinearPropagator {
 
     /**
      * The position of the last positive coefficient
@@ -543,4 +544,19 @@ public class PropSum extends Propagator<IntVar> {
     protected PropSum opposite() {
         return new PropSum(vars, pos, nop(o), b + nb(o));
     }
+
+    @Override
+    public long getCoeff(int idx) {
+        return idx < pos ? 1 : -1;
+    }
+
+    @Override
+    public Operator getOperator() {
+        return o;
+    }
+
+    @Override
+    public long getRHS() {
+        return b;
+    }
 }
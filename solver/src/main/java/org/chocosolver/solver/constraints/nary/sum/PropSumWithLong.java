@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.sum;
 
+import org.chocosolver.solver.constraints.ILinearPropagator;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -27,7 +28,7 @@ import org.chocosolver.util.ESat;
  * @author Charles Prud'homme
  * @since 18/03/11
  */
-public class PropSumWithLong extends Propagator<IntVar> {
+public class PropSumWithLong extends Propagator<IntVar> implements ILinearPropagator {
 
     /**
      * The position of the last positive coefficient
@@ -500,4 +501,19 @@ public class PropSumWithLong extends Propagator<IntVar> {
     protected PropSumWithLong opposite() {
         return new PropSumWithLong(vars, pos, nop(o), b + nb(o));
     }
+
+    @Override
+    public long getCoeff(int idx) {
+        return idx < pos ? 1 : -1;
+    }
+
+    @Override
+    public Operator getOperator() {
+        return o;
+    }
+
+    @Override
+    public long getRHS() {
+        return b;
+    }
 }
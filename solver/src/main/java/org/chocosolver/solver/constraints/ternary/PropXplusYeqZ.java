@@ -11,6 +11,8 @@ package org.chocosolver.solver.constraints.ternary;
 
 import org.chocosolver.sat.Reason;
 import org.chocosolver.solver.constraints.Explained;
+import org.chocosolver.solver.constraints.ILinearPropagator;
+import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -28,7 +30,7 @@ import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeS
  * @since 03/02/2016.
  */
 @Explained(partial = true, comment = "AC disabled due to lack of explanation")
-public class PropXplusYeqZ extends Propagator<IntVar> {
+public class PropXplusYeqZ extends Propagator<IntVar> implements ILinearPropagator {
 
     private static final int THRESHOLD = 300;
     /**
@@ -174,4 +176,19 @@ public class PropXplusYeqZ extends Propagator<IntVar> {
         }
         return ESat.UNDEFINED;
     }
+
+    @Override
+    public long getCoeff(int idx) {
+        return idx < 2 ? 1 : -1;
+    }
+
+    @Override
+    public Operator getOperator() {
+        return Operator.EQ;
+    }
+
+    @Override
+    public long getRHS() {
+        return 0;
+    }
 }
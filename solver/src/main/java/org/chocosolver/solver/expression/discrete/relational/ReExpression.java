@@ -11,6 +11,7 @@ package org.chocosolver.solver.expression.discrete.relational;
 
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.extension.TupleValidator;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.constraints.extension.TuplesFactory;
 import org.chocosolver.solver.expression.discrete.arithmetic.ArExpression;
@@ -153,17 +154,26 @@ public interface ReExpression extends ArExpression {
     }
 
     /**
+     * The valid tuples are enumerated in parallel (see {@link TuplesFactory#generateTuplesInParallel(TupleValidator, boolean, IntVar...)}).
+     * When <i>algo</i> is "MDD", they are directly stored in a multivalued decision diagram
+     * and a MDDC constraint is returned instead.
+     *
      * @param algo an indication for the algorithm to use for the table constraint
      * @return a TABLE constraint that captures the expression
      * @see Model#table(IntVar[], Tuples, String)
      * @see Model#table(IntVar, IntVar, Tuples, String)
+     * @see Model#mddc(IntVar[], org.chocosolver.util.objects.graphs.MultivaluedDecisionDiagram)
      */
     default Constraint extension(String algo) {
         HashSet<IntVar> avars = new LinkedHashSet<>();
         extractVar(avars);
         IntVar[] uvars = avars.stream().sorted().toArray(IntVar[]::new);
         Map<IntVar, Integer> map = IntStream.range(0, uvars.length).boxed().collect(Collectors.toMap(i -> uvars[i], i -> i));
-        Tuples tuples = TuplesFactory.generateTuples(values -> beval(values, map), true, uvars);
+        TupleValidator filter = values -> beval(values, map);
+        if (algo.equals("MDD")) {
+            return getModel().mddc(uvars, TuplesFactory.generateMDD(filter, uvars));
+        }
+        Tuples tuples = TuplesFactory.generateTuplesInParallel(filter, true, uvars);
 //        System.out.printf("%d -> %d\n", VariableUtils.domainCardinality(uvars), tuples.nbTuples());
         if(algo.equals("")){
             return getModel().table(uvars, tuples);
@@ -44,8 +44,8 @@ public class ParetoMaximizer extends Propagator<IntVar> implements IMonitorSolut
 
     private final Model model;
 
-    // Allow to recycle (dominated) Solution objects
-    private final List<Solution> poolSols = new ArrayList<>();
+    // Records the solutions, the front stores snapshots of it which share the unchanged blocks of values
+    private final Solution current;
 
     // objective function
     private final IntVar[] objectives;
@@ -76,6 +76,7 @@ public class ParetoMaximizer extends Propagator<IntVar> implements IMonitorSolut
         this.objectives = objectives.clone();
         n = objectives.length;
         model = objectives[0].getModel();
+        current = new Solution(model);
         //vals = new int[n];
     }
 
@@ -100,19 +101,12 @@ public class ParetoMaximizer extends Propagator<IntVar> implements IMonitorSolut
         // remove dominated solutions
         for (int i = paretoFront.size() - 1; i >= 0; i--) {
             if (isDominated(paretoSolutions.get(i), vals)) {
-                poolSols.add(paretoSolutions.remove(i));
+                paretoSolutions.remove(i);
                 paretoFront.remove(i);
             }
         }
-        // store current solution
-        Solution solution;
-        if (poolSols.isEmpty()) {
-            solution = new Solution(model);
-        } else {
-            solution = poolSols.remove(0);
-        }
-        solution.record();
-        paretoSolutions.add(solution);
+        // store a snapshot of the current solution
+        paretoSolutions.add(current.record().copySolution());
         paretoFront.add(vals);
     }
 
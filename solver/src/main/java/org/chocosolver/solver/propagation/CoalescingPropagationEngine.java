@@ -0,0 +1,243 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation;
+
+import org.chocosolver.sat.MiniSat;
+import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.binary.*;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.events.IEventType;
+import org.chocosolver.util.objects.queues.IdentityQueue;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An alternative propagation engine which reduces the scheduling overhead.
+ * <p>
+ * <ul>
+ *     <li>Events are coalesced: a variable modified many times, possibly by different propagators,
+ *     schedules its propagators once per sweep, with the union of the events.
+ *     Propagators already scheduled are not scheduled again, their pending events are merged.
+ *     A sweep executes each scheduled propagator once, in priority order,
+ *     and dispatches the events collected on variables only at its end.</li>
+ *     <li>Cheap propagators (by default, the binary ones of
+ *     {@link org.chocosolver.solver.constraints.binary}) are fused in a bundle.
+ *     Before each sweep, the bundle is run to a local fix point in a tight loop,
+ *     dispatching the events right after each execution.</li>
+ * </ul>
+ * </p>
+ * <p>
+ * It collects the number of fix points, of fused propagations and of coalesced events,
+ * as well as the time spent in propagation.
+ * To be plugged with {@code solver.setEngine(new CoalescingPropagationEngine(model))} before solving.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class CoalescingPropagationEngine extends PropagationEngine {
+
+    /**
+     * The binary propagators of {@link org.chocosolver.solver.constraints.binary}
+     */
+    private static final Set<Class<?>> BINARY_CLASSES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            PropAbsolute.class, PropDistanceXYC.class, PropEqualXY_C.class, PropEqualX_Y.class, PropEqualX_YC.class,
+            PropGreaterOrEqualXY_C.class, PropGreaterOrEqualX_Y.class, PropGreaterOrEqualX_YC.class,
+            PropLessOrEqualXY_C.class, PropModXY.class, PropNotEqualXY_C.class, PropNotEqualX_Y.class,
+            PropNotEqualX_YC.class, PropPowEven.class, PropPowOdd.class, PropScale.class)));
+
+    /**
+     * Default selection of fused propagators: the binary ones of {@link org.chocosolver.solver.constraints.binary}.
+     */
+    public static final Predicate<Propagator<?>> BINARY = p -> p.getNbVars() == 2
+            && BINARY_CLASSES.contains(p.getClass());
+
+    /**
+     * Selects the propagators to fuse
+     */
+    private final Predicate<Propagator<?>> fusable;
+    /**
+     * IDs of the fused propagators
+     */
+    private final BitSet fused = new BitSet();
+    /**
+     * The bundle of fused propagators to execute
+     */
+    private final IdentityQueue<Propagator<?>> bundle;
+    private long nbFixpoints;
+    private long nbFused;
+    private long nbCoalesced;
+    private long time;
+
+    /**
+     * Create an engine that fuses the binary propagators.
+     *
+     * @param model the declaring model
+     */
+    public CoalescingPropagationEngine(Model model) {
+        this(model, model.getSolver().getSat(), BINARY);
+    }
+
+    /**
+     * Create an engine that fuses the propagators selected by <i>fusable</i>.
+     *
+     * @param model   the declaring model
+     * @param sat     the SAT solver, required for LCG mode
+     * @param fusable selects the propagators to fuse, they should be cheap
+     */
+    public CoalescingPropagationEngine(Model model, MiniSat sat, Predicate<Propagator<?>> fusable) {
+        super(model, sat);
+        this.fusable = fusable;
+        this.bundle = new IdentityQueue<>(16, scheduled);
+    }
+
+    @Override
+    public void initialize() throws SolverException {
+        if (!isInitialized()) {
+            super.initialize();
+            fused.clear();
+            for (int i = 0; i < propagators.size(); i++) {
+                fuse(propagators.get(i));
+            }
+        }
+    }
+
+    private void fuse(Propagator<?> propagator) {
+        if (fusable.test(propagator)) {
+            fused.set(propagator.getId());
+        }
+    }
+
+    @Override
+    public void propagate() throws ContradictionException {
+        long t = System.nanoTime();
+        nbFixpoints++;
+        try {
+            propagateSat();
+            insight.clear();
+            activatePropagators();
+            do {
+                dispatch();
+                while (!bundle.isEmpty()) {
+                    lastProp = bundle.pollFirst();
+                    nbFused++;
+                    propagateLast();
+                    dispatch();
+                }
+                for (int i = nextNotEmpty(); i > -1; i = nextNotEmpty()) {
+                    lastProp = pro_queue[i].pollFirst();
+                    if (pro_queue[i].isEmpty()) {
+                        notEmpty &= ~(1 << i);
+                    }
+                    propagateLast();
+                }
+            } while (!var_queue.isEmpty());
+        } finally {
+            time += System.nanoTime() - t;
+        }
+    }
+
+    /**
+     * Schedule the propagators of all modified variables
+     */
+    private void dispatch() {
+        while (!var_queue.isEmpty()) {
+            var_queue.pollFirst().schedulePropagators(this);
+        }
+    }
+
+    @Override
+    public void schedule(Propagator<?> prop, int pindice, int mask) {
+        if (fused.get(prop.getId())) {
+            prop.doScheduleEvent(pindice, mask);
+            bundle.addLast(prop, prop.getId());
+        } else {
+            super.schedule(prop, pindice, mask);
+        }
+    }
+
+    @Override
+    public void onVariableUpdate(Variable variable, IEventType type, ICause cause) {
+        if (var_queue.contains(variable.getId())) {
+            nbCoalesced++;
+        }
+        super.onVariableUpdate(variable, type, cause);
+    }
+
+    @Override
+    public void flush() {
+        while (!bundle.isEmpty()) {
+            bundle.pollLast().doFlush();
+        }
+        super.flush();
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        bundle.clear();
+        fused.clear();
+    }
+
+    @Override
+    public void dynamicAddition(boolean permanent, Propagator<?>... ps) throws SolverException {
+        super.dynamicAddition(permanent, ps);
+        for (Propagator<?> p : ps) {
+            fuse(p);
+        }
+    }
+
+    /**
+     * @return the number of calls to {@link #propagate()}
+     */
+    public long getNbFixpoints() {
+        return nbFixpoints;
+    }
+
+    /**
+     * @return the number of executions of fused propagators
+     */
+    public long getNbFusedPropagations() {
+        return nbFused;
+    }
+
+    /**
+     * @return the number of events merged with pending ones on the same variable
+     */
+    public long getNbCoalescedEvents() {
+        return nbCoalesced;
+    }
+
+    /**
+     * @return the time spent in {@link #propagate()}, in nanoseconds
+     */
+    public long getPropagationTime() {
+        return time;
+    }
+
+    @Override
+    public String toString() {
+        long nodes = Math.max(1, model.getSolver().getNodeCount());
+        return String.format("Fix points: %d (%.2f/node), Propagations: %d, Fused: %d, Coalesced events: %d, " +
+                        "Propagation time: %.3fs (%.2fus/node)",
+                nbFixpoints, nbFixpoints / (double) nodes,
+                model.getSolver().getPropagationCount(), nbFused, nbCoalesced,
+                time / 1e9, time / 1e3 / nodes);
+    }
+}
@@ -21,6 +21,7 @@ import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.solver.variables.events.IEventType;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.util.objects.queues.CircularQueue;
+import org.chocosolver.util.objects.queues.IdentityQueue;
 import org.chocosolver.util.tools.ArrayUtils;
 
 import java.util.ArrayList;
@@ -65,10 +66,19 @@ public class PropagationEngine {
     /**
      * The main structure of this engine: seven circular queues,
      * each of them is dedicated to store propagator to execute wrt their priority.
+     * They also record which propagators are scheduled.
      */
-    private final CircularQueue<Propagator<?>>[] pro_queue;
-
-    private final CircularQueue<Variable> var_queue;
+    final IdentityQueue<Propagator<?>>[] pro_queue;
+    /**
+     * The modified variables whose propagators are to be scheduled.
+     * It also records which variables are scheduled.
+     */
+    final IdentityQueue<Variable> var_queue;
+    /**
+     * The scheduled variables and propagators, shared by the queues:
+     * an object is in at most one queue and ids are given by the model.
+     */
+    final IdentityQueue.Membership scheduled;
 
     private final CircularQueue<Propagator<?>> awake_queue;
     /**
@@ -82,7 +92,7 @@ public class PropagationEngine {
     /**
      * One bit per queue: true if the queue is not empty.
      */
-    private int notEmpty;
+    int notEmpty;
     /**
      * PropagatorEventType's mask for delayed propagation
      */
@@ -112,7 +122,12 @@ public class PropagationEngine {
     /**
      * A propagation insight to collect information about the propagation
      */
-    private PropagationInsight insight = PropagationInsight.VOID;
+    PropagationInsight insight = PropagationInsight.VOID;
+
+    /**
+     * A propagation sampler, null when propagation is not sampled
+     */
+    private PropagationSampler sampler;
 
     /**
      * A seven-queue propagation engine.
@@ -127,11 +142,12 @@ public class PropagationEngine {
         this.model = model;
         int nbQueues = model.getSettings().getMaxPropagatorPriority() + 1;
         //noinspection unchecked
-        this.pro_queue = new CircularQueue[nbQueues];
+        this.scheduled = new IdentityQueue.Membership();
+        this.pro_queue = new IdentityQueue[nbQueues];
         for (int i = 0; i < nbQueues; i++) {
-            pro_queue[i] = new CircularQueue<>(16);
+            pro_queue[i] = new IdentityQueue<>(16, scheduled);
         }
-        this.var_queue = new CircularQueue<>(16);
+        this.var_queue = new IdentityQueue<>(16, scheduled);
         this.awake_queue = new CircularQueue<>(16);
         this.dynPropagators = new DynPropagators();
         this.propagators = new ArrayList<>();
@@ -233,21 +249,10 @@ public class PropagationEngine {
             for (int i = nextNotEmpty(); i > -1; i = nextNotEmpty()) {
                 assert !pro_queue[i].isEmpty() : "try to pop a propagator from an empty queue";
                 lastProp = pro_queue[i].pollFirst();
-                insight.cardinality(lastProp);
                 if (pro_queue[i].isEmpty()) {
                     notEmpty &= ~(1 << i);
                 }
-                // revision of the variable
-                lastProp.unschedule();
-                delayedPropagationType = 0;
-                try {
-                    propagateEvents();
-                    propagateSat();
-                    insight.update(lastProp, lastVar, false);
-                } catch (ContradictionException cex) {
-                    insight.update(lastProp, lastVar, true);
-                    throw cex;
-                }
+                propagateLast();
                 if (hybrid < 0b01) {
                     manageModifications();
                 }
@@ -255,7 +260,41 @@ public class PropagationEngine {
         } while (!var_queue.isEmpty());
     }
 
-    private void propagateSat() throws ContradictionException {
+    /**
+     * Run the last propagator polled, that is {@link #lastProp}.
+     *
+     * @throws ContradictionException if a contradiction occurs
+     */
+    final void propagateLast() throws ContradictionException {
+        insight.cardinality(lastProp);
+        delayedPropagationType = 0;
+        try {
+            if (sampler == null) {
+                propagateEvents();
+            } else {
+                sampledPropagateEvents();
+            }
+            propagateSat();
+            insight.update(lastProp, lastVar, false);
+        } catch (ContradictionException cex) {
+            insight.update(lastProp, lastVar, true);
+            throw cex;
+        }
+    }
+
+    private void sampledPropagateEvents() throws ContradictionException {
+        Propagator<?> p = lastProp;
+        sampler.before(p);
+        try {
+            propagateEvents();
+        } catch (ContradictionException cex) {
+            sampler.after(p, true);
+            throw cex;
+        }
+        sampler.after(p, false);
+    }
+
+    final void propagateSat() throws ContradictionException {
         if (sat != null) {
             model.getSolver().getMeasures().incPropagationCount();
             sat.propagate();
@@ -284,7 +323,7 @@ public class PropagationEngine {
      *
      * @throws ContradictionException if a propagation fails
      */
-    private void activatePropagators() throws ContradictionException {
+    final void activatePropagators() throws ContradictionException {
         int cw = model.getEnvironment().getWorldIndex(); // get current index
         dynPropagators.descending(cw, consumer);
         while (!awake_queue.isEmpty()) {
@@ -314,7 +353,7 @@ public class PropagationEngine {
         }
     }
 
-    private void manageModifications() {
+    final void manageModifications() {
         if (!var_queue.isEmpty()) {
             do {
                 var_queue.pollFirst().schedulePropagators(this);
@@ -322,7 +361,7 @@ public class PropagationEngine {
         }
     }
 
-    private int nextNotEmpty() {
+    final int nextNotEmpty() {
         if (notEmpty == 0) return -1;
         return Integer.numberOfTrailingZeros(notEmpty);
     }
@@ -366,8 +405,7 @@ public class PropagationEngine {
             assert found : variable + " not in scope of " + cause;
         }
         insight.modifiy(variable);
-        if (!variable.isScheduled()) {
-            var_queue.addLast(variable);
+        if (var_queue.addLast(variable, variable.getId())) {
             variable.schedule();
         }
         variable.storeEvents(type.getMask(), cause);
@@ -375,7 +413,9 @@ public class PropagationEngine {
 
     public void schedule(Propagator<?> prop, int pindice, int mask) {
         prop.doScheduleEvent(pindice, mask);
-        notEmpty |= (1 << prop.doSchedule(pro_queue));
+        int prio = prop.getPriority().getValue();
+        pro_queue[prio].addLast(prop, prop.getId());
+        notEmpty |= (1 << prio);
     }
 
     /**
@@ -421,6 +461,23 @@ public class PropagationEngine {
         this.insight = insight;
     }
 
+    /**
+     * Set the propagation sampler to notify before and after each propagator execution,
+     * or <i>null</i> to stop sampling.
+     *
+     * @param sampler a propagation sampler, or <i>null</i>
+     */
+    public void setSampler(PropagationSampler sampler) {
+        this.sampler = sampler;
+    }
+
+    /**
+     * @return the propagation sampler, or <i>null</i> if propagation is not sampled
+     */
+    public PropagationSampler getSampler() {
+        return sampler;
+    }
+
     public void setHybrid(byte hybrid) {
         this.hybrid = hybrid;
     }
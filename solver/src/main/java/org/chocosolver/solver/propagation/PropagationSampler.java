@@ -0,0 +1,435 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation;
+
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A low-overhead propagation profiler, based on sampling.
+ * <p>
+ * Contrary to {@link PropagationProfiler}, which is notified of every event,
+ * this sampler is called only twice per propagator execution by the {@link PropagationEngine}.
+ * The number of calls and failures of each propagator are exact.
+ * Only one execution out of <i>period</i> (on average, the gap between two samples being randomized
+ * to avoid aliasing) is timed and has its filtering measured, as the number of values removed from the
+ * domains of the propagator's variables.
+ * The time spent and the values removed are then estimated, for each propagator, by scaling the sampled
+ * values by the ratio of calls to samples.
+ * </p>
+ * <p>
+ * Data can be read at any time, even while solving, per propagator, per propagator class
+ * or per constraint name (see {@link org.chocosolver.solver.constraints.ConstraintsName}),
+ * and dumped as a table or as collapsed stacks, which are understood by flame graph tools.
+ * </p>
+ * <pre> {@code
+ * Solver s = m.getSolver();
+ * PropagationSampler sampler = s.samplePropagation(64);
+ * s.findSolution();
+ * sampler.writeTo(new PrintWriter(System.out));
+ * }</pre>
+ *
+ * @author agent
+ * @see Solver#samplePropagation(int)
+ * @since 17/10/2026
+ */
+public class PropagationSampler {
+
+    /**
+     * Default average number of propagator executions between two samples
+     */
+    public static final int DEFAULT_PERIOD = 64;
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    /**
+     * Average number of propagator executions between two samples
+     */
+    private final int period;
+    /**
+     * Propagators observed, indexed by their id.
+     * Replaced last on growth, so that concurrent readers never index the other arrays out of bounds.
+     */
+    private volatile Propagator<?>[] props = new Propagator<?>[16];
+    /**
+     * Number of executions, indexed by propagator id
+     */
+    private long[] calls = new long[16];
+    /**
+     * Number of failures, indexed by propagator id
+     */
+    private long[] failures = new long[16];
+    /**
+     * Number of sampled executions, indexed by propagator id
+     */
+    private long[] samples = new long[16];
+    /**
+     * Nanoseconds spent in sampled executions, indexed by propagator id
+     */
+    private long[] nanos = new long[16];
+    /**
+     * Values removed in sampled executions, indexed by propagator id
+     */
+    private long[] removed = new long[16];
+    /**
+     * Number of executions before the next sample
+     */
+    private int countdown;
+    /**
+     * State of the pseudo-random generator (xorshift)
+     */
+    private int seed = 0x2545F491;
+    /**
+     * Set to <i>true</i> when the current execution is sampled
+     */
+    private boolean sampling;
+    private long start;
+    private long card;
+
+    //***********************************************************************************
+    // CONSTRUCTORS
+    //***********************************************************************************
+
+    /**
+     * A propagation sampler with the default period
+     */
+    public PropagationSampler() {
+        this(DEFAULT_PERIOD);
+    }
+
+    /**
+     * A propagation sampler
+     *
+     * @param period average number of propagator executions between two samples,
+     *               1 to sample every execution
+     */
+    public PropagationSampler(int period) {
+        if (period < 1) {
+            throw new IllegalArgumentException("The sampling period must be positive");
+        }
+        this.period = period;
+        this.countdown = nextGap();
+    }
+
+    //***********************************************************************************
+    // ENGINE HOOKS
+    //***********************************************************************************
+
+    /**
+     * Called by the engine before executing <i>p</i>.
+     *
+     * @param p the propagator to execute
+     */
+    void before(Propagator<?> p) {
+        int id = p.getId();
+        if (id >= calls.length) {
+            grow(id);
+        }
+        props[id] = p;
+        calls[id]++;
+        if (--countdown == 0) {
+            countdown = nextGap();
+            sampling = true;
+            card = cardinality(p);
+            start = System.nanoTime();
+        }
+    }
+
+    /**
+     * Called by the engine after executing <i>p</i>, on success or on failure.
+     *
+     * @param p         the propagator executed
+     * @param onFailure set to <i>true</i> if the execution of <i>p</i> failed
+     */
+    void after(Propagator<?> p, boolean onFailure) {
+        int id = p.getId();
+        if (onFailure) {
+            failures[id]++;
+        }
+        if (sampling) {
+            nanos[id] += System.nanoTime() - start;
+            // on failure, the domains are in an inconsistent state
+            if (!onFailure) {
+                removed[id] += card - cardinality(p);
+            }
+            samples[id]++;
+            sampling = false;
+        }
+    }
+
+    private static long cardinality(Propagator<?> p) {
+        long c = 0L;
+        for (int j = 0; j < p.getNbVars(); j++) {
+            c += p.getVar(j).getDomainSize();
+        }
+        return c;
+    }
+
+    /**
+     * @return a gap uniformly drawn in [1, 2 * period - 1], so that its mean is <i>period</i>
+     */
+    private int nextGap() {
+        if (period == 1) {
+            return 1;
+        }
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return 1 + (int) ((seed & 0x7FFFFFFFL) % (2L * period - 1));
+    }
+
+    private void grow(int id) {
+        int n = Math.max(id + 1, calls.length * 3 / 2);
+        calls = Arrays.copyOf(calls, n);
+        failures = Arrays.copyOf(failures, n);
+        samples = Arrays.copyOf(samples, n);
+        nanos = Arrays.copyOf(nanos, n);
+        removed = Arrays.copyOf(removed, n);
+        props = Arrays.copyOf(props, n);
+    }
+
+    //***********************************************************************************
+    // ACCESSORS
+    //***********************************************************************************
+
+    /**
+     * @return the average number of propagator executions between two samples
+     */
+    public int getPeriod() {
+        return period;
+    }
+
+    /**
+     * Reset all the collected data.
+     */
+    public void clear() {
+        Arrays.fill(props, null);
+        Arrays.fill(calls, 0L);
+        Arrays.fill(failures, 0L);
+        Arrays.fill(samples, 0L);
+        Arrays.fill(nanos, 0L);
+        Arrays.fill(removed, 0L);
+    }
+
+    /**
+     * @return the statistics of each propagator executed at least once, by decreasing estimated time
+     */
+    public Map<Propagator<?>, Stats> byPropagator() {
+        return aggregate(p -> p);
+    }
+
+    /**
+     * @return the statistics aggregated per propagator class (simple name), by decreasing estimated time
+     */
+    public Map<String, Stats> byClass() {
+        return aggregate(p -> p.getClass().getSimpleName());
+    }
+
+    /**
+     * @return the statistics aggregated per constraint name, by decreasing estimated time
+     * @see org.chocosolver.solver.constraints.ConstraintsName
+     */
+    public Map<String, Stats> byConstraint() {
+        return aggregate(PropagationSampler::constraintName);
+    }
+
+    /**
+     * @return the statistics over all propagators
+     */
+    public Stats total() {
+        Stats total = new Stats();
+        Propagator<?>[] ps = props;
+        for (int id = 0; id < ps.length; id++) {
+            if (ps[id] != null) {
+                total.add(this, id);
+            }
+        }
+        return total;
+    }
+
+    private <K> Map<K, Stats> aggregate(Function<Propagator<?>, K> key) {
+        Map<K, Stats> stats = new LinkedHashMap<>();
+        Propagator<?>[] ps = props;
+        for (int id = 0; id < ps.length; id++) {
+            if (ps[id] != null) {
+                stats.computeIfAbsent(key.apply(ps[id]), k -> new Stats()).add(this, id);
+            }
+        }
+        Map<K, Stats> sorted = new LinkedHashMap<>();
+        stats.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue(Comparator.comparingDouble(Stats::getNanos).reversed()))
+                .forEachOrdered(e -> sorted.put(e.getKey(), e.getValue()));
+        return sorted;
+    }
+
+    private static String constraintName(Propagator<?> p) {
+        Constraint c = p.getConstraint();
+        return c == null ? "NONE" : c.getName();
+    }
+
+    //***********************************************************************************
+    // OUTPUTS
+    //***********************************************************************************
+
+    /**
+     * <p>Write sampling statistics to the print writer, per constraint name and per propagator.
+     * <code>writer</code> is not closed at the end of the call.
+     * </p>
+     *
+     * @param writer a print writer
+     */
+    public void writeTo(PrintWriter writer) {
+        writer.println("Constraints\n" +
+                " \n" +
+                "* calls   : number of executions of the propagators of the constraint\n" +
+                "* time    : estimated time spent in the propagators, in milliseconds\n" +
+                "* removed : estimated number of values removed by the propagators\n" +
+                "* fails   : number of failures thrown by the propagators\n" +
+                "* name    : name of the constraint \n" +
+                " \n" +
+                "        calls      time   removed     fails  name");
+        for (Map.Entry<String, Stats> e : byConstraint().entrySet()) {
+            print(writer, e.getValue(), e.getKey());
+        }
+        writer.println();
+        writer.println("Propagators\n" +
+                " \n" +
+                "        calls      time   removed     fails  name");
+        for (Map.Entry<Propagator<?>, Stats> e : byPropagator().entrySet()) {
+            print(writer, e.getValue(), "\"" + e.getKey().toString() + "\"");
+        }
+        Stats total = total();
+        writer.printf("Total %8d %9.1f %9.0f %9d  (%d samples)%n",
+                total.getCalls(), total.getNanos() / 1e6, total.getRemoved(), total.getFailures(), total.getSamples());
+        writer.println();
+    }
+
+    private static void print(PrintWriter writer, Stats s, String name) {
+        writer.printf(" %12d %9.1f %9.0f %9d  %s%n",
+                s.getCalls(), s.getNanos() / 1e6, s.getRemoved(), s.getFailures(), name);
+    }
+
+    /**
+     * Write the estimated time spent in each propagator as collapsed stacks, one per line,
+     * of the form {@code propagation;<constraint name>;<propagator class>;<propagator class>#<id> <nanoseconds>}.
+     * This format is read by flame graph tools (e.g. <i>flamegraph.pl</i> or <i>speedscope</i>).
+     * <code>writer</code> is not closed at the end of the call.
+     *
+     * @param writer a print writer
+     */
+    public void writeFlameGraph(PrintWriter writer) {
+        for (Map.Entry<Propagator<?>, Stats> e : byPropagator().entrySet()) {
+            long n = Math.round(e.getValue().getNanos());
+            if (n > 0) {
+                Propagator<?> p = e.getKey();
+                String clazz = p.getClass().getSimpleName();
+                writer.printf("propagation;%s;%s;%s#%d %d%n",
+                        frame(constraintName(p)), frame(clazz), frame(clazz), p.getId(), n);
+            }
+        }
+    }
+
+    /**
+     * Write the estimated time spent in each propagator as collapsed stacks to the file.
+     *
+     * @param file output file
+     * @throws IOException if the file exists but is a directory rather than a regular file,
+     *                     does not exist but cannot be created, or cannot be opened for any other reason
+     * @see #writeFlameGraph(PrintWriter)
+     */
+    public void writeFlameGraph(File file) throws IOException {
+        try (PrintWriter writer = new PrintWriter(new FileWriter(file))) {
+            writeFlameGraph(writer);
+        }
+    }
+
+    private static String frame(String name) {
+        return name.replace(';', '_').replace(' ', '_');
+    }
+
+    /**
+     * Statistics of a propagator, or of a group of propagators.
+     * Time and removed values are estimations.
+     */
+    public static final class Stats {
+        private long calls;
+        private long failures;
+        private long samples;
+        private double nanos;
+        private double removed;
+
+        private void add(PropagationSampler sampler, int id) {
+            long c = sampler.calls[id];
+            long s = sampler.samples[id];
+            calls += c;
+            failures += sampler.failures[id];
+            samples += s;
+            if (s > 0) {
+                double scale = (double) c / s;
+                nanos += sampler.nanos[id] * scale;
+                removed += sampler.removed[id] * scale;
+            }
+        }
+
+        /**
+         * @return the number of executions
+         */
+        public long getCalls() {
+            return calls;
+        }
+
+        /**
+         * @return the number of failures
+         */
+        public long getFailures() {
+            return failures;
+        }
+
+        /**
+         * @return the number of sampled executions
+         */
+        public long getSamples() {
+            return samples;
+        }
+
+        /**
+         * @return the estimated time spent, in nanoseconds
+         */
+        public double getNanos() {
+            return nanos;
+        }
+
+        /**
+         * @return the estimated number of values removed
+         */
+        public double getRemoved() {
+            return removed;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("calls: %d, time: %.1fms, removed: %.0f, fails: %d",
+                    calls, nanos / 1e6, removed, failures);
+        }
+    }
+}
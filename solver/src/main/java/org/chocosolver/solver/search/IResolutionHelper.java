@@ -149,8 +149,11 @@ public interface IResolutionHelper extends ISelf<Solver> {
         ref().getModel().clearObjective();
         ref().addStopCriterion(stop);
         List<Solution> solutions = new ArrayList<>();
+        // consecutive solutions only differ by a few variables: recording one into the same object
+        // and keeping a snapshot of it only copies the blocks of values that changed (see Solution#copySolution())
+        Solution current = new Solution(ref().getModel());
         while (ref().solve()) {
-            solutions.add(new Solution(ref().getModel()).record());
+            solutions.add(current.record().copySolution());
         }
         ref().removeStopCriterion(stop);
         return solutions;
@@ -51,7 +51,7 @@ public class LazyClauseGeneration implements Learn {
      */
     private final MiniSat mSat;
     /**
-     * The maximum number of learnt clauses
+     * The maximum number of learnt clauses in the local tier
      */
     private final int max_learnts;
     /**
@@ -104,9 +104,15 @@ public class LazyClauseGeneration implements Learn {
                 mSat.topLevelCleanUp();
             }
         }
-        if (mSat.nLearnts() >= max_learnts) {
+        // the reduction is scheduled on conflicts, unless the local tier becomes too large
+        if (mSat.isReduceDBDue() || mSat.nLearnts(MiniSat.LOCAL) >= max_learnts) {
             mSat.doReduceDB();
         }
+        mSolver.getMeasures().setLearntClauseCounts(
+                mSat.nLearnts(MiniSat.CORE),
+                mSat.nLearnts(MiniSat.TIER2),
+                mSat.nLearnts(MiniSat.LOCAL),
+                mSat.nRemovedLearnts());
     }
 
     private void onFailure() {
@@ -42,6 +42,18 @@ import java.util.Arrays;
  */
 public class NogoodFromRestarts implements IMonitorRestart {
 
+    /**
+     * Number of integers used to encode a decision in {@link #encodePath(DecisionPath, int)}
+     */
+    public static final int ENCODING_SIZE = 4;
+
+    private static final int INT_EQ = 0;
+    private static final int INT_NEQ = 1;
+    private static final int INT_LE = 2;
+    private static final int INT_GT = 3;
+    private static final int SET_IN = 4;
+    private static final int SET_NIN = 5;
+
     /**
      * Stores the decision path before
      */
@@ -109,6 +121,112 @@ public class NogoodFromRestarts implements IMonitorRestart {
         }
     }
 
+    /**
+     * Encode a decision path in a model-independent way, to be shared with equivalent models.
+     * Each decision is described by {@link #ENCODING_SIZE} integers:
+     * the ID of its variable, its operator, its value and whether it is refuted.
+     * Only the first <i>maxSize</i> decisions are encoded, so that the nogoods extracted
+     * from the encoding are a subset of the ones that can be extracted from the path.
+     *
+     * @param decisionPath a decision path
+     * @param maxSize      maximum number of decisions to encode
+     * @return the encoded decision path
+     * @see #extractNogoodFromEncodedPath(int[])
+     */
+    @SuppressWarnings("unchecked")
+    public int[] encodePath(DecisionPath decisionPath, int maxSize) {
+        assert decisions.isEmpty();
+        decisionPath.transferInto(decisions, false);
+        int[] path = new int[Math.min(decisions.size(), maxSize) * ENCODING_SIZE];
+        Decision<Variable> decision;
+        int i = 0;
+        while (!decisions.isEmpty()) {
+            decision = decisions.pollFirst();
+            if (i < path.length) {
+                int op = asCode(decision);
+                if (op == -1) {
+                    // the remaining decisions are ignored
+                    path = Arrays.copyOf(path, i);
+                    continue;
+                }
+                path[i++] = decision.getDecisionVariable().getId();
+                path[i++] = op;
+                path[i++] = (Integer) decision.getDecisionValue();
+                path[i++] = decision.hasNext() || decision.getArity() == 1 ? 0 : 1;
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Extract nogoods from a decision path encoded by {@link #encodePath(DecisionPath, int)}.
+     *
+     * @param path an encoded decision path
+     */
+    public void extractNogoodFromEncodedPath(int[] path) {
+        int[] lits = new int[path.length / ENCODING_SIZE];
+        int i = 0;
+        for (int k = 0; k < path.length; k += ENCODING_SIZE) {
+            int lit = asLit(path[k], path[k + 1], path[k + 2]);
+            if (path[k + 3] == 0) {
+                lits[i++] = lit;
+            } else {
+                if (i == 0) {
+                    // value can be removed permanently from var!
+                    png.addLearnt(lit);
+                } else {
+                    lits[i] = lit;
+                    png.addLearnt(Arrays.copyOf(lits, i + 1));
+                }
+            }
+        }
+    }
+
+    private static int asCode(Decision<?> decision) {
+        if (decision instanceof IntDecision) {
+            DecisionOperator<IntVar> op = ((IntDecision) decision).getDecOp();
+            if (DecisionOperatorFactory.makeIntEq().equals(op)) {
+                return INT_EQ;
+            } else if (DecisionOperatorFactory.makeIntNeq().equals(op)) {
+                return INT_NEQ;
+            } else if (DecisionOperatorFactory.makeIntSplit().equals(op)
+                    || op instanceof ObjectiveStrategy.BottomUpDecisionOperator) {
+                return INT_LE;
+            } else if (DecisionOperatorFactory.makeIntReverseSplit().equals(op)
+                    || op instanceof ObjectiveStrategy.TopDownDecisionOperator) {
+                return INT_GT;
+            }
+        } else if (decision instanceof SetDecision) {
+            DecisionOperator<SetVar> op = ((SetDecision) decision).getDecOp();
+            if (DecisionOperatorFactory.makeSetForce().equals(op)) {
+                return SET_IN;
+            } else if (DecisionOperatorFactory.makeSetRemove().equals(op)) {
+                return SET_NIN;
+            }
+        }
+        return -1;
+    }
+
+    private int asLit(int id, int op, int val) {
+        Variable var = nogoodStealer.getById(id, png.getModel());
+        switch (op) {
+            case INT_EQ:
+                return MiniSat.makeLiteral(png.makeIntEq((IntVar) var, val), false);
+            case INT_NEQ:
+                return MiniSat.makeLiteral(png.makeIntEq((IntVar) var, val), true);
+            case INT_LE:
+                return MiniSat.makeLiteral(png.makeIntLe((IntVar) var, val), false);
+            case INT_GT:
+                return MiniSat.makeLiteral(png.makeIntLe((IntVar) var, val), true);
+            case SET_IN:
+                return MiniSat.makeLiteral(png.makeSetIn((SetVar) var, val), false);
+            case SET_NIN:
+                return MiniSat.makeLiteral(png.makeSetIn((SetVar) var, val), true);
+            default:
+                throw new UnsupportedOperationException("Cannot deal with such operator: " + op);
+        }
+    }
+
     /**
      * Transform this decision into a literal to be used in {@link PropSat}.
      *
@@ -109,6 +109,19 @@ public interface IMeasures extends Serializable {
      */
     long getRestartCount();
 
+    /**
+     * @return the number of learnt clauses in a tier, one of {@link org.chocosolver.sat.MiniSat#CORE},
+     * {@link org.chocosolver.sat.MiniSat#TIER2} or {@link org.chocosolver.sat.MiniSat#LOCAL}
+     * (only relevant in Lazy Clause Generation mode)
+     */
+    long getLearntClauseCount(int tier);
+
+    /**
+     * @return the number of learnt clauses removed from the database so far
+     * (only relevant in Lazy Clause Generation mode)
+     */
+    long getRemovedClauseCount();
+
     /**
      * @return the solution count of the measure
      */
@@ -112,6 +112,16 @@ public class Measures implements IMeasures, Cloneable {
      */
     protected long backjumpCount;
 
+    /**
+     * Stores the number of learnt clauses in each tier.
+     */
+    protected long[] learntClauseCount = new long[3];
+
+    /**
+     * Counts the number of learnt clauses removed so far.
+     */
+    protected long removedClauseCount;
+
     //***********************************************************************************
     // CONSTRUCTOR
     //***********************************************************************************
@@ -148,6 +158,10 @@ public class Measures implements IMeasures, Cloneable {
         failCount = measures.getFailCount();
         depth = measures.getCurrentDepth();
         maxDepth = measures.getMaxDepth();
+        for (int t = 0; t < learntClauseCount.length; t++) {
+            learntClauseCount[t] = measures.getLearntClauseCount(t);
+        }
+        removedClauseCount = measures.getRemovedClauseCount();
     }
 
     //****************************************************************************************************************//
@@ -180,6 +194,16 @@ public class Measures implements IMeasures, Cloneable {
         return backjumpCount;
     }
 
+    @Override
+    public long getLearntClauseCount(int tier) {
+        return learntClauseCount[tier];
+    }
+
+    @Override
+    public long getRemovedClauseCount() {
+        return removedClauseCount;
+    }
+
     @Override
     public final long getNodeCount() {
         return nodeCount;
@@ -15,6 +15,7 @@ import org.chocosolver.solver.search.SearchState;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.function.LongSupplier;
 
@@ -118,6 +119,8 @@ public final class MeasuresRecorder extends Measures {
         depth = 0;
         maxDepth = 0;
         propagationCount = 0;
+        Arrays.fill(learntClauseCount, 0);
+        removedClauseCount = 0;
     }
 
     //****************************************************************************************************************//
@@ -181,6 +184,20 @@ public final class MeasuresRecorder extends Measures {
     }
 
 
+    /**
+     * Update the learnt clause counters
+     * @param core number of learnt clauses in the core tier
+     * @param tier2 number of learnt clauses in the tier-2
+     * @param local number of learnt clauses in the local tier
+     * @param removed number of learnt clauses removed so far
+     */
+    public void setLearntClauseCounts(long core, long tier2, long local, long removed) {
+        learntClauseCount[0] = core;
+        learntClauseCount[1] = tier2;
+        learntClauseCount[2] = local;
+        removedClauseCount = removed;
+    }
+
     /**
      * Update the current search state
      * @param state new search state
@@ -10,8 +10,6 @@
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
 import gnu.trove.list.array.TIntArrayList;
-import gnu.trove.map.TObjectDoubleMap;
-import gnu.trove.map.hash.TObjectDoubleHashMap;
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
 import org.chocosolver.solver.Solver;
@@ -25,7 +23,7 @@ import org.chocosolver.solver.variables.events.IEventType;
 
 import java.util.*;
 import java.util.function.BiConsumer;
-import java.util.function.BiFunction;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 
 /**
@@ -45,23 +43,26 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
      */
     static class Element {
         int[] ws;
+        /**
+         * Refined weights, for DOMWDEG_REFINED and CHS
+         */
+        double[] rws;
 
         public Element(int count, int w0, int w1) {
             this.ws = new int[]{w0, w1, count};
         }
-    }
 
-    private final BiFunction<Propagator<?>, double[], double[]> remapWeights =
-            (p, w) -> {
-                if (w == null) {
-                    // if absent
-                    w = new double[p.getNbVars()];
-                } else if (w.length < p.getNbVars()) {
-                    // may happen propagators (like PropSat) with dynamic variable addition
-                    w = Arrays.copyOf(w, p.getNbVars());
-                }
-                return w;
-            };
+        double[] remapWeights(Propagator<?> p) {
+            if (rws == null) {
+                // if absent
+                rws = new double[p.getNbVars()];
+            } else if (rws.length < p.getNbVars()) {
+                // may happen propagators (like PropSat) with dynamic variable addition
+                rws = Arrays.copyOf(rws, p.getNbVars());
+            }
+            return rws;
+        }
+    }
 
     protected static final int FLUSH_TOPS = 20;
     protected static final double FLUSH_RATIO = .9 * FLUSH_TOPS;
@@ -95,26 +96,27 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
      */
     int conflicts = 0;
     /**
-     * Stores for each propagator, its {@link Element}.
+     * Stores for each propagator, its {@link Element}, indexed by propagator ID.
+     * Grows lazily, since propagators can be added during search.
      */
-    final HashMap<Propagator<?>, Element> failCount = new HashMap<>();
+    private Element[] failCount = new Element[0];
     /**
-     * Required to store for each variable the number of watchers (ie, propagator and futvars)
+     * Required to store for each variable the number of watchers (ie, propagator and futvars),
+     * indexed by variable ID.
      */
-    private final HashMap<Variable, Integer> observed = new HashMap<>();
+    private int[] observed;
     /**
-     * Scoring for each variable, is updated dynamically.
+     * Scoring for each variable, is updated dynamically, indexed by variable ID.
      */
-    final TObjectDoubleMap<Variable> weights = new TObjectDoubleHashMap<>(15, 1.5f, 0.);
+    private double[] weights;
     /**
-     * Refined weights,
-     * for DOMWDEG_REFINED and CHS
+     * Variables with a score, indexed by variable ID, <i>null</i> for the others.
      */
-    final HashMap<Propagator<?>, double[]> refinedWeights = new HashMap<>();
+    private Variable[] weighted;
     static final double[] rw = {0.};
 
     final BiConsumer<Variable, Propagator<?>> update = (v, p) -> {
-        Element elt = failCount.get(p);
+        Element elt = getElement(p);
         if (elt != null) {
             if (p.getVar(elt.ws[0]) == v) {
                 updateFutvars(p, elt, 0);
@@ -130,6 +132,99 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
         this.environment = vars[0].getModel().getEnvironment();
         this.last = environment.makeInt(vars.length - 1);
         this.flushThs = flush;
+        int n = 0;
+        for (V v : vars) {
+            n = Math.max(n, v.getId() + 1);
+        }
+        this.weights = new double[n];
+        this.weighted = new Variable[n];
+        this.observed = new int[n];
+    }
+
+    /**
+     * Return a capacity greater than <i>id</i>, for an array of size <i>length</i>
+     */
+    private static int capacity(int id, int length) {
+        return Math.max(id + 1, length + (length >> 1) + 1);
+    }
+
+    /**
+     * @param p a propagator
+     * @return the {@link Element} of <i>p</i>, or <i>null</i> if <i>p</i> has never failed
+     */
+    final Element getElement(Propagator<?> p) {
+        int id = p.getId();
+        return id < failCount.length ? failCount[id] : null;
+    }
+
+    private void setElement(Propagator<?> p, Element elt) {
+        int id = p.getId();
+        if (id >= failCount.length) {
+            failCount = Arrays.copyOf(failCount, capacity(id, failCount.length));
+        }
+        failCount[id] = elt;
+    }
+
+    /**
+     * @param p a propagator
+     * @return the refined weights of <i>p</i>, or {@link #rw} if <i>p</i> has never failed
+     */
+    final double[] getRefinedWeights(Propagator<?> p) {
+        Element elt = getElement(p);
+        return elt == null || elt.rws == null ? rw : elt.rws;
+    }
+
+    /**
+     * @param v a variable
+     * @return the score of <i>v</i>, 0 by default
+     */
+    final double getWeight(Variable v) {
+        int id = v.getId();
+        return id < weights.length ? weights[id] : 0.;
+    }
+
+    /**
+     * Set the score of <i>v</i> to <i>w</i>
+     */
+    final void putWeight(Variable v, double w) {
+        int id = v.getId();
+        if (id >= weights.length) {
+            int cap = capacity(id, weights.length);
+            weights = Arrays.copyOf(weights, cap);
+            weighted = Arrays.copyOf(weighted, cap);
+        }
+        weights[id] = w;
+        weighted[id] = v;
+    }
+
+    /**
+     * Increase the score of <i>v</i> by <i>w</i>
+     */
+    final void addWeight(Variable v, double w) {
+        putWeight(v, getWeight(v) + w);
+    }
+
+    /**
+     * Increase the score of <i>v</i> by <i>w</i>, only if <i>v</i> already has a score
+     */
+    private void adjustWeight(Variable v, double w) {
+        int id = v.getId();
+        if (id < weighted.length && weighted[id] != null) {
+            weights[id] += w;
+        }
+    }
+
+    /**
+     * Reset the score of all variables.
+     *
+     * @param forget set to <i>true</i> to consider that variables have no score anymore,
+     *               set to <i>false</i> to set their score to 0.
+     */
+    final void resetWeights(boolean forget) {
+        Arrays.fill(weights, 0.);
+        if (forget) {
+            Arrays.fill(weighted, null);
+        }
     }
 
     @Override
@@ -178,10 +273,10 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
             if (prop.getNbVars() < 2 /*|| prop instanceof PropSat*/) return;
             // store the propagator if needed
             // then update its failure counter
-            Element elt = failCount.get(prop);
+            Element elt = getElement(prop);
             if (elt == null) {
                 elt = new Element(0, 0, 1);
-                failCount.put(prop, elt);
+                setElement(prop, elt);
             } else {
                 unplug(prop.getVar(elt.ws[0]));
                 unplug(prop.getVar(elt.ws[1]));
@@ -221,7 +316,7 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
 
             // create, update or get weights
             elt.ws[2] += remapInc();
-            double[] ws = refinedWeights.compute(prop, remapWeights);
+            double[] ws = elt.remapWeights(prop);
             increase(prop, elt, ws);
         }
     }
@@ -238,10 +333,11 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
      *
      * @return <i>true</i> if the weights should be flushed
      */
-    protected boolean flushWeights(TObjectDoubleMap<?> q) {
+    protected boolean flushWeights(ToDoubleFunction<Variable> q) {
         //if(true)return false;
-        List<Variable> temp = weights.keySet().stream()
-                .sorted(Comparator.comparingDouble(q::get))
+        List<Variable> temp = Arrays.stream(weighted)
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparingDouble(q))
                 .limit(FLUSH_TOPS)
                 .collect(Collectors.toList());
         long cnt = temp.stream().filter(tops::contains).count();
@@ -264,24 +360,21 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
     ////////////////// THIS IS RELATED TO INCREMENTAL FUTVARS ////////////
     //////////////////////////////////////////////////////////////////////
 
-    private final BiFunction<Variable, Integer, Integer> inc = (v, i) -> i + 1;
     final void plug(Variable var) {
-        if (!observed.containsKey(var)) {
-            observed.put(var, 1);
+        int id = var.getId();
+        if (id >= observed.length) {
+            observed = Arrays.copyOf(observed, capacity(id, observed.length));
+        }
+        if (observed[id]++ == 0) {
             var.addMonitor(this);
-        } else {
-            observed.computeIfPresent(var, inc);
         }
     }
 
-    private final BiFunction<Variable, Integer, Integer> dec = (v, i) -> i - 1;
-
     private void unplug(Variable var) {
-        assert observed.containsKey(var);
-        Integer obs = observed.computeIfPresent(var, dec);
-        if (obs != null && obs == 0) {
+        int id = var.getId();
+        assert id < observed.length && observed[id] > 0;
+        if (--observed[id] == 0) {
             var.removeMonitor(this);
-            observed.remove(var);
         }
     }
 
@@ -320,17 +413,17 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
                 // 'var' is the last one not instantiated,
                 // so this counter will not be taken into account
                 double[] delta = {0.};
-                double[] ws = refinedWeights.get(p);
+                double[] ws = elt.rws;
                 if (elt.ws[k] < ws.length) {
                     // may happen propagators (like PropSat) with dynamic variable addition
                     delta[0] = ws[elt.ws[k]];
                 }
-                weights.adjustValue(other, -delta[0]);
+                adjustWeight(other, -delta[0]);
                 // but it should be restored upon backtrack
                 environment.save(() -> {
-                    double ww = weights.get(other) + delta[0];
+                    double ww = getWeight(other) + delta[0];
                     ww = Math.max(ww, 0.);
-                    weights.put(other, ww);
+                    putWeight(other, ww);
                 });
             }
         }
@@ -17,7 +17,7 @@ import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.search.loop.monitors.IMonitorRestart;
 import org.chocosolver.solver.variables.Variable;
 
-import java.util.stream.Stream;
+import java.util.function.BiConsumer;
 
 /**
  * Source: "Conflict History Based Branching Heuristic for CSP Solving", Habet and Terrioux.
@@ -57,6 +57,22 @@ public class ConflictHistorySearch<V extends Variable>
      */
     private final TObjectIntMap<Propagator> conflict = new TObjectIntHashMap<>(10, 0.5f, 0);
 
+    /**
+     * Temporary. Stores the score of the variable being evaluated
+     */
+    private double score;
+    private final BiConsumer<Variable, Propagator<?>> scorer = (v, prop) -> {
+        int fut = 0;
+        for (int j = 0; j < prop.getNbVars() && fut < 2; j++) {
+            if (prop.getVar(j).isInstantiated()) {
+                fut++;
+            }
+        }
+        if (fut > 1) {
+            score += getRefinedWeights(prop)[0] + D;
+        }
+    };
+
     public ConflictHistorySearch(V[] vars, long seed) {
         this(vars, seed, Integer.MAX_VALUE);
     }
@@ -82,17 +98,9 @@ public class ConflictHistorySearch<V extends Variable>
 
     @Override
     protected double weight(Variable v) {
-        double[] w = {0.};
-        v.streamPropagators().forEach(prop ->{
-            long fut = Stream.of(prop.getVars())
-                    .filter(Variable::isInstantiated)
-                    .limit(2)
-                    .count();
-            if (fut > 1) {
-                w[0] += refinedWeights.getOrDefault(prop, rw)[0] + D;
-            }
-        });
-        return w[0];
+        score = 0.;
+        v.forEachPropagator(scorer);
+        return score;
     }
 
     @Override
@@ -109,7 +117,7 @@ public class ConflictHistorySearch<V extends Variable>
 
     @Override
     public void afterRestart() {
-        if (flushWeights(q)) {
+        if (flushWeights(q::get)) {
             q.clear();
             conflict.forEachEntry((a1, b) -> {
                 conflict.put(a1, conflicts);
@@ -62,7 +62,7 @@ public class PickOnDom<V extends Variable> extends AbstractCriterionBasedVariabl
 
     @Override
     protected double weight(V v) {
-        return weights.get(v);
+        return getWeight(v);
     }
 
     @Override
@@ -72,20 +72,25 @@ public class PickOnDom<V extends Variable> extends AbstractCriterionBasedVariabl
         switch (variant) {
             case 0:
                 for (Variable lvar : Lvars) {
-                    weights.adjustOrPutValue(lvar, 1, 1);
+                    if (lvar != null) {
+                        addWeight(lvar, 1);
+                    }
                 }
                 break;
             case 1:
                 for (int i = 0; i < Lvars.size(); i++) {
-                    weights.adjustOrPutValue(Lvars.get(i), Ldeltas.get(i), Ldeltas.get(i));
+                    if (Lvars.get(i) != null) {
+                        addWeight(Lvars.get(i), Ldeltas.get(i));
+                    }
                 }
                 break;
             case 2:
                 sum = Ldeltas.sum();
                 r = 100. / sum;
                 for (int i = 0; i < Lvars.size(); i++) {
-                    double amnt = r * Ldeltas.get(i);
-                    weights.adjustOrPutValue(Lvars.get(i), amnt, amnt);
+                    if (Lvars.get(i) != null) {
+                        addWeight(Lvars.get(i), r * Ldeltas.get(i));
+                    }
                 }
                 break;
             case 3:
@@ -94,8 +99,9 @@ public class PickOnDom<V extends Variable> extends AbstractCriterionBasedVariabl
                 sum = Ldeltas.sum();
                 r = (n - d) / n * 100. / sum;
                 for (int i = 0; i < Lvars.size(); i++) {
-                    double amnt = r * Ldeltas.get(i);
-                    weights.adjustOrPutValue(Lvars.get(i), amnt, amnt);
+                    if (Lvars.get(i) != null) {
+                        addWeight(Lvars.get(i), r * Ldeltas.get(i));
+                    }
                 }
                 break;
 
@@ -108,8 +114,8 @@ public class PickOnDom<V extends Variable> extends AbstractCriterionBasedVariabl
     }
 
     public void afterRestart() {
-        if (flushWeights(weights)) {
-            weights.clear();
+        if (flushWeights(this::getWeight)) {
+            resetWeights(true);
         }
     }
 }
@@ -62,7 +62,7 @@ public class PickOnFil<V extends Variable> extends AbstractCriterionBasedVariabl
 
     @Override
     protected double weight(V v) {
-        return weights.get(v);
+        return getWeight(v);
     }
 
     @Override
@@ -74,7 +74,7 @@ public class PickOnFil<V extends Variable> extends AbstractCriterionBasedVariabl
                 for (int i = 0; i < Lcstrs.size(); i++) {
                     Propagator<?> lc = Lcstrs.get(i);
                     for (Variable lv : lc.getVars()) {
-                        weights.adjustOrPutValue(lv, 1, 1);
+                        addWeight(lv, 1);
                     }
                 }
                 break;
@@ -82,7 +82,7 @@ public class PickOnFil<V extends Variable> extends AbstractCriterionBasedVariabl
                 for (int i = 0; i < Lcstrs.size(); i++) {
                     Propagator<?> lc = Lcstrs.get(i);
                     for (Variable lv : lc.getVars()) {
-                        weights.adjustOrPutValue(lv, Ldeltas.get(i), Ldeltas.get(i));
+                        addWeight(lv, Ldeltas.get(i));
                     }
                 }
                 break;
@@ -93,7 +93,7 @@ public class PickOnFil<V extends Variable> extends AbstractCriterionBasedVariabl
                     double amnt = r * Ldeltas.get(i);
                     Propagator<?> lc = Lcstrs.get(i);
                     for (Variable lv : lc.getVars()) {
-                        weights.adjustOrPutValue(lv, amnt, amnt);
+                        addWeight(lv, amnt);
                     }
                 }
                 break;
@@ -106,7 +106,7 @@ public class PickOnFil<V extends Variable> extends AbstractCriterionBasedVariabl
                     double amnt = r * Ldeltas.get(i);
                     Propagator<?> lc = Lcstrs.get(i);
                     for (Variable lv : lc.getVars()) {
-                        weights.adjustOrPutValue(lv, amnt, amnt);
+                        addWeight(lv, amnt);
                     }
                 }
                 break;
@@ -120,8 +120,8 @@ public class PickOnFil<V extends Variable> extends AbstractCriterionBasedVariabl
     }
 
     public void afterRestart() {
-        if (flushWeights(weights)) {
-            weights.clear();
+        if (flushWeights(this::getWeight)) {
+            resetWeights(true);
         }
     }
 }
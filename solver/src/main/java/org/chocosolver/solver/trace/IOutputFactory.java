@@ -11,9 +11,11 @@ package org.chocosolver.solver.trace;
 
 import org.chocosolver.solver.ISelf;
 import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.propagation.PropagationEngine;
 import org.chocosolver.solver.propagation.PropagationEngineObserver;
 import org.chocosolver.solver.propagation.PropagationObserver;
 import org.chocosolver.solver.propagation.PropagationProfiler;
+import org.chocosolver.solver.propagation.PropagationSampler;
 import org.chocosolver.solver.search.loop.monitors.*;
 import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.util.tools.StringUtils;
@@ -348,6 +350,44 @@ public interface IOutputFactory extends ISelf<Solver> {
         return po;
     }
 
+    /**
+     * <p>
+     * Plug a propagation sampler with the default period, see {@link #samplePropagation(int)}.
+     * </p>
+     *
+     * @return a propagation sampler
+     */
+    default PropagationSampler samplePropagation() {
+        return samplePropagation(PropagationSampler.DEFAULT_PERIOD);
+    }
+
+    /**
+     * <p>
+     * Plug a propagation sampler.
+     * It counts calls and failures of propagators, and estimates the time spent and the values removed
+     * by each of them from one execution out of <i>period</i>.
+     * Contrary to {@link #profilePropagation()}, its overhead is low enough to leave it on while solving,
+     * and its data can be read at any time, for instance from another thread.
+     * </p>
+     * <pre> {@code
+     * Solver s = m.getSolver();
+     * PropagationSampler sampler = s.samplePropagation(64);
+     * s.findSolution();
+     * System.out.println(sampler.byConstraint());
+     * sampler.writeFlameGraph(new File("propagation.folded"));
+     * }</pre>
+     * The sampler is attached to the current propagation engine,
+     * it is lost when the engine is replaced (see {@link Solver#setEngine(PropagationEngine)}).
+     *
+     * @param period average number of propagator executions between two samples
+     * @return a propagation sampler
+     */
+    default PropagationSampler samplePropagation(int period) {
+        PropagationSampler ps = new PropagationSampler(period);
+        ref().getEngine().setSampler(ps);
+        return ps;
+    }
+
     /**
      * Create and return a {@link SolvingStatisticsFlow} object to observe solving statistics.
      * <p>
@@ -266,6 +266,110 @@ public interface IntVar extends ICause, Variable, Iterable<Integer>, ArExpressio
         return removeAllValuesBut(values, cause, cause.defaultReason(this));
     }
 
+    /**
+     * Removes the values in <code>mask</code> from the domain of <code>this</code>.
+     * The value <i>v</i> belongs to <code>mask</code> if the bit <i>v - offset</i> is set,
+     * that is, if <code>(mask[(v - offset) / 64] &amp; (1L &lt;&lt; (v - offset))) != 0</code>.
+     * The instruction comes from <code>propagator</code>.
+     * <ul>
+     * <li>If all values are out of the domain, nothing is done and the return value is <code>false</code>,</li>
+     * <li>if removing the values leads to a dead-end (domain wipe-out),
+     * a <code>ContradictionException</code> is thrown,</li>
+     * <li>otherwise, if removing the values from the domain can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is <code>true</code></li>
+     * </ul>
+     * Bitset-based domains apply the removals word by word and notify observers only once.
+     *
+     * @param mask   values to remove, as a bitset
+     * @param offset value of the first bit of <code>mask</code>
+     * @param cause  removal releaser
+     * @return true if at least a value has been removed, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    default boolean removeValues(long[] mask, int offset, ICause cause) throws ContradictionException {
+        assert cause != null;
+        long size = mask.length * 64L;
+        // first the bounds, then the holes
+        int lb = getLB();
+        int ub = getUB();
+        while (lb <= ub && lb - (long) offset >= 0 && lb - (long) offset < size
+                && (mask[(lb - offset) >>> 6] & (1L << (lb - offset))) != 0L) {
+            lb = nextValue(lb);
+        }
+        while (ub >= lb && ub - (long) offset >= 0 && ub - (long) offset < size
+                && (mask[(ub - offset) >>> 6] & (1L << (ub - offset))) != 0L) {
+            ub = previousValue(ub);
+        }
+        if (lb > ub) {
+            // no value is kept, let the bound update fail
+            return updateLowerBound(getUB() + 1, cause);
+        }
+        boolean hasChanged = updateBounds(lb, ub, cause);
+        if (hasEnumeratedDomain()) {
+            int to = (int) Math.min(ub - 1L, offset + size - 1);
+            for (int v = nextValue(Math.max(lb, offset - 1)); v <= to; v = nextValue(v)) {
+                int b = v - offset;
+                if ((mask[b >>> 6] & (1L << b)) != 0L) {
+                    hasChanged |= removeValue(v, cause);
+                }
+            }
+        }
+        return hasChanged;
+    }
+
+    /**
+     * Removes all values from the domain of <code>this</code> except those in <code>mask</code>.
+     * The value <i>v</i> belongs to <code>mask</code> if the bit <i>v - offset</i> is set,
+     * that is, if <code>(mask[(v - offset) / 64] &amp; (1L &lt;&lt; (v - offset))) != 0</code>.
+     * The instruction comes from <code>propagator</code>.
+     * <ul>
+     * <li>If all values are out of the domain,
+     * a <code>ContradictionException</code> is thrown,</li>
+     * <li>if the domain is a subset of the values,
+     * nothing is done and the return value is <code>false</code>,</li>
+     * <li>otherwise, if removing all values but those in <code>mask</code> from the domain can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is <code>true</code></li>
+     * </ul>
+     * Bitset-based domains apply the removals word by word and notify observers only once.
+     *
+     * @param mask   values to keep, as a bitset
+     * @param offset value of the first bit of <code>mask</code>
+     * @param cause  removal releaser
+     * @return true if at least a value has been removed, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    default boolean removeAllValuesBut(long[] mask, int offset, ICause cause) throws ContradictionException {
+        assert cause != null;
+        long size = mask.length * 64L;
+        // first the bounds, then the holes
+        int lb = getLB();
+        int ub = getUB();
+        while (lb <= ub && (lb - (long) offset < 0 || lb - (long) offset >= size
+                || (mask[(lb - offset) >>> 6] & (1L << (lb - offset))) == 0L)) {
+            lb = nextValue(lb);
+        }
+        while (ub >= lb && (ub - (long) offset < 0 || ub - (long) offset >= size
+                || (mask[(ub - offset) >>> 6] & (1L << (ub - offset))) == 0L)) {
+            ub = previousValue(ub);
+        }
+        if (lb > ub) {
+            // no value is kept, let the bound update fail
+            return updateLowerBound(getUB() + 1, cause);
+        }
+        boolean hasChanged = updateBounds(lb, ub, cause);
+        if (hasEnumeratedDomain()) {
+            for (int v = nextValue(lb); v < ub; v = nextValue(v)) {
+                int b = v - offset;
+                if ((mask[b >>> 6] & (1L << b)) == 0L) {
+                    hasChanged |= removeValue(v, cause);
+                }
+            }
+        }
+        return hasChanged;
+    }
+
     /**
      * Removes values between [<code>from, to</code>] from the domain of <code>this</code>. The instruction comes from <code>propagator</code>.
      * <ul>
@@ -676,6 +780,23 @@ public interface IntVar extends ICause, Variable, Iterable<Integer>, ArExpressio
      */
     int previousValueOut(int v);
 
+    /**
+     * Returns the values of the domain of <code>this</code> in [<i>from</i>, <i>from</i> + 63] as a 64-bit word,
+     * the bit <i>i</i> being set if and only if <i>from + i</i> belongs to the domain.
+     * Bitset-based domains answer without iterating over the values.
+     *
+     * @param from the value of the first bit
+     * @return the word of the domain starting at <i>from</i>
+     */
+    default long getDomainWord(int from) {
+        long word = 0L;
+        long to = from + 63L;
+        for (int v = nextValue(from - 1); v <= to && v < Integer.MAX_VALUE; v = nextValue(v)) {
+            word |= 1L << (v - from);
+        }
+        return word;
+    }
+
     /**
      * Retrieves an iterator over values of <code>this</code>.
      * <p>
@@ -312,6 +312,90 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
         return hasRemoved || hasChanged;
     }
 
+    @Override
+    public boolean removeValues(long[] mask, int offset, ICause cause) throws ContradictionException {
+        return filter(mask, offset, false, cause);
+    }
+
+    @Override
+    public boolean removeAllValuesBut(long[] mask, int offset, ICause cause) throws ContradictionException {
+        return filter(mask, offset, true, cause);
+    }
+
+    /**
+     * Intersects the domain with <code>mask</code> (when <code>keep</code> is set) or with its complement,
+     * one word of the bitset at a time.
+     * A first pass counts the remaining values, so that a wipe-out is detected before any modification;
+     * a second one updates the words, each of them being stored at most once per world.
+     * Observers are notified once, with the strongest event.
+     */
+    private boolean filter(long[] mask, int offset, boolean keep, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int lb = LB.get();
+        int ub = UB.get();
+        // the bit 'i' of the domain is the bit 'i + shift' of the mask
+        int shift = OFFSET - offset;
+        int fw = lb >> 6;
+        int lw = ub >> 6;
+        int count = 0;
+        for (int w = fw; w <= lw; w++) {
+            count += Long.bitCount(VALUES.getWord(w) & maskWord(mask, (w << 6) + shift, keep));
+        }
+        int size = SIZE.get();
+        if (count == size) {
+            return false;
+        }
+        if (count == 0) {
+            this.contradiction(cause, MSG_REMOVE);
+        }
+        for (int w = fw; w <= lw; w++) {
+            long cleared = VALUES.andWord(w, maskWord(mask, (w << 6) + shift, keep));
+            if (reactOnRemoval) {
+                for (; cleared != 0L; cleared &= cleared - 1) {
+                    delta.add((w << 6) + Long.numberOfTrailingZeros(cleared) + OFFSET, cause);
+                }
+            }
+        }
+        SIZE.set(count);
+        IntEventType e = IntEventType.REMOVE;
+        boolean inc = !VALUES.get(lb);
+        boolean dec = !VALUES.get(ub);
+        if (inc) {
+            LB.set(VALUES.nextSetBit(lb));
+        }
+        if (dec) {
+            UB.set(VALUES.prevSetBit(ub));
+        }
+        if (count == 1) {
+            e = IntEventType.INSTANTIATE;
+        } else if (inc && dec) {
+            e = IntEventType.BOUND;
+        } else if (inc) {
+            e = IntEventType.INCLOW;
+        } else if (dec) {
+            e = IntEventType.DECUPP;
+        }
+        this.notifyPropagators(e, cause);
+        return true;
+    }
+
+    /**
+     * @return the 64 bits of <code>mask</code> starting at index <code>from</code>, possibly negative,
+     * the bits out of <code>mask</code> being unset, complemented if <code>keep</code> is not set
+     */
+    private static long maskWord(long[] mask, int from, boolean keep) {
+        int w = from >> 6;
+        int s = from & 63;
+        long word = w >= 0 && w < mask.length ? mask[w] : 0L;
+        if (s != 0) {
+            word >>>= s;
+            if (w + 1 >= 0 && w + 1 < mask.length) {
+                word |= mask[w + 1] << (64 - s);
+            }
+        }
+        return keep ? word : ~word;
+    }
+
     @Override
     public boolean removeInterval(int from, int to, ICause cause) throws
             ContradictionException {
@@ -600,6 +684,21 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
         return Integer.MAX_VALUE;
     }
 
+    @Override
+    public long getDomainWord(int from) {
+        int a = from - OFFSET;
+        int w = a >> 6;
+        int s = a & 63;
+        long word = w >= 0 ? VALUES.getWord(w) : 0L;
+        if (s != 0) {
+            word >>>= s;
+            if (w + 1 >= 0) {
+                word |= VALUES.getWord(w + 1) << (64 - s);
+            }
+        }
+        return word;
+    }
+
     @Override
     public int nextValueOut(int aValue) {
         int lb = getLB();
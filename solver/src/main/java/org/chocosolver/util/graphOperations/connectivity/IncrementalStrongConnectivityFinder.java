@@ -0,0 +1,232 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.graphOperations.connectivity;
+
+import gnu.trove.list.array.TIntArrayList;
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.memory.IStateIntVector;
+import org.chocosolver.util.objects.graphs.DirectedGraph;
+
+import java.util.BitSet;
+
+/**
+ * Maintains the strongly connected components (SCC) of a directed graph which only loses arcs and nodes
+ * along a branch of the search tree, typically the envelope of a directed graph variable.
+ * <p>
+ * Each node is labelled with the identifier of its SCC, labels are stored in the environment and are
+ * thus restored upon backtrack.
+ * When an arc (u,v) of an SCC is removed, the SCC remains unchanged as long as v is still reachable from u
+ * within the SCC, which is checked by a breadth-first search usually much shorter than a full computation.
+ * Otherwise, or when a node of the SCC is removed, Tarjan's algorithm is run on the nodes of this SCC only.
+ * </p>
+ * Removals are recorded with {@link #removeEdge(int, int)} and {@link #removeNode(int)}
+ * and taken into account on the next call to {@link #update()}.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class IncrementalStrongConnectivityFinder {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    // input
+    private final DirectedGraph graph;
+    private final int n;
+    // output
+    private final IStateIntVector sccOf;
+    private final IStateInt nbSCC;
+    private final IStateInt nextId;
+    // pending removals
+    private final TIntArrayList tails;
+    private final TIntArrayList heads;
+    private final BitSet dirty;
+
+    // util
+    private final StrongConnectivityFinder finder;
+    private final BitSet restriction;
+    private final BitSet visited;
+    private final int[] fifo;
+
+    //***********************************************************************************
+    // CONSTRUCTOR
+    //***********************************************************************************
+
+    /**
+     * @param graph       a directed graph, whose arcs and nodes can only be removed between two calls to
+     *                    {@link #findAllSCC()}, apart from backtracks
+     * @param environment the environment in which the SCC labels are stored
+     */
+    public IncrementalStrongConnectivityFinder(DirectedGraph graph, IEnvironment environment) {
+        this.graph = graph;
+        this.n = graph.getNbMaxNodes();
+        this.sccOf = environment.makeIntVector(n, -1);
+        this.nbSCC = environment.makeInt(0);
+        this.nextId = environment.makeInt(0);
+        this.tails = new TIntArrayList();
+        this.heads = new TIntArrayList();
+        this.dirty = new BitSet();
+        this.finder = new StrongConnectivityFinder(graph);
+        this.restriction = new BitSet(n);
+        this.visited = new BitSet(n);
+        this.fifo = new int[n];
+    }
+
+    //***********************************************************************************
+    // ALGORITHM
+    //***********************************************************************************
+
+    /**
+     * Compute the SCC of the graph from scratch and forget pending removals
+     */
+    public void findAllSCC() {
+        tails.resetQuick();
+        heads.resetQuick();
+        dirty.clear();
+        finder.findAllSCC();
+        for (int i = 0; i < n; i++) {
+            if (sccOf.quickGet(i) != -1) {
+                sccOf.quickSet(i, -1);
+            }
+        }
+        int k = finder.getNbSCC();
+        for (int cc = 0; cc < k; cc++) {
+            for (int i = finder.getSCCFirstNode(cc); i >= 0; i = finder.getNextNode(i)) {
+                sccOf.quickSet(i, cc);
+            }
+        }
+        nbSCC.set(k);
+        nextId.set(k);
+    }
+
+    /**
+     * Record that the arc (from,to) has been removed from the graph
+     *
+     * @param from tail of the removed arc
+     * @param to   head of the removed arc
+     */
+    public void removeEdge(int from, int to) {
+        int s = sccOf.quickGet(from);
+        if (from != to && s >= 0 && s == sccOf.quickGet(to)) {
+            tails.add(from);
+            heads.add(to);
+        }
+    }
+
+    /**
+     * Record that the node <i>x</i> has been removed from the graph
+     *
+     * @param x the removed node
+     */
+    public void removeNode(int x) {
+        int s = sccOf.quickGet(x);
+        if (s >= 0) {
+            sccOf.quickSet(x, -1);
+            dirty.set(s);
+        }
+    }
+
+    /**
+     * Update the SCC wrt the removals recorded since the last call
+     */
+    public void update() {
+        for (int k = 0; k < tails.size(); k++) {
+            int u = tails.getQuick(k);
+            int v = heads.getQuick(k);
+            int s = sccOf.quickGet(u);
+            if (s >= 0 && s == sccOf.quickGet(v) && !dirty.get(s) && !reaches(u, v, s)) {
+                dirty.set(s);
+            }
+        }
+        tails.resetQuick();
+        heads.resetQuick();
+        for (int s = dirty.nextSetBit(0); s >= 0; s = dirty.nextSetBit(s + 1)) {
+            split(s);
+        }
+        dirty.clear();
+    }
+
+    /**
+     * @return true iff there is a path from <i>u</i> to <i>v</i> in the current graph
+     * whose nodes all belong to the SCC <i>s</i>
+     */
+    private boolean reaches(int u, int v, int s) {
+        visited.clear();
+        int first = 0;
+        int last = 0;
+        fifo[last++] = u;
+        visited.set(u);
+        while (first < last) {
+            int i = fifo[first++];
+            for (int j : graph.getSuccessorsOf(i)) {
+                if (j == v) {
+                    return true;
+                }
+                if (!visited.get(j) && sccOf.quickGet(j) == s) {
+                    visited.set(j);
+                    fifo[last++] = j;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Run Tarjan's algorithm on the remaining nodes of the SCC <i>s</i>.
+     * The first SCC found keeps the identifier <i>s</i>, the others get new ones.
+     */
+    private void split(int s) {
+        restriction.clear();
+        for (int i = 0; i < n; i++) {
+            if (sccOf.quickGet(i) == s) {
+                restriction.set(i);
+            }
+        }
+        if (restriction.isEmpty()) {
+            nbSCC.add(-1);
+            return;
+        }
+        finder.findAllSCCOf(restriction);
+        int k = finder.getNbSCC();
+        for (int cc = 1; cc < k; cc++) {
+            int id = nextId.add(1) - 1;
+            for (int i = finder.getSCCFirstNode(cc); i >= 0; i = finder.getNextNode(i)) {
+                sccOf.quickSet(i, id);
+            }
+        }
+        nbSCC.add(k - 1);
+    }
+
+    //***********************************************************************************
+    // ACCESSORS
+    //***********************************************************************************
+
+    /**
+     * BEWARE requires {@link #update()}
+     *
+     * @return the number of SCC of the graph
+     */
+    public int getNbSCC() {
+        return nbSCC.get();
+    }
+
+    /**
+     * BEWARE requires {@link #update()}
+     *
+     * @param x a node
+     * @return the identifier of the SCC of <i>x</i>, -1 if <i>x</i> is not in the graph.
+     * Identifiers are not necessarily consecutive.
+     */
+    public int getSCCOf(int x) {
+        return sccOf.quickGet(x);
+    }
+}
@@ -59,7 +59,7 @@ public abstract class AbstractLengauerTarjanDominatorsFinder {
 		preds = new ISet[n];
 		//noinspection unchecked
 		iterator = new Iterator[n];
-		T = new DirectedGraph(n, SetType.LINKED_LIST, false);
+		T = new DirectedGraph(n, SetType.BITSET, false);
 		list = new TIntArrayList();
 	}
 
@@ -236,6 +236,35 @@ public abstract class AbstractLengauerTarjanDominatorsFinder {
 		return ancestor[x] > ancestor[y] && semi[x] < semi[y];
 	}
 
+	/**
+	 * Sufficient condition for the dominator tree to remain valid after the removal of arc (x,y)
+	 * from the flow graph: either y dominates x (or x = y), so the arc does not belong to any simple path
+	 * from the root, or y still has a predecessor that strictly dominates it.
+	 * The arc is expected to be already removed from the flow graph and the dominator tree
+	 * to be the one of the flow graph before the removal.
+	 * Removals can be checked one after the other, in any order, as long as they all hold.
+	 * BEWARE requires preprocessDominanceRequests()
+	 *
+	 * @param x tail of the removed arc
+	 * @param y head of the removed arc
+	 * @return true if the dominator tree is not impacted by the removal of arc (x,y)
+	 */
+	public boolean isNeutralRemoval(int x, int y) {
+		if (x == y || isDomminatedBy(x, y)) {
+			return true;
+		}
+		ISet prds = preds[y];
+		if (prds.contains(dom[y])) {
+			return true;
+		}
+		for (int z : prds) {
+			if (isDomminatedBy(y, z)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Get the dominator tree formed with arcs (x,y)
 	 * such that x is the immediate dominator of y
@@ -14,6 +14,9 @@ import org.chocosolver.util.objects.setDataStructures.ISet;
 import org.chocosolver.util.objects.setDataStructures.ISetIterator;
 import org.chocosolver.util.objects.setDataStructures.SetFactory;
 import org.chocosolver.util.objects.setDataStructures.SetType;
+import org.chocosolver.util.objects.setDataStructures.csr.CSRAdjacency;
+import org.chocosolver.util.objects.setDataStructures.csr.Set_CSR;
+import org.chocosolver.util.objects.setDataStructures.csr.StoredCSRAdjacency;
 import org.chocosolver.util.objects.setDataStructures.dynamic.SetDifference;
 import org.chocosolver.util.objects.setDataStructures.dynamic.SetIntersection;
 import org.chocosolver.util.objects.setDataStructures.dynamic.SetUnion;
@@ -131,6 +134,66 @@ public class DirectedGraph implements IGraph {
         this(model, n, SetType.BITSET, edgeSetType, allNodes);
     }
 
+    /**
+     * Creates an empty graph whose successors and predecessors are stored in compressed sparse rows,
+     * see {@link SetType#CSR}: only the directed edges of <i>universe</i> can be added to the graph.
+     * Allocates memory for n nodes (but they should then be added explicitly,
+     * unless allNodes is true).
+     *
+     * @param n           maximum number of nodes
+     * @param nodeSetType data structure to use for representing nodes
+     * @param universe    directed edges (in the form { {start, end}, ...}) that can be added to the graph
+     * @param allNodes    true iff all nodes must always remain present in the graph.
+     *                    i.e. The node set is fixed to [0,n-1] and will never change
+     */
+    public DirectedGraph(int n, SetType nodeSetType, int[][] universe, boolean allNodes) {
+        this(n, nodeSetType, allNodes ? SetFactory.makeConstantSet(0, n - 1) : SetFactory.makeSet(nodeSetType, 0),
+                new CSRAdjacency(n, column(universe, 0), column(universe, 1)),
+                new CSRAdjacency(n, column(universe, 1), column(universe, 0)));
+    }
+
+    /**
+     * Creates an empty backtrackable graph whose successors and predecessors are stored in compressed sparse rows,
+     * see {@link SetType#CSR}: only the directed edges of <i>universe</i> can be added to the graph.
+     * Allocates memory for n nodes (but they should then be added explicitly,
+     * unless allNodes is true).
+     *
+     * BEWARE : edges cannot be both added and removed during search (add only or remove only)
+     *
+     * @param model       model providing the backtracking environment
+     * @param n           maximum number of nodes
+     * @param nodeSetType data structure to use for representing nodes
+     * @param universe    directed edges (in the form { {start, end}, ...}) that can be added to the graph
+     * @param allNodes    true iff all nodes must always remain present in the graph
+     */
+    public DirectedGraph(Model model, int n, SetType nodeSetType, int[][] universe, boolean allNodes) {
+        this(n, nodeSetType, allNodes ? SetFactory.makeConstantSet(0, n - 1) : SetFactory.makeStoredSet(nodeSetType, 0, model),
+                new StoredCSRAdjacency(model.getEnvironment(), n, column(universe, 0), column(universe, 1)),
+                new StoredCSRAdjacency(model.getEnvironment(), n, column(universe, 1), column(universe, 0)));
+    }
+
+    private DirectedGraph(int n, SetType nodeSetType, ISet nodes, CSRAdjacency succs, CSRAdjacency preds) {
+        this.n = n;
+        this.nodeSetType = nodeSetType;
+        this.edgeSetType = SetType.CSR;
+        this.nodes = nodes;
+        predecessors = new ISet[n];
+        successors = new ISet[n];
+        for (int i = 0; i < n; i++) {
+            predecessors[i] = new Set_CSR(preds, i);
+            successors[i] = new Set_CSR(succs, i);
+        }
+    }
+
+    private static int[] column(int[][] edges, int c) {
+        int[] col = new int[edges.length];
+        for (int i = 0; i < edges.length; i++) {
+            assert edges[i].length == 2;
+            col[i] = edges[i][c];
+        }
+        return col;
+    }
+
     /**
      * Construct a read-only copy of another graph
      * @param g the graph to copy
@@ -244,7 +307,7 @@ public class DirectedGraph implements IGraph {
                 for (int j : UB.getSuccessorsOf(i)) {
                     if (!nodes.contains(j)) {
                         needDynamic = true;
-                        SetType edgeSetType = g.getEdgeSetType();
+                        SetType edgeSetType = GraphFactory.materializable(g.getEdgeSetType());
                         successors[i] = new SetIntersection(model, edgeSetType, 0, g.getSuccessorsOf(i), nodes);
                     }
                 }
@@ -266,7 +329,7 @@ public class DirectedGraph implements IGraph {
                 for (int j : UB.getPredecessorsOf(i)) {
                     if (!nodes.contains(j)) {
                         needDynamic = true;
-                        SetType edgeSetType = g.getEdgeSetType();
+                        SetType edgeSetType = GraphFactory.materializable(g.getEdgeSetType());
                         predecessors[i] = new SetIntersection(model, edgeSetType, 0, g.getPredecessorsOf(i), nodes);
                     }
                 }
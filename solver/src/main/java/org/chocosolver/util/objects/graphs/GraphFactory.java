@@ -51,6 +51,34 @@ public class GraphFactory {
         return new DirectedGraph(model, n, nodeSetType, edgeSetType, false);
     }
 
+    /**
+     * Return an EMPTY stored undirected graph whose edges are stored in compressed sparse rows ({@link SetType#CSR}).
+     * Only the edges from `universe` can be added to it, e.g. it is the lower bound of a graph variable whose upper bound
+     * is made of `universe`.
+     * @param model The choco model
+     * @param n the maximum number of nodes
+     * @param nodeSetType set type for storing nodes
+     * @param universe list of edges (in the form { {start, end}, ...} that can be added to the graph
+     * @return an empty stored undirected graph.
+     */
+    public static UndirectedGraph makeStoredUndirectedGraph(Model model, int n, SetType nodeSetType, int[][] universe) {
+        return new UndirectedGraph(model, n, nodeSetType, universe, false);
+    }
+
+    /**
+     * Return an EMPTY stored directed graph whose edges are stored in compressed sparse rows ({@link SetType#CSR}).
+     * Only the directed edges from `universe` can be added to it, e.g. it is the lower bound of a graph variable
+     * whose upper bound is made of `universe`.
+     * @param model The choco model
+     * @param n the maximum number of nodes
+     * @param nodeSetType set type for storing nodes
+     * @param universe list of directed edges (in the form { {start, end}, ...} that can be added to the graph
+     * @return an empty stored directed graph.
+     */
+    public static DirectedGraph makeStoredDirectedGraph(Model model, int n, SetType nodeSetType, int[][] universe) {
+        return new DirectedGraph(model, n, nodeSetType, universe, false);
+    }
+
     /**
      * Return a stored undirected graph with all nodes (no edges) from 0 to n-1.
      * @param model The choco model
@@ -144,7 +172,9 @@ public class GraphFactory {
      * @return a stored undirected graph with a nodes from `nodes` and edges from `edges`.
      */
     public static UndirectedGraph makeStoredUndirectedGraph(Model model, int n, SetType nodeSetType, SetType edgeSetType, int[] nodes, int[][] edges) {
-        UndirectedGraph g = makeStoredUndirectedGraph(model, n, nodeSetType, edgeSetType);
+        UndirectedGraph g = edgeSetType == SetType.CSR ?
+                makeStoredUndirectedGraph(model, n, nodeSetType, edges) :
+                makeStoredUndirectedGraph(model, n, nodeSetType, edgeSetType);
         for (int i : nodes) {
             g.addNode(i);
         }
@@ -166,6 +196,9 @@ public class GraphFactory {
      * @return a stored undirected graph with a nodes from `nodes` and edges from `edges`.
      */
     public static UndirectedGraph makeStoredUndirectedGraph(Model model, int n, SetType nodeSetType, SetType edgeSetType, int[] nodes, boolean[][] adjacencyMatrix) {
+        if (edgeSetType == SetType.CSR) {
+            return makeStoredUndirectedGraph(model, n, nodeSetType, edgeSetType, nodes, edgesOf(adjacencyMatrix, false));
+        }
         UndirectedGraph g = makeStoredUndirectedGraph(model, n, nodeSetType, edgeSetType);
         for (int i : nodes) {
             g.addNode(i);
@@ -192,7 +225,9 @@ public class GraphFactory {
      * @return a stored directed graph with a nodes from `nodes` and edges from `edges`.
      */
     public static DirectedGraph makeStoredDirectedGraph(Model model, int n, SetType nodeSetType, SetType edgeSetType, int[] nodes, int[][] edges) {
-        DirectedGraph g = makeStoredDirectedGraph(model, n, nodeSetType, edgeSetType);
+        DirectedGraph g = edgeSetType == SetType.CSR ?
+                makeStoredDirectedGraph(model, n, nodeSetType, edges) :
+                makeStoredDirectedGraph(model, n, nodeSetType, edgeSetType);
         for (int i : nodes) {
             g.addNode(i);
         }
@@ -214,6 +249,9 @@ public class GraphFactory {
      * @return a stored directed graph with a nodes from `nodes` and edges from `edges`.
      */
     public static DirectedGraph makeStoredDirectedGraph(Model model, int n, SetType nodeSetType, SetType edgeSetType, int[] nodes, boolean[][] adjacencyMatrix) {
+        if (edgeSetType == SetType.CSR) {
+            return makeStoredDirectedGraph(model, n, nodeSetType, edgeSetType, nodes, edgesOf(adjacencyMatrix, true));
+        }
         DirectedGraph g = makeStoredDirectedGraph(model, n, nodeSetType, edgeSetType);
         for (int i : nodes) {
             g.addNode(i);
@@ -284,6 +322,30 @@ public class GraphFactory {
         return new DirectedGraph(n, nodeSetType, edgeSetType, false);
     }
 
+    /**
+     * Return an EMPTY undirected graph whose edges are stored in compressed sparse rows ({@link SetType#CSR}).
+     * Only the edges from `universe` can be added to it.
+     * @param n the maximum number of nodes
+     * @param nodeSetType set type for storing nodes
+     * @param universe list of edges (in the form { {start, end}, ...} that can be added to the graph
+     * @return an empty (non backtrackable) undirected graph.
+     */
+    public static UndirectedGraph makeUndirectedGraph(int n, SetType nodeSetType, int[][] universe) {
+        return new UndirectedGraph(n, nodeSetType, universe, false);
+    }
+
+    /**
+     * Return an EMPTY directed graph whose edges are stored in compressed sparse rows ({@link SetType#CSR}).
+     * Only the directed edges from `universe` can be added to it.
+     * @param n the maximum number of nodes
+     * @param nodeSetType set type for storing nodes
+     * @param universe list of directed edges (in the form { {start, end}, ...} that can be added to the graph
+     * @return an empty (non backtrackable) directed graph.
+     */
+    public static DirectedGraph makeDirectedGraph(int n, SetType nodeSetType, int[][] universe) {
+        return new DirectedGraph(n, nodeSetType, universe, false);
+    }
+
     /**
      * Return a undirected graph with all nodes (no edges) from 0 to n-1.
      * @param n the maximum number of nodes
@@ -372,7 +434,9 @@ public class GraphFactory {
      * @return a (non backtrackable) undirected graph with a nodes from `nodes` and edges from `edges`.
      */
     public static UndirectedGraph makeUndirectedGraph(int n, SetType nodeSetType, SetType edgeSetType, int[] nodes, int[][] edges) {
-        UndirectedGraph g = makeUndirectedGraph(n, nodeSetType, edgeSetType);
+        UndirectedGraph g = edgeSetType == SetType.CSR ?
+                makeUndirectedGraph(n, nodeSetType, edges) :
+                makeUndirectedGraph(n, nodeSetType, edgeSetType);
         for (int i : nodes) {
             g.addNode(i);
         }
@@ -393,7 +457,9 @@ public class GraphFactory {
      * @return a (non backtrackable) directed graph with a nodes from `nodes` and edges from `edges`.
      */
     public static DirectedGraph makeDirectedGraph(int n, SetType nodeSetType, SetType edgeSetType, int[] nodes, int[][] edges) {
-        DirectedGraph g = makeDirectedGraph(n, nodeSetType, edgeSetType);
+        DirectedGraph g = edgeSetType == SetType.CSR ?
+                makeDirectedGraph(n, nodeSetType, edges) :
+                makeDirectedGraph(n, nodeSetType, edgeSetType);
         for (int i : nodes) {
             g.addNode(i);
         }
@@ -601,4 +667,27 @@ public class GraphFactory {
         return edges;
     }
 
+    /**
+     * @param adjacencyMatrix adjacency (boolean) matrix
+     * @param directed if false, only the upper triangle of the matrix is considered
+     * @return the edges of the matrix (in the form { {start, end}, ...}
+     */
+    private static int[][] edgesOf(boolean[][] adjacencyMatrix, boolean directed) {
+        int n = adjacencyMatrix.length;
+        return IntStream.range(0, n)
+                .boxed()
+                .flatMap(i -> IntStream.range(directed ? 0 : i, n)
+                        .filter(j -> adjacencyMatrix[i][j])
+                        .mapToObj(j -> new int[]{i, j}))
+                .toArray(int[][]::new);
+    }
+
+    /**
+     * @param edgeSetType the set type of a graph
+     * @return a set type that can be created without a universe, to store a dynamic subset of the graph's sets
+     */
+    static SetType materializable(SetType edgeSetType) {
+        return edgeSetType == SetType.CSR ? SetType.BIPARTITESET : edgeSetType;
+    }
+
 }
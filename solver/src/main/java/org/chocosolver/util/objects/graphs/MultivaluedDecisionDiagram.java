@@ -353,10 +353,11 @@ public class MultivaluedDecisionDiagram {
 
 
     /**
-     * Compact the MDD by removing equivalent branches
+     * Compact the MDD by removing equivalent branches.
+     * To be called once all tuples are added when the MDD is built with {@link Compact#NEVER}.
      */
     @SuppressWarnings("unchecked")
-    private void compact() {
+    public void compact() {
         long card = Arrays.stream(sizes).mapToLong(i -> (long) i)
                 .reduce((a, b) -> a * b).getAsLong();
         if (card <= 2_000_000) {
@@ -14,6 +14,9 @@ import org.chocosolver.util.objects.setDataStructures.ISet;
 import org.chocosolver.util.objects.setDataStructures.ISetIterator;
 import org.chocosolver.util.objects.setDataStructures.SetFactory;
 import org.chocosolver.util.objects.setDataStructures.SetType;
+import org.chocosolver.util.objects.setDataStructures.csr.CSRAdjacency;
+import org.chocosolver.util.objects.setDataStructures.csr.Set_CSR;
+import org.chocosolver.util.objects.setDataStructures.csr.StoredCSRAdjacency;
 import org.chocosolver.util.objects.setDataStructures.dynamic.SetDifference;
 import org.chocosolver.util.objects.setDataStructures.dynamic.SetIntersection;
 import org.chocosolver.util.objects.setDataStructures.dynamic.SetUnion;
@@ -123,6 +126,67 @@ public class UndirectedGraph implements IGraph {
         this(n, SetType.BITSET, edgeSetType, allNodes);
     }
 
+    /**
+     * Creates an empty backtrable undirected graph whose neighbors are stored in compressed sparse rows,
+     * see {@link SetType#CSR}: only the edges of <i>universe</i> can be added to the graph.
+     * Allocates memory for n nodes (but they should then be added explicitly,
+     * unless allNodes is true).
+     *
+     * BEWARE : edges cannot be both added and removed during search (add only or remove only)
+     *
+     * @param model       model providing the backtracking environment
+     * @param n           max number of nodes
+     * @param nodeSetType data structure storing for nodes
+     * @param universe    edges (in the form { {start, end}, ...}) that can be added to the graph
+     * @param allNodes    true iff all nodes will always remain in the graph
+     */
+    public UndirectedGraph(Model model, int n, SetType nodeSetType, int[][] universe, boolean allNodes) {
+        this(n, nodeSetType, allNodes ? SetFactory.makeConstantSet(0, n - 1) : SetFactory.makeStoredSet(nodeSetType, 0, model),
+                new StoredCSRAdjacency(model.getEnvironment(), n, endpoints(universe, 0), endpoints(universe, 1)));
+    }
+
+    /**
+     * Creates an empty (non-backtrackable) undirected graph whose neighbors are stored in compressed sparse rows,
+     * see {@link SetType#CSR}: only the edges of <i>universe</i> can be added to the graph.
+     * Allocates memory for n nodes (but they should then be added explicitly,
+     * unless allNodes is true).
+     *
+     * @param n           max number of nodes
+     * @param nodeSetType data structure storing for nodes
+     * @param universe    edges (in the form { {start, end}, ...}) that can be added to the graph
+     * @param allNodes    true iff all nodes will always remain in the graph
+     */
+    public UndirectedGraph(int n, SetType nodeSetType, int[][] universe, boolean allNodes) {
+        this(n, nodeSetType, allNodes ? SetFactory.makeConstantSet(0, n - 1) : SetFactory.makeSet(nodeSetType, 0),
+                new CSRAdjacency(n, endpoints(universe, 0), endpoints(universe, 1)));
+    }
+
+    private UndirectedGraph(int n, SetType nodeSetType, ISet nodes, CSRAdjacency adjacency) {
+        this.n = n;
+        this.nodeSetType = nodeSetType;
+        this.edgeSetType = SetType.CSR;
+        this.nodes = nodes;
+        neighbors = new ISet[n];
+        for (int i = 0; i < n; i++) {
+            neighbors[i] = new Set_CSR(adjacency, i);
+        }
+    }
+
+    /**
+     * @return the first (c = 0) or second (c = 1) endpoints of the edges followed by the other ones,
+     * so that each edge is stored in both directions
+     */
+    private static int[] endpoints(int[][] edges, int c) {
+        int m = edges.length;
+        int[] col = new int[2 * m];
+        for (int i = 0; i < m; i++) {
+            assert edges[i].length == 2;
+            col[i] = edges[i][c];
+            col[m + i] = edges[i][1 - c];
+        }
+        return col;
+    }
+
     /**
      * Construct a read-only copy of another graph
      * @param g the graph to copy
@@ -235,7 +299,7 @@ public class UndirectedGraph implements IGraph {
                 for (int j : UB.getNeighborsOf(i)) {
                     if (!nodes.contains(j)) {
                         needDynamic = true;
-                        SetType edgeSetType = g.getEdgeSetType();
+                        SetType edgeSetType = GraphFactory.materializable(g.getEdgeSetType());
                         neighbors[i] = new SetIntersection(model, edgeSetType, 0, g.getNeighborsOf(i), nodes);
                         break;
                     }
@@ -318,7 +382,7 @@ public class UndirectedGraph implements IGraph {
                     if (!edges[i].contains(j)) {
                         needDynamic = true;
                         nodeNeedDynamic = true;
-                        neighbors[i] = new SetIntersection(model, g.getEdgeSetType(), 0, g.getNeighborsOf(i), edges[i]);
+                        neighbors[i] = new SetIntersection(model, GraphFactory.materializable(g.getEdgeSetType()), 0, g.getNeighborsOf(i), edges[i]);
                         break;
                     }
                 }
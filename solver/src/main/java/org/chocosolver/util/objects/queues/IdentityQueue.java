@@ -0,0 +1,247 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects.queues;
+
+import org.chocosolver.solver.Identity;
+
+import java.util.Arrays;
+
+/**
+ * A circular queue of objects identified by their {@link Identity#getId()}, which contains each object at most once.
+ * <br/>
+ * Membership is maintained in a bitset indexed by id, so that adding an object which is already in the queue
+ * is a no-op, and this queue records the scheduled state of its elements.
+ * The bitset can be shared by several queues, provided that an object is in at most one of them at a time
+ * and that they all know its id: this is the case of the queues of a propagation engine,
+ * since variables and propagators get their ids from the same {@link org.chocosolver.solver.Model}.
+ * Then, the memory needed to record membership does not depend on the number of queues.
+ * <br/>
+ * Ids are expected to be dense, as those delivered by a {@link org.chocosolver.solver.Model}.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class IdentityQueue<E extends Identity> {
+
+    /**
+     * A bitset of ids, which records the objects in a group of {@link IdentityQueue}s.
+     */
+    public static final class Membership {
+        /**
+         * Bitset of the ids in one of the queues
+         */
+        private long[] queued = new long[1];
+
+        private void grow(int id) {
+            queued = Arrays.copyOf(queued, Math.max((id >>> 6) + 1, queued.length << 1));
+        }
+    }
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    /**
+     * The ring buffer, its length is a power of 2.
+     * Typed as the erasure of E, so that no interface type check is needed on polling.
+     */
+    private Identity[] ring;
+    /**
+     * The ids of the objects of {@link #ring}, at the same positions,
+     * so that {@link Identity#getId()} is not called on polling
+     */
+    private int[] ids;
+    // head points to the first logical element in the ring, and
+    // tail points to the element following the last.
+    private int head;
+    private int tail;
+    /**
+     * Records the elements of this queue, may be shared with other queues
+     */
+    private final Membership membership;
+
+    //***********************************************************************************
+    // CONSTRUCTORS
+    //***********************************************************************************
+
+    /**
+     * Create an empty queue, which does not share its membership.
+     *
+     * @param size initial capacity, it grows as needed
+     */
+    public IdentityQueue(int size) {
+        this(size, new Membership());
+    }
+
+    /**
+     * Create an empty queue.
+     *
+     * @param size       initial capacity, it grows as needed
+     * @param membership records the elements of this queue, and maybe of other ones
+     */
+    public IdentityQueue(int size, Membership membership) {
+        ring = new Identity[Math.max(2, Integer.highestOneBit(Math.max(1, size)) << 1)];
+        ids = new int[ring.length];
+        this.membership = membership;
+    }
+
+    //***********************************************************************************
+    // METHODS
+    //***********************************************************************************
+
+    /**
+     * @return <i>true</i> if this queue is empty
+     */
+    public boolean isEmpty() {
+        return head == tail;
+    }
+
+    /**
+     * @return the number of elements in this queue
+     */
+    public int size() {
+        return (tail - head) & (ring.length - 1);
+    }
+
+    /**
+     * @param e an element
+     * @return <i>true</i> if <i>e</i> is in this queue, or in a queue which shares its membership
+     */
+    public boolean contains(E e) {
+        return contains(e.getId());
+    }
+
+    /**
+     * @param id the id of an element
+     * @return <i>true</i> if the element whose id is <i>id</i> is in this queue,
+     * or in a queue which shares its membership
+     */
+    public boolean contains(int id) {
+        long[] queued = membership.queued;
+        int w = id >>> 6;
+        return w < queued.length && (queued[w] & (1L << id)) != 0;
+    }
+
+    /**
+     * Add <i>e</i> at the end of this queue, unless it is already in.
+     *
+     * @param e an element
+     * @return <i>true</i> if <i>e</i> has been added, <i>false</i> if it was already in this queue
+     */
+    public boolean addLast(E e) {
+        return addLast(e, e.getId());
+    }
+
+    /**
+     * Add <i>e</i> at the end of this queue, unless it is already in.
+     * To be preferred to {@link #addLast(Identity)} when the caller knows the concrete type of <i>e</i>,
+     * so that the call to {@link Identity#getId()} is not made from this class, where it is megamorphic.
+     *
+     * @param e  an element
+     * @param id the id of <i>e</i>
+     * @return <i>true</i> if <i>e</i> has been added, <i>false</i> if it was already in this queue
+     */
+    public boolean addLast(E e, int id) {
+        assert id == e.getId();
+        int w = id >>> 6;
+        if (w >= membership.queued.length) {
+            membership.grow(id);
+        }
+        long[] queued = membership.queued;
+        long b = 1L << id;
+        if ((queued[w] & b) != 0) {
+            return false;
+        }
+        queued[w] |= b;
+        ring[tail] = e;
+        ids[tail] = id;
+        if ((tail = (tail + 1) & (ring.length - 1)) == head) {
+            doubleCapacity();
+        }
+        return true;
+    }
+
+    /**
+     * Remove and return the first element of this queue.
+     * The queue must not be empty.
+     *
+     * @return the first element
+     */
+    @SuppressWarnings("unchecked")
+    public E pollFirst() {
+        assert !isEmpty();
+        Identity e = ring[head];
+        int id = ids[head];
+        // the slot is cleared, so that the queue does not retain the element
+        ring[head] = null;
+        head = (head + 1) & (ring.length - 1);
+        membership.queued[id >>> 6] &= ~(1L << id);
+        return (E) e;
+    }
+
+    /**
+     * Remove and return the last element of this queue.
+     * The queue must not be empty.
+     *
+     * @return the last element
+     */
+    @SuppressWarnings("unchecked")
+    public E pollLast() {
+        assert !isEmpty();
+        tail = (tail - 1) & (ring.length - 1);
+        Identity e = ring[tail];
+        int id = ids[tail];
+        ring[tail] = null;
+        membership.queued[id >>> 6] &= ~(1L << id);
+        return (E) e;
+    }
+
+    /**
+     * Remove all elements from this queue.
+     */
+    public void clear() {
+        while (!isEmpty()) {
+            pollFirst();
+        }
+        head = tail = 0;
+    }
+
+    /**
+     * Double the capacity of the ring.  Call only when full, i.e.,
+     * when head and tail have wrapped around to become equal.
+     */
+    private void doubleCapacity() {
+        assert head == tail;
+        int n = ring.length;
+        int r = n - head; // number of elements to the right of head
+        Identity[] a = new Identity[n << 1];
+        System.arraycopy(ring, head, a, 0, r);
+        System.arraycopy(ring, 0, a, r, head);
+        ring = a;
+        int[] b = new int[n << 1];
+        System.arraycopy(ids, head, b, 0, r);
+        System.arraycopy(ids, 0, b, r, head);
+        ids = b;
+        head = 0;
+        tail = n;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder("{");
+        for (int i = head; i != tail; i = (i + 1) & (ring.length - 1)) {
+            if (i != head) {
+                buf.append(", ");
+            }
+            buf.append(ring[i]);
+        }
+        return buf.append("}").toString();
+    }
+}
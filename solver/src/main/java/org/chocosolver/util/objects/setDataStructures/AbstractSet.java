@@ -31,14 +31,16 @@ public abstract class AbstractSet implements ISet {
     int obsIdx;
 
     public AbstractSet() {
-        this.observing = new ISet[2];
-        this.idxInObserving = new int[2];
+        // observers are rare, arrays are allocated on the first registration
         this.obsIdx = 0;
     }
 
     @Override
     public void registerObserver(ISet set, int idx) {
-        if (obsIdx == observing.length) {
+        if (observing == null) {
+            observing = new ISet[2];
+            idxInObserving = new int[2];
+        } else if (obsIdx == observing.length) {
             ISet[] tmp = observing;
             int[] tmpIdx = idxInObserving;
             observing = new ISet[tmp.length * 3 / 2 + 1];
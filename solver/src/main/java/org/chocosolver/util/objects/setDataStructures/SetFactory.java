@@ -90,6 +90,7 @@ public class SetFactory {
                 return makeBitSet(offSet);
             case FIXED_ARRAY: throw new UnsupportedOperationException("Please use makeConstantSet method to create a "+SetType.FIXED_ARRAY+" set");
             case FIXED_INTERVAL: throw new UnsupportedOperationException("Please use makeConstantSet method to create a "+SetType.FIXED_INTERVAL+" set");
+            case CSR: throw new UnsupportedOperationException("A "+SetType.CSR+" set is a row of an adjacency, please use GraphFactory with a set of edges to create it");
             default:throw new UnsupportedOperationException("Unsupported SetType "+type);
         }
     }
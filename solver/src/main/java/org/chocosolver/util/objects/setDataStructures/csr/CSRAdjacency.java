@@ -0,0 +1,253 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects.setDataStructures.csr;
+
+import java.util.Arrays;
+
+/**
+ * Adjacency of a graph stored in compressed sparse rows (CSR).
+ * <p>
+ * The possible neighbors of all nodes, the universe, are fixed at creation and stored in a single array:
+ * the neighbors of node <i>r</i> are in [start(r), start(r+1)).
+ * Within a row, the current neighbors are the first size(r) ones (the alive prefix),
+ * an element is removed by swapping it with the last alive one, and added by swapping it with the first dead one.
+ * A sorted copy of the universe locates an element by binary search.
+ * </p>
+ * <p>
+ * Compared to one set object per node, this representation only needs a few int arrays
+ * and iterating over a row is a plain array scan.
+ * </p>
+ * BEWARE : CANNOT BOTH ADD AND REMOVE ELEMENTS DURING SEARCH with {@link StoredCSRAdjacency}
+ * (add only or remove only), as a bipartite set.
+ *
+ * add : O(log d)
+ * contain: O(log d)
+ * remove: O(log d)
+ * iteration : O(size)
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class CSRAdjacency {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    /**
+     * Neighbors of node r are in [start[r], start[r+1])
+     */
+    private final int[] start;
+    /**
+     * The universe, sorted row by row
+     */
+    private final int[] sorted;
+    /**
+     * The universe, alive elements first in each row
+     */
+    private final int[] values;
+    /**
+     * Position in values of sorted[k]
+     */
+    private final int[] pos;
+    /**
+     * Number of alive elements in each row
+     */
+    private final int[] sizes;
+
+    //***********************************************************************************
+    // CONSTRUCTOR
+    //***********************************************************************************
+
+    /**
+     * Creates an empty adjacency of <i>n</i> rows, where row <i>from[i]</i> may contain <i>to[i]</i>.
+     * Duplicates are ignored.
+     *
+     * @param n    number of rows
+     * @param from rows of the universe
+     * @param to   elements of the universe
+     */
+    public CSRAdjacency(int n, int[] from, int[] to) {
+        this(n, from, to, true);
+    }
+
+    CSRAdjacency(int n, int[] from, int[] to, boolean sizes) {
+        assert from.length == to.length;
+        int[] s = new int[n + 1];
+        for (int f : from) {
+            s[f + 1]++;
+        }
+        for (int r = 0; r < n; r++) {
+            s[r + 1] += s[r];
+        }
+        int[] next = Arrays.copyOf(s, n);
+        int[] u = new int[from.length];
+        for (int i = 0; i < from.length; i++) {
+            u[next[from[i]]++] = to[i];
+        }
+        // sort each row and remove duplicates
+        int m = 0;
+        for (int r = 0; r < n; r++) {
+            int b = s[r];
+            int e = s[r + 1];
+            Arrays.sort(u, b, e);
+            s[r] = m;
+            for (int k = b; k < e; k++) {
+                if (k == b || u[k] != u[k - 1]) {
+                    u[m++] = u[k];
+                }
+            }
+        }
+        s[n] = m;
+        this.start = s;
+        this.sorted = m == u.length ? u : Arrays.copyOf(u, m);
+        this.values = sorted.clone();
+        this.pos = new int[m];
+        for (int k = 0; k < m; k++) {
+            pos[k] = k;
+        }
+        this.sizes = sizes ? new int[n] : null;
+    }
+
+    //***********************************************************************************
+    // METHODS
+    //***********************************************************************************
+
+    /**
+     * @return the number of rows
+     */
+    public int nbRows() {
+        return start.length - 1;
+    }
+
+    /**
+     * @param r a row
+     * @return the position of the first element of row <i>r</i>,
+     * alive elements of <i>r</i> are {@code get(start(r))} ... {@code get(start(r) + size(r) - 1)}
+     */
+    public final int start(int r) {
+        return start[r];
+    }
+
+    /**
+     * @param p a position
+     * @return the element at position <i>p</i>
+     */
+    public final int get(int p) {
+        return values[p];
+    }
+
+    /**
+     * @param r a row
+     * @return the number of elements row <i>r</i> may contain
+     */
+    public int universeSize(int r) {
+        return start[r + 1] - start[r];
+    }
+
+    /**
+     * @param r a row
+     * @return the number of elements in row <i>r</i>
+     */
+    public int size(int r) {
+        return sizes[r];
+    }
+
+    protected void setSize(int r, int s) {
+        sizes[r] = s;
+    }
+
+    /**
+     * @return the index in sorted of <i>element</i> in row <i>r</i>, a negative value if it does not belong to the universe
+     */
+    private int slot(int r, int element) {
+        return Arrays.binarySearch(sorted, start[r], start[r + 1], element);
+    }
+
+    /**
+     * @param r       a row
+     * @param element an element
+     * @return true iff row <i>r</i> contains <i>element</i>
+     */
+    public boolean contains(int r, int element) {
+        int k = slot(r, element);
+        return k >= 0 && pos[k] < start[r] + size(r);
+    }
+
+    /**
+     * Add <i>element</i> to row <i>r</i>
+     *
+     * @param r       a row
+     * @param element an element of the universe of row <i>r</i>
+     * @return true iff <i>element</i> was not in row <i>r</i>
+     * @throws IllegalStateException if <i>element</i> does not belong to the universe of row <i>r</i>
+     */
+    public boolean add(int r, int element) {
+        int k = slot(r, element);
+        if (k < 0) {
+            throw new IllegalStateException("Cannot add " + element + " to row " + r + ", it is not part of the universe");
+        }
+        int size = size(r);
+        int first = start[r] + size;
+        int p = pos[k];
+        if (p < first) {
+            return false;
+        }
+        swap(r, k, p, first);
+        setSize(r, size + 1);
+        return true;
+    }
+
+    /**
+     * Remove <i>element</i> from row <i>r</i>
+     *
+     * @param r       a row
+     * @param element an element
+     * @return true iff <i>element</i> was in row <i>r</i>
+     */
+    public boolean remove(int r, int element) {
+        int k = slot(r, element);
+        if (k < 0) {
+            return false;
+        }
+        int size = size(r);
+        int last = start[r] + size - 1;
+        int p = pos[k];
+        if (p > last) {
+            return false;
+        }
+        swap(r, k, p, last);
+        setSize(r, size - 1);
+        return true;
+    }
+
+    /**
+     * Move the element of slot <i>k</i>, currently at position <i>p</i>, to position <i>q</i>
+     */
+    private void swap(int r, int k, int p, int q) {
+        if (p != q) {
+            int other = values[q];
+            int ko = slot(r, other);
+            values[p] = other;
+            pos[ko] = p;
+            values[q] = sorted[k];
+            pos[k] = q;
+        }
+    }
+
+    /**
+     * Remove all elements of row <i>r</i>
+     *
+     * @param r a row
+     */
+    public void clear(int r) {
+        setSize(r, 0);
+    }
+}
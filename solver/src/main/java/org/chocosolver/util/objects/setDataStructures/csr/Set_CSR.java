@@ -0,0 +1,177 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects.setDataStructures.csr;
+
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.util.objects.setDataStructures.AbstractSet;
+import org.chocosolver.util.objects.setDataStructures.ISetIterator;
+import org.chocosolver.util.objects.setDataStructures.SetType;
+
+/**
+ * A row of a {@link CSRAdjacency} seen as a set of integers.
+ * Only the elements of the universe of the row can be added.
+ * The set holds no data of its own, so that a graph with many nodes does not carry as many set structures.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class Set_CSR extends AbstractSet {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    private final CSRAdjacency adjacency;
+    private final int row;
+    private ISetIterator iter;
+
+    //***********************************************************************************
+    // CONSTRUCTOR
+    //***********************************************************************************
+
+    /**
+     * Creates a view of row <i>row</i> of <i>adjacency</i>
+     *
+     * @param adjacency the adjacency
+     * @param row       a row of the adjacency
+     */
+    public Set_CSR(CSRAdjacency adjacency, int row) {
+        this.adjacency = adjacency;
+        this.row = row;
+    }
+
+    //***********************************************************************************
+    // METHODS
+    //***********************************************************************************
+
+    /**
+     * Get the nth element in the set
+     *
+     * @param nth must respect : 0 <= nth <size
+     * @return the nth element in this
+     */
+    public int getNth(int nth) {
+        if (nth < 0 || nth >= size()) {
+            throw new SolverException(" invalid getNth parameter, must  be 0 <= nth (" + nth + ") < size (" + size() + ")");
+        }
+        return adjacency.get(adjacency.start(row) + nth);
+    }
+
+    @Override
+    public boolean add(int element) {
+        if (adjacency.add(row, element)) {
+            notifyObservingElementAdded(element);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean remove(int element) {
+        if (!adjacency.contains(row, element)) {
+            return false;
+        }
+        if (iter != null) {
+            iter.notifyRemoving(element);
+        }
+        adjacency.remove(row, element);
+        notifyObservingElementRemoved(element);
+        return true;
+    }
+
+    @Override
+    public boolean contains(int element) {
+        return adjacency.contains(row, element);
+    }
+
+    @Override
+    public int size() {
+        return adjacency.size(row);
+    }
+
+    @Override
+    public void clear() {
+        adjacency.clear(row);
+        notifyObservingCleared();
+    }
+
+    @Override
+    public int min() {
+        if (isEmpty()) throw new IllegalStateException("cannot find minimum of an empty set");
+        int p = adjacency.start(row);
+        int e = p + size();
+        int min = adjacency.get(p);
+        for (p++; p < e; p++) {
+            min = Math.min(min, adjacency.get(p));
+        }
+        return min;
+    }
+
+    @Override
+    public int max() {
+        if (isEmpty()) throw new IllegalStateException("cannot find maximum of an empty set");
+        int p = adjacency.start(row);
+        int e = p + size();
+        int max = adjacency.get(p);
+        for (p++; p < e; p++) {
+            max = Math.max(max, adjacency.get(p));
+        }
+        return max;
+    }
+
+    @Override
+    public SetType getSetType() {
+        return SetType.CSR;
+    }
+
+    //***********************************************************************************
+    // ITERATOR
+    //***********************************************************************************
+
+    @Override
+    public ISetIterator iterator() {
+        if (iter == null) {
+            iter = newIterator();
+        }
+        iter.reset();
+        return iter;
+    }
+
+    @Override
+    public ISetIterator newIterator() {
+        return new ISetIterator() {
+            // the first position of a row never changes
+            private final int first = adjacency.start(row);
+            private int idx = first;
+
+            @Override
+            public void reset() {
+                idx = first;
+            }
+
+            @Override
+            public void notifyRemoving(int item) {
+                if (idx > first && item == adjacency.get(idx - 1)) {
+                    idx--;
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return idx < first + adjacency.size(row);
+            }
+
+            @Override
+            public int nextInt() {
+                return adjacency.get(idx++);
+            }
+        };
+    }
+}
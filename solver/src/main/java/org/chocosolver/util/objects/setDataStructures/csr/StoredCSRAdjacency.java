@@ -0,0 +1,62 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects.setDataStructures.csr;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateIntVector;
+
+/**
+ * Adjacency stored in compressed sparse rows whose row sizes are restored upon backtrack.
+ * BEWARE : CANNOT BOTH ADD AND REMOVE ELEMENTS DURING SEARCH
+ * (add only or remove only)
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class StoredCSRAdjacency extends CSRAdjacency {
+
+    //***********************************************************************************
+    // VARIABLES
+    //***********************************************************************************
+
+    private final IStateIntVector sizes;
+
+    //***********************************************************************************
+    // CONSTRUCTOR
+    //***********************************************************************************
+
+    /**
+     * Creates an empty adjacency of <i>n</i> rows, where row <i>from[i]</i> may contain <i>to[i]</i>.
+     * Duplicates are ignored.
+     *
+     * @param environment backtracking environment
+     * @param n           number of rows
+     * @param from        rows of the universe
+     * @param to          elements of the universe
+     */
+    public StoredCSRAdjacency(IEnvironment environment, int n, int[] from, int[] to) {
+        super(n, from, to, false);
+        this.sizes = environment.makeIntVector(n, 0);
+    }
+
+    //***********************************************************************************
+    // METHODS
+    //***********************************************************************************
+
+    @Override
+    public int size(int r) {
+        return sizes.quickGet(r);
+    }
+
+    @Override
+    protected void setSize(int r, int s) {
+        sizes.quickSet(r, s);
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects.tree;
+
+/**
+ * Theta-Lambda tree, as introduced by P. Vilím for edge-finding on unary and cumulative resources.
+ * <p>
+ * Leaves are the tasks, sorted by earliest starting time, each one being either absent, in Θ (white)
+ * or in Λ (gray). A leaf holds the energy of its task and its envelope, that is,
+ * <i>C.est + energy</i> for a resource of capacity <i>C</i> (<i>est + duration</i> for a unary resource).
+ * Each node maintains, for the leaves below it:
+ * <ul>
+ *     <li>the energy of Θ and its envelope, max over the suffixes Ω of Θ of <i>C.est(Ω) + e(Ω)</i>,</li>
+ *     <li>the same values when at most one gray leaf is added to Θ.</li>
+ * </ul>
+ * Thus the envelope of Θ at the root is a lower bound of <i>C</i> times the earliest completion time of Θ.
+ * </p>
+ * Adding, removing or changing a leaf costs O(log n).
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class ThetaLambdaTree {
+
+    private static final long NONE = Long.MIN_VALUE / 4;
+
+    /**
+     * Index of the first leaf
+     */
+    private final int first;
+    /**
+     * Energy of Θ
+     */
+    private final long[] energy;
+    /**
+     * Envelope of Θ
+     */
+    private final long[] envelope;
+    /**
+     * Energy of Θ plus at most one gray leaf
+     */
+    private final long[] lEnergy;
+    /**
+     * Envelope of Θ plus at most one gray leaf
+     */
+    private final long[] lEnvelope;
+
+    /**
+     * Creates an empty tree with room for <i>n</i> leaves
+     *
+     * @param n maximum number of leaves
+     */
+    public ThetaLambdaTree(int n) {
+        int f = 1;
+        while (f < n) {
+            f <<= 1;
+        }
+        this.first = f;
+        this.energy = new long[2 * f];
+        this.envelope = new long[2 * f];
+        this.lEnergy = new long[2 * f];
+        this.lEnvelope = new long[2 * f];
+        clear();
+    }
+
+    /**
+     * Remove all leaves
+     */
+    public void clear() {
+        for (int v = 1; v < 2 * first; v++) {
+            energy[v] = 0;
+            envelope[v] = NONE;
+            lEnergy[v] = 0;
+            lEnvelope[v] = NONE;
+        }
+    }
+
+    /**
+     * Put <i>leaf</i> in Θ
+     *
+     * @param leaf     a leaf, its rank wrt earliest starting times
+     * @param e        energy of the task
+     * @param envelope envelope of the task
+     */
+    public void addToTheta(int leaf, long e, long envelope) {
+        int v = first + leaf;
+        this.energy[v] = e;
+        this.envelope[v] = envelope;
+        this.lEnergy[v] = e;
+        this.lEnvelope[v] = envelope;
+        update(v);
+    }
+
+    /**
+     * Put <i>leaf</i> in Θ without updating its ancestors.
+     * Once all leaves are set, {@link #refresh()} must be called.
+     * Filling the tree this way costs O(n) instead of O(n log n).
+     *
+     * @param leaf     a leaf, its rank wrt earliest starting times
+     * @param e        energy of the task
+     * @param envelope envelope of the task
+     */
+    public void setTheta(int leaf, long e, long envelope) {
+        int v = first + leaf;
+        this.energy[v] = e;
+        this.envelope[v] = envelope;
+        this.lEnergy[v] = e;
+        this.lEnvelope[v] = envelope;
+    }
+
+    /**
+     * Update all the inner nodes of the tree
+     */
+    public void refresh() {
+        for (int v = first - 1; v > 0; v--) {
+            compute(v);
+        }
+    }
+
+    /**
+     * Put <i>leaf</i> in Λ
+     *
+     * @param leaf     a leaf, its rank wrt earliest starting times
+     * @param e        energy of the task
+     * @param envelope envelope of the task
+     */
+    public void addToLambda(int leaf, long e, long envelope) {
+        int v = first + leaf;
+        this.energy[v] = 0;
+        this.envelope[v] = NONE;
+        this.lEnergy[v] = e;
+        this.lEnvelope[v] = envelope;
+        update(v);
+    }
+
+    /**
+     * Move <i>leaf</i> from Θ to Λ, with unchanged energy and envelope
+     *
+     * @param leaf a leaf in Θ
+     */
+    public void moveToLambda(int leaf) {
+        int v = first + leaf;
+        this.energy[v] = 0;
+        this.envelope[v] = NONE;
+        update(v);
+    }
+
+    /**
+     * Remove <i>leaf</i> from the tree
+     *
+     * @param leaf a leaf
+     */
+    public void remove(int leaf) {
+        int v = first + leaf;
+        this.energy[v] = 0;
+        this.envelope[v] = NONE;
+        this.lEnergy[v] = 0;
+        this.lEnvelope[v] = NONE;
+        update(v);
+    }
+
+    private void update(int v) {
+        for (v >>= 1; v > 0; v >>= 1) {
+            compute(v);
+        }
+    }
+
+    private void compute(int v) {
+        int l = 2 * v;
+        int r = l + 1;
+        energy[v] = energy[l] + energy[r];
+        envelope[v] = Math.max(envelope[l] + energy[r], envelope[r]);
+        lEnergy[v] = Math.max(lEnergy[l] + energy[r], energy[l] + lEnergy[r]);
+        lEnvelope[v] = Math.max(Math.max(lEnvelope[l] + energy[r], envelope[l] + lEnergy[r]), lEnvelope[r]);
+    }
+
+    /**
+     * @return the energy of Θ
+     */
+    public long getEnergy() {
+        return energy[1];
+    }
+
+    /**
+     * @return the envelope of Θ, a very small value if Θ is empty
+     */
+    public long getEnvelope() {
+        return envelope[1];
+    }
+
+    /**
+     * @return the envelope of Θ plus at most one gray leaf
+     */
+    public long getLambdaEnvelope() {
+        return lEnvelope[1];
+    }
+
+    /**
+     * @return the leaf at which the envelope of Θ starts, -1 if Θ is empty
+     */
+    public int getEnvelopeStart() {
+        if (envelope[1] == NONE) {
+            return -1;
+        }
+        return envelopeStart(1);
+    }
+
+    private int envelopeStart(int v) {
+        while (v < first) {
+            int l = 2 * v;
+            int r = l + 1;
+            v = envelope[v] == envelope[r] ? r : l;
+        }
+        return v - first;
+    }
+
+    /**
+     * BEWARE: requires {@code getLambdaEnvelope() > getEnvelope()}
+     *
+     * @return the gray leaf responsible for the envelope of Θ plus one gray leaf
+     */
+    public int getResponsibleLambda() {
+        assert lEnvelope[1] > envelope[1];
+        int v = 1;
+        while (v < first) {
+            int l = 2 * v;
+            int r = l + 1;
+            if (lEnvelope[v] == lEnvelope[r] && lEnvelope[r] > envelope[r]) {
+                v = r;
+            } else if (lEnvelope[v] == lEnvelope[l] + energy[r] && lEnvelope[l] > envelope[l]) {
+                v = l;
+            } else {
+                return responsibleEnergy(r);
+            }
+        }
+        return v - first;
+    }
+
+    private int responsibleEnergy(int v) {
+        while (v < first) {
+            int l = 2 * v;
+            int r = l + 1;
+            if (lEnergy[v] == lEnergy[l] + energy[r] && lEnergy[l] > energy[l]) {
+                v = l;
+            } else {
+                v = r;
+            }
+        }
+        return v - first;
+    }
+
+    /**
+     * BEWARE: requires {@code getLambdaEnvelope() > getEnvelope()}
+     *
+     * @return the leaf at which the envelope of Θ plus the responsible gray leaf starts
+     */
+    public int getLambdaEnvelopeStart() {
+        assert lEnvelope[1] > envelope[1];
+        int v = 1;
+        while (v < first) {
+            int l = 2 * v;
+            int r = l + 1;
+            if (lEnvelope[v] == lEnvelope[r] && lEnvelope[r] > envelope[r]) {
+                v = r;
+            } else if (lEnvelope[v] == lEnvelope[l] + energy[r] && lEnvelope[l] > envelope[l]) {
+                v = l;
+            } else {
+                return envelopeStart(l);
+            }
+        }
+        return v - first;
+    }
+
+    /**
+     * @param leaf a leaf
+     * @return the energy of the leaves of Θ from <i>leaf</i> (included) to the last one
+     */
+    public long getEnergyFrom(int leaf) {
+        int v = first + leaf;
+        long e = energy[v];
+        for (; v > 1; v >>= 1) {
+            if ((v & 1) == 0) {
+                e += energy[v + 1];
+            }
+        }
+        return e;
+    }
+}
@@ -0,0 +1,340 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.lp;
+
+import org.chocosolver.lp.LinearProgram.Status;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * @author agent
+ * @since 17/10/2026
+ */
+public class SparseLinearProgramTest {
+
+    /**
+     * max c.x s.t. A.x &le; b, x &ge; 0, the standard form of {@link LinearProgram}
+     */
+    private static SparseLinearProgram standard(double[][] A, double[] b, double[] c) {
+        SparseLinearProgram lp = new SparseLinearProgram();
+        lp.makeVariables(c.length);
+        for (int i = 0; i < b.length; i++) {
+            int nz = 0;
+            for (double a : A[i]) {
+                if (a != 0.) nz++;
+            }
+            int[] vars = new int[nz];
+            double[] coeffs = new double[nz];
+            for (int j = 0, k = 0; j < c.length; j++) {
+                if (A[i][j] != 0.) {
+                    vars[k] = j;
+                    coeffs[k++] = A[i][j];
+                }
+            }
+            lp.addLeq(vars, coeffs, b[i]);
+        }
+        lp.setObjective(true, c);
+        return lp;
+    }
+
+    /**
+     * Check that the values of the variables satisfy the rows and the bounds
+     */
+    private static void checkFeasible(SparseLinearProgram lp, double[][] A, double[] lo, double[] up) {
+        for (int j = 0; j < lp.nbVariables(); j++) {
+            Assert.assertTrue(lp.value(j) >= lp.getLB(j) - 1e-7, "x" + j);
+            Assert.assertTrue(lp.value(j) <= lp.getUB(j) + 1e-7, "x" + j);
+        }
+        for (int i = 0; i < A.length; i++) {
+            double s = 0;
+            for (int j = 0; j < A[i].length; j++) {
+                s += A[i][j] * lp.value(j);
+            }
+            Assert.assertTrue(s >= lo[i] - 1e-7 && s <= up[i] + 1e-7, "row " + i + ": " + s);
+        }
+    }
+
+    @DataProvider
+    public Object[][] standards() {
+        return new Object[][]{
+                {new double[][]{{1, 1}, {-2, -2}}, new double[]{2, -10}, new double[]{3, -2}},
+                {new double[][]{{-2, 1}, {-1, -2}}, new double[]{-1, -2}, new double[]{1, -1}},
+                {new double[][]{{-2, -7.5, -3}, {-20, -5, -10}}, new double[]{-10000, -30000}, new double[]{-1, -1, -1}},
+                {new double[][]{{2, -1}, {1, -5}}, new double[]{2, -4}, new double[]{2, -1}},
+                {new double[][]{{1, 1, 0}, {0, -1, 1}}, new double[]{8, 0}, new double[]{1, 1, 1}},
+                {new double[][]{{1, 1, 1}, {2, 2, 5}, {4, 1, 2}}, new double[]{30, 24, 36}, new double[]{3, 1, 2}},
+                {new double[][]{{4, 1, 2}, {1, 1, 3}}, new double[]{36, 30}, new double[]{3, 1, 2}},
+                {new double[][]{{1, -1}, {2, 1}}, new double[]{1, 2}, new double[]{5, -3}},
+                {new double[][]{{1, 1}, {1, 0}, {0, 1}}, new double[]{20, 12, 16}, new double[]{18, 12.5}},
+                {new double[][]{{-1, 1}, {-1, -1}, {-1, 4}}, new double[]{8, -3, 2}, new double[]{1, 3}},
+                {new double[][]{{1, 2}, {-2, -6}, {0, 1}}, new double[]{4, -12, 1}, new double[]{1, -2}},
+                {new double[][]{{-1, 1}, {-1, -1}, {-1, 4}}, new double[]{-1, -3, 2}, new double[]{1, 3}},
+                {new double[][]{{-3, -2, -1, -1}, {-1, -10, -3, -5}, {0, -1, -2, -1}}, new double[]{-50, -100, -25}, new double[]{-1, -1, -1, -1}},
+                {new double[][]{{6, 4}, {3, 6}}, new double[]{360, 480}, new double[]{50, 70}},
+        };
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "standards")
+    public void testAsDense(double[][] A, double[] b, double[] c) {
+        LinearProgram dense = new LinearProgram(A, b, c);
+        SparseLinearProgram sparse = standard(A, b, c);
+        Status st = dense.simplex();
+        Assert.assertEquals(sparse.solve(), st);
+        if (st == Status.FEASIBLE) {
+            Assert.assertEquals(sparse.objective(), dense.objective(), 1e-7);
+            double[] lo = new double[b.length];
+            Arrays.fill(lo, Double.NEGATIVE_INFINITY);
+            checkFeasible(sparse, A, lo, b);
+        } else {
+            Assert.assertEquals(sparse.value(0), -1.0, 1e-8);
+            Assert.assertEquals(sparse.objective(), Double.NEGATIVE_INFINITY, 1e-8);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRandomAsDense() {
+        Random rnd = new Random(0);
+        for (int t = 0; t < 200; t++) {
+            int n = 2 + rnd.nextInt(8);
+            int m = 1 + rnd.nextInt(8);
+            double[][] A = new double[m][n];
+            double[] b = new double[m];
+            double[] c = new double[n];
+            for (int i = 0; i < m; i++) {
+                for (int j = 0; j < n; j++) {
+                    if (rnd.nextInt(3) > 0) {
+                        A[i][j] = rnd.nextInt(21) - 10;
+                    }
+                }
+                b[i] = rnd.nextInt(41) - 10;
+            }
+            for (int j = 0; j < n; j++) {
+                c[j] = rnd.nextInt(21) - 10;
+            }
+            LinearProgram dense = new LinearProgram(A, b, c);
+            SparseLinearProgram sparse = standard(A, b, c);
+            Status st = dense.simplex();
+            Status sst = sparse.solve();
+            if (st != Status.INFEASIBLE) {
+                Assert.assertEquals(sst, st, "instance " + t);
+            }
+            if (st == Status.FEASIBLE) {
+                Assert.assertEquals(sparse.objective(), dense.objective(), 1e-6, "instance " + t);
+            }
+            if (sst == Status.FEASIBLE) {
+                // the dense implementation sometimes wrongly concludes infeasibility (e.g., instance 21),
+                // so the solution is checked instead
+                double[] lo = new double[m];
+                Arrays.fill(lo, Double.NEGATIVE_INFINITY);
+                checkFeasible(sparse, A, lo, b);
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBoundsAndRanges() {
+        // max x + 2y + z, -1 <= x <= 4, y in [-1,1], z free, 1 <= x + y + z <= 5, 0 <= x - z <= 2
+        SparseLinearProgram lp = new SparseLinearProgram();
+        int x = lp.makeVariable(-1, 4);
+        int y = lp.makeVariable(-1, 1);
+        int z = lp.makeVariable(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+        lp.addRow(new int[]{x, y, z}, new double[]{1, 1, 1}, 1, 5);
+        lp.addRow(new int[]{x, z}, new double[]{1, -1}, 0, 2);
+        lp.setObjective(true, new int[]{x, y, z}, new double[]{1, 2, 1});
+        Assert.assertEquals(lp.solve(), Status.FEASIBLE);
+        // x + z <= 5 - y, y = 1, x = z + [0,2], so x + z = 4 at most
+        Assert.assertEquals(lp.objective(), 6., 1e-8);
+        Assert.assertEquals(lp.value(y), 1., 1e-8);
+        checkFeasible(lp, new double[][]{{1, 1, 1}, {1, 0, -1}}, new double[]{1, 0}, new double[]{5, 2});
+        // x + z >= 1 - y, so x + 2y + z >= 1 + y
+        lp.setObjective(false, new int[]{x, y, z}, new double[]{1, 2, 1});
+        Assert.assertEquals(lp.solve(), Status.FEASIBLE);
+        Assert.assertEquals(lp.objective(), 0., 1e-8);
+        // z >= max(x - 2, 1 - x - y)
+        lp.setObjective(false, new int[]{z}, new double[]{1});
+        Assert.assertEquals(lp.solve(), Status.FEASIBLE);
+        Assert.assertEquals(lp.objective(), -1., 1e-8);
+        lp.setRowBounds(0, Double.NEGATIVE_INFINITY, 5);
+        Assert.assertEquals(lp.solve(), Status.FEASIBLE);
+        Assert.assertEquals(lp.objective(), -3., 1e-8);
+        lp.setBounds(x, Double.NEGATIVE_INFINITY, 4);
+        Assert.assertEquals(lp.solve(), Status.UNBOUNDED);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testWarmStartOnBounds() {
+        Random rnd = new Random(1);
+        for (int t = 0; t < 50; t++) {
+            int n = 5 + rnd.nextInt(20);
+            int m = 3 + rnd.nextInt(15);
+            double[][] A = new double[m][n];
+            double[] b = new double[m];
+            double[] c = new double[n];
+            for (int i = 0; i < m; i++) {
+                for (int j = 0; j < n; j++) {
+                    if (rnd.nextInt(3) == 0) {
+                        A[i][j] = 1 + rnd.nextInt(10);
+                    }
+                }
+                b[i] = 10 + rnd.nextInt(50);
+            }
+            for (int j = 0; j < n; j++) {
+                c[j] = rnd.nextInt(10);
+            }
+            SparseLinearProgram warm = standard(A, b, c);
+            for (int j = 0; j < n; j++) {
+                warm.setBounds(j, 0, 10);
+            }
+            Assert.assertEquals(warm.solve(), Status.FEASIBLE);
+            // branch-and-bound like bound changes
+            for (int k = 0; k < 10; k++) {
+                int j = rnd.nextInt(n);
+                double v = Math.floor(warm.value(j));
+                if (rnd.nextBoolean()) {
+                    warm.setBounds(j, warm.getLB(j), Math.max(warm.getLB(j), v));
+                } else {
+                    warm.setBounds(j, Math.min(warm.getUB(j), v + 1), warm.getUB(j));
+                }
+                SparseLinearProgram cold = standard(A, b, c);
+                for (int i = 0; i < n; i++) {
+                    cold.setBounds(i, warm.getLB(i), warm.getUB(i));
+                }
+                Status st = cold.solve();
+                Assert.assertEquals(warm.solve(), st);
+                if (st == Status.FEASIBLE) {
+                    Assert.assertEquals(warm.objective(), cold.objective(), 1e-6);
+                } else {
+                    break;
+                }
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testWarmStartOnRows() {
+        Random rnd = new Random(2);
+        for (int t = 0; t < 50; t++) {
+            int n = 4 + rnd.nextInt(10);
+            SparseLinearProgram warm = new SparseLinearProgram();
+            for (int j = 0; j < n; j++) {
+                warm.makeVariable(0, 5 + rnd.nextInt(5));
+            }
+            double[] c = new double[n];
+            for (int j = 0; j < n; j++) {
+                c[j] = 1 + rnd.nextInt(10);
+            }
+            warm.setObjective(true, c);
+            Assert.assertEquals(warm.solve(), Status.FEASIBLE);
+            List<double[]> rows = new ArrayList<>();
+            for (int k = 0; k < 15; k++) {
+                if (rows.size() > 2 && rnd.nextInt(3) == 0) {
+                    int i = rnd.nextInt(rows.size());
+                    rows.remove(i);
+                    warm.removeRow(i);
+                } else {
+                    double[] a = new double[n + 1];
+                    int[] vars = new int[n];
+                    double[] coeffs = new double[n];
+                    for (int j = 0; j < n; j++) {
+                        vars[j] = j;
+                        coeffs[j] = a[j] = rnd.nextInt(7) - 2;
+                    }
+                    a[n] = 5 + rnd.nextInt(20);
+                    rows.add(a);
+                    warm.addLeq(vars, coeffs, a[n]);
+                }
+                double[][] A = new double[rows.size()][];
+                double[] lo = new double[rows.size()];
+                double[] up = new double[rows.size()];
+                SparseLinearProgram cold = new SparseLinearProgram();
+                for (int j = 0; j < n; j++) {
+                    cold.makeVariable(0, warm.getUB(j));
+                }
+                for (int i = 0; i < rows.size(); i++) {
+                    A[i] = Arrays.copyOf(rows.get(i), n);
+                    lo[i] = Double.NEGATIVE_INFINITY;
+                    up[i] = rows.get(i)[n];
+                    int[] vars = new int[n];
+                    Arrays.setAll(vars, j -> j);
+                    cold.addLeq(vars, A[i], up[i]);
+                }
+                cold.setObjective(true, c);
+                Assert.assertEquals(cold.solve(), Status.FEASIBLE);
+                Assert.assertEquals(warm.solve(), Status.FEASIBLE);
+                Assert.assertEquals(warm.objective(), cold.objective(), 1e-6);
+                checkFeasible(warm, A, lo, up);
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testWarmStartIsCheaper() {
+        Random rnd = new Random(3);
+        int n = 60, m = 40;
+        double[][] A = new double[m][n];
+        double[] b = new double[m];
+        double[] c = new double[n];
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < n; j++) {
+                if (rnd.nextInt(4) == 0) {
+                    A[i][j] = 1 + rnd.nextInt(10);
+                }
+            }
+            b[i] = 50 + rnd.nextInt(50);
+        }
+        for (int j = 0; j < n; j++) {
+            c[j] = 1 + rnd.nextInt(10);
+        }
+        SparseLinearProgram lp = standard(A, b, c);
+        Assert.assertEquals(lp.solve(), Status.FEASIBLE);
+        long cold = lp.getNbIterations();
+        int j = 0;
+        while (lp.value(j) < 1e-6) j++;
+        lp.setBounds(j, 0, Math.floor(lp.value(j) / 2));
+        Assert.assertEquals(lp.solve(), Status.FEASIBLE);
+        long warm = lp.getNbIterations() - cold;
+        Assert.assertTrue(warm < cold, warm + " vs. " + cold);
+        double obj = lp.objective();
+        lp.resetBasis();
+        Assert.assertEquals(lp.solve(), Status.FEASIBLE);
+        Assert.assertEquals(lp.objective(), obj, 1e-6);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testInconsistentBounds() {
+        SparseLinearProgram lp = new SparseLinearProgram();
+        lp.makeVariables(2);
+        lp.addLeq(new int[]{0, 1}, new double[]{1, 1}, 3);
+        lp.setObjective(true, new double[]{1, 1});
+        Assert.assertEquals(lp.solve(), Status.FEASIBLE);
+        Assert.assertEquals(lp.objective(), 3., 1e-8);
+        lp.setBounds(0, 2, 1);
+        Assert.assertEquals(lp.solve(), Status.INFEASIBLE);
+        lp.setBounds(0, 2, 2);
+        Assert.assertEquals(lp.solve(), Status.FEASIBLE);
+        Assert.assertEquals(lp.value(0), 2., 1e-8);
+        Assert.assertEquals(lp.value(1), 1., 1e-8);
+        Assert.assertEquals(lp.dual(0), 1., 1e-8);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = UnsupportedOperationException.class)
+    public void testVariableAfterRow() {
+        SparseLinearProgram lp = new SparseLinearProgram();
+        lp.makeVariables(2);
+        lp.addLeq(new int[]{0, 1}, new double[]{1, 1}, 3);
+        lp.makeVariable(0, 1);
+    }
+}
@@ -9,7 +9,6 @@
  */
 package org.chocosolver.memory;
 
-import org.chocosolver.memory.trailing.EnvironmentTrailing;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -24,15 +23,16 @@ public class DynamicAdditionTest {
 
     @DataProvider(name = "env")
     public Object[][] getEnvs(){
-        return new EnvironmentTrailing[][]{
+        return new IEnvironment[][]{
                 {new EnvironmentBuilder().fromFlat().build()},
-                {new EnvironmentBuilder().fromChunk().build()}
+                {new EnvironmentBuilder().fromChunk().build()},
+                {new EnvironmentBuilder().buildCopying()}
         };
     }
 
 
     @Test(groups="1s", timeOut=60000, dataProvider = "env")
-    public void test1(EnvironmentTrailing environment) {
+    public void test1(IEnvironment environment) {
         IStateInt a = environment.makeInt(10);
         a.set(11);
         environment.worldPush();
@@ -93,7 +93,7 @@ public class DynamicAdditionTest {
     }
 
     @Test(groups="1s", timeOut=60000, dataProvider = "env")
-    public void test2(EnvironmentTrailing environment){
+    public void test2(IEnvironment environment){
         int n = 100;
         int m = 100;
         int k = 100;
@@ -121,7 +121,7 @@ public class DynamicAdditionTest {
     }
 
     @Test(groups="10s", timeOut=300000, dataProvider = "env")
-    public void test3(EnvironmentTrailing environment) {
+    public void test3(IEnvironment environment) {
         int n = 5000;
         int m = 3000;
         int k = 100;
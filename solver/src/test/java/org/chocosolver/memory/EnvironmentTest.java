@@ -14,6 +14,7 @@ import org.chocosolver.memory.structure.OneWordS64BitSet;
 import org.chocosolver.memory.trailing.EnvironmentTrailing;
 import org.chocosolver.solver.Cause;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.variables.IntVar;
@@ -38,7 +39,8 @@ public class EnvironmentTest {
     public Object[][] env() {
         return new IEnvironment[][]{
                 {new EnvironmentBuilder().fromFlat().build()},
-                {new EnvironmentBuilder().fromChunk().build()}
+                {new EnvironmentBuilder().fromChunk().build()},
+                {new EnvironmentBuilder().buildCopying()}
         };
     }
 
@@ -418,4 +420,67 @@ public class EnvironmentTest {
         env.worldPop();
         Assert.assertEquals(val, new int[]{0, 1});
     }
-}
\ No newline at end of file
+
+    @Test(groups = "1s", dataProvider = "env")
+    public void testVector(IEnvironment env) {
+        IStateIntVector iv = env.makeIntVector(2, 1);
+        IStateDoubleVector dv = env.makeDoubleVector(2, 1.);
+        env.worldPush();
+        iv.set(0, 2);
+        iv.add(3);
+        dv.quickSet(1, 2.);
+        env.worldPush();
+        iv.set(0, 4);
+        iv.set(2, 5);
+        dv.quickSet(1, 4.);
+        env.worldPop();
+        Assert.assertEquals(iv.quickGet(0), 2);
+        Assert.assertEquals(iv.quickGet(2), 3);
+        Assert.assertEquals(dv.quickGet(1), 2.);
+        env.worldPop();
+        Assert.assertEquals(iv.quickGet(0), 1);
+        Assert.assertEquals(dv.quickGet(1), 1.);
+    }
+
+    @Test(groups = "1s")
+    public void testCopyingCommit() {
+        IEnvironment env = new EnvironmentBuilder().buildCopying();
+        IStateInt a = env.makeInt(0);
+        IStateLong b = env.makeLong(0);
+        env.worldPush();
+        a.set(1);
+        b.set(1);
+        env.worldPush();
+        a.set(2);
+        b.set(2);
+        env.worldCommit();
+        Assert.assertEquals(env.getWorldIndex(), 1);
+        Assert.assertEquals(a.get(), 2);
+        Assert.assertEquals(b.get(), 2);
+        env.worldPop();
+        Assert.assertEquals(a.get(), 0);
+        Assert.assertEquals(b.get(), 0);
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testCopyingVsTrailing() {
+        long[] counts = new long[2];
+        for (int i = 0; i < 2; i++) {
+            IEnvironment env = i == 0 ? new EnvironmentBuilder().fromFlat().build() : new EnvironmentBuilder().buildCopying();
+            Model model = new Model("q8", Settings.init().setEnvironmentSupplier(() -> env));
+            IntVar[] qs = model.intVarArray("Q", 8, 1, 8, false);
+            model.allDifferent(qs, "AC").post();
+            for (int j = 0; j < 8; j++) {
+                for (int k = j + 1; k < 8; k++) {
+                    model.arithm(qs[j], "!=", qs[k], "+", k - j).post();
+                    model.arithm(qs[j], "!=", qs[k], "-", k - j).post();
+                }
+            }
+            Solver solver = model.getSolver();
+            solver.setSearch(Search.inputOrderLBSearch(qs));
+            while (solver.solve()) ;
+            counts[i] = solver.getSolutionCount() * 1_000_000 + solver.getNodeCount();
+        }
+        Assert.assertEquals(counts[1], counts[0]);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.structure;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateBitSet;
+import org.chocosolver.memory.trailing.EnvironmentTrailing;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Unit tests for the word-level operations of {@link IStateBitSet}.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class S64BitSetTest {
+
+    @DataProvider(name = "bitsets")
+    public Object[][] bitsets() {
+        return new Object[][]{
+                {20, (Function<IEnvironment, IStateBitSet>) e -> e.makeBitSet(20)},
+                {50, (Function<IEnvironment, IStateBitSet>) e -> e.makeBitSet(50)},
+                {300, (Function<IEnvironment, IStateBitSet>) e -> e.makeBitSet(300)},
+                {300, (Function<IEnvironment, IStateBitSet>) e -> e.makeSparseBitset(64)},
+                {300, (Function<IEnvironment, IStateBitSet>) e -> new SparseBitSet(e, 100)},
+        };
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "bitsets")
+    public void testAndWord(int size, Function<IEnvironment, IStateBitSet> factory) {
+        Random rnd = new Random(size);
+        for (int k = 0; k < 100; k++) {
+            IEnvironment env = new EnvironmentTrailing();
+            IStateBitSet bs = factory.apply(env);
+            BitSet ref = new BitSet();
+            for (int i = 0; i < size; i++) {
+                if (rnd.nextBoolean()) {
+                    bs.set(i);
+                    ref.set(i);
+                }
+            }
+            String before = bs.toString();
+            int nw = (size + 63) / 64;
+            env.worldPush();
+            for (int w = 0; w < nw; w++) {
+                long word = ref.toLongArray().length > w ? ref.toLongArray()[w] : 0L;
+                Assert.assertEquals(bs.getWord(w), word);
+                long mask = rnd.nextLong();
+                long cleared = bs.andWord(w, mask);
+                Assert.assertEquals(cleared, word & ~mask);
+                for (int b = 0; b < 64; b++) {
+                    if ((cleared & (1L << b)) != 0) {
+                        ref.clear(w * 64 + b);
+                    }
+                }
+                Assert.assertEquals(bs.getWord(w), word & mask);
+            }
+            Assert.assertEquals(bs.getWord(nw), 0L);
+            Assert.assertEquals(bs.andWord(nw, 0L), 0L);
+            Assert.assertEquals(bs.cardinality(), ref.cardinality());
+            Assert.assertEquals(bs.isEmpty(), ref.isEmpty());
+            Assert.assertEquals(bs.nextSetBit(0), ref.nextSetBit(0));
+            Assert.assertEquals(bs.prevSetBit(size), ref.previousSetBit(size));
+            env.worldPop();
+            Assert.assertEquals(bs.toString(), before);
+        }
+    }
+}
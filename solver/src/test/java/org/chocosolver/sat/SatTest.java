@@ -9,6 +9,7 @@
  */
 package org.chocosolver.sat;
 
+import gnu.trove.list.array.TIntArrayList;
 import org.chocosolver.util.ESat;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
@@ -39,6 +40,65 @@ public class SatTest {
         Assert.assertEquals(sat.solve(), ESat.TRUE);
     }
 
+    private static MiniSat pigeonHole(int n, int m) {
+        MiniSat sat = new MiniSat(false);
+        int[][] p = new int[n][m];
+        for (int i = 0; i < n; i++) {
+            TIntArrayList cl = new TIntArrayList();
+            for (int j = 0; j < m; j++) {
+                p[i][j] = sat.newVariable();
+                cl.add(MiniSat.makeLiteral(p[i][j]));
+            }
+            sat.addClause(cl);
+        }
+        for (int j = 0; j < m; j++) {
+            for (int i = 0; i < n; i++) {
+                for (int k = i + 1; k < n; k++) {
+                    sat.addClause(MiniSat.neg(MiniSat.makeLiteral(p[i][j])), MiniSat.neg(MiniSat.makeLiteral(p[k][j])));
+                }
+            }
+        }
+        return sat;
+    }
+
+    @Test(groups = "1s")
+    public void testReduceDBWithGarbageCollection() {
+        // pigeonhole: 7 pigeons, 6 holes
+        MiniSat sat = pigeonHole(7, 6);
+        // compact the clause arena on each reduction
+        sat.garbage_frac = 0.;
+        sat.reduce_first = 20;
+        sat.reduce_inc = 10;
+        int nclauses = sat.nClauses();
+        Assert.assertEquals(sat.solve(), ESat.FALSE);
+        Assert.assertEquals(sat.nClauses(), nclauses);
+        Assert.assertEquals(sat.ca.wasted(), 0);
+        Assert.assertTrue(sat.nReductions() > 0);
+    }
+
+    @Test(groups = "1s")
+    public void testLearntClauseTiers() {
+        MiniSat sat = pigeonHole(7, 6);
+        sat.reduce_first = 20;
+        sat.reduce_inc = 10;
+        Assert.assertEquals(sat.solve(), ESat.FALSE);
+        Assert.assertTrue(sat.nReductions() > 0);
+        Assert.assertTrue(sat.nRemovedLearnts() > 0);
+        Assert.assertEquals(sat.nLearnts(MiniSat.CORE) + sat.nLearnts(MiniSat.TIER2) + sat.nLearnts(MiniSat.LOCAL),
+                sat.nLearnts());
+        for (int i = 0; i < sat.nLearnts(); i++) {
+            int cr = sat.learnts.getQuick(i);
+            Assert.assertTrue(sat.ca.learnt(cr));
+            Assert.assertTrue(sat.ca.lbd(cr) >= 1 && sat.ca.lbd(cr) <= sat.ca.size(cr));
+            // a clause is never in a lower tier than its LBD allows, but tier-2 clauses can be demoted
+            if (sat.ca.lbd(cr) > sat.tier2_lbd) {
+                Assert.assertEquals(sat.ca.tier(cr), MiniSat.LOCAL);
+            } else if (sat.ca.lbd(cr) <= sat.core_lbd) {
+                Assert.assertEquals(sat.ca.tier(cr), MiniSat.CORE);
+            }
+        }
+    }
+
     private static final String ROOT = "/dimacs/";
     private static final String COMMENT = "#";
     private static final String DELIMITER = ",";
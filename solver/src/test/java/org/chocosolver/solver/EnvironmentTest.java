@@ -16,6 +16,7 @@ package org.chocosolver.solver;
 
 
 import org.chocosolver.memory.EnvironmentBuilder;
+import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.trailing.EnvironmentTrailing;
 import org.chocosolver.memory.trailing.trail.chunck.ChunckedIntTrail;
 import org.chocosolver.memory.trailing.trail.flatten.StoredDoubleTrail;
@@ -32,15 +33,16 @@ public class EnvironmentTest {
 
 	@DataProvider(name = "env")
 	public Object[][] getEnvs(){
-		return new EnvironmentTrailing[][]{
+		return new IEnvironment[][]{
 				{new EnvironmentBuilder().fromFlat().build()},
-				{new EnvironmentBuilder().fromChunk().build()}
+				{new EnvironmentBuilder().fromChunk().build()},
+				{new EnvironmentBuilder().buildCopying()}
 		};
 	}
 
 
 	@Test(groups="10s", timeOut=60000, dataProvider = "env")
-	public void testSize(EnvironmentTrailing env) {
+	public void testSize(IEnvironment env) {
 		int n = 12;
 		IntVar[] vars, vectors;
 		Model model = new Model("CostasArrays", Settings.init().setEnvironmentSupplier(() -> env));
@@ -0,0 +1,185 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+import static org.chocosolver.solver.search.strategy.Search.minDomLBSearch;
+
+/**
+ * @author agent
+ * @since 17/10/2026
+ */
+public class ParallelEPSTest {
+
+    private static ParallelEPS queens(int n, int workers, int depth) {
+        ParallelEPS eps = new ParallelEPS();
+        for (int i = 0; i < workers; i++) {
+            Model m = ProblemMaker.makeNQueenWithBinaryConstraints(n);
+            m.getSolver().setSearch(inputOrderLBSearch((IntVar[]) m.getHook("vars")));
+            eps.addModel(m);
+        }
+        if (depth >= 0) {
+            eps.setDepth(depth);
+        }
+        return eps;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testAllSolutions() {
+        ParallelEPS eps = queens(8, 4, 4);
+        List<Solution> sols = eps.streamSolutions().collect(Collectors.toList());
+        Assert.assertEquals(sols.size(), 92);
+        Assert.assertEquals(eps.getSolutionCount(), 92);
+        Assert.assertEquals(eps.getNbCubesSolved(), eps.getCubes().size());
+        IntVar[] q = (IntVar[]) eps.getModels().get(0).getHook("vars");
+        Set<String> distinct = new HashSet<>();
+        for (Solution s : sols) {
+            StringBuilder st = new StringBuilder();
+            for (IntVar v : q) {
+                st.append(s.getIntVal(v)).append(',');
+            }
+            distinct.add(st.toString());
+        }
+        Assert.assertEquals(distinct.size(), 92);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testStreamIsBounded() throws InterruptedException {
+        ParallelEPS eps = queens(10, 2, 4);
+        try (Stream<Solution> sols = eps.streamSolutions()) {
+            Iterator<Solution> it = sols.iterator();
+            for (int i = 0; i < 3; i++) {
+                Assert.assertTrue(it.hasNext());
+                it.next();
+            }
+            // the buffer fills up, then each worker waits with a solution:
+            // 3 consumed, 2 buffered and 2 waiting, the workers can go no further
+            while (eps.getNbWaitingWorkers() < 2 || eps.getSolutionCount() < 3 + 2 + 2) {
+                Thread.yield();
+            }
+            Assert.assertEquals(eps.getSolutionCount(), 3 + 2 + 2);
+            Assert.assertEquals(eps.getNbWaitingWorkers(), 2);
+        }
+        // once closed, the resolution stops before all cubes are solved
+        for (Thread t : Thread.getAllStackTraces().keySet()) {
+            if (t.getName().equals("eps-stream")) {
+                t.join();
+            }
+        }
+        Assert.assertEquals(eps.getNbWaitingWorkers(), 0);
+        Assert.assertTrue(eps.getNbCubesSolved() < eps.getCubes().size());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDefaultDepth() {
+        ParallelEPS eps = queens(8, 2, -1);
+        Assert.assertEquals(eps.streamSolutions().count(), 92);
+        Assert.assertTrue(eps.getCubes().size() > 2);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDefaultSearch() {
+        ParallelEPS eps = new ParallelEPS();
+        for (int i = 0; i < 3; i++) {
+            eps.addModel(ProblemMaker.makeNQueenWithBinaryConstraints(7));
+        }
+        eps.setDepth(5);
+        Assert.assertEquals(eps.streamSolutions().count(), 40);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFirstSolution() {
+        ParallelEPS eps = queens(10, 4, 6);
+        Assert.assertTrue(eps.solve());
+        Solution s = eps.getBestSolution();
+        Assert.assertNotNull(s);
+        IntVar[] q = (IntVar[]) eps.getModels().get(0).getHook("vars");
+        for (int i = 0; i < q.length; i++) {
+            for (int j = i + 1; j < q.length; j++) {
+                Assert.assertNotEquals(s.getIntVal(q[i]), s.getIntVal(q[j]));
+                Assert.assertNotEquals(Math.abs(s.getIntVal(q[i]) - s.getIntVal(q[j])), j - i);
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNoSolution() {
+        ParallelEPS eps = queens(3, 2, 3);
+        Assert.assertFalse(eps.solve());
+        Assert.assertNull(eps.getBestSolution());
+        Assert.assertEquals(eps.streamSolutions().count(), 0);
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testOptimization() {
+        ParallelEPS eps = new ParallelEPS();
+        for (int i = 0; i < 4; i++) {
+            Model m = ProblemMaker.makeGolombRuler(8);
+            m.getSolver().setSearch(minDomLBSearch((IntVar[]) m.getHook("ticks")));
+            eps.addModel(m);
+        }
+        eps.setDepth(6);
+        Assert.assertTrue(eps.solve());
+        IntVar obj = (IntVar) eps.getModels().get(0).getHook("objective");
+        Assert.assertEquals(eps.getBestSolution().getIntVal(obj), 34);
+        Assert.assertEquals(eps.getNbCubesSolved(), eps.getCubes().size());
+        int[] values = eps.streamSolutions().mapToInt(s -> s.getIntVal(obj)).toArray();
+        Assert.assertEquals(values[values.length - 1], 34);
+        for (int i = 1; i < values.length; i++) {
+            Assert.assertTrue(values[i] < values[i - 1]);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testReplay() {
+        ParallelEPS eps = queens(8, 2, 3);
+        List<int[]> cubes = eps.getCubes();
+        long total = 0;
+        for (int c = 0; c < cubes.size(); c++) {
+            Model m1 = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+            m1.getSolver().setSearch(inputOrderLBSearch((IntVar[]) m1.getHook("vars")));
+            eps.replay(m1, c);
+            List<Solution> s1 = m1.getSolver().findAllSolutions();
+            Model m2 = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+            m2.getSolver().setSearch(inputOrderLBSearch((IntVar[]) m2.getHook("vars")));
+            eps.replay(m2, c);
+            List<Solution> s2 = m2.getSolver().findAllSolutions();
+            Assert.assertEquals(s1.size(), s2.size());
+            Assert.assertEquals(m1.getSolver().getNodeCount(), m2.getSolver().getNodeCount());
+            IntVar[] q1 = (IntVar[]) m1.getHook("vars");
+            IntVar[] q2 = (IntVar[]) m2.getHook("vars");
+            for (int k = 0; k < s1.size(); k++) {
+                for (int i = 0; i < q1.length; i++) {
+                    Assert.assertEquals(s1.get(k).getIntVal(q1[i]), s2.get(k).getIntVal(q2[i]));
+                }
+            }
+            total += s1.size();
+        }
+        Assert.assertEquals(total, 92);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testNoModel() {
+        new ParallelEPS().solve();
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+/**
+ * @author agent
+ * @since 17/10/2026
+ */
+public class ParallelSACTest {
+
+    private static String domains(Model model) {
+        return Arrays.toString(model.retrieveIntVars(true));
+    }
+
+    /**
+     * Places <i>n + 1</i> pigeons in <i>n</i> holes with pairwise disequalities, which is not SAC for <i>n = 2</i>.
+     */
+    private static Model pigeons(int n) {
+        Model model = new Model();
+        IntVar[] p = model.intVarArray("p", n + 1, 1, n);
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j <= n; j++) {
+                model.arithm(p[i], "!=", p[j]).post();
+            }
+        }
+        return model;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSequential() {
+        Model master = ProblemMaker.makeNQueenWithBinaryConstraints(4);
+        ParallelSAC sac = new ParallelSAC(master);
+        Assert.assertTrue(sac.preprocess(10_000));
+        // only the values of the two solutions remain
+        for (IntVar v : master.retrieveIntVars(true)) {
+            Assert.assertEquals(v.getDomainSize(), 2);
+        }
+        Assert.assertEquals(sac.getNbRemovals(), 8);
+        Assert.assertTrue(sac.getNbPasses() >= 2);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testParallelEqualsSequential() {
+        for (int n = 4; n < 9; n++) {
+            Model seq = ProblemMaker.makeNQueenWithBinaryConstraints(n);
+            Assert.assertTrue(new ParallelSAC(seq).preprocess(10_000));
+            for (int w = 1; w < 5; w++) {
+                Model master = ProblemMaker.makeNQueenWithBinaryConstraints(n);
+                ParallelSAC sac = new ParallelSAC(master);
+                for (int i = 0; i < w; i++) {
+                    sac.addModel(ProblemMaker.makeNQueenWithBinaryConstraints(n));
+                }
+                Assert.assertTrue(sac.preprocess(10_000));
+                // the SAC closure is unique
+                Assert.assertEquals(domains(master), domains(seq), "n=" + n + ", w=" + w);
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testPopulate() {
+        Model master = ProblemMaker.makeNQueenWithBinaryConstraints(4);
+        ParallelSAC sac = new ParallelSAC(master);
+        for (int i = 0; i < 3; i++) {
+            sac.addModel(new Model());
+        }
+        sac.populate((m, i) -> {
+            IntVar[] q = m.intVarArray("Q", 4, 1, 4);
+            for (int a = 0; a < 3; a++) {
+                for (int b = a + 1; b < 4; b++) {
+                    m.arithm(q[a], "!=", q[b]).post();
+                    m.arithm(q[a], "!=", q[b], "+", a - b).post();
+                    m.arithm(q[a], "!=", q[b], "+", b - a).post();
+                }
+            }
+        });
+        Assert.assertTrue(sac.preprocess(10_000));
+        for (IntVar v : master.retrieveIntVars(true)) {
+            Assert.assertEquals(v.getDomainSize(), 2);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBoundsOnly() {
+        for (int w = 0; w < 3; w++) {
+            Model full = ProblemMaker.makeNQueenWithBinaryConstraints(6);
+            Assert.assertTrue(new ParallelSAC(full).preprocess(10_000));
+            Model master = ProblemMaker.makeNQueenWithBinaryConstraints(6);
+            ParallelSAC sac = new ParallelSAC(master);
+            for (int i = 0; i < w; i++) {
+                sac.addModel(ProblemMaker.makeNQueenWithBinaryConstraints(6));
+            }
+            sac.setBoundsOnly(true);
+            Assert.assertTrue(sac.preprocess(10_000));
+            IntVar[] fvars = full.retrieveIntVars(true);
+            IntVar[] bvars = master.retrieveIntVars(true);
+            for (int i = 0; i < fvars.length; i++) {
+                // bounds consistency is weaker, but bounds are singleton consistent
+                Assert.assertTrue(bvars[i].getLB() <= fvars[i].getLB());
+                Assert.assertTrue(bvars[i].getUB() >= fvars[i].getUB());
+                Assert.assertTrue(fvars[i].contains(bvars[i].getLB()));
+                Assert.assertTrue(fvars[i].contains(bvars[i].getUB()));
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNoSolution() {
+        for (int w = 0; w < 3; w++) {
+            ParallelSAC sac = new ParallelSAC(pigeons(2));
+            for (int i = 0; i < w; i++) {
+                sac.addModel(pigeons(2));
+            }
+            Assert.assertFalse(sac.preprocess(10_000));
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNoTime() {
+        ParallelSAC sac = new ParallelSAC(ProblemMaker.makeNQueenWithBinaryConstraints(4));
+        sac.addModel(ProblemMaker.makeNQueenWithBinaryConstraints(4));
+        Assert.assertTrue(sac.preprocess(0));
+        Assert.assertEquals(sac.getNbProbes(), 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testNotEquivalent() {
+        ParallelSAC sac = new ParallelSAC(ProblemMaker.makeNQueenWithBinaryConstraints(4));
+        sac.addModel(ProblemMaker.makeNQueenWithBinaryConstraints(5));
+        sac.preprocess(10_000);
+    }
+}
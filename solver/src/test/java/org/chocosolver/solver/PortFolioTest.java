@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver;
 
+import org.chocosolver.solver.constraints.nary.sat.NogoodStealer;
+import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.search.restart.MonotonicCutoff;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ProblemMaker;
@@ -45,6 +47,45 @@ public class PortFolioTest {
         System.gc();
     }
 
+    @Test(groups = "1s", timeOut = 60000)
+    public void testPopulate() {
+        ParallelPortfolio pares = new ParallelPortfolio();
+        int n = 4; // number of solvers to use
+        for (int i = 0; i < n; i++) {
+            pares.addModel(new Model("model_" + i));
+        }
+        int[] ids = new int[n];
+        pares.populate((m, i) -> {
+            ids[i] = i + 1;
+            IntVar[] q = m.intVarArray("Q", 8, 1, 8);
+            m.allDifferent(q).post();
+            for (int k = 0; k < 7; k++) {
+                for (int j = k + 1; j < 8; j++) {
+                    m.arithm(q[k], "!=", q[j], "-", j - k).post();
+                    m.arithm(q[k], "!=", q[j], "+", j - k).post();
+                }
+            }
+        });
+        Assert.assertEquals(ids, new int[]{1, 2, 3, 4});
+        for (Model m : pares.getModels()) {
+            Assert.assertEquals(m.getNbVars(), 8);
+        }
+        Assert.assertTrue(pares.solve());
+        Assert.assertNotNull(pares.getBestModel());
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testPopulateFailure() {
+        ParallelPortfolio pares = new ParallelPortfolio();
+        pares.addModel(new Model());
+        pares.addModel(new Model());
+        pares.populate((m, i) -> {
+            if (i == 1) {
+                throw new SolverException("cannot populate");
+            }
+        });
+    }
+
     @Test(groups = "10s", timeOut = 60000)
     public void testP11() {
         ParallelPortfolio pares = new ParallelPortfolio();
@@ -63,6 +104,22 @@ public class PortFolioTest {
         Assert.assertEquals(finder.getSolver().getObjectiveManager().getBestSolutionValue(), 44);
     }
 
+    @Test(groups = "10s", timeOut = 60000)
+    public void testSharingStatistics() {
+        ParallelPortfolio pares = new ParallelPortfolio();
+        int n = 4; // number of solvers to use
+        for (int i = 0; i < n; i++) {
+            pares.addModel(ProblemMaker.makeGolombRuler(9));
+        }
+        pares.stealNogoodsOnRestarts(4, 8);
+        while (pares.solve()) ;
+        Assert.assertEquals(pares.getBestModel().getSolver().getObjectiveManager().getBestSolutionValue(), 44);
+        Assert.assertTrue(pares.getNbBoundsShared() > 0);
+        NogoodStealer stealer = pares.getNogoodStealer();
+        Assert.assertTrue(stealer.getNbPublished() > 0);
+        Assert.assertTrue(stealer.getNbStolen() + stealer.getNbDropped() > 0);
+    }
+
     @Test(groups = "10s", timeOut = 60000)
     public void testP111() {
         ParallelPortfolio pares = new ParallelPortfolio();
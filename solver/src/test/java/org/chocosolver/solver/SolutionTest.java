@@ -9,9 +9,22 @@
  */
 package org.chocosolver.solver;
 
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.RealVar;
+import org.chocosolver.solver.variables.SetVar;
+import org.chocosolver.util.ProblemMaker;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+
 public class SolutionTest {
 
     @Test
@@ -19,4 +32,128 @@ public class SolutionTest {
         final Solution emptySolution = new Solution(null);
         Assert.assertNotSame(emptySolution, emptySolution.copySolution());
     }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDeltaRecording() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 10, 0, 9);
+        Solution s = new Solution(model);
+        model.getEnvironment().worldPush();
+        for (int i = 0; i < x.length; i++) {
+            x[i].instantiateTo(i, Cause.Null);
+        }
+        s.record();
+        Assert.assertEquals(s.getDeltaSize(), 10);
+        model.getEnvironment().worldPop();
+        model.getEnvironment().worldPush();
+        for (int i = 0; i < x.length; i++) {
+            x[i].instantiateTo(i == 3 ? 7 : i, Cause.Null);
+        }
+        s.record();
+        Assert.assertEquals(s.getDeltaSize(), 1);
+        Assert.assertEquals(s.getIntVal(x[3]), 7);
+        Assert.assertEquals(s.getIntVal(x[4]), 4);
+        model.getEnvironment().worldPop();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSnapshots() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(6);
+        IntVar[] q = (IntVar[]) model.getHook("vars");
+        model.getSolver().setSearch(inputOrderLBSearch(q));
+        List<Solution> sols = model.getSolver().findAllSolutions();
+        Assert.assertEquals(sols.size(), 4);
+        // snapshots must not be altered by later recordings
+        Model other = ProblemMaker.makeNQueenWithBinaryConstraints(6);
+        IntVar[] r = (IntVar[]) other.getHook("vars");
+        other.getSolver().setSearch(inputOrderLBSearch(r));
+        for (Solution sol : sols) {
+            Assert.assertTrue(other.getSolver().solve());
+            for (int i = 0; i < q.length; i++) {
+                Assert.assertEquals(sol.getIntVal(q[i]), r[i].getValue());
+            }
+        }
+        Solution copy = sols.get(0).copySolution();
+        copy.setIntVal(q[0], 42);
+        Assert.assertEquals(copy.getIntVal(q[0]), 42);
+        Assert.assertNotEquals(sols.get(0).getIntVal(q[0]), 42);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSnapshotsOverBlocks() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 150, 0, 9);
+        SetVar s = model.setVar("s", new int[0], new int[]{1, 2, 3});
+        Solution sol = new Solution(model);
+        model.getEnvironment().worldPush();
+        for (int i = 0; i < x.length; i++) {
+            x[i].instantiateTo(i % 10, Cause.Null);
+        }
+        s.instantiateTo(new int[]{1}, Cause.Null);
+        Solution first = sol.record().copySolution();
+        model.getEnvironment().worldPop();
+        model.getEnvironment().worldPush();
+        for (int i = 0; i < x.length; i++) {
+            x[i].instantiateTo(i == 131 ? 0 : i % 10, Cause.Null);
+        }
+        s.instantiateTo(new int[]{2, 3}, Cause.Null);
+        Solution second = sol.record().copySolution();
+        Assert.assertEquals(sol.getDeltaSize(), 2);
+        model.getEnvironment().worldPop();
+        Assert.assertEquals(first.getIntVal(x[131]), 1);
+        Assert.assertEquals(second.getIntVal(x[131]), 0);
+        Assert.assertEquals(first.getIntVal(x[132]), 2);
+        Assert.assertEquals(first.getSetVal(s), new int[]{1});
+        Assert.assertEquals(second.getSetVal(s), new int[]{2, 3});
+        // writing into a snapshot does not alter the others
+        first.setIntVal(x[5], 9);
+        second.setIntVal(x[100], 9);
+        IntVar y = model.intVar("y", 0, 9);
+        sol.setIntVal(y, 7);
+        Assert.assertEquals(first.getIntVal(x[5]), 9);
+        Assert.assertEquals(second.getIntVal(x[5]), 5);
+        Assert.assertEquals(sol.getIntVal(x[5]), 5);
+        Assert.assertEquals(first.getIntVal(x[100]), 0);
+        Assert.assertEquals(second.getIntVal(x[100]), 9);
+        Assert.assertEquals(sol.getIntVal(x[100]), 0);
+        Assert.assertEquals(sol.getIntVal(y), 7);
+        Assert.assertEquals(sol.getSetVal(s), new int[]{2, 3});
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBinaryExport() throws IOException {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 5);
+        SetVar s = model.setVar("s", new int[0], new int[]{1, 2, 3});
+        RealVar r = model.realVar("r", 0., 1., 0.5);
+        model.member(x, s).post();
+        model.arithm(x, ">", 2).post();
+        Assert.assertTrue(model.getSolver().solve());
+        Solution sol = new Solution(model, x, s, r).record();
+        sol.setRealBounds(r, new double[]{.25, .75});
+        byte[] bytes = sol.toByteArray();
+
+        Solution back = new Solution(model, x, s, r)
+                .readFrom(new DataInputStream(new ByteArrayInputStream(bytes)));
+        Assert.assertEquals(back.getIntVal(x), 3);
+        Assert.assertEquals(back.getSetVal(s), sol.getSetVal(s));
+        Assert.assertEquals(back.getRealBounds(r), new double[]{.25, .75});
+        try {
+            new Solution(model, x).readFrom(new DataInputStream(new ByteArrayInputStream(bytes)));
+            Assert.fail();
+        } catch (SolverException ignored) {
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testNotInstantiated() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 5);
+        IntVar y = model.intVar("y", 0, 5);
+        Solution s = new Solution(model, x);
+        s.setIntVal(y, 2);
+        Assert.assertEquals(s.getIntVal(y), 2);
+        s.record();
+        s.getIntVal(y);
+    }
 }
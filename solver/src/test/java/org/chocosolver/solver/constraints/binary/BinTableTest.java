@@ -10,12 +10,19 @@
 package org.chocosolver.solver.constraints.binary;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.constraints.extension.TuplesFactory;
+import org.chocosolver.solver.constraints.extension.binary.PropBinCSP;
+import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
+import java.util.Random;
+
 import static org.chocosolver.solver.search.strategy.Search.randomSearch;
 import static org.testng.Assert.assertEquals;
 
@@ -243,4 +250,96 @@ public class BinTableTest {
             }
         }
     }
+
+    /**
+     * Random binary CSP over domains of size <i>d</i>, with holes, and relations of density <i>p</i>.
+     * Relations are picked among <i>nbRel</i> distinct ones, variables sharing the same domain.
+     */
+    private static Model randomCSP(Settings settings, String algo, long seed, int n, int d, double p, int nbRel) {
+        Random rnd = new Random(seed);
+        Model model = new Model(settings);
+        int[] dom = rnd.ints(0, 3 * d).distinct().limit(d).sorted().toArray();
+        IntVar[] vars = model.intVarArray("X", n, dom);
+        Tuples[] relations = new Tuples[nbRel];
+        for (int r = 0; r < nbRel; r++) {
+            relations[r] = new Tuples(true);
+            for (int a : dom) {
+                for (int b : dom) {
+                    if (rnd.nextDouble() < p) {
+                        relations[r].add(a, b);
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                if (rnd.nextDouble() < 0.5) {
+                    model.table(vars[i], vars[j], relations[rnd.nextInt(nbRel)], algo).post();
+                }
+            }
+        }
+        return model;
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testSharedRelations() {
+        for (String a : ALGOS) {
+            Model shared = randomCSP(Settings.init(), a, 0, 10, 20, 0.3, 3);
+            Model alone = randomCSP(Settings.init().setEnableRelationSharing(false), a, 0, 10, 20, 0.3, 3);
+            Assert.assertEquals(shared.getRelationCache().size(), 3, a);
+            Assert.assertEquals(shared.getRelationCache().getNbHits(), shared.getNbCstrs() - 3, a);
+            Assert.assertEquals(alone.getRelationCache().size(), 0, a);
+            long nbRelations = Arrays.stream(shared.getCstrs())
+                    .map(c -> ((PropBinCSP) c.getPropagator(0)).getRelation())
+                    .distinct().count();
+            Assert.assertEquals(nbRelations, 3, a);
+            shared.getSolver().findAllSolutions();
+            alone.getSolver().findAllSolutions();
+            Assert.assertEquals(shared.getSolver().getSolutionCount(), alone.getSolver().getSolutionCount(), a);
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testAC3bitrmWideDomains() throws ContradictionException {
+        for (int seed = 0; seed < 20; seed++) {
+            for (double p : new double[]{0.05, 0.2, 0.6}) {
+                Model ac = randomCSP(Settings.init(), "AC2001", seed, 6, 150, p, 2);
+                Model bit = randomCSP(Settings.init(), "AC3bit+rm", seed, 6, 150, p, 2);
+                boolean fac, fbit;
+                try {
+                    ac.getSolver().propagate();
+                    fac = true;
+                } catch (ContradictionException e) {
+                    fac = false;
+                }
+                try {
+                    bit.getSolver().propagate();
+                    fbit = true;
+                } catch (ContradictionException e) {
+                    fbit = false;
+                }
+                Assert.assertEquals(fbit, fac);
+                if (fac) {
+                    // both algorithms compute the arc consistent closure
+                    Assert.assertEquals(Arrays.toString(bit.retrieveIntVars(true)), Arrays.toString(ac.retrieveIntVars(true)));
+                }
+            }
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testAC3bitrmSolutions() {
+        for (int seed = 0; seed < 10; seed++) {
+            Model ac = randomCSP(Settings.init(), "AC3rm", seed, 8, 70, 0.3, 4);
+            Model bit = randomCSP(Settings.init(), "AC3bit+rm", seed, 8, 70, 0.3, 4);
+            ac.getSolver().setSearch(randomSearch(ac.retrieveIntVars(true), seed));
+            bit.getSolver().setSearch(randomSearch(bit.retrieveIntVars(true), seed));
+            ac.getSolver().limitSolution(1000);
+            bit.getSolver().limitSolution(1000);
+            ac.getSolver().findAllSolutions();
+            bit.getSolver().findAllSolutions();
+            Assert.assertEquals(bit.getSolver().getSolutionCount(), ac.getSolver().getSolutionCount());
+            Assert.assertEquals(bit.getSolver().getNodeCount(), ac.getSolver().getNodeCount());
+        }
+    }
 }
@@ -0,0 +1,159 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.extension;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.graphs.MultivaluedDecisionDiagram;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * @author agent
+ * @since 17/10/2026
+ */
+public class TuplesTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testWidening() {
+        Tuples tuples = new Tuples();
+        int[] t = new int[3];
+        for (int i = 0; i < 100; i++) {
+            t[0] = i;
+            t[1] = -i * 1000;
+            t[2] = i * 100_000;
+            // the array is reused, tuples must be copied
+            tuples.add(t);
+        }
+        Assert.assertEquals(tuples.nbTuples(), 100);
+        Assert.assertEquals(tuples.arity(), 3);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(tuples.get(i), new int[]{i, -i * 1000, i * 100_000});
+            Assert.assertEquals(tuples.get(i, 1), -i * 1000);
+        }
+        Assert.assertEquals(tuples.min(1), -99_000);
+        Assert.assertEquals(tuples.max(2), 9_900_000);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSortAndRemoveDuplicates() {
+        Random rnd = new Random(0);
+        Tuples tuples = new Tuples(false);
+        for (int i = 0; i < 1000; i++) {
+            tuples.add(rnd.nextInt(5), rnd.nextInt(5) - 2, rnd.nextInt(3) * 40_000);
+        }
+        tuples.removeDuplicates();
+        Assert.assertEquals(tuples.nbTuples(), 75);
+        int[][] m = tuples.toMatrix();
+        for (int i = 1; i < m.length; i++) {
+            int c = 0;
+            for (int j = 0; j < 3 && c == 0; j++) {
+                c = Integer.compare(m[i - 1][j], m[i][j]);
+            }
+            Assert.assertTrue(c < 0);
+        }
+        Assert.assertFalse(tuples.isFeasible());
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testArity() {
+        Tuples tuples = new Tuples(new int[][]{{1, 2}}, true);
+        tuples.add(1, 2, 3);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testTable() {
+        for (String algo : new String[]{"CT+", "GAC3rm", "STR2+", "FC"}) {
+            Model model = new Model();
+            IntVar[] x = model.intVarArray("x", 3, -300, 300);
+            Tuples tuples = new Tuples();
+            for (int i = -300; i <= 300; i += 3) {
+                tuples.add(i, -i, i / 3);
+            }
+            model.table(x, tuples, algo).post();
+            model.arithm(x[2], ">=", 0).post();
+            Assert.assertEquals(model.getSolver().findAllSolutions().size(), 101, algo);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testGenerateInParallel() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 5, 0, 11);
+        TupleValidator filter = values -> (values[0] + 2 * values[1] + 3 * values[2] - values[3] * values[4]) % 7 == 0;
+        Tuples seq = TuplesFactory.generateTuples(filter, true, x);
+        Tuples par = TuplesFactory.generateTuplesInParallel(filter, true, x);
+        Assert.assertEquals(par.nbTuples(), seq.nbTuples());
+        Assert.assertEquals(par.toMatrix(), seq.toMatrix());
+
+        MultivaluedDecisionDiagram mdd = TuplesFactory.generateMDD(filter, x);
+        for (int t = 0; t < seq.nbTuples(); t++) {
+            Assert.assertTrue(mdd.exists(seq.get(t)));
+        }
+        Assert.assertFalse(mdd.exists(1, 0, 0, 0, 0));
+        model.mddc(x, mdd).post();
+        Assert.assertEquals(model.getSolver().findAllSolutions().size(), seq.nbTuples());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testEqualsAndDuplicate() {
+        Tuples t1 = new Tuples(new int[][]{{0, 1}, {1, 2}, {300, -2}}, true);
+        Tuples t2 = new Tuples(true);
+        t2.add(0, 1);
+        t2.add(1, 2);
+        Assert.assertNotEquals(t1, t2);
+        t2.add(300, -2);
+        Assert.assertEquals(t1, t2);
+        Assert.assertEquals(t1.hashCode(), t2.hashCode());
+        Assert.assertNotEquals(t1, new Tuples(new int[][]{{0, 1}, {1, 2}, {300, -2}}, false));
+        Assert.assertNotEquals(t1, new Tuples(new int[][]{{1, 2}, {0, 1}, {300, -2}}, true));
+        Tuples copy = t1.duplicate();
+        Assert.assertEquals(copy, t1);
+        t1.setUniversalValue(-1);
+        Assert.assertNotEquals(copy, t1);
+        copy = t1.duplicate();
+        Assert.assertEquals(copy, t1);
+        Assert.assertEquals(copy.getStarValue(), -1);
+        // the copy is not affected by changes on the original tuples
+        t1.add(4, 4);
+        Assert.assertEquals(copy.nbTuples(), 3);
+        Assert.assertNotEquals(copy, t1);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSnapshot() {
+        Tuples t1 = new Tuples(new int[][]{{3, 1}, {1, 2}, {0, 1}}, true);
+        RelationCache cache = new RelationCache();
+        Tuples s1 = cache.snapshot(t1);
+        Assert.assertTrue(s1.isFrozen());
+        Assert.assertEquals(s1, t1);
+        Assert.assertSame(cache.snapshot(t1), s1);
+        Assert.assertSame(cache.snapshot(t1.duplicate()), s1);
+        Assert.assertSame(cache.snapshot(s1), s1);
+        Assert.assertThrows(SolverException.class, () -> s1.add(4, 4));
+        Assert.assertThrows(SolverException.class, s1::sort);
+        // the snapshot is not affected by changes on the original tuples
+        t1.add(1, 2);
+        t1.add(300, -2);
+        Assert.assertEquals(s1.nbTuples(), 3);
+        Assert.assertEquals(s1.get(2), new int[]{0, 1});
+        Tuples s2 = cache.snapshot(t1);
+        Assert.assertNotSame(s2, s1);
+        t1.removeDuplicates();
+        Assert.assertEquals(t1.nbTuples(), 4);
+        Assert.assertEquals(t1.get(0), new int[]{0, 1});
+        Assert.assertEquals(s1.get(0), new int[]{3, 1});
+        Assert.assertEquals(s2.get(3), new int[]{1, 2});
+        Assert.assertEquals(s2.get(4), new int[]{300, -2});
+    }
+}
@@ -11,6 +11,7 @@ package org.chocosolver.solver.constraints.graph.connectivity;
 
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.variables.DirectedGraphVar;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.SetVar;
@@ -21,6 +22,8 @@ import org.chocosolver.util.objects.setDataStructures.SetType;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Random;
+
 /**
  * Test class for the `nbStronglyConnectedComponents` graph constraint.
  * This class is also a test for the `stronglyConnected` graph constraint, as both rely on the same
@@ -266,4 +269,45 @@ public class NbStronglyConnectedComponentsTest {
         }
         Assert.assertEquals(model.getSolver().getSolutionCount(), count);
     }
+
+    private static DirectedGraph randomUB(Model model, int n, Random rnd) {
+        DirectedGraph UB = GraphFactory.makeStoredDirectedGraph(model, n, SetType.BITSET, SetType.BITSET);
+        for (int i = 0; i < n; i++) {
+            UB.addNode(i);
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (i != j && rnd.nextInt(10) < 4) {
+                    UB.addEdge(i, j);
+                }
+            }
+        }
+        return UB;
+    }
+
+    @Test(groups="10s", timeOut=60000)
+    public void randomGenerateTest() {
+        // the SCC of the envelope are maintained incrementally along branches of a random search
+        int n = 5;
+        for (int seed = 0; seed < 8; seed++) {
+            Model model = new Model();
+            DirectedGraph LB = GraphFactory.makeStoredDirectedGraph(model, n, SetType.BITSET, SetType.BITSET);
+            DirectedGraphVar g = model.digraphVar("g", LB, randomUB(model, n, new Random(seed)));
+            model.nbStronglyConnectedComponents(g, model.intVar(1, 2)).post();
+            model.getSolver().setSearch(Search.randomGraphVarSearch(seed, g));
+            while (model.getSolver().solve()) {}
+            // Generate solutions with checker
+            Model model2 = new Model();
+            DirectedGraph LB2 = GraphFactory.makeStoredDirectedGraph(model2, n, SetType.BITSET, SetType.BITSET);
+            DirectedGraphVar g2 = model2.digraphVar("g", LB2, randomUB(model2, n, new Random(seed)));
+            Constraint consNSCC = model2.nbStronglyConnectedComponents(g2, model2.intVar(1, 2));
+            int count = 0;
+            while (model2.getSolver().solve()) {
+                if (consNSCC.isSatisfied() == ESat.TRUE) {
+                    count++;
+                }
+            }
+            Assert.assertEquals(model.getSolver().getSolutionCount(), count, "seed " + seed);
+        }
+    }
 }
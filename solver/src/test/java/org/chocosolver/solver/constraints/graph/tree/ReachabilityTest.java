@@ -11,6 +11,7 @@ package org.chocosolver.solver.constraints.graph.tree;
 
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.variables.DirectedGraphVar;
 import org.chocosolver.solver.variables.SetVar;
 import org.chocosolver.util.ESat;
@@ -22,6 +23,7 @@ import org.testng.annotations.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 /**
  * Test class for the reachability graph constraint
@@ -129,4 +131,47 @@ public class ReachabilityTest {
         Assert.assertEquals(model.getSolver().getSolutionCount(), count);
     }
 
+    private static DirectedGraph randomUB(Model model, int n, Random rnd) {
+        DirectedGraph UB = GraphFactory.makeStoredDirectedGraph(model, n, SetType.BITSET, SetType.BITSET);
+        for (int i = 0; i < n; i++) {
+            UB.addNode(i);
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (i != j && rnd.nextInt(10) < 4) {
+                    UB.addEdge(i, j);
+                }
+            }
+        }
+        return UB;
+    }
+
+    @Test(groups="10s", timeOut=60000)
+    public void randomGenerateTest() {
+        // the dominator tree is maintained incrementally along branches of a random search
+        int n = 6;
+        for (int seed = 0; seed < 8; seed++) {
+            for (boolean tree : new boolean[]{false, true}) {
+                Model model = new Model();
+                DirectedGraph LB = GraphFactory.makeStoredDirectedGraph(model, n, setType, setType);
+                DirectedGraphVar g = model.digraphVar("g", LB, randomUB(model, n, new Random(seed)));
+                (tree ? model.directedTree(g, 0) : model.reachability(g, 0)).post();
+                model.getSolver().setSearch(Search.randomGraphVarSearch(seed, g));
+                while (model.getSolver().solve()) {}
+                // Generate solutions with checker
+                Model model2 = new Model();
+                DirectedGraph LB2 = GraphFactory.makeStoredDirectedGraph(model2, n, setType, setType);
+                DirectedGraphVar g2 = model2.digraphVar("g2", LB2, randomUB(model2, n, new Random(seed)));
+                Constraint cons = tree ? model2.directedTree(g2, 0) : model2.reachability(g2, 0);
+                Constraint acyclic = model2.noCircuit(g2);
+                int count = 0;
+                while (model2.getSolver().solve()) {
+                    if (cons.isSatisfied() == ESat.TRUE && (!tree || acyclic.isSatisfied() == ESat.TRUE)) {
+                        count++;
+                    }
+                }
+                Assert.assertEquals(model.getSolver().getSolutionCount(), count, "seed " + seed + ", tree " + tree);
+            }
+        }
+    }
 }
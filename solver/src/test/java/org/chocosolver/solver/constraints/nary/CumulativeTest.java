@@ -13,6 +13,7 @@ import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Providers;
 import org.chocosolver.solver.Settings;
 import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.nary.cumulative.CumulFilter;
 import org.chocosolver.solver.constraints.nary.cumulative.Cumulative;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -21,6 +22,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.Arrays;
+import java.util.Random;
 import java.util.stream.IntStream;
 
 import static org.chocosolver.solver.search.strategy.Search.lastConflict;
@@ -241,4 +243,84 @@ public class CumulativeTest {
 
         Assert.assertEquals(solver.getSolutionCount(), 8);
     }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testTTEF1() throws ContradictionException {
+        Model model = new Model();
+        Task x = new Task(model.intVar("sx", 0, 6), model.intVar(4), model.intVar("ex", 4, 10));
+        Task y = new Task(model.intVar("sy", 0, 6), model.intVar(4), model.intVar("ey", 4, 10));
+        Task z = new Task(model.intVar("sz", 0, 20), model.intVar(3), model.intVar("ez", 3, 23));
+        IntVar[] heights = {model.intVar(1), model.intVar(1), model.intVar(1)};
+        model.cumulative(new Task[]{x, y, z}, heights, model.intVar(1), false,
+                Cumulative.Filter.HEIGHTS.make(3), Cumulative.Filter.TTEF.make(3)).post();
+        model.getSolver().propagate();
+        // x and y need [0,8)
+        Assert.assertEquals(z.getStart().getLB(), 8);
+        Assert.assertEquals(z.getEnd().getLB(), 11);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testTTEF2() throws ContradictionException {
+        Model model = new Model();
+        // mirror of testTTEF1
+        Task x = new Task(model.intVar("sx", 10, 16), model.intVar(4), model.intVar("ex", 14, 20));
+        Task y = new Task(model.intVar("sy", 10, 16), model.intVar(4), model.intVar("ey", 14, 20));
+        Task z = new Task(model.intVar("sz", 0, 17), model.intVar(3), model.intVar("ez", 3, 20));
+        IntVar[] heights = {model.intVar(1), model.intVar(1), model.intVar(1)};
+        model.cumulative(new Task[]{x, y, z}, heights, model.intVar(1), false,
+                Cumulative.Filter.HEIGHTS.make(3), Cumulative.Filter.TTEF.make(3)).post();
+        model.getSolver().propagate();
+        Assert.assertEquals(z.getEnd().getUB(), 12);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = ContradictionException.class)
+    public void testOverloadCheck1() throws ContradictionException {
+        Model model = new Model();
+        Task x = new Task(model.intVar("sx", 0, 6), model.intVar(4), model.intVar("ex", 4, 10));
+        Task y = new Task(model.intVar("sy", 0, 6), model.intVar(4), model.intVar("ey", 4, 10));
+        Task z = new Task(model.intVar("sz", 0, 7), model.intVar(3), model.intVar("ez", 3, 10));
+        IntVar[] heights = {model.intVar(1), model.intVar(1), model.intVar(1)};
+        model.cumulative(new Task[]{x, y, z}, heights, model.intVar(1), false,
+                Cumulative.Filter.HEIGHTS.make(3), Cumulative.Filter.OVERLOAD_CHECK.make(3)).post();
+        model.getSolver().propagate();
+    }
+
+    @Test(groups = "10s", timeOut = 120000)
+    public void testTTEFRandom() {
+        Cumulative.Filter[][] filters = new Cumulative.Filter[][]{
+                {Cumulative.Filter.OVERLOAD_CHECK},
+                {Cumulative.Filter.TTEF},
+                {Cumulative.Filter.HEIGHTS, Cumulative.Filter.SWEEP, Cumulative.Filter.TTEF},
+                {Cumulative.Filter.HEIGHTS, Cumulative.Filter.OVERLOAD_CHECK, Cumulative.Filter.SWEEP},
+        };
+        for (long seed = 0; seed < 20; seed++) {
+            long ref = solveWith(seed, false, Cumulative.Filter.TIME);
+            for (boolean g : new boolean[]{true, false}) {
+                for (Cumulative.Filter[] f : filters) {
+                    Assert.assertEquals(solveWith(seed, g, f), ref, "seed " + seed + ", filters " + Arrays.toString(f));
+                }
+            }
+        }
+    }
+
+    private static long solveWith(long seed, boolean graph, Cumulative.Filter... filters) {
+        Random rnd = new Random(seed);
+        int n = 4;
+        Model model = new Model();
+        Task[] tasks = new Task[n];
+        IntVar[] heights = new IntVar[n];
+        for (int i = 0; i < n; i++) {
+            int est = rnd.nextInt(4);
+            int dmin = rnd.nextInt(4);
+            IntVar s = model.intVar("s" + i, est, est + 1 + rnd.nextInt(4));
+            IntVar d = model.intVar("d" + i, dmin, dmin + rnd.nextInt(2));
+            tasks[i] = new Task(s, d, model.intVar("e" + i, 0, 10));
+            int hmin = rnd.nextInt(3);
+            heights[i] = model.intVar("h" + i, hmin, hmin + rnd.nextInt(2));
+        }
+        IntVar capa = model.intVar("capa", 2, 2 + rnd.nextInt(2));
+        model.cumulative(tasks, heights, capa, graph,
+                Arrays.stream(filters).map(f -> f.make(n)).toArray(CumulFilter[]::new)).post();
+        return model.getSolver().streamSolutions().count();
+    }
 }
@@ -0,0 +1,221 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Providers;
+import org.chocosolver.solver.Settings;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Tests the disjunctive constraint
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class DisjunctiveTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testOverload() {
+        Model model = new Model();
+        Task[] tasks = {
+                model.taskVar(model.intVar("s0", 0, 6), 4),
+                model.taskVar(model.intVar("s1", 0, 6), 4),
+                model.taskVar(model.intVar("s2", 0, 7), 3)
+        };
+        model.disjunctive(tasks).post();
+        Assert.assertThrows(ContradictionException.class, () -> model.getSolver().propagate());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testEdgeFinding() throws ContradictionException {
+        Model model = new Model();
+        Task[] tasks = {
+                model.taskVar(model.intVar("s0", 0, 6), 4),
+                model.taskVar(model.intVar("s1", 0, 6), 4),
+                model.taskVar(model.intVar("s2", 0, 20), 3)
+        };
+        model.disjunctive(tasks).post();
+        model.getSolver().propagate();
+        // s0 and s1 need [0,8)
+        Assert.assertEquals(tasks[2].getStart().getLB(), 8);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDetectablePrecedences() throws ContradictionException {
+        Model model = new Model();
+        // A and B cannot start after the earliest completion time of C, so both precede C
+        Task[] tasks = {
+                model.taskVar(model.intVar("sA", 0, 10), 5),
+                model.taskVar(model.intVar("sB", 1, 10), 5),
+                model.taskVar(model.intVar("sC", 8, 14), 3)
+        };
+        model.disjunctive(tasks).post();
+        model.getSolver().propagate();
+        Assert.assertEquals(tasks[2].getStart().getLB(), 10);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNotLast() throws ContradictionException {
+        Model model = new Model();
+        // A and B cannot both complete before the latest starting time of C, so C ends before one of them starts
+        Task[] tasks = {
+                model.taskVar(model.intVar("sA", 0, 10), 5),
+                model.taskVar(model.intVar("sB", 0, 10), 5),
+                model.taskVar(model.intVar("sC", 0, 9), 2)
+        };
+        model.disjunctive(tasks).post();
+        model.getSolver().propagate();
+        Assert.assertEquals(tasks[2].getStart().getUB(), 8);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testZeroDuration() {
+        Model model = new Model();
+        Task[] tasks = {
+                model.taskVar(model.intVar("s0", 0, 2), 3),
+                model.taskVar(model.intVar("s1", 0, 2), model.intVar("d1", 0, 1)),
+                model.taskVar(model.intVar("s2", 1, 1), 0)
+        };
+        model.disjunctive(tasks).post();
+        // d1 = 1 with s1 < s0, or d1 = 0 with any s0 and s1
+        Assert.assertEquals(model.getSolver().streamSolutions().count(), 3 + 3 * 3);
+    }
+
+    @Test(groups = "10s", timeOut = 120000, dataProvider = "trueOrFalse", dataProviderClass = Providers.class)
+    public void testRandom(boolean lcg) {
+        for (long seed = 0; seed < 30; seed++) {
+            Assert.assertEquals(solve(seed, true, lcg), solve(seed, false, false), "seed " + seed);
+        }
+    }
+
+    private static long solve(long seed, boolean disjunctive, boolean lcg) {
+        Random rnd = new Random(seed);
+        int n = 3 + rnd.nextInt(3);
+        Model model = new Model(Settings.init().setLCG(lcg));
+        Task[] tasks = new Task[n];
+        for (int i = 0; i < n; i++) {
+            int est = rnd.nextInt(5);
+            int dmin = rnd.nextInt(4);
+            IntVar s = model.intVar("s" + i, est, est + 2 + rnd.nextInt(6));
+            IntVar d = model.intVar("d" + i, dmin, dmin + rnd.nextInt(2));
+            IntVar e = model.intVar("e" + i, 0, 16);
+            tasks[i] = new Task(s, d, e);
+        }
+        if (disjunctive) {
+            model.disjunctive(tasks).post();
+        } else {
+            IntVar[] heights = new IntVar[n];
+            for (int i = 0; i < n; i++) {
+                heights[i] = model.intVar(1);
+            }
+            model.cumulative(tasks, heights, model.intVar(1)).post();
+        }
+        return model.getSolver().streamSolutions().count();
+    }
+
+    @Test(groups = "10s", timeOut = 120000, dataProvider = "trueOrFalse", dataProviderClass = Providers.class)
+    public void testRandomJobShop(boolean lcg) {
+        for (long seed = 0; seed < 150; seed++) {
+            Assert.assertEquals(jobShop(seed, true, lcg), jobShop(seed, false, false), "seed " + seed);
+        }
+    }
+
+    private static int jobShop(long seed, boolean disjunctive, boolean lcg) {
+        Random rnd = new Random(seed);
+        int J = 3 + rnd.nextInt(3);
+        int M = 3 + rnd.nextInt(2);
+        Model model = new Model(Settings.init().setLCG(lcg));
+        int horizon = J * M * 9;
+        IntVar makespan = model.intVar("makespan", 0, horizon);
+        List<List<Task>> byMachine = new ArrayList<>();
+        for (int r = 0; r < M; r++) {
+            byMachine.add(new ArrayList<>());
+        }
+        for (int j = 0; j < J; j++) {
+            List<Integer> machines = IntStream.range(0, M).boxed().collect(Collectors.toList());
+            Collections.shuffle(machines, rnd);
+            Task prev = null;
+            for (int o = 0; o < M; o++) {
+                int p = 1 + rnd.nextInt(9);
+                IntVar d = rnd.nextInt(4) == 0 ? model.intVar(p - 1, p) : model.intVar(p);
+                Task t = new Task(model.intVar(0, horizon), d, model.intVar(0, horizon));
+                byMachine.get(machines.get(o)).add(t);
+                if (prev != null) {
+                    model.arithm(prev.getEnd(), "<=", t.getStart()).post();
+                }
+                prev = t;
+            }
+            model.arithm(prev.getEnd(), "<=", makespan).post();
+        }
+        for (List<Task> tasks : byMachine) {
+            Task[] ts = tasks.toArray(new Task[0]);
+            if (disjunctive) {
+                model.disjunctive(ts).post();
+            } else {
+                IntVar[] heights = new IntVar[ts.length];
+                Arrays.fill(heights, model.intVar(1));
+                model.cumulative(ts, heights, model.intVar(1)).post();
+            }
+        }
+        return model.getSolver().findOptimalSolution(makespan, Model.MINIMIZE).getIntVal(makespan);
+    }
+
+    @Test(groups = "10s", timeOut = 60000, dataProvider = "trueOrFalse", dataProviderClass = Providers.class)
+    public void testFT06(boolean lcg) {
+        // machine and duration of each operation, job by job
+        int[][] ft06 = {
+                {2, 1, 0, 3, 1, 6, 3, 7, 5, 3, 4, 6},
+                {1, 8, 2, 5, 4, 10, 5, 10, 0, 10, 3, 4},
+                {2, 5, 3, 4, 5, 8, 0, 9, 1, 1, 4, 7},
+                {1, 5, 0, 5, 2, 5, 3, 3, 4, 8, 5, 9},
+                {2, 9, 1, 3, 4, 5, 5, 4, 0, 3, 3, 1},
+                {1, 3, 3, 3, 5, 9, 0, 10, 4, 4, 2, 1}
+        };
+        int J = 6;
+        int M = 6;
+        int horizon = 197;
+        Model model = new Model(Settings.init().setLCG(lcg));
+        Task[][] ops = new Task[J][M];
+        Task[][] byMachine = new Task[M][J];
+        IntVar makespan = model.intVar("makespan", 0, horizon);
+        for (int j = 0; j < J; j++) {
+            for (int o = 0; o < M; o++) {
+                int machine = ft06[j][2 * o];
+                int duration = ft06[j][2 * o + 1];
+                ops[j][o] = model.taskVar(model.intVar("s_" + j + "_" + o, 0, horizon - duration), duration);
+                byMachine[machine][j] = ops[j][o];
+                if (o > 0) {
+                    model.arithm(ops[j][o - 1].getEnd(), "<=", ops[j][o].getStart()).post();
+                }
+            }
+            model.arithm(ops[j][M - 1].getEnd(), "<=", makespan).post();
+        }
+        for (int r = 0; r < M; r++) {
+            model.disjunctive(byMachine[r]).post();
+        }
+        Solver solver = model.getSolver();
+        Assert.assertNotNull(solver.findOptimalSolution(makespan, Model.MINIMIZE));
+        Assert.assertEquals(solver.getObjectiveManager().getBestSolutionValue().intValue(), 55);
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.ConstraintsName;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * @author agent
+ * @since 17/10/2026
+ */
+public class LPRelaxationTest {
+
+    int[] c = new int[]{560, 1125, 300, 620, 2100, 431, 68, 328, 47, 122, 322, 196, 41, 25, 425, 4260, 416, 115, 82, 22};
+    int[] b = new int[]{300, 250, 200};
+    int[][] a = new int[][]{
+            {40, 91, 10, 30, 160, 20, 3, 12, 3, 18, 9, 25, 1, 1, 10, 280, 10, 8, 1, 1},
+            {16, 92, 41, 16, 150, 23, 4, 18, 6, 0, 12, 8, 2, 1, 0, 200, 20, 6, 2, 1},
+            {38, 39, 32, 71, 80, 26, 5, 40, 8, 12, 30, 15, 0, 1, 23, 100, 0, 20, 3, 0}
+    };
+
+    private Solver knapsack(int frequency) {
+        Model m = new Model();
+        BoolVar[] x = m.boolVarArray("x", c.length);
+        IntVar objective = m.intVar("obj", 0, 20_000);
+        m.scalar(x, c, "=", objective).post();
+        for (int i = 0; i < b.length; i++) {
+            m.scalar(x, a[i], "<=", b[i]).post();
+        }
+        if (frequency > 0) {
+            m.lpRelaxation(objective, true, frequency).post();
+        }
+        m.setObjective(Model.MAXIMIZE, objective);
+        m.getSolver().setSearch(Search.inputOrderUBSearch(x));
+        return m.getSolver();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testKnapsack() {
+        Solver s1 = knapsack(0);
+        while (s1.solve()) ;
+        Solver s2 = knapsack(1);
+        while (s2.solve()) ;
+        Assert.assertEquals(s2.getBestSolutionValue(), s1.getBestSolutionValue());
+        Assert.assertTrue(s2.getNodeCount() < s1.getNodeCount(),
+                s2.getNodeCount() + " >= " + s1.getNodeCount());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFrequency() {
+        Solver s1 = knapsack(1);
+        while (s1.solve()) ;
+        Solver s5 = knapsack(5);
+        while (s5.solve()) ;
+        // only at root node
+        Solver sr = knapsack(Integer.MAX_VALUE);
+        while (sr.solve()) ;
+        Solver s0 = knapsack(0);
+        while (s0.solve()) ;
+        Assert.assertEquals(s5.getBestSolutionValue(), s1.getBestSolutionValue());
+        Assert.assertEquals(sr.getBestSolutionValue(), s1.getBestSolutionValue());
+        Assert.assertTrue(s1.getNodeCount() <= s5.getNodeCount());
+        Assert.assertTrue(s5.getNodeCount() <= s0.getNodeCount());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRootBound() throws Exception {
+        Model m = new Model();
+        BoolVar[] x = m.boolVarArray("x", 3);
+        IntVar objective = m.intVar("obj", 0, 100, true);
+        m.scalar(x, new int[]{5, 4, 3}, "=", objective).post();
+        m.scalar(x, new int[]{2, 3, 1}, "<=", 4).post();
+        m.lpRelaxation(objective, true, 1).post();
+        m.getSolver().propagate();
+        // LP optimum is x = (1, 1/3, 1), that is 9.333
+        Assert.assertEquals(objective.getUB(), 9);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testReducedCostFixing() throws Exception {
+        Model m = new Model();
+        IntVar x = m.intVar("x", 0, 10);
+        IntVar y = m.intVar("y", 0, 10);
+        IntVar objective = m.intVar("obj", 0, 100, true);
+        // min obj = 3x + 5y, with x + y >= 4
+        m.scalar(new IntVar[]{x, y}, new int[]{3, 5}, "=", objective).post();
+        m.arithm(x, "+", y, ">=", 4).post();
+        m.lpRelaxation(objective, false, 1).post();
+        m.arithm(objective, "<=", 15).post();
+        m.getSolver().propagate();
+        Assert.assertEquals(objective.getLB(), 12);
+        // y has a reduced cost of 2, the gap is 3
+        Assert.assertEquals(y.getUB(), 1);
+    }
+
+    private int[] assignment(int n, long seed, boolean lp) {
+        Random rnd = new Random(seed);
+        Model m = new Model();
+        BoolVar[][] x = m.boolVarMatrix("x", n, n);
+        BoolVar[] flat = new BoolVar[n * n];
+        int[] costs = new int[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                flat[i * n + j] = x[i][j];
+                costs[i * n + j] = rnd.nextInt(50);
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            m.sum(x[i], "=", 1).post();
+            BoolVar[] col = new BoolVar[n];
+            for (int j = 0; j < n; j++) {
+                col[j] = x[j][i];
+            }
+            m.sum(col, "=", 1).post();
+        }
+        IntVar objective = m.intVar("obj", 0, 50 * n);
+        m.scalar(flat, costs, "=", objective).post();
+        if (lp) {
+            m.lpRelaxation(objective, false, 1).post();
+        }
+        m.setObjective(Model.MINIMIZE, objective);
+        Solver s = m.getSolver();
+        s.setSearch(Search.inputOrderUBSearch(flat));
+        while (s.solve()) ;
+        return new int[]{s.getBestSolutionValue().intValue(), (int) s.getNodeCount()};
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testAssignment() {
+        for (int seed = 0; seed < 5; seed++) {
+            int[] r1 = assignment(6, seed, false);
+            int[] r2 = assignment(6, seed, true);
+            Assert.assertEquals(r2[0], r1[0]);
+            Assert.assertTrue(r2[1] < r1[1], r2[1] + " >= " + r1[1]);
+        }
+    }
+
+    private int randomILP(long seed, int frequency, boolean maximize) {
+        Random rnd = new Random(seed);
+        int n = 2 + rnd.nextInt(5);
+        Model m = new Model();
+        IntVar[] x = m.intVarArray("x", n, -3, 5);
+        for (int r = 0; r < 1 + rnd.nextInt(4); r++) {
+            int[] coeffs = new int[n];
+            for (int j = 0; j < n; j++) {
+                coeffs[j] = rnd.nextInt(11) - 5;
+            }
+            String op = new String[]{"<=", ">=", "="}[rnd.nextInt(3)];
+            m.scalar(x, coeffs, op, rnd.nextInt(11) - 3).post();
+        }
+        if (n > 2) {
+            m.arithm(x[0], ">=", x[1], "+", rnd.nextInt(3)).post();
+            m.arithm(x[1], "+", x[2], "<=", rnd.nextInt(6)).post();
+        }
+        int[] cost = new int[n];
+        for (int j = 0; j < n; j++) {
+            cost[j] = rnd.nextInt(11) - 5;
+        }
+        IntVar objective = m.intVar("obj", -500, 500, true);
+        m.scalar(x, cost, "=", objective).post();
+        if (frequency > 0) {
+            m.lpRelaxation(objective, maximize, frequency).post();
+        }
+        m.setObjective(maximize, objective);
+        Solver s = m.getSolver();
+        s.setSearch(Search.randomSearch(x, seed));
+        while (s.solve()) ;
+        return s.getSolutionCount() == 0 ? Integer.MIN_VALUE : s.getBestSolutionValue().intValue();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRandom() {
+        for (int seed = 0; seed < 300; seed++) {
+            boolean maximize = seed % 2 == 0;
+            int expected = randomILP(seed, 0, maximize);
+            Assert.assertEquals(randomILP(seed, 1, maximize), expected, "seed " + seed);
+            Assert.assertEquals(randomILP(seed, 3, maximize), expected, "seed " + seed);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNonLinear() {
+        Model m = new Model();
+        IntVar x = m.intVar("x", 0, 5);
+        IntVar y = m.intVar("y", 0, 5);
+        IntVar z = m.intVar("z", 0, 25);
+        m.times(x, y, z).post();
+        m.arithm(x, "+", y, "<=", 6).post();
+        m.lpRelaxation(z, true, 1).post();
+        m.setObjective(Model.MAXIMIZE, z);
+        Solver s = m.getSolver();
+        while (s.solve()) ;
+        Assert.assertEquals(s.getBestSolutionValue(), 9);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testName() {
+        Model m = new Model();
+        IntVar x = m.intVar("x", 0, 5);
+        Assert.assertEquals(m.lpRelaxation(x, true, 1).getName(), ConstraintsName.LPRELAXATION);
+    }
+}
@@ -12,13 +12,16 @@ package org.chocosolver.solver.constraints.nary;
 import gnu.trove.set.hash.TIntHashSet;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
 import org.chocosolver.solver.Solution;
 import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.extension.RelationCache;
 import org.chocosolver.solver.constraints.nary.automata.FA.FiniteAutomaton;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.tools.ArrayUtils;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -388,6 +391,48 @@ public class RegularTest {
         Assert.assertEquals(solver.getSolutionCount(), 272315);
     }
 
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSharedGraphs() {
+        long[] counts = new long[2];
+        for (int k = 0; k < 2; k++) {
+            Model model = new Model(Settings.init().setEnableRelationSharing(k == 0));
+            IntVar[][] x = model.intVarMatrix("x", 4, 8, 0, 2);
+            for (int i = 0; i < 4; i++) {
+                // equal automata, but distinct objects
+                model.regular(x[i], new FiniteAutomaton("0*(1|2)0*2+", 0, 2)).post();
+            }
+            // another language
+            model.regular(x[0], new FiniteAutomaton("(0|1)*2*", 0, 2)).post();
+            for (int j = 0; j < 8; j++) {
+                model.allDifferent(x[0][j], x[1][j], x[2][j]).post();
+            }
+            RelationCache cache = model.getRelationCache();
+            if (k == 0) {
+                Assert.assertEquals(cache.size(), 2);
+                Assert.assertEquals(cache.getNbHits(), 3);
+            } else {
+                Assert.assertEquals(cache.size(), 0);
+            }
+            counts[k] = model.getSolver().findAllSolutions().size();
+        }
+        Assert.assertEquals(counts[0], counts[1]);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSharedGraphsAndDomains() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 5, 0, 2);
+        IntVar[] y = model.intVarArray("y", 5, 0, 1);
+        FiniteAutomaton auto = new FiniteAutomaton("0*1+2*", 0, 2);
+        model.regular(x, auto).post();
+        model.regular(y, auto).post();
+        Assert.assertEquals(model.getRelationCache().size(), 2);
+        model.regular(ArrayUtils.append(x, y), auto).post();
+        Assert.assertEquals(model.getRelationCache().size(), 3);
+        // x: 0*1+2* on 5 letters, y: 0*1+ on 5 letters, xy: 0*1+2* on 10 letters
+        Assert.assertEquals(model.getSolver().findAllSolutions().size(), 5);
+    }
+
     private FiniteAutomaton makeAuto(boolean which){
         if(which){
             TIntHashSet alphabet = new TIntHashSet();
@@ -422,4 +467,4 @@ public class RegularTest {
         return null;
     }
 
-}
\ No newline at end of file
+}
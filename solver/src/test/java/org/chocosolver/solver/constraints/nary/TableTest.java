@@ -16,6 +16,7 @@ package org.chocosolver.solver.constraints.nary;
 
 import org.chocosolver.solver.*;
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.extension.RelationCache;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.constraints.extension.TuplesFactory;
 import org.chocosolver.solver.constraints.extension.hybrid.HybridTuples;
@@ -964,4 +965,58 @@ public class TableTest {
         }
     }
 
-}
\ No newline at end of file
+    @DataProvider(name = "sharedAlgos")
+    public Object[][] sharedAlgos() {
+        return new Object[][]{{"CT+", false}, {"CT+", true}, {"MDD+", false}};
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "sharedAlgos")
+    public void testSharedTables(String algo, boolean star) {
+        long[] counts = new long[2];
+        for (int k = 0; k < 2; k++) {
+            Model model = new Model(Settings.init().setEnableRelationSharing(k == 0));
+            IntVar[] x = model.intVarArray("x", 6, 0, 4);
+            int[] d = {0, 1, 2, 3, 4};
+            for (int i = 0; i < 4; i++) {
+                // equal tuples, but distinct objects
+                Tuples tuples = generateTuples(t -> (t[0] + 2 * t[1] + t[2]) % 3 == 0, true, d, d, d);
+                if (star) {
+                    tuples.setUniversalValue(-1);
+                    tuples.add(-1, 0, -1);
+                }
+                model.table(new IntVar[]{x[i], x[i + 1], x[i + 2]}, tuples, algo).post();
+            }
+            RelationCache cache = model.getRelationCache();
+            if (k == 0) {
+                Assert.assertEquals(cache.size(), 1);
+                Assert.assertEquals(cache.getNbHits(), 3);
+            } else {
+                Assert.assertEquals(cache.size(), 0);
+            }
+            counts[k] = model.getSolver().findAllSolutions().size();
+        }
+        Assert.assertEquals(counts[0], counts[1]);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSharedTablesAndDomains() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 4);
+        IntVar y = model.intVar("y", 0, 3);
+        int[] d = {0, 1, 2, 3, 4};
+        Tuples tuples = generateTuples(t -> t[0] + t[1] + t[2] == 6, true, d, d, d);
+        model.table(x, tuples, "CT+").post();
+        // other domains, other supports
+        model.table(new IntVar[]{x[0], x[1], y}, tuples, "CT+").post();
+        Assert.assertEquals(model.getRelationCache().size(), 2);
+        // the tuples are modified once posted, the cache is not affected
+        tuples.add(4, 4, 4);
+        model.table(new IntVar[]{x[2], x[1], x[0]}, tuples, "CT+").post();
+        Assert.assertEquals(model.getRelationCache().size(), 3);
+        model.table(new IntVar[]{x[1], x[2], x[0]}, tuples, "CT+").post();
+        Assert.assertEquals(model.getRelationCache().size(), 3);
+        Assert.assertEquals(model.getRelationCache().getNbHits(), 1);
+        // x[0] + x[1] + x[2] = 6 with x[2] = y <= 3
+        Assert.assertEquals(model.getSolver().findAllSolutions().size(), 16);
+    }
+}
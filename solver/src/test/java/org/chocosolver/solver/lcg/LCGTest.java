@@ -10,6 +10,7 @@
 package org.chocosolver.solver.lcg;
 
 import gnu.trove.set.hash.TIntHashSet;
+import org.chocosolver.sat.MiniSat;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Providers;
 import org.chocosolver.solver.Settings;
@@ -230,6 +231,36 @@ public class LCGTest {
         Assert.assertEquals(solver.getObjectiveManager().getBestSolutionValue(), o);
     }
 
+    @Test(groups = "lcg", timeOut = 60000)
+    public void testLearntClauseTiers() {
+        int m = 8;
+        Model model = new Model("LCG Golomb ruler",
+                Settings.init().setLCG(true)
+                        .setNbMaxLearntClauses(50));
+        IntVar[] ticks = model.intVarArray("a", m, 0, (1 << (m + 1)) - 1, false);
+        IntVar[] diffs = model.intVarArray("d", (m * m - m) / 2, 0, (1 << (m + 1)) - 1, false);
+        model.arithm(ticks[0], "=", 0).post();
+        for (int i = 0; i < m - 1; i++) {
+            model.arithm(ticks[i + 1], ">", ticks[i]).post();
+        }
+        for (int k = 0, i = 0; i < m - 1; i++) {
+            for (int j = i + 1; j < m; j++, k++) {
+                model.arithm(ticks[j], "-", ticks[i], "=", diffs[k]).post();
+                model.arithm(diffs[k], ">=", (j - i) * (j - i + 1) / 2).post();
+            }
+        }
+        model.allDifferent(diffs).post();
+        model.arithm(diffs[0], "<", diffs[diffs.length - 1]).post();
+        model.setObjective(Model.MINIMIZE, ticks[m - 1]);
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.inputOrderLBSearch(ticks));
+        while (solver.solve()) ;
+        Assert.assertEquals(solver.getObjectiveManager().getBestSolutionValue(), 34);
+        Assert.assertTrue(solver.getLearntClauseCount(MiniSat.CORE) > 0);
+        Assert.assertTrue(solver.getLearntClauseCount(MiniSat.TIER2) > 0);
+        Assert.assertTrue(solver.getLearntClauseCount(MiniSat.LOCAL) <= 50);
+    }
+
     @DataProvider
     public static Object[][] golomb2() {
         Object[][] sizes = {
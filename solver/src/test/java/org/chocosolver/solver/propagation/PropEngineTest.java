@@ -192,4 +192,71 @@ public class PropEngineTest {
         solver.getEngine().clear();
         solver.reset(); // error (null)
     }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testCoalescing1() {
+        Model model = makeNQueenWithBinaryConstraints(8);
+        CoalescingPropagationEngine engine = new CoalescingPropagationEngine(model);
+        model.getSolver().setEngine(engine);
+        while (model.getSolver().solve()) ;
+        assertEquals(model.getSolver().getSolutionCount(), 92);
+        Assert.assertTrue(engine.getNbFixpoints() >= model.getSolver().getNodeCount());
+        Assert.assertTrue(engine.getNbFusedPropagations() > 0);
+        Assert.assertTrue(engine.getPropagationTime() > 0);
+    }
+
+    @Test(groups="10s", timeOut=60000)
+    public void testCoalescing2() {
+        Model model = ProblemMaker.makeGolombRuler(10);
+        model.getSolver().setEngine(new CoalescingPropagationEngine(model));
+        model.getSolver().setSearch(minDomLBSearch((IntVar[]) model.getHook("ticks")));
+        int obj = Integer.MAX_VALUE;
+        while (model.getSolver().solve()) {
+            obj = ((IntVar) (model.getObjective())).getValue();
+        }
+        Assert.assertEquals(model.getSolver().getSolutionCount(), 1);
+        Assert.assertEquals(obj, 55);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testCoalescing3() {
+        Model model = ProblemMaker.makeGolombRuler(8, true);
+        model.getSolver().setEngine(new CoalescingPropagationEngine(model));
+        model.getSolver().setSearch(minDomLBSearch((IntVar[]) model.getHook("ticks")));
+        int obj = Integer.MAX_VALUE;
+        while (model.getSolver().solve()) {
+            obj = ((IntVar) (model.getObjective())).getValue();
+        }
+        Assert.assertEquals(obj, 34);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testCoalescing4() {
+        Model model = ProblemMaker.makeCostasArrays(7);
+        while (model.getSolver().solve()) ;
+        long expected = model.getSolver().getSolutionCount();
+        model = ProblemMaker.makeCostasArrays(7);
+        CoalescingPropagationEngine engine = new CoalescingPropagationEngine(model);
+        model.getSolver().setEngine(engine);
+        while (model.getSolver().solve()) ;
+        assertEquals(model.getSolver().getSolutionCount(), expected);
+        Assert.assertTrue(engine.getNbCoalescedEvents() > 0);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testCoalescing5() {
+        Model model = new Model();
+        Solver solver = model.getSolver();
+        solver.setEngine(new CoalescingPropagationEngine(model));
+        IntVar[] variables = model.intVarArray("s", 3, 0, 2);
+        Constraint arithm = model.arithm(variables[0], "!=", variables[1]);
+        model.post(arithm);
+        while (solver.solve()) ;
+        assertEquals(solver.getSolutionCount(), 18);
+        model.unpost(arithm);
+        solver.reset();
+        model.arithm(variables[0], "<", variables[1]).post();
+        while (solver.solve()) ;
+        assertEquals(solver.getSolutionCount(), 9);
+    }
 }
@@ -13,8 +13,10 @@ import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Settings;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.ConstraintsName;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.propagation.PropagationProfiler;
+import org.chocosolver.solver.propagation.PropagationSampler;
 import org.chocosolver.solver.search.limits.NodeCounter;
 import org.chocosolver.solver.search.loop.lns.neighbors.RandomNeighborhood;
 import org.chocosolver.solver.search.loop.monitors.SolvingStatisticsFlow;
@@ -410,6 +412,63 @@ public class SolverTest {
                 " 9              0         0         0         0         0  \"cste -- 24576\"\n\n");
     }
 
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSampler1() {
+        Model model = makeNQueenWithOneAlldifferent(8);
+        Solver solver = model.getSolver();
+        PropagationSampler sampler = solver.samplePropagation(1);
+        solver.findAllSolutions();
+        Assert.assertEquals(solver.getSolutionCount(), 92);
+        PropagationSampler.Stats total = sampler.total();
+        Assert.assertTrue(total.getCalls() > 0);
+        // every execution is sampled
+        Assert.assertEquals(total.getSamples(), total.getCalls());
+        Assert.assertTrue(total.getRemoved() > 0);
+        Assert.assertTrue(total.getFailures() > 0);
+        Assert.assertTrue(total.getFailures() <= solver.getFailCount());
+        Assert.assertTrue(sampler.byConstraint().containsKey(ConstraintsName.ALLDIFFERENT));
+        Assert.assertEquals(sampler.byClass().values().stream().mapToLong(PropagationSampler.Stats::getCalls).sum(),
+                total.getCalls());
+        Assert.assertEquals(sampler.byPropagator().values().stream().mapToLong(PropagationSampler.Stats::getFailures).sum(),
+                total.getFailures());
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        PrintWriter pw = new PrintWriter(baos);
+        sampler.writeFlameGraph(pw);
+        pw.flush();
+        String[] lines = baos.toString().split("\n");
+        Assert.assertTrue(lines.length > 0);
+        for (String line : lines) {
+            Assert.assertTrue(line.matches("propagation;[^; ]+;[^; ]+;[^; ]+#\\d+ \\d+"), line);
+        }
+        sampler.clear();
+        Assert.assertEquals(sampler.total().getCalls(), 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSampler2() {
+        long[] calls = new long[2];
+        long[] samples = new long[2];
+        long[] nodes = new long[3];
+        int[] periods = {1, 16, 0};
+        for (int i = 0; i < 3; i++) {
+            Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+            Solver solver = model.getSolver();
+            PropagationSampler sampler = periods[i] > 0 ? solver.samplePropagation(periods[i]) : null;
+            solver.findAllSolutions();
+            nodes[i] = solver.getNodeCount();
+            if (sampler != null) {
+                calls[i] = sampler.total().getCalls();
+                samples[i] = sampler.total().getSamples();
+            }
+        }
+        // sampling does not change the search, and calls are exactly counted
+        Assert.assertEquals(nodes[0], nodes[2]);
+        Assert.assertEquals(nodes[1], nodes[2]);
+        Assert.assertEquals(calls[0], calls[1]);
+        Assert.assertEquals(samples[0], calls[0]);
+        Assert.assertTrue(samples[1] > calls[1] / 32 && samples[1] < calls[1] / 8, samples[1] + " / " + calls[1]);
+    }
+
     @Test(groups = "1s")
     public void testSolvingFlow() {
         Model model = ProblemMaker.makeGolombRuler(9);
@@ -445,6 +504,7 @@ public class SolverTest {
         solver.propagate();
         solver.preprocessing(2000);
         long after = VariableUtils.domainCardinality(model.retrieveIntVars(true));
-        Assert.assertEquals(after,32);
+        // fixpoint: only the values of the two solutions remain
+        Assert.assertEquals(after, 16);
     }
 }
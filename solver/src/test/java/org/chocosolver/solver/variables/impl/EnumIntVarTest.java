@@ -12,12 +12,16 @@ package org.chocosolver.solver.variables.impl;
 import org.chocosolver.solver.Cause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableBitSet;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableSet;
+import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.util.Random;
+
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
@@ -87,6 +91,76 @@ public class EnumIntVarTest extends IntVarTest {
         enumDomainNotIn(2, 3);
     }
 
+    //------------------------------------
+    //---------  Bulk operations  --------
+    //------------------------------------
+
+    @Test(groups = "1s", timeOut=60000)
+    public void testRemoveValuesMaskInner() throws ContradictionException {
+        // {2, 3}
+        assertTrue(var.removeValues(new long[]{0b11L}, 2, Cause.Null));
+        enumDomainIn(1, 4);
+        enumDomainNotIn(2, 3);
+    }
+
+    @Test(groups = "1s", timeOut=60000)
+    public void testRemoveValuesButMaskInner() throws ContradictionException {
+        // {1, 4}
+        assertTrue(var.removeAllValuesBut(new long[]{0b1001L}, 1, Cause.Null));
+        enumDomainIn(1, 4);
+        enumDomainNotIn(2, 3);
+    }
+
+    @Test(groups = "1s", timeOut=60000)
+    public void testBulkOperationsWideDomains() throws ContradictionException {
+        Random rnd = new Random(0);
+        for (int k = 0; k < 500; k++) {
+            Model model = new Model();
+            int lb = rnd.nextInt(200) - 100;
+            int ub = lb + rnd.nextInt(500);
+            IntVar x = model.intVar("x", lb, ub, false);
+            IntVar y = model.intVar("y", lb, ub, false);
+            int offset = lb + rnd.nextInt(100) - 50;
+            long[] mask = new long[1 + rnd.nextInt(10)];
+            IntIterableRangeSet set = new IntIterableRangeSet();
+            for (int i = 0; i < mask.length; i++) {
+                mask[i] = rnd.nextLong() & rnd.nextLong();
+                for (int b = 0; b < 64; b++) {
+                    if ((mask[i] & (1L << b)) != 0) {
+                        set.add(offset + i * 64 + b);
+                    }
+                }
+            }
+            boolean keep = rnd.nextBoolean();
+            model.getEnvironment().worldPush();
+            boolean fx, fy;
+            try {
+                fx = keep ? x.removeAllValuesBut(mask, offset, Cause.Null) : x.removeValues(mask, offset, Cause.Null);
+            } catch (ContradictionException e) {
+                fx = true;
+                x = null;
+            }
+            try {
+                fy = keep ? y.removeAllValuesBut(set, Cause.Null) : y.removeValues(set, Cause.Null);
+            } catch (ContradictionException e) {
+                fy = true;
+                y = null;
+            }
+            Assert.assertEquals(fx, fy);
+            if (x == null || y == null) {
+                Assert.assertNull(x);
+                Assert.assertNull(y);
+                continue;
+            }
+            Assert.assertEquals(x.toString().substring(1), y.toString().substring(1));
+            Assert.assertEquals(x.getDomainSize(), y.getDomainSize());
+            model.getEnvironment().worldPop();
+            Assert.assertEquals(x.getLB(), lb);
+            Assert.assertEquals(x.getUB(), ub);
+            Assert.assertEquals(x.getDomainSize(), ub - lb + 1);
+        }
+    }
+
     //------------------------------------
     //----------- Utilities  -------------
     //------------------------------------
@@ -184,6 +184,72 @@ public abstract class IntVarTest {
     }
 
 
+    //------------------------------------
+    //-------  Remove values (mask) ------
+    //------------------------------------
+
+    @Test(groups = "1s", timeOut=60000)
+    public void testRemoveValuesMaskOK() throws ContradictionException {
+        // {1, 2}
+        assertTrue(var.removeValues(new long[]{0b11L}, 1, Cause.Null));
+        domainIn(3, 4);
+    }
+
+    @Test(groups = "1s", timeOut=60000)
+    public void testRemoveValuesMaskWrongDomain() throws ContradictionException {
+        // {5, 6}
+        assertFalse(var.removeValues(new long[]{0b11L}, 5, Cause.Null));
+        // {-1}
+        assertFalse(var.removeValues(new long[]{0b1L}, -1, Cause.Null));
+        domainIn(1, 4);
+    }
+
+    @Test(groups = "1s", timeOut=60000, expectedExceptions = ContradictionException.class)
+    public void testRemoveValuesMaskEmptyDomain() throws ContradictionException {
+        // {-63, ..., 0} U {1, ..., 4}
+        var.removeValues(new long[]{-1L, 0b1111L}, -63, Cause.Null);
+    }
+
+    @Test(groups = "1s", timeOut=60000)
+    public void testRemoveValuesMaskCoverBound() throws ContradictionException {
+        // {3, 4, 5}
+        assertTrue(var.removeValues(new long[]{0b111L}, 3, Cause.Null));
+        domainIn(1, 2);
+        // {0, 1}
+        assertTrue(var.removeValues(new long[]{0b11L}, 0, Cause.Null));
+        domainIn(2, 2);
+    }
+
+    @Test(groups = "1s", timeOut=60000)
+    public void testRemoveValuesButMaskOK() throws ContradictionException {
+        // {3, 4}
+        assertTrue(var.removeAllValuesBut(new long[]{0b11L}, 3, Cause.Null));
+        domainIn(3, 4);
+    }
+
+    @Test(groups = "1s", timeOut=60000)
+    public void testRemoveAllValuesButMaskCoverDomain() throws ContradictionException {
+        // {0, ..., 7}
+        assertFalse(var.removeAllValuesBut(new long[]{0xffL}, 0, Cause.Null));
+        // {-64, ..., 67}
+        assertFalse(var.removeAllValuesBut(new long[]{-1L, -1L, 0xfL}, -64, Cause.Null));
+        domainIn(1, 4);
+    }
+
+    @Test(groups = "1s", timeOut=60000, expectedExceptions = ContradictionException.class)
+    public void removeAllValuesButMaskWrongDomain() throws ContradictionException {
+        // {8, 9}
+        var.removeAllValuesBut(new long[]{0b11L}, 8, Cause.Null);
+    }
+
+    @Test(groups = "1s", timeOut=60000)
+    public void removeAllValuesButMaskCoverBound() throws ContradictionException {
+        // {3, 4, 5}
+        assertTrue(var.removeAllValuesBut(new long[]{0b111L}, 3, Cause.Null));
+        domainIn(3, 4);
+    }
+
+
     //------------------------------------
     //----------- Utilities  -------------
     //------------------------------------
@@ -45,7 +45,7 @@ public class SetVarImplTest {
     @Test(groups = "1s", timeOut = 60000)
     public void testStructures() {
         for (SetType type : SetType.values()) {
-            if (!type.name().contains("FIXED") && !type.name().contains("DYNAMIC")) {
+            if (!type.name().contains("FIXED") && !type.name().contains("DYNAMIC") && type != SetType.CSR) {
                 boolean hardCodedDefault = SetFactory.HARD_CODED;
                 for (boolean b : new boolean[]{true, false}) {
                     SetFactory.HARD_CODED = b;
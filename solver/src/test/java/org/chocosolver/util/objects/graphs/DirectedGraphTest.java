@@ -10,10 +10,14 @@
 package org.chocosolver.util.objects.graphs;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.variables.DirectedGraphVar;
 import org.chocosolver.util.objects.setDataStructures.SetType;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Random;
+import java.util.stream.IntStream;
+
 /**
  * Test for DirectedGraph class
  * @author Dimitri Justeau-Allaire
@@ -59,4 +63,88 @@ public class DirectedGraphTest {
         Assert.assertTrue(g2.equals(g1));
     }
 
+    private static int[][] randomEdges(Random rnd, int n, int m) {
+        int[][] edges = new int[m][];
+        for (int k = 0; k < m; k++) {
+            edges[k] = new int[]{rnd.nextInt(n), rnd.nextInt(n)};
+        }
+        return edges;
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testCSRRemovals() {
+        for (int seed = 0; seed < 20; seed++) {
+            Random rnd = new Random(seed);
+            Model model = new Model();
+            int n = 30;
+            int[] nodes = IntStream.range(0, n).toArray();
+            int[][] edges = randomEdges(rnd, n, 100);
+            DirectedGraph csr = GraphFactory.makeStoredDirectedGraph(model, n, SetType.BITSET, SetType.CSR, nodes, edges);
+            DirectedGraph ref = GraphFactory.makeStoredDirectedGraph(model, n, SetType.BITSET, SetType.BIPARTITESET, nodes, edges);
+            Assert.assertEquals(csr.getEdgeSetType(), SetType.CSR);
+            Assert.assertTrue(csr.equals(ref));
+            for (int k = 0; k < 60; k++) {
+                if (rnd.nextInt(4) == 0 && model.getEnvironment().getWorldIndex() > 0) {
+                    model.getEnvironment().worldPop();
+                } else {
+                    model.getEnvironment().worldPush();
+                    int[] e = edges[rnd.nextInt(edges.length)];
+                    if (rnd.nextInt(5) == 0) {
+                        Assert.assertEquals(csr.removeNode(e[0]), ref.removeNode(e[0]));
+                    } else {
+                        Assert.assertEquals(csr.removeEdge(e[0], e[1]), ref.removeEdge(e[0], e[1]));
+                    }
+                }
+                Assert.assertTrue(csr.equals(ref), "seed " + seed);
+                Assert.assertTrue(ref.equals(csr), "seed " + seed);
+            }
+            model.getEnvironment().worldPopUntil(0);
+            Assert.assertTrue(csr.equals(ref));
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testCSRAdditions() {
+        Random rnd = new Random(0);
+        Model model = new Model();
+        int n = 30;
+        int[][] edges = randomEdges(rnd, n - 1, 100);
+        DirectedGraph csr = GraphFactory.makeStoredDirectedGraph(model, n, SetType.BITSET, edges);
+        DirectedGraph ref = GraphFactory.makeStoredDirectedGraph(model, n, SetType.BITSET, SetType.BITSET);
+        for (int k = 0; k < 60; k++) {
+            model.getEnvironment().worldPush();
+            int[] e = edges[rnd.nextInt(edges.length)];
+            Assert.assertEquals(csr.addEdge(e[0], e[1]), ref.addEdge(e[0], e[1]));
+            for (int i = 0; i < n; i++) {
+                Assert.assertEquals(csr.getSuccessorsOf(i).size(), ref.getSuccessorsOf(i).size());
+                Assert.assertEquals(csr.getPredecessorsOf(i).size(), ref.getPredecessorsOf(i).size());
+            }
+            Assert.assertTrue(csr.equals(ref));
+        }
+        model.getEnvironment().worldPopUntil(0);
+        Assert.assertTrue(csr.equals(ref));
+        Assert.assertEquals(csr.getNodes().size(), 0);
+        // node n - 1 has no edge in the universe
+        Assert.assertThrows(IllegalStateException.class, () -> csr.addEdge(0, n - 1));
+    }
+
+    private long countSolutions(SetType edgeSetType) {
+        Model model = new Model();
+        int n = 5;
+        int[] nodes = IntStream.range(0, n).toArray();
+        int[][] edges = randomEdges(new Random(1), n, 9);
+        DirectedGraph LB = edgeSetType == SetType.CSR ?
+                GraphFactory.makeStoredDirectedGraph(model, n, SetType.BITSET, edges) :
+                GraphFactory.makeStoredDirectedGraph(model, n, SetType.BITSET, edgeSetType);
+        DirectedGraph UB = GraphFactory.makeStoredDirectedGraph(model, n, SetType.BITSET, edgeSetType, nodes, edges);
+        DirectedGraphVar g = model.digraphVar("g", LB, UB);
+        model.nbNodes(g, model.intVar(3, 4)).post();
+        while (model.getSolver().solve()) ;
+        return model.getSolver().getSolutionCount();
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testCSRGraphVar() {
+        Assert.assertEquals(countSolutions(SetType.CSR), countSolutions(SetType.BITSET));
+    }
 }
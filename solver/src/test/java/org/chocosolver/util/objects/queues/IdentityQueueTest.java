@@ -0,0 +1,139 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects.queues;
+
+import org.chocosolver.solver.Identity;
+import org.testng.annotations.Test;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import static org.testng.Assert.*;
+
+/**
+ * @author agent
+ * @since 17/10/2026
+ */
+public class IdentityQueueTest {
+
+    private static final class Item implements Identity {
+        private final int id;
+
+        Item(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public int getId() {
+            return id;
+        }
+    }
+
+    private static Item[] items(int n) {
+        Item[] items = new Item[n];
+        for (int i = 0; i < n; i++) {
+            items[i] = new Item(i);
+        }
+        return items;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNominal() {
+        Item[] items = items(3);
+        IdentityQueue<Item> queue = new IdentityQueue<>(0);
+        assertTrue(queue.isEmpty());
+        assertTrue(queue.addLast(items[2]));
+        assertTrue(queue.addLast(items[0]));
+        assertTrue(queue.contains(items[0]));
+        assertFalse(queue.contains(items[1]));
+        assertEquals(queue.size(), 2);
+        assertSame(queue.pollFirst(), items[2]);
+        assertSame(queue.pollLast(), items[0]);
+        assertTrue(queue.isEmpty());
+        assertFalse(queue.contains(items[0]));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSameElement() {
+        Item[] items = items(2);
+        IdentityQueue<Item> queue = new IdentityQueue<>(0);
+        assertTrue(queue.addLast(items[1]));
+        assertFalse(queue.addLast(items[1]));
+        assertEquals(queue.size(), 1);
+        assertSame(queue.pollFirst(), items[1]);
+        // once polled, it can be added again
+        assertTrue(queue.addLast(items[1]));
+        assertEquals(queue.size(), 1);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testClear() {
+        Item[] items = items(100);
+        IdentityQueue<Item> queue = new IdentityQueue<>(0);
+        for (Item item : items) {
+            queue.addLast(item);
+        }
+        queue.clear();
+        assertTrue(queue.isEmpty());
+        for (Item item : items) {
+            assertFalse(queue.contains(item));
+        }
+        assertTrue(queue.addLast(items[99]));
+        assertSame(queue.pollLast(), items[99]);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSharedMembership() {
+        Item[] items = items(200);
+        IdentityQueue.Membership membership = new IdentityQueue.Membership();
+        IdentityQueue<Item> q1 = new IdentityQueue<>(0, membership);
+        IdentityQueue<Item> q2 = new IdentityQueue<>(0, membership);
+        assertTrue(q1.addLast(items[150]));
+        assertTrue(q2.addLast(items[3]));
+        // an element is in at most one of the queues
+        assertFalse(q2.addLast(items[150]));
+        assertTrue(q2.contains(items[150]));
+        assertEquals(q2.size(), 1);
+        assertSame(q1.pollFirst(), items[150]);
+        assertFalse(q2.contains(items[150]));
+        assertTrue(q2.addLast(items[150]));
+        // clearing a queue only forgets its own elements
+        q1.addLast(items[7]);
+        q2.clear();
+        assertTrue(q2.isEmpty());
+        assertFalse(q1.contains(items[3]));
+        assertFalse(q1.contains(items[150]));
+        assertTrue(q1.contains(items[7]));
+        assertSame(q1.pollLast(), items[7]);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRandom() {
+        Random rnd = new Random(0);
+        Item[] items = items(500);
+        IdentityQueue<Item> queue = new IdentityQueue<>(4);
+        ArrayDeque<Item> deque = new ArrayDeque<>();
+        for (int k = 0; k < 100_000; k++) {
+            int op = rnd.nextInt(3);
+            if (op == 0 || deque.isEmpty()) {
+                Item item = items[rnd.nextInt(items.length)];
+                assertEquals(queue.addLast(item), !deque.contains(item));
+                if (!deque.contains(item)) {
+                    deque.addLast(item);
+                }
+            } else if (op == 1) {
+                assertSame(queue.pollFirst(), deque.pollFirst());
+            } else {
+                assertSame(queue.pollLast(), deque.pollLast());
+            }
+            assertEquals(queue.size(), deque.size());
+        }
+    }
+}
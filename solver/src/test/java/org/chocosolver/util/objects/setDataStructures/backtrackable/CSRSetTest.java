@@ -0,0 +1,35 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2025, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects.setDataStructures.backtrackable;
+
+import org.chocosolver.util.objects.setDataStructures.ISet;
+import org.chocosolver.util.objects.setDataStructures.csr.Set_CSR;
+import org.chocosolver.util.objects.setDataStructures.csr.StoredCSRAdjacency;
+
+import java.util.stream.IntStream;
+
+/**
+ * @author agent
+ * @since 17/10/2026
+ */
+public class CSRSetTest extends BacktrackableSetTest {
+
+    @Override
+    public ISet create(int offset) {
+        // a single row whose universe is [offset, offset + 10000]
+        int[] to = IntStream.rangeClosed(offset, (int) Math.min(Integer.MAX_VALUE, offset + 10_000L)).toArray();
+        return new Set_CSR(new StoredCSRAdjacency(model.getEnvironment(), 1, new int[to.length], to), 0);
+    }
+
+    @Override
+    public ISet create() {
+        return create(0);
+    }
+}